@@ -1,8 +1,12 @@
 package at.jku.dke.etutor.task_administration;
 
+import at.jku.dke.etutor.task_administration.config.EntityCacheConfig;
+import at.jku.dke.etutor.task_administration.config.RateLimitConfig;
+import at.jku.dke.etutor.task_administration.config.TaskExecutorConfig;
 import at.jku.dke.etutor.task_administration.data.entities.User;
 import at.jku.dke.etutor.task_administration.data.repositories.UserRepository;
 import at.jku.dke.etutor.task_administration.moodle.MoodleConfig;
+import at.jku.dke.etutor.task_administration.services.TaskAppConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
@@ -21,7 +25,7 @@
  * The main class of the application.
  */
 @SpringBootApplication
-@EnableConfigurationProperties(MoodleConfig.class)
+@EnableConfigurationProperties({MoodleConfig.class, TaskAppConfig.class, TaskExecutorConfig.class, RateLimitConfig.class, EntityCacheConfig.class})
 public class TaskAdministrationApplication {
 
     private static final Logger LOG = LoggerFactory.getLogger(TaskAdministrationApplication.class);
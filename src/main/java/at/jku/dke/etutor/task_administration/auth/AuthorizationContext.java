@@ -0,0 +1,195 @@
+package at.jku.dke.etutor.task_administration.auth;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.*;
+import java.util.stream.LongStream;
+
+/**
+ * The authorization relevant claims of an authenticated user.
+ * <p>
+ * The context is parsed once from the JWT claims (see {@link #fromJwt(Jwt)}) and is immutable afterwards, so that
+ * permission checks do not have to walk the roles claim again. The organizational unit identifiers are stored as
+ * sorted arrays per role.
+ */
+public final class AuthorizationContext {
+    /**
+     * The context of an unauthenticated user.
+     */
+    public static final AuthorizationContext EMPTY = new AuthorizationContext(null, null, false, new long[0], new long[0], new long[0], new long[0]);
+
+    private final Long userId;
+    private final String userName;
+    private final boolean fullAdmin;
+    private final long[] tutorUnits;
+    private final long[] instructorUnits;
+    private final long[] adminUnits;
+    private final long[] allUnits;
+    private final Set<Long> allUnitSet;
+    private final Set<Long> adminUnitSet;
+    private final Set<Long> adminOrInstructorUnitSet;
+
+    private AuthorizationContext(Long userId, String userName, boolean fullAdmin, long[] tutorUnits, long[] instructorUnits, long[] adminUnits, long[] allUnits) {
+        this.userId = userId;
+        this.userName = userName;
+        this.fullAdmin = fullAdmin;
+        this.tutorUnits = tutorUnits;
+        this.instructorUnits = instructorUnits;
+        this.adminUnits = adminUnits;
+        this.allUnits = allUnits;
+        this.allUnitSet = toSet(allUnits);
+        this.adminUnitSet = toSet(adminUnits);
+        this.adminOrInstructorUnitSet = toSet(LongStream.concat(Arrays.stream(adminUnits), Arrays.stream(instructorUnits)).distinct().toArray());
+    }
+
+    /**
+     * Creates the authorization context from the claims of the JWT.
+     *
+     * @param jwt The JWT.
+     * @return The authorization context.
+     * @see AuthConstants#CLAIM_UID
+     * @see AuthConstants#CLAIM_FULL_ADMIN
+     * @see AuthConstants#CLAIM_ROLES
+     */
+    public static AuthorizationContext fromJwt(Jwt jwt) {
+        Object uid = jwt.getClaim(AuthConstants.CLAIM_UID);
+        Boolean fullAdmin = jwt.getClaimAsBoolean(AuthConstants.CLAIM_FULL_ADMIN);
+
+        var tutor = LongStream.builder();
+        var instructor = LongStream.builder();
+        var admin = LongStream.builder();
+        var all = LongStream.builder();
+        Collection<Map<String, Object>> roles = jwt.getClaim(AuthConstants.CLAIM_ROLES);
+        if (roles != null) {
+            for (Map<String, Object> role : roles) {
+                if (!(role.get("organizationalUnit") instanceof Number number))
+                    continue;
+
+                long orgId = number.longValue();
+                all.add(orgId);
+                switch (String.valueOf(role.get("role"))) {
+                    case AuthConstants.ROLE_TUTOR -> tutor.add(orgId);
+                    case AuthConstants.ROLE_INSTRUCTOR -> instructor.add(orgId);
+                    case AuthConstants.ROLE_ADMIN -> admin.add(orgId);
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        return new AuthorizationContext(
+            uid instanceof Number number ? number.longValue() : null,
+            jwt.getSubject(),
+            fullAdmin != null && fullAdmin,
+            sortedDistinct(tutor), sortedDistinct(instructor), sortedDistinct(admin), sortedDistinct(all));
+    }
+
+    //#region --- Getters ---
+
+    /**
+     * Returns the identifier of the user.
+     *
+     * @return The identifier, if available.
+     */
+    public Optional<Long> getUserId() {
+        return Optional.ofNullable(this.userId);
+    }
+
+    /**
+     * Returns the username of the user.
+     *
+     * @return The username or {@code null} if not available.
+     */
+    public String getUserName() {
+        return this.userName;
+    }
+
+    /**
+     * Returns whether the user is full administrator.
+     *
+     * @return Whether the user is full administrator.
+     */
+    public boolean isFullAdmin() {
+        return this.fullAdmin;
+    }
+
+    /**
+     * Returns whether the user is a tutor in the specified organizational unit.
+     *
+     * @param orgId The organizational unit id.
+     * @return Whether the user is a tutor.
+     */
+    public boolean isTutor(long orgId) {
+        return Arrays.binarySearch(this.tutorUnits, orgId) >= 0;
+    }
+
+    /**
+     * Returns whether the user is an instructor in the specified organizational unit.
+     *
+     * @param orgId The organizational unit id.
+     * @return Whether the user is an instructor.
+     */
+    public boolean isInstructor(long orgId) {
+        return Arrays.binarySearch(this.instructorUnits, orgId) >= 0;
+    }
+
+    /**
+     * Returns whether the user is an admin in the specified organizational unit.
+     *
+     * @param orgId The organizational unit id.
+     * @return Whether the user is an admin.
+     */
+    public boolean isAdmin(long orgId) {
+        return Arrays.binarySearch(this.adminUnits, orgId) >= 0;
+    }
+
+    /**
+     * Returns whether the user has any role in the specified organizational unit.
+     *
+     * @param orgId The organizational unit id.
+     * @return Whether the user is a user in the specified organizational unit.
+     */
+    public boolean isUser(long orgId) {
+        return Arrays.binarySearch(this.allUnits, orgId) >= 0;
+    }
+
+    /**
+     * Returns the identifiers of the organizational units for which the user is an administrator.
+     *
+     * @return Unmodifiable set of organizational unit identifiers.
+     */
+    public Set<Long> getOrganizationalUnitsAsAdmin() {
+        return this.adminUnitSet;
+    }
+
+    /**
+     * Returns the identifiers of the organizational units for which the user is an administrator or instructor.
+     *
+     * @return Unmodifiable set of organizational unit identifiers.
+     */
+    public Set<Long> getOrganizationalUnitsAsAdminOrInstructor() {
+        return this.adminOrInstructorUnitSet;
+    }
+
+    /**
+     * Returns the identifiers of the organizational units in which the user has any role.
+     *
+     * @return Unmodifiable set of organizational unit identifiers.
+     */
+    public Set<Long> getOrganizationalUnits() {
+        return this.allUnitSet;
+    }
+
+    //#endregion
+
+    private static long[] sortedDistinct(LongStream.Builder builder) {
+        return builder.build().sorted().distinct().toArray();
+    }
+
+    private static Set<Long> toSet(long[] values) {
+        Set<Long> set = new HashSet<>(values.length * 2);
+        for (long value : values)
+            set.add(value);
+        return Collections.unmodifiableSet(set);
+    }
+}
@@ -0,0 +1,36 @@
+package at.jku.dke.etutor.task_administration.auth;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+/**
+ * JWT authentication token that additionally holds the parsed {@link AuthorizationContext} of the user.
+ */
+public class AuthorizationJwtAuthenticationToken extends JwtAuthenticationToken {
+    private final AuthorizationContext authorizationContext;
+
+    /**
+     * Creates a new instance of class {@link AuthorizationJwtAuthenticationToken}.
+     *
+     * @param jwt                  The JWT.
+     * @param authorities          The authorities assigned to the JWT.
+     * @param name                 The principal name.
+     * @param authorizationContext The authorization context parsed from the JWT.
+     */
+    public AuthorizationJwtAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities, String name, AuthorizationContext authorizationContext) {
+        super(jwt, authorities, name);
+        this.authorizationContext = authorizationContext;
+    }
+
+    /**
+     * Returns the authorization context.
+     *
+     * @return The authorization context.
+     */
+    public AuthorizationContext getAuthorizationContext() {
+        return authorizationContext;
+    }
+}
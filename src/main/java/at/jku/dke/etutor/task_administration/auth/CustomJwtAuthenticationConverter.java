@@ -6,7 +6,6 @@
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtClaimNames;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 
 import java.util.ArrayList;
@@ -15,6 +14,8 @@
 
 /**
  * Custom JWT authentication converter that adds additional authorities.
+ * <p>
+ * The returned token holds the {@link AuthorizationContext} of the user, so that the claims are only parsed once per request.
  */
 public class CustomJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
     private final Converter<Jwt, Collection<GrantedAuthority>> jwtGrantedAuthoritiesConverter;
@@ -51,6 +52,6 @@ public AbstractAuthenticationToken convert(Jwt source) {
                 .map(x -> new SimpleGrantedAuthority(String.valueOf(x.get("role"))))
                 .forEach(authorities::add);
 
-        return new JwtAuthenticationToken(source, authorities, principalClaimValue);
+        return new AuthorizationJwtAuthenticationToken(source, authorities, principalClaimValue, AuthorizationContext.fromJwt(source));
     }
 }
@@ -2,19 +2,21 @@
 
 import at.jku.dke.etutor.task_administration.data.repositories.UserRepository;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Manages login attempts and locks users in case of too many failed login attempts on the same IP.
+ * <p>
+ * The failed login attempts per IP are counted in a concurrent cache without a global lock; an entry expires
+ * 4 hours after the last failed attempt. The failed login count of a user is updated with a single statement.
  */
 @Service
 public class LoginAttemptService {
@@ -30,14 +32,11 @@ public class LoginAttemptService {
      */
     public static final int USER_MAX_ATTEMPTS = 5;
 
-    private static final LoadingCache<String, Integer> attemptsCache = CacheBuilder.newBuilder()
+    private static final ConcurrentMap<String, Integer> attemptsCache = CacheBuilder.newBuilder()
+        .concurrencyLevel(Math.max(4, Runtime.getRuntime().availableProcessors()))
         .expireAfterWrite(4, TimeUnit.HOURS)
-        .build(new CacheLoader<>() {
-            @Override
-            public Integer load(String key) {
-                return 0;
-            }
-        });
+        .<String, Integer>build()
+        .asMap();
 
     private final UserRepository userRepository;
     private final HttpServletRequest request;
@@ -65,34 +64,18 @@ public LoginAttemptService(UserRepository userRepository, HttpServletRequest req
      *
      * @param username The username that tried to log in.
      */
+    @Transactional
     public void loginFailed(String username) {
         LOG.warn("Login of user {} failed", username);
 
         // Set user login count
-        var user = this.userRepository.findByUsernameIgnoreCase(username).orElse(null);
-        if (user != null) {
-            user.setFailedLoginCount(user.getFailedLoginCount() + 1);
-            if (user.getFailedLoginCount() > USER_MAX_ATTEMPTS)
-                user.setLockoutEnd(OffsetDateTime.now().plusMinutes(30));
-            LOG.debug("Set failed login count to {} and lockout end to {} for user {}", user.getFailedLoginCount(), user.getLockoutEnd(), username);
+        if (username != null && this.userRepository.incrementFailedLoginCount(username, USER_MAX_ATTEMPTS, OffsetDateTime.now().plusMinutes(30)) > 0)
+            LOG.debug("Incremented failed login count for user {}", username);
 
-            this.userRepository.save(user);
-        }
-
-        // Set IP login count
+        // Set IP login count (atomic per IP, does not block other IPs)
         var ip = this.getClientIP();
-        synchronized (attemptsCache) {
-            int attempts;
-            try {
-                attempts = attemptsCache.get(ip);
-            } catch (ExecutionException ex) {
-                LOG.warn("Could not load login attempts cache for IP {}", ip, ex);
-                attempts = 0;
-            }
-            attempts++;
-            attemptsCache.put(ip, attempts);
-            LOG.debug("Set fail login count for IP {} to {}", ip, attempts);
-        }
+        int attempts = attemptsCache.merge(ip, 1, Integer::sum);
+        LOG.debug("Set fail login count for IP {} to {}", ip, attempts);
     }
 
     /**
@@ -101,23 +84,18 @@ public void loginFailed(String username) {
      *
      * @param username The username that tried to log in.
      */
+    @Transactional
     public void loginSucceeded(String username) {
         LOG.info("Login of user {} succeeded", username);
 
         // Set user login count
-        var user = this.userRepository.findByUsernameIgnoreCase(username).orElse(null);
-        if (user != null) {
-            user.setFailedLoginCount(0);
-            user.setLockoutEnd(null);
+        if (username != null && this.userRepository.resetFailedLoginCount(username) > 0)
             LOG.debug("Reset failed login count and lockout end for user {}", username);
-            this.userRepository.save(user);
-        }
 
         // Set IP login count
-        synchronized (attemptsCache) {
-            LOG.debug("Invalidating login attempts cache for IP {}", this.getClientIP());
-            attemptsCache.invalidate(this.getClientIP());
-        }
+        var ip = this.getClientIP();
+        if (attemptsCache.remove(ip) != null)
+            LOG.debug("Invalidated login attempts cache for IP {}", ip);
     }
 
     /**
@@ -126,14 +104,7 @@ public void loginSucceeded(String username) {
      * @return {@code true} if the IP-address is blocked because of too many failed login attempts; {@code false} otherwise.
      */
     public boolean isBlocked() {
-        try {
-            synchronized (attemptsCache) {
-                return attemptsCache.get(this.getClientIP()) > IP_MAX_ATTEMPTS;
-            }
-        } catch (ExecutionException ex) {
-            LOG.warn("Failed to retrieve amount of failed login attempts cache for IP {}", this.getClientIP(), ex);
-            return false;
-        }
+        return this.getFailedLoginCount() > IP_MAX_ATTEMPTS;
     }
 
     /**
@@ -142,14 +113,7 @@ public boolean isBlocked() {
      * @return The failed login count.
      */
     public int getFailedLoginCount() {
-        try {
-            synchronized (attemptsCache) {
-                return attemptsCache.get(this.getClientIP());
-            }
-        } catch (ExecutionException ex) {
-            LOG.warn("Failed to retrieve amount of failed login attempts cache for IP {}", this.getClientIP(), ex);
-            return 0;
-        }
+        return attemptsCache.getOrDefault(this.getClientIP(), 0);
     }
 
     /**
@@ -158,10 +122,20 @@ public int getFailedLoginCount() {
      * @return The IP address of the client.
      */
     public String getClientIP() {
-        final String xfHeader = this.request.getHeader("X-Forwarded-For");
-        if (xfHeader != null)
-            return xfHeader.split(",")[0];
+        return getClientIP(this.request);
+    }
 
-        return this.request.getRemoteAddr();
+    /**
+     * Gets the client IP address of the request.
+     * <p>
+     * The {@code X-Forwarded-For} header is not read here, because it is controlled by the client. Headers of trusted
+     * reverse proxies are applied to the remote address by the web server ({@code server.forward-headers-strategy},
+     * {@code server.tomcat.remoteip.internal-proxies}).
+     *
+     * @param request The HTTP request.
+     * @return The IP address of the client.
+     */
+    public static String getClientIP(HttpServletRequest request) {
+        return request.getRemoteAddr();
     }
 }
@@ -0,0 +1,142 @@
+package at.jku.dke.etutor.task_administration.auth;
+
+import at.jku.dke.etutor.task_administration.config.RateLimitConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Ticker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Rejects requests of clients exceeding the configured rate limits ({@link RateLimitConfig}) with status 429.
+ * <p>
+ * The filter runs before the security filter chain, so that rejected requests do not reach the database.
+ * Clients are identified by their remote IP address (see {@link LoginAttemptService#getClientIP(HttpServletRequest)}),
+ * which only reflects {@code X-Forwarded-For} if the request was sent by a trusted proxy.
+ * If several rules match a request, a token is taken from each of them.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final Logger LOG = LoggerFactory.getLogger(RateLimitFilter.class);
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final boolean enabled;
+    private final List<Rule> rules;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a new instance of class {@link RateLimitFilter}.
+     *
+     * @param config       The rate limit configuration.
+     * @param objectMapper The object mapper.
+     */
+    public RateLimitFilter(RateLimitConfig config, ObjectMapper objectMapper) {
+        this(config, objectMapper, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a new instance of class {@link RateLimitFilter}.
+     *
+     * @param config       The rate limit configuration.
+     * @param objectMapper The object mapper.
+     * @param ticker       The time source.
+     */
+    RateLimitFilter(RateLimitConfig config, ObjectMapper objectMapper, Ticker ticker) {
+        this.enabled = config.isEnabled();
+        this.objectMapper = objectMapper;
+        this.rules = new ArrayList<>();
+        config.getRules().forEach((name, rule) -> this.rules.add(new Rule(name, rule.getPaths(),
+            rule.getMethods().stream().map(String::toUpperCase).collect(Collectors.toSet()),
+            new RequestRateLimiter(rule, config.getMaxClients(), ticker))));
+    }
+
+    /**
+     * Returns whether the request is not subject to rate limiting.
+     *
+     * @param request The current HTTP request.
+     * @return {@code true} if rate limiting is disabled or no rule matches the request.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!this.enabled)
+            return true;
+        String path = getPath(request);
+        return this.rules.stream().noneMatch(r -> r.matches(request.getMethod(), path));
+    }
+
+    /**
+     * Applies the rate limits to the request.
+     *
+     * @param request     The current HTTP request.
+     * @param response    The current HTTP response.
+     * @param filterChain The filter chain.
+     * @throws ServletException If the filter chain fails.
+     * @throws IOException      If an I/O error occurs.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String path = getPath(request);
+        String client = LoginAttemptService.getClientIP(request);
+
+        for (Rule rule : this.rules) {
+            if (!rule.matches(request.getMethod(), path))
+                continue;
+
+            var wait = rule.limiter().tryAcquire(client);
+            if (!wait.isZero()) {
+                LOG.warn("Rate limit {} exceeded by client {} ({} {})", rule.name(), client, request.getMethod(), path);
+                long retryAfter = Math.max(1, (wait.toMillis() + 999) / 1000);
+                this.reject(request, response, retryAfter);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        var problem = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, "Too many requests, retry after " + retryAfterSeconds + " seconds.");
+        problem.setInstance(URI.create(request.getRequestURI()));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        this.objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    private static String getPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private record Rule(String name, List<String> paths, Set<String> methods, RequestRateLimiter limiter) {
+        boolean matches(String method, String path) {
+            if (!this.methods.isEmpty() && !this.methods.contains(method))
+                return false;
+            for (String pattern : this.paths) {
+                if (PATH_MATCHER.match(pattern, path))
+                    return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package at.jku.dke.etutor.task_administration.auth;
+
+import at.jku.dke.etutor.task_administration.config.RateLimitConfig;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Token bucket rate limiter with one bucket per client.
+ * <p>
+ * A bucket holds at most {@link RateLimitConfig.RuleConfig#getCapacity()} tokens and is refilled continuously within
+ * {@link RateLimitConfig.RuleConfig#getPeriod()}. The buckets are stored in a size-bounded cache; a bucket which has
+ * not been used for a whole period is full again and is therefore evicted.
+ */
+public class RequestRateLimiter {
+    private final int capacity;
+    private final long nanosPerToken;
+    private final Ticker ticker;
+    private final Cache<String, Bucket> buckets;
+
+    /**
+     * Creates a new instance of class {@link RequestRateLimiter}.
+     *
+     * @param rule       The rule.
+     * @param maxClients The maximum number of clients to track.
+     * @param ticker     The time source.
+     */
+    public RequestRateLimiter(RateLimitConfig.RuleConfig rule, int maxClients, Ticker ticker) {
+        this.capacity = rule.getCapacity();
+        this.nanosPerToken = Math.max(1, rule.getPeriod().toNanos() / rule.getCapacity());
+        this.ticker = ticker;
+        this.buckets = CacheBuilder.newBuilder()
+            .maximumSize(maxClients)
+            .expireAfterAccess(rule.getPeriod())
+            .ticker(ticker)
+            .build();
+    }
+
+    /**
+     * Takes a token from the bucket of the client.
+     *
+     * @param client The client key.
+     * @return {@link Duration#ZERO} if the request is allowed; otherwise the time until the next token is available.
+     */
+    public Duration tryAcquire(String client) {
+        Bucket bucket;
+        try {
+            bucket = this.buckets.get(client, () -> new Bucket(this.capacity, this.ticker.read()));
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+        return Duration.ofNanos(bucket.tryAcquire(this.ticker.read()));
+    }
+
+    /**
+     * Returns the number of tracked clients.
+     *
+     * @return The number of clients.
+     */
+    public long size() {
+        return this.buckets.size();
+    }
+
+    private final class Bucket {
+        private long tokens;
+        private long lastRefill;
+
+        private Bucket(long tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+        }
+
+        /**
+         * Takes a token.
+         *
+         * @param now The current time in nanoseconds.
+         * @return 0 if a token has been taken; otherwise the nanoseconds until the next token is available.
+         */
+        private synchronized long tryAcquire(long now) {
+            long elapsed = now - this.lastRefill;
+            if (elapsed >= nanosPerToken) {
+                long refill = elapsed / nanosPerToken;
+                this.tokens = Math.min(capacity, this.tokens + refill);
+                this.lastRefill = this.tokens == capacity ? now : this.lastRefill + refill * nanosPerToken;
+            }
+
+            if (this.tokens > 0) {
+                this.tokens--;
+                return 0;
+            }
+            return nanosPerToken - (now - this.lastRefill);
+        }
+    }
+}
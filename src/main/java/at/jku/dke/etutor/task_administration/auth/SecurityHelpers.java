@@ -3,8 +3,8 @@
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Provides helper methods for security related operations.
@@ -20,11 +20,7 @@ private SecurityHelpers() {
      * @see AuthConstants#CLAIM_UID
      */
     public static Optional<Long> getUserId() {
-        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof Jwt jwt) {
-            Long uid = jwt.getClaim(AuthConstants.CLAIM_UID);
-            return Optional.ofNullable(uid);
-        }
-        return Optional.empty();
+        return getAuthorizationContext().getUserId();
     }
 
     /**
@@ -33,10 +29,7 @@ public static Optional<Long> getUserId() {
      * @return The username, if available.
      */
     public static String getUserName() {
-        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof Jwt jwt) {
-            return jwt.getClaim("sub");
-        }
-        return null;
+        return getAuthorizationContext().getUserName();
     }
 
     /**
@@ -46,11 +39,7 @@ public static String getUserName() {
      * @see AuthConstants#CLAIM_FULL_ADMIN
      */
     public static boolean isFullAdmin() {
-        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof Jwt jwt) {
-            var fullAdmin = jwt.getClaimAsBoolean(AuthConstants.CLAIM_FULL_ADMIN);
-            return fullAdmin != null && fullAdmin;
-        }
-        return false;
+        return getAuthorizationContext().isFullAdmin();
     }
 
     /**
@@ -61,13 +50,7 @@ public static boolean isFullAdmin() {
      * @see AuthConstants#ROLE_TUTOR
      */
     public static boolean isTutor(long orgId) {
-        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof Jwt jwt) {
-            //noinspection unchecked
-            var roles = (List<Map<String, Object>>) jwt.getClaim(AuthConstants.CLAIM_ROLES);
-            if (roles != null)
-                return roles.stream().anyMatch(x -> x.get("organizationalUnit").equals(orgId) && x.get("role").equals(AuthConstants.ROLE_TUTOR));
-        }
-        return false;
+        return getAuthorizationContext().isTutor(orgId);
     }
 
     /**
@@ -78,13 +61,7 @@ public static boolean isTutor(long orgId) {
      * @see AuthConstants#ROLE_INSTRUCTOR
      */
     public static boolean isInstructor(long orgId) {
-        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof Jwt jwt) {
-            //noinspection unchecked
-            var roles = (List<Map<String, Object>>) jwt.getClaim(AuthConstants.CLAIM_ROLES);
-            if (roles != null)
-                return roles.stream().anyMatch(x -> x.get("organizationalUnit").equals(orgId) && x.get("role").equals(AuthConstants.ROLE_INSTRUCTOR));
-        }
-        return false;
+        return getAuthorizationContext().isInstructor(orgId);
     }
 
     /**
@@ -94,7 +71,8 @@ public static boolean isInstructor(long orgId) {
      * @return Whether the user is a teacher or higher role.
      */
     public static boolean isInstructorOrHigher(long orgId) {
-        return isFullAdmin() || isAdmin(orgId) || isInstructor(orgId);
+        var context = getAuthorizationContext();
+        return context.isFullAdmin() || context.isAdmin(orgId) || context.isInstructor(orgId);
     }
 
     /**
@@ -105,13 +83,7 @@ public static boolean isInstructorOrHigher(long orgId) {
      * @see AuthConstants#ROLE_ADMIN
      */
     public static boolean isAdmin(long orgId) {
-        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof Jwt jwt) {
-            //noinspection unchecked
-            var roles = (List<Map<String, Object>>) jwt.getClaim(AuthConstants.CLAIM_ROLES);
-            if (roles != null)
-                return roles.stream().anyMatch(x -> x.get("organizationalUnit").equals(orgId) && x.get("role").equals(AuthConstants.ROLE_ADMIN));
-        }
-        return false;
+        return getAuthorizationContext().isAdmin(orgId);
     }
 
     /**
@@ -121,68 +93,50 @@ public static boolean isAdmin(long orgId) {
      * @return Whether the user is a user in the specified organizational unit.
      */
     public static boolean isUser(long orgId) {
-        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof Jwt jwt) {
-            //noinspection unchecked
-            var roles = (List<Map<String, Object>>) jwt.getClaim(AuthConstants.CLAIM_ROLES);
-            if (roles != null)
-                return roles.stream().anyMatch(x -> x.get("organizationalUnit").equals(orgId));
-        }
-        return false;
+        return getAuthorizationContext().isUser(orgId);
     }
 
     /**
      * Returns the identifiers of the organizational units for which the current user is an administrator.
      *
-     * @return The identifiers of the administered organizational units.
+     * @return Unmodifiable set of the identifiers of the administered organizational units.
      */
     public static Set<Long> getOrganizationalUnitsAsAdmin() {
-        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof Jwt jwt) {
-            //noinspection unchecked
-            var roles = (List<Map<String, Object>>) jwt.getClaim(AuthConstants.CLAIM_ROLES);
-            if (roles != null)
-                return roles.stream()
-                    .filter(x -> x.get("role").equals(AuthConstants.ROLE_ADMIN))
-                    .map(x -> x.get("organizationalUnit"))
-                    .map(x -> (Long) x)
-                    .collect(Collectors.toSet());
-        }
-        return Collections.emptySet();
+        return getAuthorizationContext().getOrganizationalUnitsAsAdmin();
     }
 
     /**
      * Returns the identifiers of the organizational units for which the current user is an administrator or instructor.
      *
-     * @return The identifiers of the administered organizational units.
+     * @return Unmodifiable set of the identifiers of the administered organizational units.
      */
     public static Set<Long> getOrganizationalUnitsAsAdminOrInstructor() {
-        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof Jwt jwt) {
-            //noinspection unchecked
-            var roles = (List<Map<String, Object>>) jwt.getClaim(AuthConstants.CLAIM_ROLES);
-            if (roles != null)
-                return roles.stream()
-                    .filter(x -> x.get("role").equals(AuthConstants.ROLE_ADMIN) || x.get("role").equals(AuthConstants.ROLE_INSTRUCTOR))
-                    .map(x -> x.get("organizationalUnit"))
-                    .map(x -> (Long) x)
-                    .collect(Collectors.toSet());
-        }
-        return Collections.emptySet();
+        return getAuthorizationContext().getOrganizationalUnitsAsAdminOrInstructor();
     }
 
     /**
      * Returns the identifiers of the organizational units for the current user.
      *
-     * @return The identifiers of the organizational units.
+     * @return Unmodifiable set of the identifiers of the organizational units.
      */
     public static Set<Long> getOrganizationalUnits() {
-        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof Jwt jwt) {
-            //noinspection unchecked
-            var roles = (List<Map<String, Object>>) jwt.getClaim(AuthConstants.CLAIM_ROLES);
-            if (roles != null)
-                return roles.stream()
-                    .map(x -> x.get("organizationalUnit"))
-                    .map(x -> (Long) x)
-                    .collect(Collectors.toSet());
-        }
-        return Collections.emptySet();
+        return getAuthorizationContext().getOrganizationalUnits();
+    }
+
+    /**
+     * Returns the authorization context of the current user.
+     * <p>
+     * The context is taken from the authentication token if it has been created by {@link CustomJwtAuthenticationConverter};
+     * otherwise it is parsed from the JWT principal.
+     *
+     * @return The authorization context; {@link AuthorizationContext#EMPTY} if the user is not authenticated with a JWT.
+     */
+    public static AuthorizationContext getAuthorizationContext() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof AuthorizationJwtAuthenticationToken token)
+            return token.getAuthorizationContext();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt)
+            return AuthorizationContext.fromJwt(jwt);
+        return AuthorizationContext.EMPTY;
     }
 }
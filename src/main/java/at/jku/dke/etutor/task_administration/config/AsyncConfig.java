@@ -1,20 +1,38 @@
 package at.jku.dke.etutor.task_administration.config;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Configuration for asynchronous tasks.
+ * <p>
+ * If virtual threads are enabled ({@code spring.threads.virtual.enabled}), asynchronous tasks are executed on virtual
+ * threads; otherwise a fixed-size pool of platform threads is used.
+ * The executor publishes the metrics {@code async.executor.queued}, {@code async.executor.active} and
+ * {@code async.executor.rejected}.
  */
 @Configuration
 @EnableAsync
 @EnableScheduling
 public class AsyncConfig {
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncConfig.class);
+    private static final String THREAD_NAME_PREFIX = "eta-async-";
+
     /**
      * Creates a new instance of class {@link AsyncConfig}.
      */
@@ -24,16 +42,49 @@ public AsyncConfig() {
     /**
      * Creates a new {@link Executor} for asynchronous tasks.
      *
+     * @param config        The executor configuration.
+     * @param environment   The environment.
+     * @param meterRegistry The meter registry.
      * @return The {@link Executor}.
      */
     @Bean
-    public Executor taskExecutor() {
+    public Executor taskExecutor(TaskExecutorConfig config, Environment environment, MeterRegistry meterRegistry) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            LOG.info("Executing asynchronous tasks on virtual threads (limit: {})", config.getVirtualConcurrencyLimit());
+            var executor = new VirtualThreadTaskExecutor(THREAD_NAME_PREFIX, config.getVirtualConcurrencyLimit(), config.getQueueCapacity());
+            registerMetrics(meterRegistry, "virtual", executor::getQueueSize, executor::getActiveCount, executor::getRejectedCount);
+            return executor;
+        }
+
+        // core size = max size, because the pool only grows beyond the core size if the queue is full
+        var rejected = new AtomicLong();
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(1);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(500);
-        executor.setThreadNamePrefix("eta-async-");
+        executor.setCorePoolSize(config.getPoolSize());
+        executor.setMaxPoolSize(config.getPoolSize());
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(config.getQueueCapacity());
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("Task " + task + " rejected from " + pool);
+        });
         executor.initialize();
+        registerMetrics(meterRegistry, "platform", executor::getQueueSize, executor::getActiveCount, rejected::get);
         return executor;
     }
+
+    private static void registerMetrics(MeterRegistry registry, String mode, Supplier<Number> queued, Supplier<Number> active, Supplier<Number> rejected) {
+        Gauge.builder("async.executor.queued", queued)
+            .description("The number of asynchronous tasks waiting for execution")
+            .tag("mode", mode)
+            .register(registry);
+        Gauge.builder("async.executor.active", active)
+            .description("The number of running asynchronous tasks")
+            .tag("mode", mode)
+            .register(registry);
+        FunctionCounter.builder("async.executor.rejected", rejected, s -> s.get().doubleValue())
+            .description("The number of asynchronous tasks rejected because the queue was full")
+            .tag("mode", mode)
+            .register(registry);
+    }
 }
@@ -0,0 +1,64 @@
+package at.jku.dke.etutor.task_administration.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the Hibernate second-level cache of the reference data (organizational units, task categories,
+ * task apps and task types).
+ */
+@Validated
+@ConfigurationProperties("entity-cache")
+public class EntityCacheConfig {
+    @Min(1)
+    private long maxSize = 10000;
+
+    @NotNull
+    private Duration expireAfterWrite = Duration.ofHours(1);
+
+    /**
+     * Creates a new instance of class {@link EntityCacheConfig}.
+     */
+    public EntityCacheConfig() {
+    }
+
+    /**
+     * Gets the maximum number of entries per cache region.
+     *
+     * @return The maximum number of entries.
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of entries per cache region.
+     *
+     * @param maxSize The maximum number of entries.
+     */
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the duration after which cached entities and query results expire.
+     *
+     * @return The expiration duration.
+     */
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    /**
+     * Sets the duration after which cached entities and query results expire.
+     *
+     * @param expireAfterWrite The expiration duration.
+     */
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+        this.expireAfterWrite = expireAfterWrite;
+    }
+}
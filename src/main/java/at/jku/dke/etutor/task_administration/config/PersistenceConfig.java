@@ -1,12 +1,23 @@
 package at.jku.dke.etutor.task_administration.config;
 
 import at.jku.dke.etutor.task_administration.data.AuditorAwareImpl;
+import at.jku.dke.etutor.task_administration.data.CacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import javax.cache.CacheManager;
+import java.util.OptionalLong;
+
 /**
  * The data configuration.
  */
@@ -29,4 +40,55 @@ public PersistenceConfig() {
     public AuditorAware<String> auditorProvider() {
         return new AuditorAwareImpl();
     }
+
+    /**
+     * Provides the JCache manager backing the Hibernate second-level cache.
+     * <p>
+     * All regions are created upfront with statistics enabled, so that they can be monitored. The update timestamps
+     * region is bounded by the number of tables only and therefore must not expire.
+     *
+     * @param config The entity cache configuration.
+     * @return The cache manager.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheConfig config) {
+        var cacheManager = new CaffeineCachingProvider().getCacheManager();
+        for (String region : CacheRegions.DATA_REGIONS) {
+            var configuration = new CaffeineConfiguration<>();
+            configuration.setStatisticsEnabled(true);
+            configuration.setMaximumSize(OptionalLong.of(config.getMaxSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(config.getExpireAfterWrite().toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+
+        var timestamps = new CaffeineConfiguration<>();
+        timestamps.setStatisticsEnabled(true);
+        cacheManager.createCache(CacheRegions.UPDATE_TIMESTAMPS, timestamps);
+        return cacheManager;
+    }
+
+    /**
+     * Passes the JCache manager to Hibernate.
+     *
+     * @param entityCacheManager The cache manager.
+     * @return The customizer.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    /**
+     * Registers the hit, miss and eviction metrics of the second-level cache regions.
+     *
+     * @param entityCacheManager The cache manager.
+     * @return The meter binder.
+     */
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> {
+            for (String name : entityCacheManager.getCacheNames())
+                JCacheMetrics.monitor(registry, entityCacheManager.getCache(name), Tags.of("cache.manager", "hibernate"));
+        };
+    }
 }
@@ -0,0 +1,185 @@
+package at.jku.dke.etutor.task_administration.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration for the rate limiting of requests per client IP address.
+ */
+@Validated
+@ConfigurationProperties("rate-limit")
+public class RateLimitConfig {
+    private boolean enabled = true;
+
+    @Min(1)
+    private int maxClients = 10000;
+
+    @NotNull
+    private Map<String, @Valid RuleConfig> rules = new LinkedHashMap<>();
+
+    /**
+     * Creates a new instance of class {@link RateLimitConfig}.
+     */
+    public RateLimitConfig() {
+    }
+
+    /**
+     * Returns whether the rate limiting is enabled.
+     *
+     * @return {@code true} if enabled; {@code false} otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether the rate limiting is enabled.
+     *
+     * @param enabled {@code true} if enabled; {@code false} otherwise.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the maximum number of clients tracked per rule; the least recently used clients are evicted first.
+     *
+     * @return The maximum number of clients.
+     */
+    public int getMaxClients() {
+        return maxClients;
+    }
+
+    /**
+     * Sets the maximum number of clients tracked per rule; the least recently used clients are evicted first.
+     *
+     * @param maxClients The maximum number of clients.
+     */
+    public void setMaxClients(int maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    /**
+     * Gets the rate limiting rules.
+     *
+     * @return The rules (key: rule name).
+     */
+    public Map<String, RuleConfig> getRules() {
+        return rules;
+    }
+
+    /**
+     * Sets the rate limiting rules.
+     *
+     * @param rules The rules (key: rule name).
+     */
+    public void setRules(Map<String, RuleConfig> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * A rate limiting rule.
+     * <p>
+     * Every client may send {@link #getCapacity()} requests at once; afterwards, the client may send another
+     * {@link #getCapacity()} requests per {@link #getPeriod()} (token bucket).
+     */
+    public static class RuleConfig {
+        @NotEmpty
+        private List<String> paths = List.of();
+
+        private List<String> methods = List.of();
+
+        @Min(1)
+        private int capacity = 10;
+
+        @NotNull
+        private Duration period = Duration.ofMinutes(1);
+
+        /**
+         * Creates a new instance of class {@link RuleConfig}.
+         */
+        public RuleConfig() {
+        }
+
+        /**
+         * Gets the path patterns of the requests to which the rule applies.
+         *
+         * @return The path patterns.
+         */
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        /**
+         * Sets the path patterns of the requests to which the rule applies.
+         *
+         * @param paths The path patterns.
+         */
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        /**
+         * Gets the HTTP methods of the requests to which the rule applies.
+         *
+         * @return The HTTP methods; if empty, the rule applies to all methods.
+         */
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        /**
+         * Sets the HTTP methods of the requests to which the rule applies.
+         *
+         * @param methods The HTTP methods; if empty, the rule applies to all methods.
+         */
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        /**
+         * Gets the maximum number of requests per period.
+         *
+         * @return The capacity.
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Sets the maximum number of requests per period.
+         *
+         * @param capacity The capacity.
+         */
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Gets the period in which the capacity is refilled.
+         *
+         * @return The period.
+         */
+        public Duration getPeriod() {
+            return period;
+        }
+
+        /**
+         * Sets the period in which the capacity is refilled.
+         *
+         * @param period The period.
+         */
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package at.jku.dke.etutor.task_administration.config;
+
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration for the executor of asynchronous tasks.
+ * <p>
+ * Whether platform or virtual threads are used is decided by {@code spring.threads.virtual.enabled}, which also
+ * switches the request handling of the embedded web server to virtual threads.
+ */
+@Validated
+@ConfigurationProperties("task-executor")
+public class TaskExecutorConfig {
+    @Min(1)
+    private int poolSize = 4;
+
+    @Min(0)
+    private int queueCapacity = 500;
+
+    @Min(1)
+    private int virtualConcurrencyLimit = 64;
+
+    /**
+     * Creates a new instance of class {@link TaskExecutorConfig}.
+     */
+    public TaskExecutorConfig() {
+    }
+
+    /**
+     * Gets the number of platform threads executing asynchronous tasks.
+     *
+     * @return The number of platform threads.
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Sets the number of platform threads executing asynchronous tasks.
+     *
+     * @param poolSize The number of platform threads.
+     */
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Gets the maximum number of tasks waiting for execution.
+     *
+     * @return The queue capacity.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the maximum number of tasks waiting for execution.
+     *
+     * @param queueCapacity The queue capacity.
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Gets the maximum number of asynchronous tasks running concurrently on virtual threads.
+     *
+     * @return The maximum number of concurrent tasks.
+     */
+    public int getVirtualConcurrencyLimit() {
+        return virtualConcurrencyLimit;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous tasks running concurrently on virtual threads.
+     *
+     * @param virtualConcurrencyLimit The maximum number of concurrent tasks.
+     */
+    public void setVirtualConcurrencyLimit(int virtualConcurrencyLimit) {
+        this.virtualConcurrencyLimit = virtualConcurrencyLimit;
+    }
+}
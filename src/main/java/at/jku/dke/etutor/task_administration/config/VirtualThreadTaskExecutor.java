@@ -0,0 +1,158 @@
+package at.jku.dke.etutor.task_administration.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes tasks on virtual threads with a limited number of concurrently running tasks.
+ * <p>
+ * Tasks exceeding the limit are queued and executed by the virtual threads of the running tasks as soon as those
+ * have finished. Tasks are rejected if the queue is full, the submitting thread is never blocked.
+ */
+public class VirtualThreadTaskExecutor implements TaskExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadTaskExecutor.class);
+
+    private final ThreadFactory threadFactory;
+    private final int concurrencyLimit;
+    private final Semaphore permits;
+    private final BlockingQueue<Runnable> queue;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * Creates a new instance of class {@link VirtualThreadTaskExecutor}.
+     *
+     * @param threadNamePrefix The prefix of the thread names.
+     * @param concurrencyLimit The maximum number of concurrently running tasks.
+     * @param queueCapacity    The maximum number of tasks waiting for execution.
+     */
+    public VirtualThreadTaskExecutor(String threadNamePrefix, int concurrencyLimit, int queueCapacity) {
+        if (concurrencyLimit < 1)
+            throw new IllegalArgumentException("concurrencyLimit must be at least 1");
+
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 1).factory();
+        this.concurrencyLimit = concurrencyLimit;
+        this.permits = new Semaphore(concurrencyLimit);
+        this.queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Objects.requireNonNull(task, "task must not be null");
+        if (this.permits.tryAcquire()) {
+            this.start(task);
+            return;
+        }
+
+        if (!this.queue.offer(task)) {
+            this.rejectedCount.incrementAndGet();
+            throw new TaskRejectedException("Executor [" + this + "] did not accept task: queue is full");
+        }
+
+        // a running task might have finished between the failed acquire and offering the task
+        if (this.permits.tryAcquire()) {
+            Runnable next = this.queue.poll();
+            if (next != null)
+                this.start(next);
+            else
+                this.permits.release();
+        }
+    }
+
+    /**
+     * Returns the number of currently running tasks.
+     *
+     * @return The number of running tasks.
+     */
+    public int getActiveCount() {
+        return this.concurrencyLimit - this.permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of tasks waiting for execution.
+     *
+     * @return The number of queued tasks.
+     */
+    public int getQueueSize() {
+        return this.queue.size();
+    }
+
+    /**
+     * Returns the number of tasks which have been rejected because the queue was full.
+     *
+     * @return The number of rejected tasks.
+     */
+    public long getRejectedCount() {
+        return this.rejectedCount.get();
+    }
+
+    private void start(Runnable task) {
+        try {
+            this.threadFactory.newThread(() -> this.runWorker(task)).start();
+        } catch (RuntimeException ex) {
+            this.permits.release();
+            throw new TaskRejectedException("Executor [" + this + "] could not start thread", ex);
+        }
+    }
+
+    private void runWorker(Runnable task) {
+        Runnable current = task;
+        while (current != null) {
+            boolean finished = false;
+            try {
+                current.run();
+                finished = true;
+            } catch (RuntimeException ex) {
+                LOG.error("Asynchronous task failed", ex);
+                finished = true;
+            } finally {
+                // an error ends this worker, the permit and the queued tasks are handed over to a new worker
+                if (!finished)
+                    this.handOff();
+            }
+
+            current = this.next();
+        }
+    }
+
+    private void handOff() {
+        Runnable next = this.next();
+        if (next == null)
+            return;
+
+        try {
+            this.start(next);
+        } catch (TaskRejectedException ex) {
+            LOG.error("Queued task could not be started after a worker failed", ex);
+        }
+    }
+
+    /**
+     * Returns the next queued task or releases the permit of the calling worker if there is none.
+     *
+     * @return The next task or {@code null} if the permit has been released.
+     */
+    private Runnable next() {
+        Runnable next = this.queue.poll();
+        if (next == null) {
+            this.permits.release();
+
+            // a task might have been queued while releasing the permit
+            if (!this.queue.isEmpty() && this.permits.tryAcquire()) {
+                next = this.queue.poll();
+                if (next == null)
+                    this.permits.release();
+            }
+        }
+        return next;
+    }
+}
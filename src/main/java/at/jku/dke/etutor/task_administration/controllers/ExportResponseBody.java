@@ -0,0 +1,84 @@
+package at.jku.dke.etutor.task_administration.controllers;
+
+import at.jku.dke.etutor.task_administration.dto.CombinedDto;
+import at.jku.dke.etutor.task_administration.dto.ExportSummaryDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Streams the results of an export to the client.
+ * <p>
+ * Supports two formats:
+ * <ul>
+ *     <li>{@code application/json}: A JSON array containing the exported entries.</li>
+ *     <li>{@code application/x-ndjson}: One exported entry per line, followed by a line {@code {"summary": {...}}}
+ *     containing the {@link ExportSummaryDto}.</li>
+ * </ul>
+ *
+ * @param <T> The type of the exported DTOs.
+ */
+final class ExportResponseBody<T> implements StreamingResponseBody {
+    private final ObjectMapper objectMapper;
+    private final boolean ndjson;
+    private final Function<Consumer<CombinedDto<T>>, ExportSummaryDto> exporter;
+
+    private ExportResponseBody(ObjectMapper objectMapper, boolean ndjson, Function<Consumer<CombinedDto<T>>, ExportSummaryDto> exporter) {
+        this.objectMapper = objectMapper;
+        this.ndjson = ndjson;
+        this.exporter = exporter;
+    }
+
+    /**
+     * Creates the response for an export.
+     *
+     * @param objectMapper The JSON object mapper.
+     * @param accept       The value of the accept-header of the request.
+     * @param exporter     The function which exports the entries to the passed consumer.
+     * @param <T>          The type of the exported DTOs.
+     * @return The response.
+     */
+    static <T> ResponseEntity<StreamingResponseBody> create(ObjectMapper objectMapper, String accept, Function<Consumer<CombinedDto<T>>, ExportSummaryDto> exporter) {
+        boolean ndjson = accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        return ResponseEntity.ok()
+            .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+            .body(new ExportResponseBody<>(objectMapper, ndjson, exporter));
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        var writer = this.objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (SequenceWriter sequenceWriter = this.ndjson ?
+            writer.withRootValueSeparator("\n").writeValues(outputStream) :
+            writer.writeValuesAsArray(outputStream)) {
+            Consumer<CombinedDto<T>> consumer = entry -> {
+                try {
+                    sequenceWriter.write(entry);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            };
+
+            try {
+                var summary = this.exporter.apply(consumer);
+                if (this.ndjson)
+                    sequenceWriter.write(Map.of("summary", summary));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        }
+        if (this.ndjson)
+            outputStream.write('\n');
+        outputStream.flush();
+    }
+}
@@ -7,8 +7,12 @@
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Controller that forwards requests to the corresponding task app.
+ * <p>
+ * The requests are processed asynchronously, i.e. no servlet thread is blocked while waiting for the task app.
  */
 @RestController
 @Tag(name = "Forward", description = "Forwards requests to the task app")
@@ -35,8 +39,8 @@ public ForwardController(TaskAppCommunicationService service) {
      */
     @PreAuthorize("isAuthenticated()")
     @RequestMapping(value = "/api/forward/{taskType}/{*path}", method = {RequestMethod.GET, RequestMethod.DELETE, RequestMethod.POST, RequestMethod.PUT})
-    public ResponseEntity<?> forward(@PathVariable String taskType, @PathVariable String path, HttpServletRequest request) {
-        return this.service.forwardRequest(taskType, path, request, true);
+    public CompletableFuture<ResponseEntity<?>> forward(@PathVariable String taskType, @PathVariable String path, HttpServletRequest request) {
+        return this.service.forwardRequestAsync(taskType, path, request, true);
     }
 
     /**
@@ -48,8 +52,8 @@ public ResponseEntity<?> forward(@PathVariable String taskType, @PathVariable St
      * @return The received response from the task app.
      */
     @GetMapping(value = "/api/forwardPublic/{taskType}/{*path}")
-    public ResponseEntity<?> forwardPublic(@PathVariable String taskType, @PathVariable String path, HttpServletRequest request) {
-        return this.service.forwardRequest(taskType, path, request, false);
+    public CompletableFuture<ResponseEntity<?>> forwardPublic(@PathVariable String taskType, @PathVariable String path, HttpServletRequest request) {
+        return this.service.forwardRequestAsync(taskType, path, request, false);
     }
 
 }
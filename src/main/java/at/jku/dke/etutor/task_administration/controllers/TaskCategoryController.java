@@ -2,6 +2,7 @@
 
 import at.jku.dke.etutor.task_administration.dto.ModifyTaskCategoryDto;
 import at.jku.dke.etutor.task_administration.dto.TaskCategoryDto;
+import at.jku.dke.etutor.task_administration.dto.WindowDto;
 import at.jku.dke.etutor.task_administration.services.TaskCategoryService;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,9 +11,12 @@
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -66,6 +70,39 @@ public ResponseEntity<Page<TaskCategoryDto>> getTaskCategories(Pageable page,
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Load task category list using keyset pagination.
+     * <p>
+     * The returned cursor is opaque and only valid for the same sort and filters; supported sort properties are
+     * {@code id} and {@code name}.
+     *
+     * @param cursor                   The cursor of the previous window; omit for the first window.
+     * @param size                     The maximum number of task categories.
+     * @param sort                     The sort.
+     * @param count                    Whether to include the total number of task categories.
+     * @param nameFilter               The name filter.
+     * @param parentFilter             The parent filter.
+     * @param organizationalUnitFilter The organizational unit filter.
+     * @return Window of task categories
+     */
+    @GetMapping(value = "/scroll", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Task category list"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or sort", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "403", description = "Operation not allowed", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE))
+    })
+    public ResponseEntity<WindowDto<TaskCategoryDto>> scrollTaskCategories(@RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size,
+                                                                           Sort sort,
+                                                                           @RequestParam(defaultValue = "false") boolean count,
+                                                                           @RequestParam(required = false) String nameFilter,
+                                                                           @RequestParam(required = false) Long parentFilter,
+                                                                           @RequestParam(required = false) Long organizationalUnitFilter) {
+        var result = this.taskCategoryService.scrollTaskCategories(cursor, size, sort, count, nameFilter, parentFilter, organizationalUnitFilter);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Load task category details.
      *
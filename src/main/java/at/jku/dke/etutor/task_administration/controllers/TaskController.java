@@ -5,7 +5,11 @@
 import at.jku.dke.etutor.task_administration.dto.ModifyTaskDto;
 import at.jku.dke.etutor.task_administration.dto.SubmitSubmissionDto;
 import at.jku.dke.etutor.task_administration.dto.TaskDto;
+import at.jku.dke.etutor.task_administration.dto.TaskSearchResultDto;
+import at.jku.dke.etutor.task_administration.dto.TaskSummaryDto;
+import at.jku.dke.etutor.task_administration.dto.WindowDto;
 import at.jku.dke.etutor.task_administration.services.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,20 +17,28 @@
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.Serializable;
 import java.net.URI;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controller for managing {@link at.jku.dke.etutor.task_administration.data.entities.Task}.
@@ -38,14 +50,17 @@
 public class TaskController {
 
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new instance of class {@link TaskController}.
      *
-     * @param taskService The task service.
+     * @param taskService  The task service.
+     * @param objectMapper The JSON object mapper.
      */
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -76,6 +91,93 @@ public ResponseEntity<Page<TaskDto>> getTasks(Pageable page,
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Load task list without descriptions (requested with query parameter {@code summary=true}).
+     *
+     * @param page            The page of tasks to load.
+     * @param nameFilter      The name filter.
+     * @param statusFilter    The status filter.
+     * @param taskTypeFilter  The task type filter.
+     * @param orgUnitFilter   The organizational unit filter.
+     * @param taskGroupFilter The task group filter.
+     * @return Page of task summaries
+     */
+    @GetMapping(params = "summary=true", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Task summary list"),
+        @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "403", description = "Operation not allowed", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE))
+    })
+    @PageableAsQueryParam
+    public ResponseEntity<Page<TaskSummaryDto>> getTaskSummaries(Pageable page,
+                                                                 @RequestParam(required = false) String nameFilter,
+                                                                 @RequestParam(required = false) TaskStatus statusFilter,
+                                                                 @RequestParam(required = false) String taskTypeFilter,
+                                                                 @RequestParam(required = false) Long orgUnitFilter,
+                                                                 @RequestParam(required = false) Long taskGroupFilter) {
+        var result = this.taskService.getTaskSummaries(page, nameFilter, statusFilter, taskTypeFilter, orgUnitFilter, taskGroupFilter);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Search tasks by title and descriptions.
+     * <p>
+     * The text supports the web search syntax ({@code "exact phrase"}, {@code -excluded}, {@code or}); words are
+     * matched in german and english (stemmed). The title is additionally matched as substring.
+     *
+     * @param q     The search text.
+     * @param limit The maximum number of results.
+     * @return Matching tasks ordered by relevance
+     */
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching tasks"),
+        @ApiResponse(responseCode = "400", description = "Invalid search text", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "403", description = "Operation not allowed", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE))
+    })
+    public ResponseEntity<List<TaskSearchResultDto>> searchTasks(@RequestParam @NotBlank @Size(max = 200) String q,
+                                                                 @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        return ResponseEntity.ok(this.taskService.searchTasks(q, limit));
+    }
+
+    /**
+     * Load task list using keyset pagination.
+     * <p>
+     * The returned cursor is opaque and only valid for the same sort and filters; supported sort properties are
+     * {@code id}, {@code title} and {@code lastModifiedDate}.
+     *
+     * @param cursor          The cursor of the previous window; omit for the first window.
+     * @param size            The maximum number of tasks.
+     * @param sort            The sort.
+     * @param count           Whether to include the total number of tasks.
+     * @param nameFilter      The name filter.
+     * @param statusFilter    The status filter.
+     * @param taskTypeFilter  The task type filter.
+     * @param orgUnitFilter   The organizational unit filter.
+     * @param taskGroupFilter The task group filter.
+     * @return Window of tasks
+     */
+    @GetMapping(value = "/scroll", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Task list"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or sort", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "403", description = "Operation not allowed", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE))
+    })
+    public ResponseEntity<WindowDto<TaskDto>> scrollTasks(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size,
+                                                          Sort sort,
+                                                          @RequestParam(defaultValue = "false") boolean count,
+                                                          @RequestParam(required = false) String nameFilter,
+                                                          @RequestParam(required = false) TaskStatus statusFilter,
+                                                          @RequestParam(required = false) String taskTypeFilter,
+                                                          @RequestParam(required = false) Long orgUnitFilter,
+                                                          @RequestParam(required = false) Long taskGroupFilter) {
+        var result = this.taskService.scrollTasks(cursor, size, sort, count, nameFilter, statusFilter, taskTypeFilter, orgUnitFilter, taskGroupFilter);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Load task details.
      *
@@ -115,18 +217,22 @@ public ResponseEntity<List<String>> getTaskTypes() {
 
     /**
      * Export the tasks.
+     * <p>
+     * The tasks are streamed as JSON array or - if requested via the accept-header - as newline delimited JSON
+     * whose last line contains a summary of the export.
      *
+     * @param accept The accept-header.
      * @return List of tasks
      */
-    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tasks"),
         @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
         @ApiResponse(responseCode = "403", description = "Operation not allowed", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE))
     })
-    public ResponseEntity<List<CombinedDto<TaskDto>>> export() {
-        var result = this.taskService.export();
-        return ResponseEntity.ok(result);
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        List<TaskDto> entries = this.taskService.getTasksForExport();
+        return ExportResponseBody.<TaskDto>create(this.objectMapper, accept, consumer -> this.taskService.export(entries, consumer));
     }
 
     /**
@@ -209,9 +315,8 @@ public ResponseEntity<Void> deleteTask(@PathVariable long id) {
         @ApiResponse(responseCode = "424", description = "Operation in task app failed", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
         @ApiResponse(responseCode = "503", description = "Task does not support testing submissions", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE))
     })
-    public ResponseEntity<Serializable> submit(@Valid @RequestBody SubmitSubmissionDto submissionDto) {
-        var result = this.taskService.submit(submissionDto);
-        return ResponseEntity.ok(result);
+    public CompletableFuture<ResponseEntity<Serializable>> submit(@Valid @RequestBody SubmitSubmissionDto submissionDto) {
+        return this.taskService.submit(submissionDto).thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -4,7 +4,11 @@
 import at.jku.dke.etutor.task_administration.dto.CombinedDto;
 import at.jku.dke.etutor.task_administration.dto.ModifyTaskGroupDto;
 import at.jku.dke.etutor.task_administration.dto.TaskGroupDto;
+import at.jku.dke.etutor.task_administration.dto.TaskGroupSearchResultDto;
+import at.jku.dke.etutor.task_administration.dto.TaskGroupSummaryDto;
+import at.jku.dke.etutor.task_administration.dto.WindowDto;
 import at.jku.dke.etutor.task_administration.services.TaskGroupService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,14 +16,21 @@
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.time.Instant;
@@ -35,14 +46,17 @@
 public class TaskGroupController {
 
     private final TaskGroupService taskGroupService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new instance of class {@link TaskGroupController}.
      *
      * @param taskGroupService The task group service.
+     * @param objectMapper     The JSON object mapper.
      */
-    public TaskGroupController(TaskGroupService taskGroupService) {
+    public TaskGroupController(TaskGroupService taskGroupService, ObjectMapper objectMapper) {
         this.taskGroupService = taskGroupService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -71,6 +85,89 @@ public ResponseEntity<Page<TaskGroupDto>> getTaskGroups(Pageable page,
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Load task group list without descriptions (requested with query parameter {@code summary=true}).
+     *
+     * @param page                The page of task groups to load.
+     * @param nameFilter          The name filter.
+     * @param statusFilter        The status filter.
+     * @param taskGroupTypeFilter The task group type filter.
+     * @param orgUnitFilter       The organizational unit filter.
+     * @return Page of task group summaries
+     */
+    @GetMapping(params = "summary=true", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Task group summary list"),
+        @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "403", description = "Operation not allowed", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE))
+    })
+    @PageableAsQueryParam
+    public ResponseEntity<Page<TaskGroupSummaryDto>> getTaskGroupSummaries(Pageable page,
+                                                                           @RequestParam(required = false) String nameFilter,
+                                                                           @RequestParam(required = false) TaskStatus statusFilter,
+                                                                           @RequestParam(required = false) String taskGroupTypeFilter,
+                                                                           @RequestParam(required = false) Long orgUnitFilter) {
+        var result = this.taskGroupService.getTaskGroupSummaries(page, nameFilter, statusFilter, taskGroupTypeFilter, orgUnitFilter);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Search task groups by name and descriptions.
+     * <p>
+     * The text supports the web search syntax ({@code "exact phrase"}, {@code -excluded}, {@code or}); words are
+     * matched in german and english (stemmed). The name is additionally matched as substring.
+     *
+     * @param q     The search text.
+     * @param limit The maximum number of results.
+     * @return Matching task groups ordered by relevance
+     */
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching task groups"),
+        @ApiResponse(responseCode = "400", description = "Invalid search text", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "403", description = "Operation not allowed", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE))
+    })
+    public ResponseEntity<List<TaskGroupSearchResultDto>> searchTaskGroups(@RequestParam @NotBlank @Size(max = 200) String q,
+                                                                           @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        return ResponseEntity.ok(this.taskGroupService.searchTaskGroups(q, limit));
+    }
+
+    /**
+     * Load task group list using keyset pagination.
+     * <p>
+     * The returned cursor is opaque and only valid for the same sort and filters; supported sort properties are
+     * {@code id}, {@code name} and {@code lastModifiedDate}.
+     *
+     * @param cursor              The cursor of the previous window; omit for the first window.
+     * @param size                The maximum number of task groups.
+     * @param sort                The sort.
+     * @param count               Whether to include the total number of task groups.
+     * @param nameFilter          The name filter.
+     * @param statusFilter        The status filter.
+     * @param taskGroupTypeFilter The task group type filter.
+     * @param orgUnitFilter       The organizational unit filter.
+     * @return Window of task groups
+     */
+    @GetMapping(value = "/scroll", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Task group list"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or sort", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "403", description = "Operation not allowed", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE))
+    })
+    public ResponseEntity<WindowDto<TaskGroupDto>> scrollTaskGroups(@RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size,
+                                                                    Sort sort,
+                                                                    @RequestParam(defaultValue = "false") boolean count,
+                                                                    @RequestParam(required = false) String nameFilter,
+                                                                    @RequestParam(required = false) TaskStatus statusFilter,
+                                                                    @RequestParam(required = false) String taskGroupTypeFilter,
+                                                                    @RequestParam(required = false) Long orgUnitFilter) {
+        var result = this.taskGroupService.scrollTaskGroups(cursor, size, sort, count, nameFilter, statusFilter, taskGroupTypeFilter, orgUnitFilter);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Load task group details.
      *
@@ -110,18 +207,22 @@ public ResponseEntity<List<String>> getTaskGroupTypes() {
 
     /**
      * Export the task groups.
+     * <p>
+     * The task groups are streamed as JSON array or - if requested via the accept-header - as newline delimited JSON
+     * whose last line contains a summary of the export.
      *
+     * @param accept The accept-header.
      * @return List of task groups
      */
-    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Task groups"),
         @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
         @ApiResponse(responseCode = "403", description = "Operation not allowed", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE))
     })
-    public ResponseEntity<List<CombinedDto<TaskGroupDto>>> export() {
-        var result = this.taskGroupService.export();
-        return ResponseEntity.ok(result);
+    public ResponseEntity<StreamingResponseBody> export(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        List<TaskGroupDto> entries = this.taskGroupService.getTaskGroupsForExport();
+        return ExportResponseBody.<TaskGroupDto>create(this.objectMapper, accept, consumer -> this.taskGroupService.export(entries, consumer));
     }
 
     /**
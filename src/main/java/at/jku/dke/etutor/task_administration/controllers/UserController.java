@@ -3,6 +3,7 @@
 import at.jku.dke.etutor.task_administration.dto.ModifyUserDto;
 import at.jku.dke.etutor.task_administration.dto.ModifyUserPasswordDto;
 import at.jku.dke.etutor.task_administration.dto.UserDto;
+import at.jku.dke.etutor.task_administration.dto.WindowDto;
 import at.jku.dke.etutor.task_administration.services.UserService;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -11,9 +12,12 @@
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -73,6 +77,45 @@ public ResponseEntity<Page<UserDto>> getUsers(Pageable page,
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Load user list using keyset pagination.
+     * <p>
+     * The returned cursor is opaque and only valid for the same sort and filters; supported sort properties are
+     * {@code id}, {@code username} and {@code lastName}.
+     *
+     * @param cursor          The cursor of the previous window; omit for the first window.
+     * @param size            The maximum number of users.
+     * @param sort            The sort.
+     * @param count           Whether to include the total number of users.
+     * @param usernameFilter  Optional filter string (applies contains to username).
+     * @param firstNameFilter Optional filter string (applies contains to first name).
+     * @param lastNameFilter  Optional filter string (applies contains to last name).
+     * @param emailFilter     Optional filter string (applies contains to email).
+     * @param enabledFilter   Optional filter for active state.
+     * @param fullAdminFilter Optional filter for full admin state.
+     * @return Window of users
+     */
+    @GetMapping(value = "/scroll", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "User list"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or sort", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "401", description = "Invalid credentials", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE)),
+        @ApiResponse(responseCode = "403", description = "Operation not allowed", content = @Content(schema = @Schema(implementation = ProblemDetail.class), mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE))
+    })
+    public ResponseEntity<WindowDto<UserDto>> scrollUsers(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "20") @Min(1) @Max(1000) int size,
+                                                          Sort sort,
+                                                          @RequestParam(defaultValue = "false") boolean count,
+                                                          @RequestParam(required = false) String usernameFilter,
+                                                          @RequestParam(required = false) String firstNameFilter,
+                                                          @RequestParam(required = false) String lastNameFilter,
+                                                          @RequestParam(required = false) String emailFilter,
+                                                          @RequestParam(required = false) Boolean enabledFilter,
+                                                          @RequestParam(required = false) Boolean fullAdminFilter) {
+        var result = this.userService.scrollUsers(cursor, size, sort, count, usernameFilter, firstNameFilter, lastNameFilter, emailFilter, enabledFilter, fullAdminFilter);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Load user details.
      *
@@ -0,0 +1,47 @@
+package at.jku.dke.etutor.task_administration.data;
+
+import java.util.List;
+
+/**
+ * The regions of the Hibernate second-level cache.
+ */
+public final class CacheRegions {
+    /**
+     * The region of the organizational units.
+     */
+    public static final String ORGANIZATIONAL_UNITS = "organizational-units";
+
+    /**
+     * The region of the task categories.
+     */
+    public static final String TASK_CATEGORIES = "task-categories";
+
+    /**
+     * The region of the task apps.
+     */
+    public static final String TASK_APPS = "task-apps";
+
+    /**
+     * The region of the cached reference data query results (task types, task app lookups).
+     */
+    public static final String REFERENCE_QUERIES = "reference-queries";
+
+    /**
+     * The region in which Hibernate stores the last modification timestamps of the tables used to invalidate query
+     * results. Its entries must not expire before the query results do.
+     */
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    /**
+     * The region of query results without an explicit region.
+     */
+    public static final String DEFAULT_QUERIES = "default-query-results-region";
+
+    /**
+     * The regions holding entities or query results.
+     */
+    public static final List<String> DATA_REGIONS = List.of(ORGANIZATIONAL_UNITS, TASK_CATEGORIES, TASK_APPS, REFERENCE_QUERIES, DEFAULT_QUERIES);
+
+    private CacheRegions() {
+    }
+}
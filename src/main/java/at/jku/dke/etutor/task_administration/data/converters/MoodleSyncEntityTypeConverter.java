@@ -0,0 +1,36 @@
+package at.jku.dke.etutor.task_administration.data.converters;
+
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.stream.Stream;
+
+/**
+ * Converts the database "moodle_sync_entity_type"-enum to the {@link MoodleSyncEntityType} enum.
+ */
+@Converter(autoApply = true)
+public class MoodleSyncEntityTypeConverter implements AttributeConverter<MoodleSyncEntityType, String> {
+    /**
+     * Creates a new instance of class {@link MoodleSyncEntityTypeConverter}.
+     */
+    public MoodleSyncEntityTypeConverter() {
+    }
+
+    @Override
+    public String convertToDatabaseColumn(MoodleSyncEntityType type) {
+        if (type == null)
+            return null;
+        return type.name().toLowerCase();
+    }
+
+    @Override
+    public MoodleSyncEntityType convertToEntityAttribute(String value) {
+        if (value == null)
+            return null;
+
+        return Stream.of(MoodleSyncEntityType.values())
+            .filter(g -> g.name().toLowerCase().equals(value))
+            .findAny().orElseThrow(IllegalArgumentException::new);
+    }
+}
@@ -0,0 +1,23 @@
+package at.jku.dke.etutor.task_administration.data.entities;
+
+/**
+ * Provides the types of entities synchronized with moodle.
+ * <p>
+ * The order of the constants is the order in which pending synchronizations are processed.
+ */
+public enum MoodleSyncEntityType {
+    /**
+     * An organizational unit (moodle course category).
+     */
+    ORGANIZATIONAL_UNIT,
+
+    /**
+     * A task category (moodle question category).
+     */
+    TASK_CATEGORY,
+
+    /**
+     * A task (moodle questions).
+     */
+    TASK
+}
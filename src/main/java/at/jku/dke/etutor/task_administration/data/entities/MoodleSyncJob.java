@@ -0,0 +1,236 @@
+package at.jku.dke.etutor.task_administration.data.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Represents a pending synchronization of an entity with moodle (outbox).
+ * <p>
+ * There is at most one job per entity; requesting the synchronization of an entity again updates the existing job.
+ */
+@Entity
+@Table(name = "moodle_sync_jobs")
+public class MoodleSyncJob extends BaseEntity<Long> {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @NotNull
+    @Column(name = "entity_type", columnDefinition = "moodle_sync_entity_type not null")
+    private MoodleSyncEntityType entityType;
+
+    @NotNull
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
+    @NotNull
+    @Column(name = "requested_date", nullable = false)
+    private OffsetDateTime requestedDate;
+
+    @NotNull
+    @Column(name = "pending_since", nullable = false)
+    private OffsetDateTime pendingSince;
+
+    @NotNull
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private OffsetDateTime lockedUntil;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    /**
+     * Creates a new instance of class {@link MoodleSyncJob}.
+     */
+    public MoodleSyncJob() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the type of the entity to synchronize.
+     *
+     * @return The entity type.
+     */
+    public MoodleSyncEntityType getEntityType() {
+        return entityType;
+    }
+
+    /**
+     * Sets the type of the entity to synchronize.
+     *
+     * @param entityType The entity type.
+     */
+    public void setEntityType(MoodleSyncEntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    /**
+     * Gets the identifier of the entity to synchronize.
+     *
+     * @return The entity identifier.
+     */
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Sets the identifier of the entity to synchronize.
+     *
+     * @param entityId The entity identifier.
+     */
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    /**
+     * Gets the revision of the job, which is incremented every time the synchronization is requested again.
+     *
+     * @return The revision.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Sets the revision of the job, which is incremented every time the synchronization is requested again.
+     *
+     * @param revision The revision.
+     */
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    /**
+     * Gets the date when the synchronization has been requested the last time.
+     *
+     * @return The requested date.
+     */
+    public OffsetDateTime getRequestedDate() {
+        return requestedDate;
+    }
+
+    /**
+     * Sets the date when the synchronization has been requested the last time.
+     *
+     * @param requestedDate The requested date.
+     */
+    public void setRequestedDate(OffsetDateTime requestedDate) {
+        this.requestedDate = requestedDate;
+    }
+
+    /**
+     * Gets the date when the synchronization has been requested the first time since the job exists.
+     *
+     * @return The pending since date.
+     */
+    public OffsetDateTime getPendingSince() {
+        return pendingSince;
+    }
+
+    /**
+     * Sets the date when the synchronization has been requested the first time since the job exists.
+     *
+     * @param pendingSince The pending since date.
+     */
+    public void setPendingSince(OffsetDateTime pendingSince) {
+        this.pendingSince = pendingSince;
+    }
+
+    /**
+     * Gets the date after which the job may be executed.
+     *
+     * @return The date of the next attempt.
+     */
+    public OffsetDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    /**
+     * Sets the date after which the job may be executed.
+     *
+     * @param nextAttemptAt The date of the next attempt.
+     */
+    public void setNextAttemptAt(OffsetDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * Gets the date until which the job is reserved by a dispatcher.
+     *
+     * @return The lock expiration or {@code null} if not locked.
+     */
+    public OffsetDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    /**
+     * Sets the date until which the job is reserved by a dispatcher.
+     *
+     * @param lockedUntil The lock expiration or {@code null} if not locked.
+     */
+    public void setLockedUntil(OffsetDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    /**
+     * Gets the number of failed attempts since the last request.
+     *
+     * @return The number of failed attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Sets the number of failed attempts since the last request.
+     *
+     * @param attempts The number of failed attempts.
+     */
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    /**
+     * Gets the error message of the last failed attempt.
+     *
+     * @return The error message or {@code null}.
+     */
+    public String getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Sets the error message of the last failed attempt.
+     *
+     * @param lastError The error message or {@code null}.
+     */
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
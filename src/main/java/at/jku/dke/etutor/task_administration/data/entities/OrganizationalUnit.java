@@ -1,8 +1,11 @@
 package at.jku.dke.etutor.task_administration.data.entities;
 
+import at.jku.dke.etutor.task_administration.data.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -11,6 +14,8 @@
  * Represents a organizational unit.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ORGANIZATIONAL_UNITS)
 @Table(name = "organizational_units")
 public class OrganizationalUnit extends AuditedEntity {
 
@@ -1,8 +1,11 @@
 package at.jku.dke.etutor.task_administration.data.entities;
 
+import at.jku.dke.etutor.task_administration.data.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.StringJoiner;
 
@@ -10,6 +13,8 @@
  * Represents a task app.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TASK_APPS)
 @Table(name = "task_apps")
 public class TaskApp extends AuditedEntity {
     @Size(max = 100)
@@ -38,6 +43,9 @@ public class TaskApp extends AuditedEntity {
     @Column(name = "submission_prefix", length = 50)
     private String submissionPrefix;
 
+    @Column(name = "batch_support", nullable = false)
+    private boolean batchSupport;
+
     /**
      * Creates a new instance of class {@link TaskApp}.
      */
@@ -155,6 +163,24 @@ public void setTaskPrefix(String taskPrefix) {
         this.taskPrefix = taskPrefix;
     }
 
+    /**
+     * Returns whether the task app supports requesting the additional data of multiple tasks and task groups at once.
+     *
+     * @return {@code true} if the batch endpoints are supported; {@code false} otherwise.
+     */
+    public boolean isBatchSupport() {
+        return batchSupport;
+    }
+
+    /**
+     * Sets whether the task app supports requesting the additional data of multiple tasks and task groups at once.
+     *
+     * @param batchSupport {@code true} if the batch endpoints are supported; {@code false} otherwise.
+     */
+    public void setBatchSupport(boolean batchSupport) {
+        this.batchSupport = batchSupport;
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", TaskApp.class.getSimpleName() + "[", "]")
@@ -1,8 +1,11 @@
 package at.jku.dke.etutor.task_administration.data.entities;
 
+import at.jku.dke.etutor.task_administration.data.CacheRegions;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -14,6 +17,8 @@
  * Represents a task category (a.k.a. "Moodle Question Bank").
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TASK_CATEGORIES)
 @Table(name = "task_categories")
 public class TaskCategory extends AuditedEntity {
     @Size(max = 100)
@@ -0,0 +1,156 @@
+package at.jku.dke.etutor.task_administration.data.repositories;
+
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncJob;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Repository for entity {@link MoodleSyncJob}.
+ */
+public interface MoodleSyncJobRepository extends JpaRepository<MoodleSyncJob, Long> {
+    /**
+     * Creates a job for the entity or, if a job already exists, increments its revision and postpones it.
+     * <p>
+     * The job becomes due at {@code dueAt}, but at the latest {@code maxDelaySeconds} after the first request of the
+     * job, so that repeated requests are merged into a single synchronization without delaying it infinitely.
+     *
+     * @param entityType      The database value of the entity type.
+     * @param entityId        The entity identifier.
+     * @param now             The current date.
+     * @param dueAt           The date when the job should be executed.
+     * @param maxDelaySeconds The maximum delay in seconds between the first request and the execution.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "moodle_sync_jobs")) // do not evict the second-level cache
+    @Query(value = """
+        INSERT INTO moodle_sync_jobs (entity_type, entity_id, revision, requested_date, pending_since, next_attempt_at, attempts)
+        VALUES (:entityType, :entityId, 1, :now, :now, :dueAt, 0)
+        ON CONFLICT (entity_type, entity_id) DO UPDATE
+            SET revision        = moodle_sync_jobs.revision + 1,
+                requested_date  = excluded.requested_date,
+                next_attempt_at = LEAST(excluded.next_attempt_at, moodle_sync_jobs.pending_since + :maxDelaySeconds * INTERVAL '1 second'),
+                attempts        = 0,
+                last_error      = NULL""", nativeQuery = true)
+    void upsert(String entityType, long entityId, OffsetDateTime now, OffsetDateTime dueAt, long maxDelaySeconds);
+
+    /**
+     * Finds and locks the due jobs which are not reserved by another dispatcher.
+     * <p>
+     * Rows locked by concurrent transactions are skipped. Organizational units are returned before task categories
+     * and task categories before tasks.
+     *
+     * @param now   The current date.
+     * @param limit The maximum number of jobs.
+     * @return The due jobs.
+     */
+    @Query(value = """
+        SELECT *
+        FROM moodle_sync_jobs
+        WHERE next_attempt_at <= :now AND (locked_until IS NULL OR locked_until < :now)
+        ORDER BY entity_type, next_attempt_at, id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<MoodleSyncJob> findDueForUpdate(OffsetDateTime now, int limit);
+
+    /**
+     * Deletes the job if it has not been requested again in the meantime.
+     *
+     * @param id       The job identifier.
+     * @param revision The revision of the executed job.
+     * @return The number of deleted jobs.
+     */
+    @Modifying
+    @Query("DELETE FROM MoodleSyncJob j WHERE j.id = :id AND j.revision = :revision")
+    int deleteByIdAndRevision(long id, long revision);
+
+    /**
+     * Records a failed attempt if the job has not been requested again in the meantime.
+     *
+     * @param id            The job identifier.
+     * @param revision      The revision of the executed job.
+     * @param nextAttemptAt The date of the next attempt.
+     * @param error         The error message.
+     * @return The number of updated jobs.
+     */
+    @Modifying
+    @Query("""
+        UPDATE MoodleSyncJob j
+        SET j.lockedUntil = NULL, j.attempts = j.attempts + 1, j.nextAttemptAt = :nextAttemptAt, j.lastError = :error
+        WHERE j.id = :id AND j.revision = :revision""")
+    int markFailed(long id, long revision, OffsetDateTime nextAttemptAt, String error);
+
+    /**
+     * Releases the reservation of the job which has been requested again while it was running.
+     * <p>
+     * The job is treated as if it had been first requested by the latest request, so that further requests are
+     * merged into it again instead of making it due immediately because the original request is too long ago.
+     *
+     * @param id           The job identifier.
+     * @param delaySeconds The delay in seconds between the latest request and the execution.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "moodle_sync_jobs")) // do not evict the second-level cache
+    @Query(value = """
+        UPDATE moodle_sync_jobs
+        SET locked_until    = NULL,
+            pending_since   = requested_date,
+            next_attempt_at = requested_date + :delaySeconds * INTERVAL '1 second'
+        WHERE id = :id""", nativeQuery = true)
+    void requeue(long id, long delaySeconds);
+
+    /**
+     * Returns the number of queued jobs per entity type.
+     *
+     * @return The statistics per entity type.
+     */
+    @Query("""
+        SELECT j.entityType AS entityType,
+               COUNT(j) AS pending,
+               SUM(CASE WHEN j.attempts > 0 THEN 1 ELSE 0 END) AS failing,
+               MIN(j.requestedDate) AS oldestRequestedDate
+        FROM MoodleSyncJob j
+        GROUP BY j.entityType
+        ORDER BY j.entityType""")
+    List<Statistics> getStatistics();
+
+    /**
+     * Statistics of the queued jobs of an entity type.
+     */
+    interface Statistics {
+        /**
+         * Gets the entity type.
+         *
+         * @return The entity type.
+         */
+        MoodleSyncEntityType getEntityType();
+
+        /**
+         * Gets the number of queued jobs.
+         *
+         * @return The number of jobs.
+         */
+        long getPending();
+
+        /**
+         * Gets the number of queued jobs which failed at least once.
+         *
+         * @return The number of failed jobs.
+         */
+        long getFailing();
+
+        /**
+         * Gets the request date of the oldest job.
+         *
+         * @return The oldest request date.
+         */
+        OffsetDateTime getOldestRequestedDate();
+    }
+}
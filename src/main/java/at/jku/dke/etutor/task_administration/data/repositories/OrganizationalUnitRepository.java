@@ -4,6 +4,9 @@
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 /**
  * Repository for entity {@link OrganizationalUnit}.
@@ -17,4 +20,12 @@ public interface OrganizationalUnitRepository extends JpaRepository<Organization
      * @return List of organizational units.
      */
     Page<OrganizationalUnit> findByNameContainsIgnoreCase(String name, Pageable pageable);
+
+    /**
+     * Returns the identifiers of all organizational units not synchronized with moodle.
+     *
+     * @return The organizational unit identifiers in ascending order.
+     */
+    @Query("SELECT o.id FROM OrganizationalUnit o WHERE o.moodleId IS NULL ORDER BY o.id")
+    List<Long> findIdsByMoodleIdIsNull();
 }
@@ -0,0 +1,73 @@
+package at.jku.dke.etutor.task_administration.data.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Executes specification queries which select DTOs instead of entities.
+ * <p>
+ * Only the selected columns are read and no entities are added to the persistence context.
+ */
+final class ProjectionQueries {
+    private ProjectionQueries() {
+    }
+
+    /**
+     * Returns the page of DTOs of the entities matching the specification.
+     *
+     * @param entityManager The entity manager.
+     * @param entityClass   The entity class.
+     * @param resultClass   The DTO class; must provide a constructor accepting the selected values.
+     * @param spec          The specification.
+     * @param pageable      The page and sorting information (sort properties refer to the entity).
+     * @param selection     Returns the values passed to the DTO constructor.
+     * @param <T>           The entity type.
+     * @param <R>           The DTO type.
+     * @return The page of DTOs.
+     */
+    static <T, R> Page<R> findAll(EntityManager entityManager, Class<T> entityClass, Class<R> resultClass, Specification<T> spec, Pageable pageable,
+                                  BiFunction<Root<T>, CriteriaBuilder, List<Selection<?>>> selection) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        var query = cb.createQuery(resultClass);
+        Root<T> root = query.from(entityClass);
+        query.select(cb.construct(resultClass, selection.apply(root, cb).toArray(Selection[]::new)));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null)
+            query.where(predicate);
+        if (pageable.getSort().isSorted())
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(entityManager, entityClass, spec));
+    }
+
+    private static <T> long count(EntityManager entityManager, Class<T> entityClass, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        var query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityClass);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null)
+            query.where(predicate);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,8 +1,12 @@
 package at.jku.dke.etutor.task_administration.data.repositories;
 
+import at.jku.dke.etutor.task_administration.data.CacheRegions;
 import at.jku.dke.etutor.task_administration.data.entities.TaskApp;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
@@ -16,6 +20,10 @@ public interface TaskAppRepository extends JpaRepository<TaskApp, Long>, JpaSpec
      * @param taskType The task type.
      * @return The task app or an empty result.
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
     Optional<TaskApp> findByTaskType(String taskType);
 
     /**
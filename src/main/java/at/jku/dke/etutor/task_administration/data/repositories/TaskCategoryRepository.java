@@ -3,7 +3,9 @@
 import at.jku.dke.etutor.task_administration.data.entities.TaskCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -17,4 +19,12 @@ public interface TaskCategoryRepository extends JpaRepository<TaskCategory, Long
      * @return The list of task categories.
      */
     Set<TaskCategory> findByTasks_Id(Long id);
+
+    /**
+     * Returns the identifiers of all task categories not synchronized with moodle.
+     *
+     * @return The task category identifiers in ascending order.
+     */
+    @Query("SELECT c.id FROM TaskCategory c WHERE c.moodleId IS NULL ORDER BY c.id")
+    List<Long> findIdsByMoodleIdIsNull();
 }
@@ -1,21 +1,56 @@
 package at.jku.dke.etutor.task_administration.data.repositories;
 
+import at.jku.dke.etutor.task_administration.data.CacheRegions;
 import at.jku.dke.etutor.task_administration.data.entities.TaskGroup;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository for entity {@link TaskGroup}.
  */
-public interface TaskGroupRepository extends JpaRepository<TaskGroup, Long>, JpaSpecificationExecutor<TaskGroup> {
+public interface TaskGroupRepository extends JpaRepository<TaskGroup, Long>, JpaSpecificationExecutor<TaskGroup>, TaskGroupSummaryRepository {
     /**
      * Returns all task group types.
      *
      * @return All used task group types.
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
     @Query("SELECT DISTINCT t.taskGroupType FROM TaskGroup t")
     List<String> findDistinctTaskGroupTypes();
+
+    /**
+     * Searches the task groups by name and description.
+     * <p>
+     * The text is matched against the full-text index over name and descriptions (german and english stemming) and
+     * the name is additionally matched as substring (trigram index). The results are ranked by full-text relevance
+     * and name similarity.
+     *
+     * @param text        The search text (web search syntax, e.g. {@code "exact phrase" -excluded or other}).
+     * @param namePattern The {@code LIKE} pattern for the lower-case name.
+     * @param allUnits    Whether to search in all organizational units.
+     * @param orgUnits    The organizational units to search in (ignored if {@code allUnits} is {@code true}).
+     * @param limit       The maximum number of results.
+     * @return The matching task groups ordered by descending rank.
+     */
+    @Query(value = """
+        SELECT g.id AS id, g.ou_id AS organizationalUnitId, g.name AS name, g.task_group_type AS taskGroupType,
+               CAST(g.status AS TEXT) AS status,
+               CAST(ts_rank(g.search_vector, q.query) + similarity(lower(g.name), lower(:text)) AS DOUBLE PRECISION) AS rank
+        FROM task_groups g,
+             (SELECT websearch_to_tsquery('german', :text) || websearch_to_tsquery('english', :text) AS query) q
+        WHERE (g.search_vector @@ q.query OR lower(g.name) LIKE :namePattern)
+          AND (:allUnits OR g.ou_id IN (:orgUnits))
+        ORDER BY rank DESC, g.id
+        LIMIT :limit""", nativeQuery = true)
+    List<TaskGroupSearchResult> search(String text, String namePattern, boolean allUnits, Collection<Long> orgUnits, int limit);
 }
@@ -0,0 +1,48 @@
+package at.jku.dke.etutor.task_administration.data.repositories;
+
+/**
+ * Result row of the full-text search for task groups (see {@link TaskGroupRepository#search(String, String, boolean, java.util.Collection, int)}).
+ */
+public interface TaskGroupSearchResult {
+    /**
+     * Returns the task group identifier.
+     *
+     * @return The identifier.
+     */
+    Long getId();
+
+    /**
+     * Returns the organizational unit identifier.
+     *
+     * @return The organizational unit identifier.
+     */
+    Long getOrganizationalUnitId();
+
+    /**
+     * Returns the name.
+     *
+     * @return The name.
+     */
+    String getName();
+
+    /**
+     * Returns the task group type.
+     *
+     * @return The task group type.
+     */
+    String getTaskGroupType();
+
+    /**
+     * Returns the database value of the status.
+     *
+     * @return The status.
+     */
+    String getStatus();
+
+    /**
+     * Returns the relevance of the task group; higher is better.
+     *
+     * @return The rank.
+     */
+    Double getRank();
+}
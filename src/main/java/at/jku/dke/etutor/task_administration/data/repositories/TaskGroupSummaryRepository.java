@@ -0,0 +1,23 @@
+package at.jku.dke.etutor.task_administration.data.repositories;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskGroup;
+import at.jku.dke.etutor.task_administration.dto.TaskGroupSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Repository fragment for loading {@link TaskGroupSummaryDto}s.
+ */
+public interface TaskGroupSummaryRepository {
+    /**
+     * Returns the summaries of the task groups matching the specification.
+     * <p>
+     * The descriptions are not loaded.
+     *
+     * @param spec     The specification.
+     * @param pageable The page and sorting information.
+     * @return The page of task group summaries.
+     */
+    Page<TaskGroupSummaryDto> findSummaries(Specification<TaskGroup> spec, Pageable pageable);
+}
@@ -0,0 +1,42 @@
+package at.jku.dke.etutor.task_administration.data.repositories;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskGroup;
+import at.jku.dke.etutor.task_administration.dto.TaskGroupSummaryDto;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link TaskGroupSummaryRepository}.
+ */
+class TaskGroupSummaryRepositoryImpl implements TaskGroupSummaryRepository {
+    private final EntityManager entityManager;
+
+    /**
+     * Creates a new instance of class {@link TaskGroupSummaryRepositoryImpl}.
+     *
+     * @param entityManager The entity manager.
+     */
+    TaskGroupSummaryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<TaskGroupSummaryDto> findSummaries(Specification<TaskGroup> spec, Pageable pageable) {
+        return ProjectionQueries.findAll(this.entityManager, TaskGroup.class, TaskGroupSummaryDto.class, spec, pageable, (root, cb) -> List.of(
+            root.get("id"),
+            root.get("name"),
+            root.get("taskGroupType"),
+            root.get("status"),
+            root.get("organizationalUnit").get("id"),
+            root.get("createdBy"),
+            root.get("createdDate"),
+            root.get("lastModifiedBy"),
+            root.get("lastModifiedDate"),
+            root.get("approvedBy"),
+            root.get("approvedDate")));
+    }
+}
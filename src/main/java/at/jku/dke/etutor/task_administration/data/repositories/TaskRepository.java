@@ -1,22 +1,33 @@
 package at.jku.dke.etutor.task_administration.data.repositories;
 
+import at.jku.dke.etutor.task_administration.data.CacheRegions;
 import at.jku.dke.etutor.task_administration.data.entities.Task;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository for entity {@link Task}.
  */
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskSummaryRepository {
     /**
      * Returns all task types.
      *
      * @return All used task types.
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES)
+    })
     @Query("SELECT DISTINCT t.taskType FROM Task t")
     List<String> findDistinctTaskTypes();
 
@@ -37,4 +48,72 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
      */
     @Query("SELECT t FROM Task t LEFT JOIN FETCH t.organizationalUnit WHERE t.id = ?1")
     Optional<Task> findByIdAndOrganizationalUnit(Long id);
+
+    /**
+     * Returns the task with the given id and fetches the organizational unit and the task categories.
+     *
+     * @param id The id of the task.
+     * @return The task with the given id.
+     */
+    @Query("SELECT t FROM Task t JOIN FETCH t.organizationalUnit LEFT JOIN FETCH t.taskCategories WHERE t.id = ?1")
+    Optional<Task> findByIdAndOrganizationalUnitAndTaskCategories(Long id);
+
+    /**
+     * Returns the identifiers of the organizational units containing tasks with the specified status which are
+     * assigned to task categories, but not synchronized with moodle.
+     *
+     * @param status The task status.
+     * @return The organizational unit identifiers in ascending order.
+     */
+    @Query("""
+        SELECT DISTINCT ou.id
+        FROM Task t
+            JOIN t.organizationalUnit ou
+        WHERE t.isMoodleSynced = false AND t.status = :status AND t.taskCategories IS NOT EMPTY
+        ORDER BY ou.id""")
+    List<Long> findOrganizationalUnitIdsOfUnsyncedTasks(TaskStatus status);
+
+    /**
+     * Returns the identifiers of the tasks of the organizational unit with the specified status which are assigned to
+     * task categories, but not synchronized with moodle.
+     *
+     * @param organizationalUnitId The organizational unit identifier.
+     * @param status               The task status.
+     * @param afterId              Only tasks with a greater identifier are returned.
+     * @param limit                The maximum number of identifiers.
+     * @return The task identifiers in ascending order.
+     */
+    @Query("""
+        SELECT t.id
+        FROM Task t
+        WHERE t.organizationalUnit.id = :organizationalUnitId AND t.isMoodleSynced = false AND t.status = :status
+              AND t.id > :afterId AND t.taskCategories IS NOT EMPTY
+        ORDER BY t.id""")
+    List<Long> findUnsyncedTaskIds(long organizationalUnitId, TaskStatus status, long afterId, Limit limit);
+
+    /**
+     * Searches the tasks by title and description.
+     * <p>
+     * The text is matched against the full-text index over title and descriptions (german and english stemming) and
+     * the title is additionally matched as substring (trigram index). The results are ranked by full-text relevance
+     * and title similarity.
+     *
+     * @param text         The search text (web search syntax, e.g. {@code "exact phrase" -excluded or other}).
+     * @param titlePattern The {@code LIKE} pattern for the lower-case title.
+     * @param allUnits     Whether to search in all organizational units.
+     * @param orgUnits     The organizational units to search in (ignored if {@code allUnits} is {@code true}).
+     * @param limit        The maximum number of results.
+     * @return The matching tasks ordered by descending rank.
+     */
+    @Query(value = """
+        SELECT t.id AS id, t.ou_id AS organizationalUnitId, t.title AS title, t.task_type AS taskType,
+               CAST(t.status AS TEXT) AS status, t.exam_task AS examTask,
+               CAST(ts_rank(t.search_vector, q.query) + similarity(lower(t.title), lower(:text)) AS DOUBLE PRECISION) AS rank
+        FROM tasks t,
+             (SELECT websearch_to_tsquery('german', :text) || websearch_to_tsquery('english', :text) AS query) q
+        WHERE (t.search_vector @@ q.query OR lower(t.title) LIKE :titlePattern)
+          AND (:allUnits OR t.ou_id IN (:orgUnits))
+        ORDER BY rank DESC, t.id
+        LIMIT :limit""", nativeQuery = true)
+    List<TaskSearchResult> search(String text, String titlePattern, boolean allUnits, Collection<Long> orgUnits, int limit);
 }
@@ -0,0 +1,55 @@
+package at.jku.dke.etutor.task_administration.data.repositories;
+
+/**
+ * Result row of the full-text search for tasks (see {@link TaskRepository#search(String, String, boolean, java.util.Collection, int)}).
+ */
+public interface TaskSearchResult {
+    /**
+     * Returns the task identifier.
+     *
+     * @return The identifier.
+     */
+    Long getId();
+
+    /**
+     * Returns the organizational unit identifier.
+     *
+     * @return The organizational unit identifier.
+     */
+    Long getOrganizationalUnitId();
+
+    /**
+     * Returns the title.
+     *
+     * @return The title.
+     */
+    String getTitle();
+
+    /**
+     * Returns the task type.
+     *
+     * @return The task type.
+     */
+    String getTaskType();
+
+    /**
+     * Returns the database value of the status.
+     *
+     * @return The status.
+     */
+    String getStatus();
+
+    /**
+     * Returns whether the task is an exam task.
+     *
+     * @return Whether the task is an exam task.
+     */
+    Boolean getExamTask();
+
+    /**
+     * Returns the relevance of the task; higher is better.
+     *
+     * @return The rank.
+     */
+    Double getRank();
+}
@@ -0,0 +1,23 @@
+package at.jku.dke.etutor.task_administration.data.repositories;
+
+import at.jku.dke.etutor.task_administration.data.entities.Task;
+import at.jku.dke.etutor.task_administration.dto.TaskSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Repository fragment for loading {@link TaskSummaryDto}s.
+ */
+public interface TaskSummaryRepository {
+    /**
+     * Returns the summaries of the tasks matching the specification.
+     * <p>
+     * The descriptions are not loaded.
+     *
+     * @param spec     The specification.
+     * @param pageable The page and sorting information.
+     * @return The page of task summaries.
+     */
+    Page<TaskSummaryDto> findSummaries(Specification<Task> spec, Pageable pageable);
+}
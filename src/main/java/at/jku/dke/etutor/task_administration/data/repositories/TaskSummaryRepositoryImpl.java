@@ -0,0 +1,47 @@
+package at.jku.dke.etutor.task_administration.data.repositories;
+
+import at.jku.dke.etutor.task_administration.data.entities.Task;
+import at.jku.dke.etutor.task_administration.dto.TaskSummaryDto;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link TaskSummaryRepository}.
+ */
+class TaskSummaryRepositoryImpl implements TaskSummaryRepository {
+    private final EntityManager entityManager;
+
+    /**
+     * Creates a new instance of class {@link TaskSummaryRepositoryImpl}.
+     *
+     * @param entityManager The entity manager.
+     */
+    TaskSummaryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<TaskSummaryDto> findSummaries(Specification<Task> spec, Pageable pageable) {
+        return ProjectionQueries.findAll(this.entityManager, Task.class, TaskSummaryDto.class, spec, pageable, (root, cb) -> List.of(
+            root.get("id"),
+            root.get("organizationalUnit").get("id"),
+            root.get("title"),
+            root.get("difficulty"),
+            root.get("maxPoints"),
+            root.get("taskType"),
+            root.get("status"),
+            root.get("taskGroup").get("id"),
+            root.get("isMoodleSynced"),
+            root.get("examTask"),
+            root.get("createdBy"),
+            root.get("createdDate"),
+            root.get("lastModifiedBy"),
+            root.get("lastModifiedDate"),
+            root.get("approvedBy"),
+            root.get("approvedDate")));
+    }
+}
@@ -3,11 +3,14 @@
 import at.jku.dke.etutor.task_administration.data.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,6 +27,18 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.organizationalUnits WHERE LOWER(u.username) = LOWER(:username)")
     Optional<User> findByUsernameIgnoreCaseAndFetchOrganizationalUnits(@Param("username") String username);
 
+    /**
+     * Returns the users with the specified identifiers and fetches their organizational units.
+     * <p>
+     * If the users are already loaded in the current persistence context, their organizational unit collections get
+     * initialized by this query.
+     *
+     * @param ids The user identifiers.
+     * @return The users.
+     */
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.organizationalUnits WHERE u.id IN :ids")
+    List<User> findAllByIdAndFetchOrganizationalUnits(Collection<Long> ids);
+
     /**
      * Finds the user with the specified identifier in one of the specified organizational units.
      *
@@ -51,6 +66,37 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
      */
     Optional<User> findByUsernameIgnoreCase(String username);
 
+    /**
+     * Increments the failed login count of the user with the specified name and locks the user if the count exceeds
+     * the maximum. This method will ignore username casing.
+     *
+     * @param username    The username.
+     * @param maxAttempts The maximum number of failed login attempts.
+     * @param lockoutEnd  The lockout end to set if the maximum is exceeded.
+     * @return The number of updated users.
+     */
+    @Modifying
+    @Query("""
+        UPDATE User u
+        SET u.failedLoginCount = u.failedLoginCount + 1,
+            u.lockoutEnd       = CASE WHEN u.failedLoginCount + 1 > :maxAttempts THEN :lockoutEnd ELSE u.lockoutEnd END
+        WHERE LOWER(u.username) = LOWER(:username)""")
+    int incrementFailedLoginCount(String username, int maxAttempts, OffsetDateTime lockoutEnd);
+
+    /**
+     * Resets the failed login count and lockout end of the user with the specified name.
+     * This method will ignore username casing and does not modify users without failed login attempts.
+     *
+     * @param username The username.
+     * @return The number of updated users.
+     */
+    @Modifying
+    @Query("""
+        UPDATE User u
+        SET u.failedLoginCount = 0, u.lockoutEnd = NULL
+        WHERE LOWER(u.username) = LOWER(:username) AND (u.failedLoginCount <> 0 OR u.lockoutEnd IS NOT NULL)""")
+    int resetFailedLoginCount(String username);
+
     /**
      * Deletes all users that have not been activated and have been created before the specified date.
      *
@@ -0,0 +1,17 @@
+package at.jku.dke.etutor.task_administration.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO that summarizes an export.
+ *
+ * @param total          The number of exported entries.
+ * @param failed         The number of entries for which the additional data could not be loaded.
+ * @param failedIds      The identifiers of the entries for which the additional data could not be loaded.
+ * @param durationMillis The duration of the export in milliseconds.
+ */
+public record ExportSummaryDto(int total, int failed, @NotNull List<Long> failedIds, long durationMillis) implements Serializable {
+}
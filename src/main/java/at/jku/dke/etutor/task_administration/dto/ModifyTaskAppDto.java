@@ -15,11 +15,13 @@
  * @param submissionPrefix The prefix for the submission URL.
  * @param taskGroupPrefix  The prefix for the task group URL.
  * @param taskPrefix       The prefix for the task URL.
+ * @param batchSupport     Whether the task app supports the batch endpoints.
  */
 public record ModifyTaskAppDto(@NotEmpty @Size(max = 100) String taskType,
                                @NotEmpty @Size(max = 255) @URL() String url,
                                @Size(max = 255) String apiKey,
                                @Size(max = 50) String taskPrefix,
                                @Size(max = 50) String taskGroupPrefix,
-                               @Size(max = 50) String submissionPrefix) implements Serializable {
+                               @Size(max = 50) String submissionPrefix,
+                               boolean batchSupport) implements Serializable {
 }
@@ -16,6 +16,7 @@
  * @param submissionPrefix The prefix for the submission URL.
  * @param taskGroupPrefix  The prefix for the task group URL.
  * @param taskPrefix       The prefix for the task URL.
+ * @param batchSupport     Whether the task app supports the batch endpoints.
  * @param createdBy        The creation user.
  * @param createdDate      The creation date.
  * @param lastModifiedBy   The modification user.
@@ -28,6 +29,7 @@ public record TaskAppDto(@NotNull Long id,
                          String taskPrefix,
                          String taskGroupPrefix,
                          String submissionPrefix,
+                         boolean batchSupport,
                          String createdBy,
                          Instant createdDate,
                          String lastModifiedBy,
@@ -39,7 +41,7 @@ public record TaskAppDto(@NotNull Long id,
      */
     public TaskAppDto(TaskApp app) {
         this(app.getId(), app.getTaskType(), app.getUrl(), app.getApiKey(),
-            app.getTaskPrefix(), app.getTaskGroupPrefix(), app.getSubmissionPrefix(),
+            app.getTaskPrefix(), app.getTaskGroupPrefix(), app.getSubmissionPrefix(), app.isBatchSupport(),
             app.getCreatedBy(), app.getCreatedDate(), app.getLastModifiedBy(), app.getLastModifiedDate());
     }
 }
@@ -0,0 +1,38 @@
+package at.jku.dke.etutor.task_administration.dto;
+
+import at.jku.dke.etutor.task_administration.data.converters.TaskStatusConverter;
+import at.jku.dke.etutor.task_administration.data.entities.TaskGroup;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import at.jku.dke.etutor.task_administration.data.repositories.TaskGroupSearchResult;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+
+/**
+ * Search result DTO for {@link TaskGroup}.
+ *
+ * @param id                   The ID of the task group.
+ * @param organizationalUnitId The ID of the organizational unit.
+ * @param name                 The name of the task group.
+ * @param taskGroupType        The type of the task group.
+ * @param status               The status of the task group.
+ * @param rank                 The relevance of the task group; higher is better.
+ */
+public record TaskGroupSearchResultDto(@NotNull Long id, @NotNull Long organizationalUnitId, @NotNull String name, @NotNull String taskGroupType,
+                                       @NotNull TaskStatus status, double rank) implements Serializable {
+    private static final TaskStatusConverter STATUS_CONVERTER = new TaskStatusConverter();
+
+    /**
+     * Creates a new instance of class {@link TaskGroupSearchResultDto} based on a search result.
+     *
+     * @param result The search result.
+     */
+    public TaskGroupSearchResultDto(TaskGroupSearchResult result) {
+        this(result.getId(),
+            result.getOrganizationalUnitId(),
+            result.getName(),
+            result.getTaskGroupType(),
+            STATUS_CONVERTER.convertToEntityAttribute(result.getStatus()),
+            result.getRank() != null ? result.getRank() : 0);
+    }
+}
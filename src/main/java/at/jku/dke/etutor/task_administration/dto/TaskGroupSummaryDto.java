@@ -0,0 +1,32 @@
+package at.jku.dke.etutor.task_administration.dto;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskGroup;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * List-DTO for {@link TaskGroup}.
+ * <p>
+ * Contains the same data as {@link TaskGroupDto} except for the descriptions; it is loaded as projection without
+ * loading the entity.
+ *
+ * @param id                   The ID of the task group.
+ * @param name                 The name of the task group.
+ * @param taskGroupType        The type of the task group.
+ * @param status               The status of the task group.
+ * @param organizationalUnitId The ID of the organizational unit.
+ * @param createdBy            The creation user.
+ * @param createdDate          The creation date.
+ * @param lastModifiedBy       The modification user.
+ * @param lastModifiedDate     The modification date.
+ * @param approvedBy           The user who approved the task group.
+ * @param approvedDate         The date when the task group was approved.
+ */
+public record TaskGroupSummaryDto(@NotNull Long id, @NotNull String name, @NotNull String taskGroupType, @NotNull TaskStatus status,
+                                  @NotNull Long organizationalUnitId, String createdBy, Instant createdDate,
+                                  String lastModifiedBy, Instant lastModifiedDate, String approvedBy, OffsetDateTime approvedDate) implements Serializable {
+}
@@ -0,0 +1,38 @@
+package at.jku.dke.etutor.task_administration.dto;
+
+import at.jku.dke.etutor.task_administration.data.converters.TaskStatusConverter;
+import at.jku.dke.etutor.task_administration.data.entities.Task;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import at.jku.dke.etutor.task_administration.data.repositories.TaskSearchResult;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+
+/**
+ * Search result DTO for {@link Task}.
+ *
+ * @param id                   The ID of the task.
+ * @param organizationalUnitId The ID of the organizational unit.
+ * @param title                The title of the task.
+ * @param taskType             The type of the task.
+ * @param status               The status of the task.
+ * @param rank                 The relevance of the task; higher is better.
+ */
+public record TaskSearchResultDto(@NotNull Long id, @NotNull Long organizationalUnitId, @NotNull String title, @NotNull String taskType,
+                                  @NotNull TaskStatus status, double rank) implements Serializable {
+    private static final TaskStatusConverter STATUS_CONVERTER = new TaskStatusConverter();
+
+    /**
+     * Creates a new instance of class {@link TaskSearchResultDto} based on a search result.
+     *
+     * @param result The search result.
+     */
+    public TaskSearchResultDto(TaskSearchResult result) {
+        this(result.getId(),
+            result.getOrganizationalUnitId(),
+            result.getTitle(),
+            result.getTaskType(),
+            STATUS_CONVERTER.convertToEntityAttribute(result.getStatus()),
+            result.getRank() != null ? result.getRank() : 0);
+    }
+}
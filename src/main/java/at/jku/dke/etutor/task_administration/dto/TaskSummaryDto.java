@@ -0,0 +1,40 @@
+package at.jku.dke.etutor.task_administration.dto;
+
+import at.jku.dke.etutor.task_administration.data.entities.Task;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * List-DTO for {@link Task}.
+ * <p>
+ * Contains the same data as {@link TaskDto} except for the descriptions and task categories; it is loaded as
+ * projection without loading the entity.
+ *
+ * @param id                   The ID of the task.
+ * @param organizationalUnitId The ID of the organizational unit.
+ * @param title                The title of the task.
+ * @param difficulty           The difficulty of the task.
+ * @param maxPoints            The maximum points of the task.
+ * @param taskType             The type of the task.
+ * @param status               The status of the task.
+ * @param taskGroupId          The ID of the task group.
+ * @param moodleSynced         The boolean if the task is synced to Moodle.
+ * @param examTask             Whether the task is an exam task.
+ * @param createdBy            The creation user.
+ * @param createdDate          The creation date.
+ * @param lastModifiedBy       The modification user.
+ * @param lastModifiedDate     The modification date.
+ * @param approvedBy           The user who approved the task.
+ * @param approvedDate         The date when the task was approved.
+ */
+public record TaskSummaryDto(@NotNull Long id, @NotNull Long organizationalUnitId, @NotNull String title, @NotNull Short difficulty,
+                             @NotNull BigDecimal maxPoints, @NotNull String taskType, @NotNull TaskStatus status, Long taskGroupId,
+                             boolean moodleSynced, boolean examTask,
+                             String createdBy, Instant createdDate, String lastModifiedBy, Instant lastModifiedDate, String approvedBy,
+                             OffsetDateTime approvedDate) implements Serializable {
+}
@@ -0,0 +1,17 @@
+package at.jku.dke.etutor.task_administration.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A window of a keyset paginated list.
+ *
+ * @param content       The entries of the window.
+ * @param nextCursor    The opaque cursor of the next window or {@code null} if this is the last window.
+ * @param totalElements The total number of entries or {@code null} if not requested.
+ * @param <T>           The type of the entries.
+ */
+public record WindowDto<T>(@NotNull List<T> content, String nextCursor, Long totalElements) implements Serializable {
+}
@@ -2,7 +2,6 @@
 
 import at.jku.dke.etutor.task_administration.data.entities.OrganizationalUnit;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -34,7 +33,6 @@ public CourseCategoryService(MoodleConfig config, ObjectMapper objectMapper) {
      * @param organizationalUnit The organizational unit.
      * @return The id of the created course category or an empty result if an error occurred.
      */
-    @Async
     public CompletableFuture<Optional<Integer>> createCourseCategory(OrganizationalUnit organizationalUnit) {
         if (this.config.isDisabled())
             return CompletableFuture.completedFuture(Optional.empty());
@@ -64,13 +62,13 @@ public CompletableFuture<Optional<Integer>> createCourseCategory(OrganizationalU
      * Updates an existing course category.
      *
      * @param organizationalUnit The organizational unit.
+     * @return {@code true} if the course category has been updated; {@code false} otherwise.
      */
-    @Async
-    public void updateCourseCategory(OrganizationalUnit organizationalUnit) {
+    public boolean updateCourseCategory(OrganizationalUnit organizationalUnit) {
         if (this.config.isDisabled())
-            return;
+            return false;
         if (organizationalUnit.getMoodleId() == null)
-            return;
+            return false;
 
         LOG.info("Updating course category for organizational unit {}.", organizationalUnit.getId());
         Map<String, String> body = new HashMap<>();
@@ -84,8 +82,10 @@ public void updateCourseCategory(OrganizationalUnit organizationalUnit) {
         try {
             var result = this.post(getDefaultQueryParameters("core_course_update_categories"), body);
             LOG.debug("Received response for updated organizational unit {}: {}", organizationalUnit.getId(), result);
+            return true;
         } catch (URISyntaxException | RuntimeException | InterruptedException | IOException ex) {
             LOG.error("Failed to update course category for organizational unit {}.", organizationalUnit.getId(), ex);
+            return false;
         }
     }
 
@@ -1,10 +1,16 @@
 package at.jku.dke.etutor.task_administration.moodle;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import org.hibernate.validator.constraints.URL;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 /**
  * Configuration for the moodle service.
  */
@@ -20,6 +26,20 @@ public class MoodleConfig {
 
     private boolean enabled;
 
+    @Min(1)
+    private int syncParallelism = 4;
+
+    @NotNull
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    @Valid
+    @NotNull
+    private SyncQueueConfig syncQueue = new SyncQueueConfig();
+
+    @Valid
+    @NotNull
+    private QuestionBatchConfig questionBatch = new QuestionBatchConfig();
+
     /**
      * Creates a new instance of class {@link MoodleConfig}.
      */
@@ -101,4 +121,353 @@ public boolean isDisabled() {
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    /**
+     * Gets the maximum number of concurrent requests sent to moodle while synchronizing a single task.
+     *
+     * @return The maximum number of concurrent requests.
+     */
+    public int getSyncParallelism() {
+        return syncParallelism;
+    }
+
+    /**
+     * Sets the maximum number of concurrent requests sent to moodle while synchronizing a single task.
+     *
+     * @param syncParallelism The maximum number of concurrent requests.
+     */
+    public void setSyncParallelism(int syncParallelism) {
+        this.syncParallelism = syncParallelism;
+    }
+
+    /**
+     * Gets the timeout for establishing a connection to moodle.
+     *
+     * @return The connect timeout.
+     */
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Sets the timeout for establishing a connection to moodle.
+     *
+     * @param connectTimeout The connect timeout.
+     */
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Gets the settings of the synchronization queue.
+     *
+     * @return The synchronization queue settings.
+     */
+    public SyncQueueConfig getSyncQueue() {
+        return syncQueue;
+    }
+
+    /**
+     * Sets the settings of the synchronization queue.
+     *
+     * @param syncQueue The synchronization queue settings.
+     */
+    public void setSyncQueue(SyncQueueConfig syncQueue) {
+        this.syncQueue = syncQueue;
+    }
+
+    /**
+     * Gets the settings of the batching of question requests.
+     *
+     * @return The question batch settings.
+     */
+    public QuestionBatchConfig getQuestionBatch() {
+        return questionBatch;
+    }
+
+    /**
+     * Sets the settings of the batching of question requests.
+     *
+     * @param questionBatch The question batch settings.
+     */
+    public void setQuestionBatch(QuestionBatchConfig questionBatch) {
+        this.questionBatch = questionBatch;
+    }
+
+    /**
+     * Settings of the queue of pending moodle synchronizations.
+     */
+    public static class SyncQueueConfig {
+        @Min(1)
+        private int batchSize = 20;
+
+        @NotNull
+        private Duration pollInterval = Duration.ofSeconds(10);
+
+        @NotNull
+        private Duration initialBackoff = Duration.ofSeconds(30);
+
+        @NotNull
+        private Duration maxBackoff = Duration.ofHours(1);
+
+        @NotNull
+        private Duration lockDuration = Duration.ofMinutes(15);
+
+        @NotNull
+        private Duration debounce = Duration.ofSeconds(30);
+
+        @NotNull
+        private Duration maxDebounceDelay = Duration.ofMinutes(5);
+
+        @Positive
+        private double maxJobsPerSecond = 5;
+
+        private String reconciliationCron = "0 30 2 * * *";
+
+        /**
+         * Creates a new instance of class {@link SyncQueueConfig}.
+         */
+        public SyncQueueConfig() {
+        }
+
+        /**
+         * Gets the maximum number of jobs executed per poll.
+         *
+         * @return The batch size.
+         */
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Sets the maximum number of jobs executed per poll.
+         *
+         * @param batchSize The batch size.
+         */
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * Gets the delay between the end of a poll and the start of the next poll.
+         *
+         * @return The poll interval.
+         */
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        /**
+         * Sets the delay between the end of a poll and the start of the next poll.
+         *
+         * @param pollInterval The poll interval.
+         */
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        /**
+         * Gets the delay before retrying a job after its first failure; the delay doubles with every further failure.
+         *
+         * @return The initial backoff.
+         */
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        /**
+         * Sets the delay before retrying a job after its first failure; the delay doubles with every further failure.
+         *
+         * @param initialBackoff The initial backoff.
+         */
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        /**
+         * Gets the maximum delay between two attempts of a job.
+         *
+         * @return The maximum backoff.
+         */
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        /**
+         * Sets the maximum delay between two attempts of a job.
+         *
+         * @param maxBackoff The maximum backoff.
+         */
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        /**
+         * Gets the duration for which a job is reserved for a dispatcher; afterwards another dispatcher may execute it.
+         *
+         * @return The lock duration.
+         */
+        public Duration getLockDuration() {
+            return lockDuration;
+        }
+
+        /**
+         * Sets the duration for which a job is reserved for a dispatcher; afterwards another dispatcher may execute it.
+         *
+         * @param lockDuration The lock duration.
+         */
+        public void setLockDuration(Duration lockDuration) {
+            this.lockDuration = lockDuration;
+        }
+
+        /**
+         * Gets the delay between the last request of a job and its execution; requests within this delay are merged.
+         *
+         * @return The debounce delay.
+         */
+        public Duration getDebounce() {
+            return debounce;
+        }
+
+        /**
+         * Sets the delay between the last request of a job and its execution; requests within this delay are merged.
+         *
+         * @param debounce The debounce delay.
+         */
+        public void setDebounce(Duration debounce) {
+            this.debounce = debounce;
+        }
+
+        /**
+         * Gets the maximum delay between the first request of a job and its execution.
+         *
+         * @return The maximum debounce delay.
+         */
+        public Duration getMaxDebounceDelay() {
+            return maxDebounceDelay;
+        }
+
+        /**
+         * Sets the maximum delay between the first request of a job and its execution.
+         *
+         * @param maxDebounceDelay The maximum debounce delay.
+         */
+        public void setMaxDebounceDelay(Duration maxDebounceDelay) {
+            this.maxDebounceDelay = maxDebounceDelay;
+        }
+
+        /**
+         * Gets the maximum number of jobs started per second.
+         *
+         * @return The maximum number of jobs per second.
+         */
+        public double getMaxJobsPerSecond() {
+            return maxJobsPerSecond;
+        }
+
+        /**
+         * Sets the maximum number of jobs started per second.
+         *
+         * @param maxJobsPerSecond The maximum number of jobs per second.
+         */
+        public void setMaxJobsPerSecond(double maxJobsPerSecond) {
+            this.maxJobsPerSecond = maxJobsPerSecond;
+        }
+
+        /**
+         * Gets the cron expression for queueing all unsynchronized entities.
+         *
+         * @return The cron expression or {@code null}/{@code -} if disabled.
+         */
+        public String getReconciliationCron() {
+            return reconciliationCron;
+        }
+
+        /**
+         * Sets the cron expression for queueing all unsynchronized entities.
+         *
+         * @param reconciliationCron The cron expression or {@code null}/{@code -} to disable.
+         */
+        public void setReconciliationCron(String reconciliationCron) {
+            this.reconciliationCron = reconciliationCron;
+        }
+    }
+
+    /**
+     * Settings of the batching of question requests.
+     * <p>
+     * If enabled, the question requests (create, update, deprecate) are collected per moodle function and sent as
+     * a single request with the array syntax ({@code data[0][...]}, {@code data[1][...]}, ...). This requires a
+     * version of the {@code local_etutorsync} moodle plugin which accepts a list of questions and returns the results
+     * in the same order.
+     */
+    public static class QuestionBatchConfig {
+        private boolean enabled;
+
+        @Min(1)
+        private int maxSize = 10;
+
+        @NotNull
+        private Duration window = Duration.ofMillis(200);
+
+        /**
+         * Creates a new instance of class {@link QuestionBatchConfig}.
+         */
+        public QuestionBatchConfig() {
+        }
+
+        /**
+         * Returns whether the question requests are batched.
+         *
+         * @return {@code true} if enabled; {@code false} otherwise.
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the question requests are batched.
+         *
+         * @param enabled {@code true} if enabled; {@code false} otherwise.
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the maximum number of questions per request; a batch is sent as soon as it is full.
+         *
+         * @return The maximum batch size.
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of questions per request; a batch is sent as soon as it is full.
+         *
+         * @param maxSize The maximum batch size.
+         */
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Gets the maximum time a question request waits for further requests before the batch is sent.
+         *
+         * @return The batch window.
+         */
+        public Duration getWindow() {
+            return window;
+        }
+
+        /**
+         * Sets the maximum time a question request waits for further requests before the batch is sent.
+         *
+         * @param window The batch window.
+         */
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package at.jku.dke.etutor.task_administration.moodle;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,7 +14,7 @@
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 /**
@@ -33,7 +36,10 @@ public abstract class MoodleService {
      */
     protected final ObjectMapper objectMapper;
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final String url;
+    private volatile HttpClient httpClient;
 
     /**
      * Creates a new instance of class {@link MoodleService}.
@@ -79,41 +85,50 @@ protected Map<String, String> getDefaultQueryParameters(String function) {
      * @throws RuntimeException     If the request failed.
      */
     protected String post(Map<String, String> queryParameters, Map<String, String> body) throws URISyntaxException, IOException, InterruptedException {
-        // Build URL
-        String query = queryParameters.entrySet().stream()
-            .map(e -> e.getKey() + "=" + URLEncoder.encode(e.getValue(), Charset.defaultCharset()))
-            .reduce((a, b) -> a + "&" + b)
-            .orElse("");
-        var uri = new URI(url + "?" + query);
-
-        // Convert body to urlencoded string
-        var encoded = body.entrySet().stream()
-            .map(e -> e.getKey() + "=" + URLEncoder.encode(e.getValue(), Charset.defaultCharset()))
-            .reduce((a, b) -> a + "&" + b)
-            .orElse("");
+        var uri = new URI(url + "?" + encodeForm(queryParameters));
 
         // Send request
         var request = HttpRequest.newBuilder(uri)
             .header("Content-Type", "application/x-www-form-urlencoded")
-            .POST(HttpRequest.BodyPublishers.ofString(encoded))
+            .POST(HttpRequest.BodyPublishers.ofString(encodeForm(body)))
             .build();
-        try (HttpClient client = this.createHttpClient()) {
-            LOG.debug("Sending POST request to {} with body {}", uri, body);
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            String bodyString = response.body();
-            if (response.statusCode() != 200) {
-                LOG.error("Request {} failed with status code {}: {}", uri, response.statusCode(), bodyString);
-                throw new RuntimeException("Request failed: " + bodyString);
-            }
+        LOG.debug("Sending POST request to {} with body {}", uri, body);
+        HttpResponse<String> response = this.getHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        String bodyString = response.body();
+        if (response.statusCode() != 200) {
+            LOG.error("Request {} failed with status code {}: {}", uri, response.statusCode(), bodyString);
+            throw new RuntimeException("Request failed: " + bodyString);
+        }
 
-            // Check for errors
-            if (bodyString.contains("\"exception\":")) {
-                LOG.error("Request {} failed with status code {}: {}", uri, response.statusCode(), bodyString);
-                throw new RuntimeException("Request failed: " + bodyString);
-            }
+        // Check for errors
+        if (isException(bodyString)) {
+            LOG.error("Request {} failed with status code {}: {}", uri, response.statusCode(), bodyString);
+            throw new RuntimeException("Request failed: " + bodyString);
+        }
+
+        return bodyString;
+    }
 
-            return bodyString;
+    /**
+     * Returns the HTTP client shared by all requests of this service.
+     * <p>
+     * The client is created on first use with {@link #createHttpClient()} and keeps the connections to moodle open,
+     * so that subsequent requests do not have to establish a new (TLS) connection.
+     *
+     * @return The HTTP client.
+     */
+    protected HttpClient getHttpClient() {
+        var client = this.httpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = this.httpClient;
+                if (client == null) {
+                    client = this.createHttpClient();
+                    this.httpClient = client;
+                }
+            }
         }
+        return client;
     }
 
     /**
@@ -122,6 +137,67 @@ protected String post(Map<String, String> queryParameters, Map<String, String> b
      * @return The HTTP client.
      */
     protected HttpClient createHttpClient() {
-        return HttpClient.newBuilder().build();
+        return HttpClient.newBuilder()
+            .connectTimeout(this.config.getConnectTimeout())
+            .build();
+    }
+
+    /**
+     * Encodes the parameters as {@code application/x-www-form-urlencoded} string.
+     * <p>
+     * The keys are not encoded, because moodle expects the array syntax (e.g. {@code data[id]}) unencoded.
+     *
+     * @param parameters The parameters.
+     * @return The encoded parameters.
+     */
+    static String encodeForm(Map<String, String> parameters) {
+        int capacity = 0;
+        for (var entry : parameters.entrySet())
+            capacity += entry.getKey().length() + entry.getValue().length() + 2;
+
+        var builder = new StringBuilder(capacity + capacity / 4);
+        for (var entry : parameters.entrySet()) {
+            if (!builder.isEmpty())
+                builder.append('&');
+            builder.append(entry.getKey()).append('=');
+            appendEncoded(builder, entry.getValue());
+        }
+        return builder.toString();
+    }
+
+    private static void appendEncoded(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_' || c == '.' || c == '*')) {
+                builder.append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                return;
+            }
+        }
+        builder.append(value);
+    }
+
+    /**
+     * Returns whether the moodle response is an error, i.e. a JSON object with a top-level {@code exception} property.
+     * <p>
+     * The body is read with a streaming parser, which stops at the {@code exception} property and skips nested values.
+     *
+     * @param body The response body.
+     * @return {@code true} if the response is an error; {@code false} otherwise.
+     */
+    static boolean isException(String body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                return false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                if ("exception".equals(parser.currentName()))
+                    return true;
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            return false;
+        } catch (IOException ex) {
+            return false;
+        }
     }
 }
@@ -5,7 +5,6 @@
 import at.jku.dke.etutor.task_administration.data.repositories.OrganizationalUnitRepository;
 import at.jku.dke.etutor.task_administration.data.repositories.TaskCategoryRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -44,7 +43,6 @@ public QuestionCategoryService(MoodleConfig config, ObjectMapper objectMapper, O
      * @param category The task category.
      * @return The id of the created question category or an empty result if an error occurred.
      */
-    @Async
     public CompletableFuture<Optional<Integer>> createQuestionCategory(TaskCategory category) {
         if (this.config.isDisabled())
             return CompletableFuture.completedFuture(Optional.empty());
@@ -90,13 +88,13 @@ public CompletableFuture<Optional<Integer>> createQuestionCategory(TaskCategory
      * Updates an existing question category for the given task category.
      *
      * @param category The task category.
+     * @return {@code true} if the question category has been updated; {@code false} otherwise.
      */
-    @Async
-    public void updateQuestionCategory(TaskCategory category) {
+    public boolean updateQuestionCategory(TaskCategory category) {
         if (this.config.isDisabled())
-            return;
+            return false;
         if (category.getMoodleId() == null)
-            return;
+            return false;
 
         LOG.info("Updating question category for task category {}.", category.getId());
 
@@ -104,7 +102,7 @@ public void updateQuestionCategory(TaskCategory category) {
         OrganizationalUnit ou = this.ouRepository.findById(category.getOrganizationalUnit().getId()).orElseThrow();
         if (ou.getMoodleId() == null) {
             LOG.warn("Failed to update question category for task category {} because its organizational unit has no moodle-id.", category.getId());
-            return;
+            return false;
         }
 
         TaskCategory parent = null;
@@ -112,7 +110,7 @@ public void updateQuestionCategory(TaskCategory category) {
             parent = this.categoryRepository.findById(category.getParent().getId()).orElseThrow();
         if (parent != null && parent.getMoodleId() == null) {
             LOG.warn("Failed to update question category for task category {} because its parent has no moodle-id.", category.getId());
-            return;
+            return false;
         }
 
         // Build body
@@ -127,8 +125,10 @@ public void updateQuestionCategory(TaskCategory category) {
         try {
             var result = this.post(getDefaultQueryParameters("local_etutorsync_update_question_category"), body);
             LOG.debug("Received {} for updated task category {}", result, category.getId());
+            return true;
         } catch (URISyntaxException | RuntimeException | InterruptedException | IOException ex) {
             LOG.error("Failed to update question category for task category {}.", category.getId(), ex);
+            return false;
         }
     }
 
@@ -0,0 +1,140 @@
+package at.jku.dke.etutor.task_administration.moodle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Collects question requests per moodle function and sends them as a single request.
+ * <p>
+ * A batch is sent as soon as it contains {@link MoodleConfig.QuestionBatchConfig#getMaxSize()} requests or
+ * {@link MoodleConfig.QuestionBatchConfig#getWindow()} has elapsed since its first request. If the batch request
+ * fails, all requests of the batch fail.
+ */
+class QuestionRequestBatcher implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(QuestionRequestBatcher.class);
+
+    private final int maxSize;
+    private final Duration window;
+    private final BatchSender sender;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Batch> pending;
+
+    /**
+     * Creates a new instance of class {@link QuestionRequestBatcher}.
+     *
+     * @param config The batch configuration.
+     * @param sender The function sending a batch to moodle.
+     */
+    QuestionRequestBatcher(MoodleConfig.QuestionBatchConfig config, BatchSender sender) {
+        this.maxSize = config.getMaxSize();
+        this.window = config.getWindow();
+        this.sender = sender;
+        this.pending = new HashMap<>();
+
+        var executor = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("moodle-batch").daemon().factory());
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduler = executor;
+    }
+
+    /**
+     * Adds a request to the batch of the moodle function.
+     *
+     * @param function The moodle function.
+     * @param body     The request body (keys with prefix {@code data[}).
+     * @return The future completed with the question identifier returned by moodle.
+     */
+    CompletableFuture<Long> submit(String function, Map<String, String> body) {
+        var future = new CompletableFuture<Long>();
+        Batch full = null;
+
+        synchronized (this.pending) {
+            var batch = this.pending.get(function);
+            if (batch == null) {
+                batch = new Batch();
+                this.pending.put(function, batch);
+                final var created = batch;
+                batch.timer = this.scheduler.schedule(() -> this.flush(function, created), this.window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+
+            batch.bodies.add(body);
+            batch.futures.add(future);
+            if (batch.bodies.size() >= this.maxSize) {
+                this.pending.remove(function);
+                batch.timer.cancel(false);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            final var toSend = full;
+            Thread.startVirtualThread(() -> this.send(function, toSend));
+        }
+        return future;
+    }
+
+    /**
+     * Stops the timer; pending batches are not sent anymore and their requests fail.
+     */
+    @Override
+    public void close() {
+        this.scheduler.shutdownNow();
+        synchronized (this.pending) {
+            this.pending.values().forEach(b -> b.futures.forEach(f -> f.completeExceptionally(new CancellationException("Batcher has been closed."))));
+            this.pending.clear();
+        }
+    }
+
+    private void flush(String function, Batch batch) {
+        synchronized (this.pending) {
+            if (this.pending.get(function) != batch)
+                return;
+            this.pending.remove(function);
+        }
+        Thread.startVirtualThread(() -> this.send(function, batch));
+    }
+
+    private void send(String function, Batch batch) {
+        try {
+            LOG.debug("Sending batch of {} requests to moodle function {}", batch.bodies.size(), function);
+            List<Long> ids = this.sender.send(function, batch.bodies);
+            if (ids.size() != batch.futures.size())
+                throw new IllegalStateException("Moodle returned " + ids.size() + " results for " + batch.futures.size() + " requests.");
+            for (int i = 0; i < ids.size(); i++)
+                batch.futures.get(i).complete(ids.get(i));
+        } catch (Exception ex) {
+            if (ex instanceof InterruptedException)
+                Thread.currentThread().interrupt();
+            LOG.error("Failed to send batch of {} requests to moodle function {}", batch.bodies.size(), function, ex);
+            batch.futures.forEach(f -> f.completeExceptionally(ex));
+        }
+    }
+
+    /**
+     * Sends a batch of requests to moodle.
+     */
+    @FunctionalInterface
+    interface BatchSender {
+        /**
+         * Sends the requests to the moodle function.
+         *
+         * @param function The moodle function.
+         * @param bodies   The request bodies.
+         * @return The question identifiers in the order of the requests.
+         * @throws Exception If the request failed.
+         */
+        List<Long> send(String function, List<Map<String, String>> bodies) throws Exception;
+    }
+
+    private static final class Batch {
+        private final List<Map<String, String>> bodies = new ArrayList<>();
+        private final List<CompletableFuture<Long>> futures = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+    }
+}
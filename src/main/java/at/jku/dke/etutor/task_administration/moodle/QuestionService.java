@@ -1,181 +1,137 @@
 package at.jku.dke.etutor.task_administration.moodle;
 
 import at.jku.dke.etutor.task_administration.data.entities.*;
-import at.jku.dke.etutor.task_administration.data.repositories.TaskCategoryRepository;
 import at.jku.dke.etutor.task_administration.data.repositories.TaskGroupRepository;
 import at.jku.dke.etutor.task_administration.data.repositories.TaskMoodleIdRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Service for managing moodle questions.
+ * <p>
+ * If enabled ({@link MoodleConfig#getQuestionBatch()}), the question requests are not sent one by one, but are
+ * collected and sent as batch requests.
  */
 @Service
-public class QuestionService extends MoodleService {
+public class QuestionService extends MoodleService implements DisposableBean {
 
-    private final TaskCategoryRepository categoryRepository;
     private final TaskMoodleIdRepository taskMoodleIdRepository;
     private final TaskGroupRepository taskGroupRepository;
+    private final QuestionRequestBatcher batcher;
 
     /**
      * Creates a new instance of class {@link QuestionService}.
      *
      * @param config                 The moodle configuration.
      * @param objectMapper           The object mapper.
-     * @param categoryRepository     The category repository.
      * @param taskMoodleIdRepository The moodleId repository.
      * @param taskGroupRepository    The task-group repository.
      */
-    protected QuestionService(MoodleConfig config, ObjectMapper objectMapper, TaskCategoryRepository categoryRepository, TaskMoodleIdRepository taskMoodleIdRepository, TaskGroupRepository taskGroupRepository) {
+    protected QuestionService(MoodleConfig config, ObjectMapper objectMapper, TaskMoodleIdRepository taskMoodleIdRepository, TaskGroupRepository taskGroupRepository) {
         super(config, objectMapper);
-        this.categoryRepository = categoryRepository;
         this.taskMoodleIdRepository = taskMoodleIdRepository;
         this.taskGroupRepository = taskGroupRepository;
+        this.batcher = config.getQuestionBatch().isEnabled() ? new QuestionRequestBatcher(config.getQuestionBatch(), this::postBatch) : null;
     }
 
     /**
-     * Creates a question in Moodle for each category in the given Task
-     *
-     * @param task The task to create the questions.
-     * @return A list of all created moodleIDs as List<TaskMoodleId>.
+     * Stops the batching of question requests.
      */
-    @Async
-    public CompletableFuture<Optional<List<TaskMoodleId>>> createQuestionFromTask(Task task) {
-        if (this.config.isDisabled() ||
-            task.getStatus() != TaskStatus.APPROVED ||
-            task.getTaskCategories().isEmpty() ||
-            task.getOrganizationalUnit().getMoodleId() == null) {
-            LOG.warn("Aborting moodle question creation for task {} as the task is not approved, does not belong to a task-category, the org-unit is not synced or moodle-sync is disabled", task.getId());
-            return CompletableFuture.completedFuture(Optional.empty());
-        }
-
-        LOG.info("Creating moodle questions for task {}", task.getId());
-        ArrayList<TaskMoodleId> moodleIds = new ArrayList<>();
-
-        // Array of all categoryIds in which the task should exist
-        Object[] categoryIds = task.getTaskCategories().stream().map(AuditedEntity::getId).toArray();
-        for (Object categoryId : categoryIds) {
-            var category = categoryRepository.findById((long) categoryId);
-            if (category.isEmpty())
-                continue;
-
-            Map<String, String> body_question = this.buildTaskParameterMap(task, category.get());
-            try {
-                LOG.debug("Creating moodle questions for task {} and category {}", task.getId(), categoryId);
-                String responseBody = this.post(getDefaultQueryParameters("local_etutorsync_create_question"), body_question);
-                Question result = objectMapper.readValue(responseBody, Question.class);
-                moodleIds.add(new TaskMoodleId(task, category.get(), result.questionid));
-                LOG.info("Created question with ID {} for task {}", result.questionid, task.getId());
-            } catch (URISyntaxException | RuntimeException | InterruptedException | IOException ex) {
-                LOG.error("Failed to create Question for task {} and category {}", task.getId(), categoryId, ex);
-                return CompletableFuture.completedFuture(Optional.empty());
-            }
-        }
-        return CompletableFuture.completedFuture(Optional.of(moodleIds));
+    @Override
+    public void destroy() {
+        if (this.batcher != null)
+            this.batcher.close();
     }
 
     /**
-     * Updates questions already existing in Moodle to the given task
+     * Prepares the requests updating the questions of the given task in Moodle without sending them.
+     * <p>
+     * All data required for the requests is loaded here, so that this method can be called in a short transaction
+     * and {@link #executeQuestionUpdate(PreparedQuestionUpdate)} afterwards outside of any transaction.
+     * The categories are taken from the task, which should therefore be loaded together with its categories.
+     * Questions are created for categories without a question yet, so this is also used for the first synchronization.
      *
-     * @param task Task to which the questions should be updated.
-     * @return A list of all created moodleIDs as List<TaskMoodleId>.
+     * @param task    Task to which the questions should be updated.
+     * @param context The synchronization context shared with other tasks.
+     * @return The prepared requests or an empty result if the questions cannot be synchronized.
      */
-    // @Async does not work
-    public CompletableFuture<Optional<List<TaskMoodleId>>> updateQuestionFromTask(Task task) {
+    public Optional<PreparedQuestionUpdate> prepareQuestionUpdate(Task task, QuestionSyncContext context) {
         LOG.info("Starting Moodle Task sync for task {}", task.getId());
         if (this.config.isDisabled() || task.getStatus() != TaskStatus.APPROVED || task.getOrganizationalUnit().getMoodleId() == null) {
             LOG.warn("Aborting moodle task sync for task {} as the task is not approved, the organizational unit is not synced or moodle-sync is disabled", task.getId());
-            return CompletableFuture.completedFuture(Optional.empty());
+            return Optional.empty();
         }
 
+        Map<String, String> taskParameters = this.buildTaskParameterMap(task, this.findTaskGroup(task, context));
+
         // All categories in which the question should end up
-        Set<TaskCategory> newCategories = this.categoryRepository.findByTasks_Id(task.getId());
+        Set<TaskCategory> newCategories = task.getTaskCategories();
+        Set<Long> newCategoryIds = new HashSet<>();
+        newCategories.forEach(x -> newCategoryIds.add(x.getId()));
+
+        // All questions already existing in moodle
+        List<TaskMoodleId> existing = this.taskMoodleIdRepository.findById_TaskId(task.getId());
 
         // List of all categories in which the question should no longer be contained
-        List<TaskMoodleId> deprecatedCategories = new ArrayList<>(taskMoodleIdRepository.findById_TaskId(task.getId()));
-        deprecatedCategories = deprecatedCategories.stream().filter(x -> !newCategories.contains(x.getTaskCategory())).toList();
+        List<TaskMoodleId> deprecatedCategories = existing.stream().filter(x -> !newCategoryIds.contains(x.getTaskCategory().getId())).toList();
 
         // List of all categories keeping the question
-        List<TaskMoodleId> updateTaskCategories = new ArrayList<>(taskMoodleIdRepository.findById_TaskId(task.getId()));
-        updateTaskCategories = updateTaskCategories.stream().filter(x -> newCategories.contains(x.getTaskCategory())).toList();
+        List<TaskMoodleId> updateTaskCategories = existing.stream().filter(x -> newCategoryIds.contains(x.getTaskCategory().getId())).toList();
 
         // List of all category Ids which are either deprecated or already existing and persisting
         Set<Long> oldCategoryIds = new HashSet<>();
-        deprecatedCategories.forEach(x -> oldCategoryIds.add(x.getTaskCategory().getId()));
-        updateTaskCategories.forEach(x -> oldCategoryIds.add(x.getTaskCategory().getId()));
+        existing.forEach(x -> oldCategoryIds.add(x.getTaskCategory().getId()));
 
         // List of all Categories newly getting this question
         List<TaskCategory> newToCreateTaskCategories = newCategories.stream().filter(x -> !oldCategoryIds.contains(x.getId())).toList();
-        ArrayList<TaskMoodleId> moodleIds = new ArrayList<>();
+        List<QuestionCall> calls = new ArrayList<>();
 
         // Creating the questions which are new
-        Object[] newToCreateCategoryIds = newToCreateTaskCategories.stream().map(AuditedEntity::getId).toArray();
-        for (Object newToCreateCategoryId : newToCreateCategoryIds) {
-            var category = categoryRepository.findById((long) newToCreateCategoryId);
-            if (category.isEmpty())
-                continue;
-
-            Map<String, String> body_question = this.buildTaskParameterMap(task, category.get());
-            try {
-                LOG.debug("Creating moodle question for task {} and category {}", task.getId(), category.get().getId());
-                String responseBody = this.post(getDefaultQueryParameters("local_etutorsync_create_question"), body_question);
-                Question result = objectMapper.readValue(responseBody, Question.class);
-                moodleIds.add(new TaskMoodleId(task, category.get(), result.questionid));
-                LOG.info("Created question with ID {} for task {} and category {}", result.questionid, task.getId(), category.get().getId());
-            } catch (URISyntaxException | RuntimeException | InterruptedException | IOException ex) {
-                LOG.error("Failed to create Question for task {} and category {}", task.getId(), category.get().getId(), ex);
-                return CompletableFuture.completedFuture(Optional.empty());
-            }
-        }
+        for (TaskCategory category : newToCreateTaskCategories)
+            calls.add(new QuestionCall("local_etutorsync_create_question", withCategory(taskParameters, category), category));
 
         // Changing the title of old (no longer supported categories) questions to DEPRECATED_
-        Object[] deprecatedQuestionIds = deprecatedCategories.stream().map(TaskMoodleId::getMoodleId).toArray();
-        for (Object deprecatedQuestionId : deprecatedQuestionIds) {
+        for (TaskMoodleId deprecated : deprecatedCategories) {
             Map<String, String> body_question = new HashMap<>();
             body_question.put("data[course_category_id]", task.getOrganizationalUnit().getMoodleId().toString());
-            body_question.put("data[question_id]", deprecatedQuestionId.toString());
+            body_question.put("data[question_id]", deprecated.getMoodleId().toString());
             body_question.put("data[title_extension]", "DEPRECATED_");
-
-            try {
-                LOG.debug("Deprecating moodle question {} for task {}", deprecatedQuestionId, task.getId());
-                String responseBody = this.post(getDefaultQueryParameters("local_etutorsync_deprecate_old_question"), body_question);
-                Question result = objectMapper.readValue(responseBody, Question.class);
-                LOG.info("Deprecated question with ID {}", result.questionid);
-            } catch (URISyntaxException | RuntimeException | InterruptedException | IOException ex) {
-                LOG.error("Failed to deprecate old questions for task {}", task.getId(), ex);
-                return CompletableFuture.completedFuture(Optional.empty());
-            }
+            calls.add(new QuestionCall("local_etutorsync_deprecate_old_question", body_question, null));
         }
 
         // Updates existing questions by creating a new question and updating the Version in the questionbank
-        Object[] updateCategoryIds = updateTaskCategories.stream().map(x -> x.getTaskCategory().getId()).toArray();
-        for (Object updateCategoryId : updateCategoryIds) {
-            var oldMoodle = taskMoodleIdRepository.findById_TaskIdAndId_TaskCategoryId(task.getId(), (long) updateCategoryId);
-            var newCategory = categoryRepository.findById((long) updateCategoryId);
-            if (oldMoodle.isEmpty() || newCategory.isEmpty())
-                continue;
+        for (TaskMoodleId oldMoodle : updateTaskCategories) {
+            Map<String, String> body_question = withCategory(taskParameters, oldMoodle.getTaskCategory());
+            body_question.put("data[oldMoodleId]", String.valueOf(oldMoodle.getMoodleId()));
+            calls.add(new QuestionCall("local_etutorsync_update_question", body_question, oldMoodle.getTaskCategory()));
+        }
 
-            Map<String, String> body_question = this.buildTaskParameterMap(task, newCategory.get());
-            body_question.put("data[oldMoodleId]", String.valueOf(oldMoodle.get().getMoodleId()));
+        return Optional.of(new PreparedQuestionUpdate(task, calls));
+    }
 
-            try {
-                LOG.debug("Updating moodle question for task {} and category {}", task.getId(), updateCategoryId);
-                String responseBody = this.post(getDefaultQueryParameters("local_etutorsync_update_question"), body_question);
-                Question result = objectMapper.readValue(responseBody, Question.class);
-                moodleIds.add(new TaskMoodleId(task, newCategory.get(), result.questionid));
-                LOG.info("Created question with ID {} for task {} and category {}", result.questionid, task.getId(), updateCategoryId);
-            } catch (URISyntaxException | RuntimeException | InterruptedException | IOException ex) {
-                LOG.error("Failed to create Question for task {} and category {}", task.getId(), updateCategoryId, ex);
-                return CompletableFuture.completedFuture(Optional.empty());
-            }
-        }
-        return CompletableFuture.completedFuture(Optional.of(moodleIds));
+    /**
+     * Sends the prepared requests updating the questions of a task to Moodle.
+     * <p>
+     * The requests are sent concurrently (see {@link MoodleConfig#getSyncParallelism()}). If a single request fails,
+     * an empty optional is returned. This method does not access the database.
+     *
+     * @param update The prepared requests.
+     * @return A list of all created moodleIDs as List<TaskMoodleId>.
+     */
+    public Optional<List<TaskMoodleId>> executeQuestionUpdate(PreparedQuestionUpdate update) {
+        return this.execute(update.task, update.calls);
     }
 
     /**
@@ -191,6 +147,7 @@ public void markQuestionAsDeleted(Task task) {
         }
 
         var moodleIds = taskMoodleIdRepository.findById_TaskId(task.getId());
+        var batched = new ArrayList<CompletableFuture<Long>>();
         for (TaskMoodleId id : moodleIds) {
             if (task.getOrganizationalUnit() == null || task.getOrganizationalUnit().getMoodleId() == null)
                 continue;
@@ -200,6 +157,11 @@ public void markQuestionAsDeleted(Task task) {
             body_question.put("data[question_id]", id.getMoodleId().toString());
             body_question.put("data[title_extension]", "DELETED_");
 
+            if (this.batcher != null) {
+                batched.add(this.batcher.submit("local_etutorsync_deprecate_old_question", body_question));
+                continue;
+            }
+
             try {
                 LOG.debug("Marking moodle question {} for task {} as deleted", id.getMoodleId(), task.getId());
                 String responseBody = this.post(getDefaultQueryParameters("local_etutorsync_deprecate_old_question"), body_question);
@@ -209,33 +171,158 @@ public void markQuestionAsDeleted(Task task) {
                 LOG.error("Failed to mark questions for task {} as deleted", task.getId(), ex);
             }
         }
+
+        for (var future : batched) {
+            try {
+                LOG.info("Marked question with ID {} as deleted", future.join());
+            } catch (CompletionException | CancellationException ex) {
+                LOG.error("Failed to mark questions for task {} as deleted", task.getId(), ex);
+            }
+        }
     }
 
-    private Map<String, String> buildTaskParameterMap(Task task, TaskCategory category) {
-        StringBuilder builder = new StringBuilder("<span lang=\"de\" class=\"multilang\">");
-        TaskGroup taskGroup = null;
+    /**
+     * Sends the requests to moodle with at most {@link MoodleConfig#getSyncParallelism()} concurrent requests.
+     * <p>
+     * If a request fails, the remaining requests are not sent anymore and an empty optional is returned.
+     *
+     * @param task  The task.
+     * @param calls The requests to send.
+     * @return The moodle identifiers of the created questions in the order of the requests.
+     */
+    private Optional<List<TaskMoodleId>> execute(Task task, List<QuestionCall> calls) {
+        if (this.batcher != null)
+            return this.executeBatched(task, calls);
+
+        var results = new AtomicReferenceArray<TaskMoodleId>(calls.size());
+        var next = new AtomicInteger();
+        var failed = new AtomicBoolean(false);
+        int workers = Math.min(this.config.getSyncParallelism(), calls.size());
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < workers; w++) {
+                executor.execute(() -> {
+                    int i;
+                    while (!failed.get() && (i = next.getAndIncrement()) < calls.size()) {
+                        var call = calls.get(i);
+                        try {
+                            LOG.debug("Sending {} for task {} to moodle", call.function(), task.getId());
+                            String responseBody = this.post(getDefaultQueryParameters(call.function()), call.body());
+                            Question result = objectMapper.readValue(responseBody, Question.class);
+                            if (call.category() != null) {
+                                results.set(i, new TaskMoodleId(task, call.category(), result.questionid));
+                                LOG.info("Created question with ID {} for task {} and category {}", result.questionid, task.getId(), call.category().getId());
+                            } else {
+                                LOG.info("Deprecated question with ID {}", result.questionid);
+                            }
+                        } catch (URISyntaxException | RuntimeException | InterruptedException | IOException ex) {
+                            LOG.error("Failed to sync questions for task {} ({})", task.getId(), call.function(), ex);
+                            failed.set(true);
+                            if (ex instanceof InterruptedException)
+                                Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }
+        }
+
+        if (failed.get())
+            return Optional.empty();
+
+        List<TaskMoodleId> moodleIds = new ArrayList<>();
+        for (int i = 0; i < calls.size(); i++) {
+            if (results.get(i) != null)
+                moodleIds.add(results.get(i));
+        }
+        return Optional.of(moodleIds);
+    }
+
+    /**
+     * Adds the requests to the batches and waits until all batches have been sent.
+     *
+     * @param task  The task.
+     * @param calls The requests to send.
+     * @return The moodle identifiers of the created questions in the order of the requests.
+     */
+    private Optional<List<TaskMoodleId>> executeBatched(Task task, List<QuestionCall> calls) {
+        var futures = new ArrayList<CompletableFuture<Long>>(calls.size());
+        for (QuestionCall call : calls)
+            futures.add(this.batcher.submit(call.function(), call.body()));
+
+        List<TaskMoodleId> moodleIds = new ArrayList<>();
+        boolean failed = false;
+        for (int i = 0; i < calls.size(); i++) {
+            var call = calls.get(i);
+            try {
+                long questionId = futures.get(i).join();
+                if (call.category() != null) {
+                    moodleIds.add(new TaskMoodleId(task, call.category(), questionId));
+                    LOG.info("Created question with ID {} for task {} and category {}", questionId, task.getId(), call.category().getId());
+                } else {
+                    LOG.info("Deprecated question with ID {}", questionId);
+                }
+            } catch (CompletionException | CancellationException ex) {
+                LOG.error("Failed to sync questions for task {} ({})", task.getId(), call.function(), ex);
+                failed = true;
+            }
+        }
+        return failed ? Optional.empty() : Optional.of(moodleIds);
+    }
+
+    /**
+     * Sends a batch of question requests to moodle.
+     *
+     * @param function The moodle function.
+     * @param bodies   The request bodies (keys {@code data[...]}), converted to {@code data[i][...]}.
+     * @return The question identifiers in the order of the requests.
+     */
+    private List<Long> postBatch(String function, List<Map<String, String>> bodies) throws URISyntaxException, IOException, InterruptedException {
+        Map<String, String> body = new HashMap<>();
+        for (int i = 0; i < bodies.size(); i++) {
+            String prefix = "data[" + i + "][";
+            for (var entry : bodies.get(i).entrySet())
+                body.put(prefix + entry.getKey().substring("data[".length()), entry.getValue());
+        }
+
+        String responseBody = this.post(getDefaultQueryParameters(function), body);
+        Question[] result = objectMapper.readValue(responseBody, Question[].class);
+        return Arrays.stream(result).map(Question::questionid).toList();
+    }
+
+    private QuestionSyncContext.TaskGroupInfo findTaskGroup(Task task, QuestionSyncContext context) {
         if (task.getTaskGroup() != null && task.getTaskGroup().getId() != null)
-            taskGroup = this.taskGroupRepository.findById(task.getTaskGroup().getId()).orElse(null);
+            return context.getTaskGroup(task.getTaskGroup().getId(), this.taskGroupRepository::findById).orElse(null);
+        return null;
+    }
+
+    /**
+     * Builds the request parameters of the task which are the same for all categories.
+     *
+     * @param task      The task.
+     * @param taskGroup The task group of the task or {@code null}.
+     * @return The request parameters without category.
+     */
+    private Map<String, String> buildTaskParameterMap(Task task, QuestionSyncContext.TaskGroupInfo taskGroup) {
+        StringBuilder builder = new StringBuilder("<span lang=\"de\" class=\"multilang\">");
 
         // german
         if (taskGroup != null)
-            builder.append(taskGroup.getDescriptionDe()).append("<div style=\"margin-bottom: 1.5em;\"></div>");
+            builder.append(taskGroup.descriptionDe()).append("<div style=\"margin-bottom: 1.5em;\"></div>");
         builder.append(task.getDescriptionDe()).append("</span>");
 
         // english
         builder.append("<span lang=\"en\" class=\"multilang\">");
         if (taskGroup != null)
-            builder.append(taskGroup.getDescriptionEn()).append("<div style=\"margin-bottom: 1.5em;\"></div>");
+            builder.append(taskGroup.descriptionEn()).append("<div style=\"margin-bottom: 1.5em;\"></div>");
         builder.append(task.getDescriptionEn()).append("</span>");
 
         // data
         Map<String, String> body_question = new HashMap<>();
-        body_question.put("data[category_id]", String.valueOf(category.getMoodleId()));
         body_question.put("data[id]", task.getId().toString());
         if (taskGroup == null)
             body_question.put("data[name]", task.getTitle());
         else
-            body_question.put("data[name]", taskGroup.getName() + " - " + task.getTitle());
+            body_question.put("data[name]", taskGroup.name() + " - " + task.getTitle());
         body_question.put("data[questiontext]", builder.toString());
         body_question.put("data[course_category_id]", task.getOrganizationalUnit().getMoodleId().toString());
         body_question.put("data[points]", task.getMaxPoints().toString());
@@ -243,10 +330,42 @@ private Map<String, String> buildTaskParameterMap(Task task, TaskCategory catego
         body_question.put("data[templateparams]", "{" + "\"TASK_ID\": " + task.getId() + ", \"FEEDBACK_LEVEL\":0}");
         body_question.put("data[examTask]", task.isExamTask() + "");
         if (taskGroup != null)
-            body_question.put("data[tag]", taskGroup.getName());
+            body_question.put("data[tag]", taskGroup.name());
+        return body_question;
+    }
+
+    private static Map<String, String> withCategory(Map<String, String> taskParameters, TaskCategory category) {
+        Map<String, String> body_question = new HashMap<>(taskParameters);
+        body_question.put("data[category_id]", String.valueOf(category.getMoodleId()));
         return body_question;
     }
 
     private record Question(long questionid) { // do not rename to questionId!!
     }
+
+    /**
+     * A request to moodle.
+     *
+     * @param function The moodle function.
+     * @param body     The request body.
+     * @param category The category of the created question or {@code null} if the request does not create a question.
+     */
+    private record QuestionCall(String function, Map<String, String> body, TaskCategory category) {
+    }
+
+    /**
+     * The requests updating the questions of a task, ready to be sent to Moodle.
+     *
+     * @see #prepareQuestionUpdate(Task, QuestionSyncContext)
+     * @see #executeQuestionUpdate(PreparedQuestionUpdate)
+     */
+    public static final class PreparedQuestionUpdate {
+        private final Task task;
+        private final List<QuestionCall> calls;
+
+        private PreparedQuestionUpdate(Task task, List<QuestionCall> calls) {
+            this.task = task;
+            this.calls = calls;
+        }
+    }
 }
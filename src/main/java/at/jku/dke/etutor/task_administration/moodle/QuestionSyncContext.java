@@ -0,0 +1,50 @@
+package at.jku.dke.etutor.task_administration.moodle;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskGroup;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongFunction;
+
+/**
+ * Data shared by the question synchronizations of several tasks.
+ * <p>
+ * The tasks of a task group are usually synchronized together (e.g. if the task group gets approved). The context
+ * loads the texts of each task group only once, instead of once per task. A context should only be used for a single
+ * synchronization run, as modifications of the task groups made afterwards are not visible.
+ */
+public class QuestionSyncContext {
+    private final ConcurrentMap<Long, Optional<TaskGroupInfo>> taskGroups;
+
+    /**
+     * Creates a new instance of class {@link QuestionSyncContext}.
+     */
+    public QuestionSyncContext() {
+        this.taskGroups = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the texts of the task group and loads them if not already loaded.
+     *
+     * @param id     The task group identifier.
+     * @param loader The function loading the task group.
+     * @return The task group texts or an empty result if the task group does not exist.
+     */
+    Optional<TaskGroupInfo> getTaskGroup(long id, LongFunction<Optional<TaskGroup>> loader) {
+        return this.taskGroups.computeIfAbsent(id, key -> loader.apply(key).map(TaskGroupInfo::new));
+    }
+
+    /**
+     * The texts of a task group used in the questions.
+     *
+     * @param name          The name.
+     * @param descriptionDe The german description.
+     * @param descriptionEn The english description.
+     */
+    record TaskGroupInfo(String name, String descriptionDe, String descriptionEn) {
+        private TaskGroupInfo(TaskGroup taskGroup) {
+            this(taskGroup.getName(), taskGroup.getDescriptionDe(), taskGroup.getDescriptionEn());
+        }
+    }
+}
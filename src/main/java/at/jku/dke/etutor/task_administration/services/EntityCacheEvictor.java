@@ -0,0 +1,56 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts entities from the second-level cache.
+ * <p>
+ * Writes performed through the entity manager keep the second-level cache up to date on their own. This class is
+ * required for rows modified by the database itself (e.g. {@code ON DELETE CASCADE}), which Hibernate does not see.
+ */
+@Component
+public class EntityCacheEvictor {
+    private static final Logger LOG = LoggerFactory.getLogger(EntityCacheEvictor.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Creates a new instance of class {@link EntityCacheEvictor}.
+     *
+     * @param entityManagerFactory The entity manager factory.
+     */
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Evicts all cached entities of the specified class once the current transaction has been committed.
+     * <p>
+     * Evicting before the commit would allow concurrent transactions to put the still existing rows into the cache
+     * again. If no transaction is active, the entities are evicted immediately.
+     *
+     * @param entityClass The entity class.
+     */
+    public void evictAfterCommit(Class<?> entityClass) {
+        Runnable action = () -> {
+            LOG.debug("Evicting cached entities of type {}", entityClass.getSimpleName());
+            this.entityManagerFactory.getCache().evict(entityClass);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
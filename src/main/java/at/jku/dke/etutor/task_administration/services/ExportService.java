@@ -0,0 +1,152 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.dto.CombinedDto;
+import at.jku.dke.etutor.task_administration.dto.ExportSummaryDto;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Service for exporting entities together with the additional data stored in the task apps.
+ * <p>
+ * The additional data is requested in chunks ({@link TaskAppConfig#getAdditionalDataBatchSize()}); the chunks of
+ * different task apps are requested concurrently and the results are passed to the consumer in the order in which
+ * they complete.
+ */
+@Service
+public class ExportService {
+    private static final Logger LOG = LoggerFactory.getLogger(ExportService.class);
+    private static final int MAX_PENDING_RESULTS = 100;
+
+    private final TaskAppConfig config;
+
+    /**
+     * Creates a new instance of class {@link ExportService}.
+     *
+     * @param config The task app configuration.
+     */
+    public ExportService(TaskAppConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Loads the additional data for the items and passes the combined results to the consumer.
+     * <p>
+     * The consumer is only called from the calling thread. If the additional data of an item could not be loaded,
+     * the item is passed with {@code null} additional data and is listed in the returned summary. If the loader returns
+     * {@code null} (no task app available), the items are passed with {@code null} additional data without being
+     * reported as failed. If loading stops unexpectedly (e.g. the identifier function throws an exception or an
+     * {@link Error} occurs), the remaining items of the type are passed with {@code null} additional data and reported as failed.
+     *
+     * @param items        The items to export.
+     * @param idFunction   The function returning the identifier of an item.
+     * @param typeFunction The function returning the task (group) type of an item.
+     * @param loader       The function loading the additional data for the identifiers of the specified type.
+     * @param consumer     The consumer receiving the combined results.
+     * @param <T>          The type of the items.
+     * @return The export summary.
+     */
+    public <T> ExportSummaryDto export(Collection<T> items, ToLongFunction<T> idFunction, Function<T, String> typeFunction,
+                                       BiFunction<List<Long>, String, Map<Long, Map<String, Object>>> loader, Consumer<CombinedDto<T>> consumer) {
+        long start = System.nanoTime();
+        var completed = new ArrayBlockingQueue<ExportResult<T>>(MAX_PENDING_RESULTS);
+        var aborted = new AtomicBoolean(false);
+        var failedIds = new ArrayList<Long>();
+
+        var itemsByType = new HashMap<String, List<T>>();
+        for (T item : items)
+            itemsByType.computeIfAbsent(typeFunction.apply(item), t -> new ArrayList<>()).add(item);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // one thread per type, so that every task app receives one request (or one set of single requests) at a time
+            itemsByType.forEach((type, typeItems) -> executor.execute(() -> {
+                int delivered = 0;
+                try {
+                    for (List<T> chunk : Lists.partition(typeItems, this.config.getAdditionalDataBatchSize())) {
+                        for (var result : this.load(chunk, type, idFunction, loader)) {
+                            if (!offer(completed, result, aborted))
+                                return;
+                            delivered++;
+                        }
+                    }
+                } finally {
+                    // the calling thread waits for a result per item, also if this worker dies unexpectedly
+                    if (delivered < typeItems.size() && !aborted.get()) {
+                        LOG.error("Export of {} entries of type {} stopped unexpectedly", typeItems.size() - delivered, type);
+                        for (T item : typeItems.subList(delivered, typeItems.size())) {
+                            if (!offer(completed, new ExportResult<>(item, null, true), aborted))
+                                break;
+                        }
+                    }
+                }
+            }));
+
+            try {
+                for (int i = 0; i < items.size(); i++) {
+                    var result = completed.take();
+                    if (result.failed())
+                        failedIds.add(idFunction.applyAsLong(result.item()));
+                    consumer.accept(new CombinedDto<>(result.item(), result.additionalData()));
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                aborted.set(true);
+                executor.shutdownNow();
+                throw new CancellationException("Export has been interrupted.");
+            } catch (RuntimeException ex) {
+                aborted.set(true);
+                executor.shutdownNow();
+                throw ex;
+            }
+        }
+
+        var summary = new ExportSummaryDto(items.size(), failedIds.size(), failedIds, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        LOG.info("Exported {} entries in {} ms, additional data of {} entries could not be loaded", summary.total(), summary.durationMillis(), summary.failed());
+        return summary;
+    }
+
+    private <T> List<ExportResult<T>> load(List<T> chunk, String type, ToLongFunction<T> idFunction,
+                                          BiFunction<List<Long>, String, Map<Long, Map<String, Object>>> loader) {
+        Map<Long, Map<String, Object>> data;
+        boolean failed = false;
+        try {
+            data = loader.apply(chunk.stream().map(idFunction::applyAsLong).toList(), type);
+        } catch (RuntimeException ex) {
+            LOG.warn("Could not load additional data of {} entries of type {}: {}", chunk.size(), type, ex.getMessage());
+            data = null;
+            failed = true;
+        }
+
+        var results = new ArrayList<ExportResult<T>>(chunk.size());
+        for (T item : chunk) {
+            var additionalData = data == null ? null : data.get(idFunction.applyAsLong(item));
+            results.add(new ExportResult<>(item, additionalData, failed || (data != null && additionalData == null)));
+        }
+        return results;
+    }
+
+    private static <T> boolean offer(BlockingQueue<ExportResult<T>> queue, ExportResult<T> result, AtomicBoolean aborted) {
+        try {
+            while (!queue.offer(result, 100, TimeUnit.MILLISECONDS)) {
+                if (aborted.get())
+                    return false;
+            }
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record ExportResult<T>(T item, Map<String, Object> additionalData, boolean failed) {
+    }
+}
@@ -0,0 +1,163 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Decides whether a request may be forwarded to a task app.
+ * <p>
+ * The rules are compiled into a segment trie once, so that a path is evaluated against all rules in a single pass.
+ * If multiple rules match, the rule which has been defined first wins. The built-in rules, which prevent forwarding
+ * requests to the endpoints used by the task administration itself (submissions, tasks and task groups), are always
+ * evaluated before the configured rules ({@link TaskAppConfig#getForwardRules()}).
+ */
+@Component
+public class ForwardRoutePolicy {
+    private static final List<TaskAppConfig.ForwardRule> BUILT_IN_RULES = List.of(
+        new TaskAppConfig.ForwardRule("api/submission", false, List.of()),
+        new TaskAppConfig.ForwardRule("api/submission/*/result", false, List.of()),
+        new TaskAppConfig.ForwardRule("api/task/#", false, List.of()),
+        new TaskAppConfig.ForwardRule("api/taskgroup/#", false, List.of()),
+        new TaskAppConfig.ForwardRule("api/task/**/#", false, List.of()),
+        new TaskAppConfig.ForwardRule("api/taskgroup/**/#", false, List.of())
+    );
+
+    private final boolean defaultAllow;
+    private final RuleTrie defaultTrie;
+    private final Map<String, RuleTrie> taskTypeTries;
+
+    /**
+     * Creates a new instance of class {@link ForwardRoutePolicy}.
+     *
+     * @param config The task app configuration.
+     */
+    public ForwardRoutePolicy(TaskAppConfig config) {
+        var rules = new ArrayList<>(BUILT_IN_RULES);
+        rules.addAll(config.getForwardRules());
+
+        this.defaultAllow = config.isForwardDefaultAllow();
+        this.defaultTrie = new RuleTrie(rules.stream().filter(r -> r.getTaskTypes() == null || r.getTaskTypes().isEmpty()).toList());
+
+        var taskTypes = new HashSet<String>();
+        rules.stream().filter(r -> r.getTaskTypes() != null).forEach(r -> taskTypes.addAll(r.getTaskTypes()));
+        var tries = new HashMap<String, RuleTrie>();
+        for (String taskType : taskTypes) {
+            tries.put(taskType, new RuleTrie(rules.stream()
+                .filter(r -> r.getTaskTypes() == null || r.getTaskTypes().isEmpty() || r.getTaskTypes().contains(taskType))
+                .toList()));
+        }
+        this.taskTypeTries = Map.copyOf(tries);
+    }
+
+    /**
+     * Returns whether the request to the specified path may be forwarded to the task app.
+     *
+     * @param taskType The task type.
+     * @param path     The path at the task app (with or without leading slash and query string).
+     * @return {@code true} if the request may be forwarded; {@code false} otherwise.
+     */
+    public boolean isAllowed(String taskType, String path) {
+        var trie = this.taskTypeTries.getOrDefault(taskType, this.defaultTrie);
+        var rule = trie.match(splitPath(path));
+        return rule == null ? this.defaultAllow : rule.isAllow();
+    }
+
+    /**
+     * Splits the path into its lower-case segments, ignoring the query string and empty segments.
+     *
+     * @param path The path.
+     * @return The segments.
+     */
+    static String[] splitPath(String path) {
+        int end = path.indexOf('?');
+        if (end < 0)
+            end = path.length();
+
+        var segments = new ArrayList<String>(8);
+        int start = 0;
+        while (start < end) {
+            int slash = path.indexOf('/', start);
+            if (slash < 0 || slash > end)
+                slash = end;
+            if (slash > start)
+                segments.add(path.substring(start, slash).toLowerCase(Locale.ROOT));
+            start = slash + 1;
+        }
+        return segments.toArray(String[]::new);
+    }
+
+    /**
+     * Trie of path segments; each node stores the first rule whose pattern ends at the node.
+     */
+    private static final class RuleTrie {
+        private final Node root = new Node();
+        private final List<TaskAppConfig.ForwardRule> rules;
+
+        RuleTrie(List<TaskAppConfig.ForwardRule> rules) {
+            this.rules = rules;
+            for (int i = 0; i < rules.size(); i++) {
+                Node node = this.root;
+                for (String segment : splitPath(rules.get(i).getPattern()))
+                    node = node.child(segment);
+                if (node.ruleIndex < 0)
+                    node.ruleIndex = i;
+            }
+        }
+
+        TaskAppConfig.ForwardRule match(String[] segments) {
+            int index = this.root.match(segments, 0);
+            return index == Integer.MAX_VALUE ? null : this.rules.get(index);
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>(4);
+        private Node anySegment;
+        private Node numericSegment;
+        private Node anySegments;
+        private int ruleIndex = -1;
+
+        Node child(String segment) {
+            return switch (segment) {
+                case "*" -> this.anySegment == null ? this.anySegment = new Node() : this.anySegment;
+                case "#" -> this.numericSegment == null ? this.numericSegment = new Node() : this.numericSegment;
+                case "**" -> this.anySegments == null ? this.anySegments = new Node() : this.anySegments;
+                default -> this.literals.computeIfAbsent(segment, s -> new Node());
+            };
+        }
+
+        /**
+         * Returns the lowest index of the rules matching the remaining segments or {@link Integer#MAX_VALUE}.
+         */
+        int match(String[] segments, int position) {
+            if (position == segments.length)
+                return this.ruleIndex < 0 ? Integer.MAX_VALUE : this.ruleIndex;
+
+            String segment = segments[position];
+            int best = Integer.MAX_VALUE;
+
+            Node literal = this.literals.get(segment);
+            if (literal != null)
+                best = literal.match(segments, position + 1);
+            if (this.anySegment != null)
+                best = Math.min(best, this.anySegment.match(segments, position + 1));
+            if (this.numericSegment != null && isNumeric(segment))
+                best = Math.min(best, this.numericSegment.match(segments, position + 1));
+            if (this.anySegments != null) {
+                for (int next = position + 1; next <= segments.length; next++)
+                    best = Math.min(best, this.anySegments.match(segments, next));
+            }
+            return best;
+        }
+
+        private static boolean isNumeric(String segment) {
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                if (c < '0' || c > '9')
+                    return false;
+            }
+            return true;
+        }
+    }
+}
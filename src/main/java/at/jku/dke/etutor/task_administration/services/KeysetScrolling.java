@@ -0,0 +1,172 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.dto.WindowDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.validation.ValidationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.mapping.PropertyPath;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Helper methods for keyset (seek) pagination.
+ * <p>
+ * In contrast to offset pagination, the database does not have to skip the rows of the previous pages; the next
+ * window starts after the sort key values of the last row of the previous window (see
+ * {@link JpaSpecificationExecutor#findBy(Specification, Function)} and {@link KeysetScrollPosition}). The entity
+ * identifier is always appended to the sort to make the order unique.
+ * <p>
+ * The position is passed to the client as opaque cursor, which is the base64url encoded JSON object of the sort key
+ * values. Only non-nullable properties may be used as sort keys, as the keyset predicates cannot compare with
+ * {@code null}.
+ */
+public final class KeysetScrolling {
+    /**
+     * The name of the identifier property, which is always part of the keyset.
+     */
+    static final String ID_PROPERTY = "id";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+    private static final TypeReference<LinkedHashMap<String, Object>> KEYS_TYPE = new TypeReference<>() {
+    };
+
+    private KeysetScrolling() {
+    }
+
+    /**
+     * Loads the window of entities after the cursor.
+     *
+     * @param repository     The repository.
+     * @param entityClass    The entity class.
+     * @param spec           The specification.
+     * @param cursor         The cursor returned with the previous window or {@code null} for the first window.
+     * @param size           The maximum number of entries.
+     * @param sort           The requested sort; if unsorted, the entities are sorted by identifier.
+     * @param sortProperties The properties which may be used for sorting.
+     * @param count          Whether to count the total number of matching entities.
+     * @param mapper         The function converting an entity to the DTO.
+     * @param <T>            The entity type.
+     * @param <R>            The DTO type.
+     * @return The window.
+     * @throws ValidationException If the sort or cursor is invalid.
+     */
+    public static <T, R> WindowDto<R> scroll(JpaSpecificationExecutor<T> repository, Class<T> entityClass, Specification<T> spec,
+                                             String cursor, int size, Sort sort, Set<String> sortProperties, boolean count,
+                                             Function<T, R> mapper) {
+        return scroll(repository, entityClass, spec, cursor, size, sort, sortProperties, count, mapper, entities -> {
+        });
+    }
+
+    /**
+     * Loads the window of entities after the cursor.
+     *
+     * @param repository     The repository.
+     * @param entityClass    The entity class.
+     * @param spec           The specification.
+     * @param cursor         The cursor returned with the previous window or {@code null} for the first window.
+     * @param size           The maximum number of entries.
+     * @param sort           The requested sort; if unsorted, the entities are sorted by identifier.
+     * @param sortProperties The properties which may be used for sorting.
+     * @param count          Whether to count the total number of matching entities.
+     * @param mapper         The function converting an entity to the DTO.
+     * @param prefetch       Loads associations required by the mapper for all entities of the window at once.
+     * @param <T>            The entity type.
+     * @param <R>            The DTO type.
+     * @return The window.
+     * @throws ValidationException If the sort or cursor is invalid.
+     */
+    public static <T, R> WindowDto<R> scroll(JpaSpecificationExecutor<T> repository, Class<T> entityClass, Specification<T> spec,
+                                             String cursor, int size, Sort sort, Set<String> sortProperties, boolean count,
+                                             Function<T, R> mapper, Consumer<List<T>> prefetch) {
+        Sort keysetSort = getSort(sort, sortProperties);
+        ScrollPosition position = decodeCursor(cursor, entityClass, keysetSort);
+
+        var window = repository.findBy(spec, q -> q.sortBy(keysetSort).limit(size).scroll(position));
+        String nextCursor = window.hasNext() && !window.isEmpty() ? encodeCursor(window.positionAt(window.size() - 1)) : null;
+        Long total = count ? repository.count(spec) : null;
+        prefetch.accept(window.getContent());
+
+        return new WindowDto<>(window.getContent().stream().map(mapper).filter(Objects::nonNull).toList(), nextCursor, total);
+    }
+
+    /**
+     * Validates the requested sort and appends the identifier.
+     *
+     * @param sort           The requested sort.
+     * @param sortProperties The properties which may be used for sorting.
+     * @return The sort used for the keyset.
+     * @throws ValidationException If the sort contains a property not allowed for sorting.
+     */
+    static Sort getSort(Sort sort, Set<String> sortProperties) {
+        for (Sort.Order order : sort) {
+            if (!sortProperties.contains(order.getProperty()))
+                throw new ValidationException("Sorting by " + order.getProperty() + " is not supported, allowed properties: " + String.join(", ", new TreeSet<>(sortProperties)));
+        }
+        return sort.getOrderFor(ID_PROPERTY) == null ? sort.and(Sort.by(ID_PROPERTY)) : sort;
+    }
+
+    /**
+     * Encodes the scroll position as opaque cursor.
+     *
+     * @param position The keyset scroll position.
+     * @return The cursor.
+     */
+    static String encodeCursor(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset))
+            throw new IllegalArgumentException("Only keyset positions are supported");
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(keyset.getKeys()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode cursor", ex);
+        }
+    }
+
+    /**
+     * Decodes the cursor to a scroll position.
+     *
+     * @param cursor      The cursor or {@code null}.
+     * @param entityClass The entity class.
+     * @param sort        The sort used for the keyset.
+     * @return The scroll position; the initial keyset position if the cursor is empty.
+     * @throws ValidationException If the cursor is invalid or has been created for another sort.
+     */
+    static ScrollPosition decodeCursor(String cursor, Class<?> entityClass, Sort sort) {
+        if (cursor == null || cursor.isBlank())
+            return ScrollPosition.keyset();
+
+        Map<String, Object> values;
+        try {
+            values = MAPPER.readValue(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), KEYS_TYPE);
+        } catch (IllegalArgumentException | JsonProcessingException ex) {
+            throw new ValidationException("Invalid cursor");
+        }
+
+        Set<String> properties = new HashSet<>();
+        sort.forEach(o -> properties.add(o.getProperty()));
+        if (values == null || !values.keySet().equals(properties))
+            throw new ValidationException("Cursor does not match the requested sort");
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            Object value = values.get(order.getProperty());
+            if (value == null)
+                throw new ValidationException("Invalid cursor");
+            try {
+                keys.put(order.getProperty(), MAPPER.convertValue(value, PropertyPath.from(order.getProperty(), entityClass).getLeafType()));
+            } catch (IllegalArgumentException ex) {
+                throw new ValidationException("Invalid cursor");
+            }
+        }
+        return ScrollPosition.forward(keys);
+    }
+}
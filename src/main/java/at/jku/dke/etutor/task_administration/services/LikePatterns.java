@@ -0,0 +1,27 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import java.util.Locale;
+
+/**
+ * Helper methods for SQL {@code LIKE} patterns.
+ */
+final class LikePatterns {
+    private LikePatterns() {
+    }
+
+    /**
+     * Returns the lower-case pattern matching values containing the text.
+     * <p>
+     * The wildcard characters in the text are escaped with the default escape character ({@code \}).
+     *
+     * @param text The text.
+     * @return The pattern.
+     */
+    static String contains(String text) {
+        String escaped = text.strip().toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return '%' + escaped + '%';
+    }
+}
@@ -0,0 +1,169 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import at.jku.dke.etutor.task_administration.data.repositories.MoodleSyncJobRepository;
+import at.jku.dke.etutor.task_administration.data.repositories.OrganizationalUnitRepository;
+import at.jku.dke.etutor.task_administration.data.repositories.TaskCategoryRepository;
+import at.jku.dke.etutor.task_administration.data.repositories.TaskRepository;
+import at.jku.dke.etutor.task_administration.moodle.MoodleConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Queues the synchronization of all entities which are not synchronized with moodle.
+ * <p>
+ * The reconciliation runs according to {@code moodle.sync-queue.reconciliation-cron} and can be started via the
+ * {@link MoodleSyncEndpoint}. It queues all organizational units and task categories without moodle-id and all
+ * approved tasks with {@code moodle_sync = false} (grouped by organizational unit). The jobs are executed by the
+ * {@link MoodleSyncDispatcher}, which limits the load on moodle.
+ */
+@Service
+public class MoodleReconciliationService implements SchedulingConfigurer {
+    private static final Logger LOG = LoggerFactory.getLogger(MoodleReconciliationService.class);
+    private static final int PAGE_SIZE = 500;
+
+    private final MoodleConfig config;
+    private final MoodleSyncQueue queue;
+    private final OrganizationalUnitRepository organizationalUnitRepository;
+    private final TaskCategoryRepository taskCategoryRepository;
+    private final TaskRepository taskRepository;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger organizationalUnits = new AtomicInteger();
+    private final AtomicInteger taskCategories = new AtomicInteger();
+    private final AtomicInteger tasks = new AtomicInteger();
+    private volatile OffsetDateTime startedAt;
+    private volatile OffsetDateTime finishedAt;
+
+    /**
+     * Creates a new instance of class {@link MoodleReconciliationService}.
+     *
+     * @param config                       The moodle configuration.
+     * @param queue                        The moodle sync queue.
+     * @param organizationalUnitRepository The organizational unit repository.
+     * @param taskCategoryRepository       The task category repository.
+     * @param taskRepository               The task repository.
+     */
+    public MoodleReconciliationService(MoodleConfig config, MoodleSyncQueue queue, OrganizationalUnitRepository organizationalUnitRepository,
+                                       TaskCategoryRepository taskCategoryRepository, TaskRepository taskRepository) {
+        this.config = config;
+        this.queue = queue;
+        this.organizationalUnitRepository = organizationalUnitRepository;
+        this.taskCategoryRepository = taskCategoryRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Schedules the reconciliation if the moodle synchronization is enabled and a cron expression is configured.
+     *
+     * @param taskRegistrar The task registrar.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        var cron = this.config.getSyncQueue().getReconciliationCron();
+        if (this.config.isEnabled() && cron != null && !cron.isBlank() && !cron.equals("-"))
+            taskRegistrar.addCronTask(this::reconcile, cron);
+    }
+
+    /**
+     * Queues the synchronization of all unsynchronized entities.
+     *
+     * @return {@code true} if the reconciliation has been executed; {@code false} if it is disabled or already running.
+     */
+    public boolean reconcile() {
+        if (this.config.isDisabled() || !this.running.compareAndSet(false, true))
+            return false;
+
+        try {
+            LOG.info("Starting moodle reconciliation");
+            this.startedAt = OffsetDateTime.now();
+            this.finishedAt = null;
+            this.organizationalUnits.set(0);
+            this.taskCategories.set(0);
+            this.tasks.set(0);
+
+            var ouIds = this.organizationalUnitRepository.findIdsByMoodleIdIsNull();
+            this.queue.enqueueAll(MoodleSyncEntityType.ORGANIZATIONAL_UNIT, ouIds);
+            this.organizationalUnits.set(ouIds.size());
+
+            var categoryIds = this.taskCategoryRepository.findIdsByMoodleIdIsNull();
+            this.queue.enqueueAll(MoodleSyncEntityType.TASK_CATEGORY, categoryIds);
+            this.taskCategories.set(categoryIds.size());
+
+            for (long ouId : this.taskRepository.findOrganizationalUnitIdsOfUnsyncedTasks(TaskStatus.APPROVED)) {
+                long afterId = 0;
+                List<Long> taskIds;
+                do {
+                    taskIds = this.taskRepository.findUnsyncedTaskIds(ouId, TaskStatus.APPROVED, afterId, Limit.of(PAGE_SIZE));
+                    this.queue.enqueueAll(MoodleSyncEntityType.TASK, taskIds);
+                    this.tasks.addAndGet(taskIds.size());
+                    if (!taskIds.isEmpty())
+                        afterId = taskIds.getLast();
+                } while (taskIds.size() == PAGE_SIZE);
+            }
+
+            this.finishedAt = OffsetDateTime.now();
+            LOG.info("Moodle reconciliation queued {} organizational units, {} task categories and {} tasks",
+                this.organizationalUnits.get(), this.taskCategories.get(), this.tasks.get());
+            return true;
+        } finally {
+            this.running.set(false);
+        }
+    }
+
+    /**
+     * Returns the state of the last reconciliation and of the queue.
+     *
+     * @return The status.
+     */
+    public Status getStatus() {
+        var run = this.startedAt == null ? null : new Run(this.startedAt, this.finishedAt,
+            this.organizationalUnits.get(), this.taskCategories.get(), this.tasks.get());
+        return new Status(this.running.get(), run, this.queue.getStatistics().stream()
+            .map(s -> new QueueStatistics(s.getEntityType(), s.getPending(), s.getFailing(), s.getOldestRequestedDate()))
+            .toList());
+    }
+
+    /**
+     * The state of the moodle synchronization.
+     *
+     * @param reconciliationRunning Whether a reconciliation is running.
+     * @param lastReconciliation    The current or last reconciliation or {@code null} if none has been started.
+     * @param queue                 The queued jobs per entity type.
+     */
+    public record Status(boolean reconciliationRunning, Run lastReconciliation, List<QueueStatistics> queue) {
+    }
+
+    /**
+     * A reconciliation run.
+     *
+     * @param startedAt           The start date.
+     * @param finishedAt          The end date or {@code null} if the reconciliation is running or failed.
+     * @param organizationalUnits The number of queued organizational units.
+     * @param taskCategories      The number of queued task categories.
+     * @param tasks               The number of queued tasks.
+     */
+    public record Run(OffsetDateTime startedAt, OffsetDateTime finishedAt, int organizationalUnits, int taskCategories, int tasks) {
+    }
+
+    /**
+     * The queued jobs of an entity type.
+     *
+     * @param entityType          The entity type.
+     * @param pending             The number of queued jobs.
+     * @param failing             The number of queued jobs which failed at least once.
+     * @param oldestRequestedDate The request date of the oldest job.
+     */
+    public record QueueStatistics(MoodleSyncEntityType entityType, long pending, long failing, OffsetDateTime oldestRequestedDate) {
+    }
+}
@@ -0,0 +1,149 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncJob;
+import at.jku.dke.etutor.task_administration.moodle.MoodleConfig;
+import at.jku.dke.etutor.task_administration.moodle.QuestionSyncContext;
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Executes the jobs of the {@link MoodleSyncQueue}.
+ * <p>
+ * The queue is polled every {@code moodle.sync-queue.poll-interval}; at most {@code moodle.sync-queue.batch-size}
+ * jobs are executed per poll, one after another and at most {@code moodle.sync-queue.max-jobs-per-second}. Failed jobs
+ * are retried with exponential backoff.
+ * <p>
+ * If question requests are batched ({@code moodle.question-batch.enabled}), the jobs are executed concurrently in groups
+ * of {@code moodle.question-batch.max-size} jobs of the same entity type and the rate limit applies to the groups
+ * instead of the single jobs. The task jobs of a poll share a {@link QuestionSyncContext}, so that task groups are
+ * loaded only once per poll.
+ */
+@Component
+public class MoodleSyncDispatcher implements SchedulingConfigurer {
+    private static final Logger LOG = LoggerFactory.getLogger(MoodleSyncDispatcher.class);
+
+    private final MoodleConfig config;
+    private final MoodleSyncQueue queue;
+    private final OrganizationalUnitService organizationalUnitService;
+    private final TaskCategoryService taskCategoryService;
+    private final TaskService taskService;
+    private final RateLimiter rateLimiter;
+
+    /**
+     * Creates a new instance of class {@link MoodleSyncDispatcher}.
+     *
+     * @param config                    The moodle configuration.
+     * @param queue                     The moodle sync queue.
+     * @param organizationalUnitService The organizational unit service.
+     * @param taskCategoryService       The task category service.
+     * @param taskService               The task service.
+     */
+    public MoodleSyncDispatcher(MoodleConfig config, MoodleSyncQueue queue, OrganizationalUnitService organizationalUnitService,
+                                TaskCategoryService taskCategoryService, TaskService taskService) {
+        this.config = config;
+        this.queue = queue;
+        this.organizationalUnitService = organizationalUnitService;
+        this.taskCategoryService = taskCategoryService;
+        this.taskService = taskService;
+        this.rateLimiter = RateLimiter.create(config.getSyncQueue().getMaxJobsPerSecond());
+    }
+
+    /**
+     * Schedules the dispatcher if the moodle synchronization is enabled.
+     *
+     * @param taskRegistrar The task registrar.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (this.config.isEnabled())
+            taskRegistrar.addFixedDelayTask(this::dispatch, this.config.getSyncQueue().getPollInterval());
+    }
+
+    /**
+     * Executes the due jobs.
+     *
+     * @return The number of executed jobs.
+     */
+    public int dispatch() {
+        var jobs = this.queue.claim(this.config.getSyncQueue().getBatchSize());
+        if (jobs.isEmpty())
+            return 0;
+
+        LOG.debug("Executing {} moodle synchronization jobs", jobs.size());
+        var context = new QuestionSyncContext();
+        if (!this.config.getQuestionBatch().isEnabled()) {
+            for (MoodleSyncJob job : jobs) {
+                this.rateLimiter.acquire();
+                this.run(job, context);
+            }
+            return jobs.size();
+        }
+
+        // execute the task jobs of a group concurrently, so that their question requests end up in the same batch request;
+        // task jobs do not hold a database connection while waiting for moodle (see TaskService#synchronizeMoodleObjects),
+        // the other jobs do and are therefore executed one by one
+        for (List<MoodleSyncJob> group : groupJobs(jobs, this.config.getQuestionBatch().getMaxSize())) {
+            this.rateLimiter.acquire();
+            if (group.getFirst().getEntityType() != MoodleSyncEntityType.TASK) {
+                group.forEach(job -> this.run(job, context));
+                continue;
+            }
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                group.forEach(job -> executor.execute(() -> this.run(job, context)));
+            }
+        }
+        return jobs.size();
+    }
+
+    /**
+     * Splits the jobs into groups of at most {@code maxSize} consecutive jobs of the same entity type.
+     * <p>
+     * As the jobs are ordered by entity type, organizational units and task categories are still synchronized
+     * before the tasks which reference them.
+     *
+     * @param jobs    The jobs.
+     * @param maxSize The maximum group size.
+     * @return The groups.
+     */
+    static List<List<MoodleSyncJob>> groupJobs(List<MoodleSyncJob> jobs, int maxSize) {
+        var groups = new ArrayList<List<MoodleSyncJob>>();
+        List<MoodleSyncJob> current = null;
+        for (MoodleSyncJob job : jobs) {
+            if (current == null || current.size() >= maxSize || current.getFirst().getEntityType() != job.getEntityType()) {
+                current = new ArrayList<>();
+                groups.add(current);
+            }
+            current.add(job);
+        }
+        return groups;
+    }
+
+    private void run(MoodleSyncJob job, QuestionSyncContext context) {
+        try {
+            if (this.execute(job, context))
+                this.queue.complete(job);
+            else
+                this.queue.fail(job, "Synchronization did not succeed");
+        } catch (RuntimeException ex) {
+            LOG.error("Moodle synchronization of {} {} failed", job.getEntityType(), job.getEntityId(), ex);
+            this.queue.fail(job, ex.getMessage());
+        }
+    }
+
+    private boolean execute(MoodleSyncJob job, QuestionSyncContext context) {
+        return switch (job.getEntityType()) {
+            case ORGANIZATIONAL_UNIT -> this.organizationalUnitService.synchronizeMoodleObjects(job.getEntityId());
+            case TASK_CATEGORY -> this.taskCategoryService.synchronizeMoodleObjects(job.getEntityId());
+            case TASK -> this.taskService.synchronizeMoodleObjects(job.getEntityId(), context);
+        };
+    }
+}
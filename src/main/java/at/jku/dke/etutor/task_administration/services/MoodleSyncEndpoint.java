@@ -0,0 +1,45 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint showing the progress of the moodle synchronization and starting the reconciliation.
+ */
+@Component
+@Endpoint(id = "moodlesync")
+public class MoodleSyncEndpoint {
+    private final MoodleReconciliationService reconciliationService;
+
+    /**
+     * Creates a new instance of class {@link MoodleSyncEndpoint}.
+     *
+     * @param reconciliationService The moodle reconciliation service.
+     */
+    public MoodleSyncEndpoint(MoodleReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    /**
+     * Returns the state of the last reconciliation and the queued jobs.
+     *
+     * @return The status.
+     */
+    @ReadOperation
+    public MoodleReconciliationService.Status status() {
+        return this.reconciliationService.getStatus();
+    }
+
+    /**
+     * Queues the synchronization of all unsynchronized entities.
+     *
+     * @return The status after the reconciliation.
+     */
+    @WriteOperation
+    public MoodleReconciliationService.Status reconcile() {
+        this.reconciliationService.reconcile();
+        return this.reconciliationService.getStatus();
+    }
+}
@@ -0,0 +1,173 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.converters.MoodleSyncEntityTypeConverter;
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncJob;
+import at.jku.dke.etutor.task_administration.data.repositories.MoodleSyncJobRepository;
+import at.jku.dke.etutor.task_administration.moodle.MoodleConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Persistent queue (outbox) of pending moodle synchronizations.
+ * <p>
+ * Synchronizations are requested in the transaction which modifies the entity, so that a request cannot get lost.
+ * Requests for an entity which is already queued are merged into the existing job. The jobs are executed by the
+ * {@link MoodleSyncDispatcher}.
+ * <p>
+ * A job becomes due {@code moodle.sync-queue.debounce} after the last request, but at most
+ * {@code moodle.sync-queue.max-debounce-delay} after its first request. Thus, an entity which is saved several times
+ * in a short period is synchronized only once with its latest state.
+ */
+@Service
+public class MoodleSyncQueue {
+    private static final Logger LOG = LoggerFactory.getLogger(MoodleSyncQueue.class);
+    private static final MoodleSyncEntityTypeConverter TYPE_CONVERTER = new MoodleSyncEntityTypeConverter();
+
+    private final MoodleSyncJobRepository repository;
+    private final MoodleConfig config;
+
+    /**
+     * Creates a new instance of class {@link MoodleSyncQueue}.
+     *
+     * @param repository The moodle sync job repository.
+     * @param config     The moodle configuration.
+     */
+    public MoodleSyncQueue(MoodleSyncJobRepository repository, MoodleConfig config) {
+        this.repository = repository;
+        this.config = config;
+    }
+
+    /**
+     * Requests the synchronization of the entity with moodle.
+     * <p>
+     * Does nothing if the moodle synchronization is disabled.
+     *
+     * @param entityType The entity type.
+     * @param entityId   The entity identifier.
+     */
+    @Transactional
+    public void enqueue(MoodleSyncEntityType entityType, long entityId) {
+        if (this.config.isDisabled())
+            return;
+
+        LOG.debug("Queueing moodle synchronization of {} {}", entityType, entityId);
+        var now = OffsetDateTime.now();
+        this.repository.upsert(TYPE_CONVERTER.convertToDatabaseColumn(entityType), entityId, now, this.getDueDate(now), this.getMaxDelaySeconds());
+    }
+
+    /**
+     * Requests the synchronization of the entities with moodle.
+     * <p>
+     * Does nothing if the moodle synchronization is disabled.
+     *
+     * @param entityType The entity type.
+     * @param entityIds  The entity identifiers.
+     */
+    @Transactional
+    public void enqueueAll(MoodleSyncEntityType entityType, Collection<Long> entityIds) {
+        if (this.config.isDisabled() || entityIds.isEmpty())
+            return;
+
+        LOG.debug("Queueing moodle synchronization of {} entities of type {}", entityIds.size(), entityType);
+        var type = TYPE_CONVERTER.convertToDatabaseColumn(entityType);
+        var now = OffsetDateTime.now();
+        var dueAt = this.getDueDate(now);
+        long maxDelay = this.getMaxDelaySeconds();
+        for (long id : entityIds)
+            this.repository.upsert(type, id, now, dueAt, maxDelay);
+    }
+
+    private OffsetDateTime getDueDate(OffsetDateTime now) {
+        return now.plus(this.getDelay());
+    }
+
+    private Duration getDelay() {
+        var queueConfig = this.config.getSyncQueue();
+        return queueConfig.getDebounce().compareTo(queueConfig.getMaxDebounceDelay()) < 0 ? queueConfig.getDebounce() : queueConfig.getMaxDebounceDelay();
+    }
+
+    private long getMaxDelaySeconds() {
+        return this.config.getSyncQueue().getMaxDebounceDelay().toSeconds();
+    }
+
+    /**
+     * Returns the number of queued jobs per entity type.
+     *
+     * @return The statistics.
+     */
+    @Transactional(readOnly = true)
+    public List<MoodleSyncJobRepository.Statistics> getStatistics() {
+        return this.repository.getStatistics();
+    }
+
+    /**
+     * Reserves the due jobs for execution.
+     *
+     * @param limit The maximum number of jobs.
+     * @return The reserved jobs.
+     */
+    @Transactional
+    public List<MoodleSyncJob> claim(int limit) {
+        var now = OffsetDateTime.now();
+        var lockedUntil = now.plus(this.config.getSyncQueue().getLockDuration());
+        var jobs = this.repository.findDueForUpdate(now, limit);
+        jobs.forEach(job -> job.setLockedUntil(lockedUntil));
+        return jobs;
+    }
+
+    /**
+     * Removes the successfully executed job from the queue.
+     * <p>
+     * If the synchronization has been requested again while the job was running, the job is kept and debounced as if
+     * it had been first requested by the latest request.
+     *
+     * @param job The executed job.
+     */
+    @Transactional
+    public void complete(MoodleSyncJob job) {
+        if (this.repository.deleteByIdAndRevision(job.getId(), job.getRevision()) == 0) {
+            LOG.debug("Moodle synchronization of {} {} has been requested again while running", job.getEntityType(), job.getEntityId());
+            this.repository.requeue(job.getId(), this.getDelay().toSeconds());
+        }
+    }
+
+    /**
+     * Schedules the failed job for a retry.
+     * <p>
+     * If the synchronization has been requested again while the job was running, the job is not delayed by the backoff,
+     * but debounced as if it had been first requested by the latest request.
+     *
+     * @param job   The executed job.
+     * @param error The error message.
+     */
+    @Transactional
+    public void fail(MoodleSyncJob job, String error) {
+        int attempts = job.getAttempts() + 1;
+        var backoff = getBackoff(attempts, this.config.getSyncQueue());
+        LOG.warn("Moodle synchronization of {} {} failed (attempt {}), retrying in {}: {}", job.getEntityType(), job.getEntityId(), attempts, backoff, error);
+        if (this.repository.markFailed(job.getId(), job.getRevision(), OffsetDateTime.now().plus(backoff), error) == 0)
+            this.repository.requeue(job.getId(), this.getDelay().toSeconds());
+    }
+
+    /**
+     * Returns the delay before the next attempt.
+     *
+     * @param attempts The number of failed attempts.
+     * @param config   The queue configuration.
+     * @return The delay.
+     */
+    static Duration getBackoff(int attempts, MoodleConfig.SyncQueueConfig config) {
+        var backoff = config.getInitialBackoff();
+        for (int i = 1; i < attempts && backoff.compareTo(config.getMaxBackoff()) < 0; i++)
+            backoff = backoff.multipliedBy(2);
+        return backoff.compareTo(config.getMaxBackoff()) > 0 ? config.getMaxBackoff() : backoff;
+    }
+}
@@ -1,6 +1,7 @@
 package at.jku.dke.etutor.task_administration.services;
 
 import at.jku.dke.etutor.task_administration.auth.AuthConstants;
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
 import at.jku.dke.etutor.task_administration.data.entities.OrganizationalUnit;
 import at.jku.dke.etutor.task_administration.data.repositories.OrganizationalUnitRepository;
 import at.jku.dke.etutor.task_administration.dto.ModifyOrganizationalUnitDto;
@@ -28,16 +29,19 @@ public class OrganizationalUnitService {
 
     private final OrganizationalUnitRepository repository;
     private final CourseCategoryService courseCategoryService;
+    private final MoodleSyncQueue moodleSyncQueue;
 
     /**
      * Creates a new instance of class {@link OrganizationalUnitService}.
      *
      * @param repository            The organizational unit repository.
      * @param courseCategoryService The course category service.
+     * @param moodleSyncQueue       The moodle sync queue.
      */
-    public OrganizationalUnitService(OrganizationalUnitRepository repository, CourseCategoryService courseCategoryService) {
+    public OrganizationalUnitService(OrganizationalUnitRepository repository, CourseCategoryService courseCategoryService, MoodleSyncQueue moodleSyncQueue) {
         this.repository = repository;
         this.courseCategoryService = courseCategoryService;
+        this.moodleSyncQueue = moodleSyncQueue;
     }
 
     //#region --- View ---
@@ -88,7 +92,7 @@ public OrganizationalUnit create(ModifyOrganizationalUnitDto dto) {
         organizationalUnit.setName(dto.name());
         organizationalUnit = this.repository.save(organizationalUnit);
 
-        this.createMoodleObjectsForOrganizationalUnit(organizationalUnit);
+        this.moodleSyncQueue.enqueue(MoodleSyncEntityType.ORGANIZATIONAL_UNIT, organizationalUnit.getId());
         return organizationalUnit;
     }
 
@@ -112,7 +116,7 @@ public void update(long id, ModifyOrganizationalUnitDto dto, Instant concurrency
         LOG.info("Updating organizational unit {}", id);
         organizationalUnit.setName(dto.name());
         organizationalUnit = this.repository.save(organizationalUnit);
-        this.updateMoodleObjectsForOrganizationalUnit(organizationalUnit);
+        this.moodleSyncQueue.enqueue(MoodleSyncEntityType.ORGANIZATIONAL_UNIT, organizationalUnit.getId());
     }
 
     /**
@@ -132,44 +136,67 @@ public void delete(long id) {
     //#region --- Moodle ---
 
     /**
-     * Called when an organizational unit has been created.
+     * Creates the moodle course category for the organizational unit.
      *
      * @param organizationalUnit The organizational unit.
+     * @return {@code true} if the course category exists; {@code false} if it could not be created.
      */
-    public void createMoodleObjectsForOrganizationalUnit(OrganizationalUnit organizationalUnit) {
+    public boolean createMoodleObjectsForOrganizationalUnit(OrganizationalUnit organizationalUnit) {
         if (organizationalUnit.getMoodleId() != null)
-            return;
-
-        LOG.debug("Triggering course category creation for organizational unit {}", organizationalUnit.getId());
-        this.courseCategoryService.createCourseCategory(organizationalUnit).thenAccept(moodleId -> {
-            if (moodleId.isPresent()) {
-                LOG.info("Setting moodle-id for organizational unit {} to {}", organizationalUnit.getId(), moodleId.get());
-                organizationalUnit.setMoodleId(moodleId.get());
-                this.repository.save(organizationalUnit);
-            }
-        });
+            return true;
+
+        LOG.debug("Creating course category for organizational unit {}", organizationalUnit.getId());
+        var moodleId = this.courseCategoryService.createCourseCategory(organizationalUnit).join();
+        if (moodleId.isEmpty())
+            return false;
+
+        LOG.info("Setting moodle-id for organizational unit {} to {}", organizationalUnit.getId(), moodleId.get());
+        organizationalUnit.setMoodleId(moodleId.get());
+        this.repository.save(organizationalUnit);
+        return true;
     }
 
     /**
-     * Called when an organizational unit has been updated.
+     * Updates the moodle course category of the organizational unit.
      *
      * @param organizationalUnit The organizational unit.
+     * @return {@code true} if the course category has been updated; {@code false} otherwise.
      */
-    public void updateMoodleObjectsForOrganizationalUnit(OrganizationalUnit organizationalUnit) {
-        LOG.debug("Triggering course category update for organizational unit {}", organizationalUnit.getId());
-        this.courseCategoryService.updateCourseCategory(organizationalUnit);
+    public boolean updateMoodleObjectsForOrganizationalUnit(OrganizationalUnit organizationalUnit) {
+        LOG.debug("Updating course category for organizational unit {}", organizationalUnit.getId());
+        return this.courseCategoryService.updateCourseCategory(organizationalUnit);
     }
 
     /**
-     * Synchronizes the organizational unit with the Moodle course category.
+     * Requests the synchronization of the organizational unit with the Moodle course category.
      *
      * @param id The organizational unit id.
      * @throws EntityNotFoundException If the organizational unit does not exist.
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public void createMoodleObjectsForOrganizationalUnit(long id) {
-        var organizationalUnit = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Organizational unit " + id + " does not exist."));
-        this.createMoodleObjectsForOrganizationalUnit(organizationalUnit);
+        if (!this.repository.existsById(id))
+            throw new EntityNotFoundException("Organizational unit " + id + " does not exist.");
+        this.moodleSyncQueue.enqueue(MoodleSyncEntityType.ORGANIZATIONAL_UNIT, id);
+    }
+
+    /**
+     * Synchronizes the organizational unit with the Moodle course category (called by {@link MoodleSyncDispatcher}).
+     *
+     * @param id The organizational unit id.
+     * @return {@code true} if the synchronization succeeded or is not necessary anymore; {@code false} otherwise.
+     */
+    @Transactional
+    public boolean synchronizeMoodleObjects(long id) {
+        var organizationalUnit = this.repository.findById(id).orElse(null);
+        if (organizationalUnit == null) {
+            LOG.debug("Skipping moodle synchronization of deleted organizational unit {}", id);
+            return true;
+        }
+
+        if (organizationalUnit.getMoodleId() == null)
+            return this.createMoodleObjectsForOrganizationalUnit(organizationalUnit);
+        return this.updateMoodleObjectsForOrganizationalUnit(organizationalUnit);
     }
 
     //#endregion
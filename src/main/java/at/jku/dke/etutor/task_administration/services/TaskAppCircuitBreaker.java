@@ -0,0 +1,150 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breaker and bulkhead for the requests to a single task app.
+ * <p>
+ * The circuit opens after {@link TaskAppConfig.CircuitBreakerConfig#getFailureThreshold()} consecutive failures.
+ * While open, requests are rejected immediately. After {@link TaskAppConfig.CircuitBreakerConfig#getOpenDuration()}
+ * the circuit becomes half-open and a limited number of probe requests is sent; the circuit closes if a probe
+ * succeeds and opens again if a probe fails. Independent of the state, the number of concurrent requests is limited by
+ * {@link TaskAppConfig#getMaxConcurrentCalls()}.
+ */
+public class TaskAppCircuitBreaker {
+    private static final Logger LOG = LoggerFactory.getLogger(TaskAppCircuitBreaker.class);
+
+    private final String taskType;
+    private final TaskAppConfig.CircuitBreakerConfig config;
+    private final int maxConcurrentCalls;
+    private final Clock clock;
+    private final Semaphore bulkhead;
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int halfOpenCalls;
+    private Instant openedAt;
+
+    /**
+     * Creates a new instance of class {@link TaskAppCircuitBreaker}.
+     *
+     * @param taskType The task type.
+     * @param config   The task app configuration.
+     * @param clock    The clock.
+     */
+    public TaskAppCircuitBreaker(String taskType, TaskAppConfig config, Clock clock) {
+        this.taskType = taskType;
+        this.config = config.getCircuitBreaker();
+        this.maxConcurrentCalls = config.getMaxConcurrentCalls();
+        this.clock = clock;
+        this.bulkhead = new Semaphore(this.maxConcurrentCalls);
+    }
+
+    /**
+     * Acquires the permission to send a request to the task app.
+     * <p>
+     * Every successful call must be followed by exactly one call of {@link #release(boolean)}.
+     *
+     * @throws ResponseStatusException If the circuit is open or too many requests are running (status 503).
+     */
+    public void acquire() {
+        if (!this.bulkhead.tryAcquire()) {
+            this.rejectedCalls.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent requests to task app " + this.taskType + '.');
+        }
+
+        synchronized (this) {
+            if (this.state == State.OPEN && !this.clock.instant().isBefore(this.openedAt.plus(this.config.getOpenDuration()))) {
+                LOG.info("Circuit of task app {} is half-open", this.taskType);
+                this.state = State.HALF_OPEN;
+                this.halfOpenCalls = 0;
+            }
+            if (this.state == State.HALF_OPEN && this.halfOpenCalls < this.config.getHalfOpenMaxCalls()) {
+                this.halfOpenCalls++;
+                return;
+            }
+            if (this.state == State.CLOSED)
+                return;
+        }
+
+        this.bulkhead.release();
+        this.rejectedCalls.incrementAndGet();
+        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Task app " + this.taskType + " is currently unavailable.");
+    }
+
+    /**
+     * Releases the permission acquired by {@link #acquire()} and records the outcome of the request.
+     *
+     * @param success Whether the request succeeded.
+     */
+    public void release(boolean success) {
+        this.bulkhead.release();
+
+        synchronized (this) {
+            if (success) {
+                if (this.state == State.HALF_OPEN)
+                    LOG.info("Circuit of task app {} is closed", this.taskType);
+                this.state = State.CLOSED;
+                this.consecutiveFailures = 0;
+                return;
+            }
+
+            this.consecutiveFailures++;
+            if (this.state == State.HALF_OPEN || (this.state == State.CLOSED && this.consecutiveFailures >= this.config.getFailureThreshold())) {
+                LOG.warn("Circuit of task app {} is open after {} consecutive failures", this.taskType, this.consecutiveFailures);
+                this.state = State.OPEN;
+                this.openedAt = this.clock.instant();
+            }
+        }
+    }
+
+    /**
+     * Returns the current state of the circuit breaker.
+     *
+     * @return The snapshot of the current state.
+     */
+    public synchronized Snapshot getSnapshot() {
+        return new Snapshot(this.state, this.consecutiveFailures, this.openedAt,
+            this.maxConcurrentCalls - this.bulkhead.availablePermits(), this.maxConcurrentCalls, this.rejectedCalls.get());
+    }
+
+    /**
+     * The state of a circuit.
+     */
+    public enum State {
+        /**
+         * Requests are sent to the task app.
+         */
+        CLOSED,
+        /**
+         * Requests are rejected.
+         */
+        OPEN,
+        /**
+         * A limited number of probe requests is sent to the task app.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * The state of the circuit breaker at a specific point in time.
+     *
+     * @param state               The state of the circuit.
+     * @param consecutiveFailures The number of consecutive failures.
+     * @param openedAt            The date when the circuit has been opened the last time or {@code null}.
+     * @param activeCalls         The number of running requests.
+     * @param maxConcurrentCalls  The maximum number of concurrent requests.
+     * @param rejectedCalls       The total number of rejected requests.
+     */
+    public record Snapshot(State state, int consecutiveFailures, Instant openedAt, int activeCalls, int maxConcurrentCalls, long rejectedCalls) {
+    }
+}
@@ -0,0 +1,58 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint showing the circuit breaker and bulkhead states of the task apps.
+ */
+@Component
+@Endpoint(id = "taskapps")
+public class TaskAppCircuitBreakerEndpoint {
+    private final TaskAppCircuitBreakerRegistry registry;
+
+    /**
+     * Creates a new instance of class {@link TaskAppCircuitBreakerEndpoint}.
+     *
+     * @param registry The circuit breaker registry.
+     */
+    public TaskAppCircuitBreakerEndpoint(TaskAppCircuitBreakerRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the states of all task apps which have been requested since startup.
+     *
+     * @return The states (key: task type).
+     */
+    @ReadOperation
+    public Map<String, TaskAppCircuitBreaker.Snapshot> taskApps() {
+        return this.registry.getSnapshots();
+    }
+
+    /**
+     * Returns the state of the specified task app.
+     *
+     * @param taskType The task type.
+     * @return The state or {@code null} if the task app has not been requested yet.
+     */
+    @ReadOperation
+    public TaskAppCircuitBreaker.Snapshot taskApp(@Selector String taskType) {
+        return this.registry.getSnapshots().get(taskType);
+    }
+
+    /**
+     * Resets the circuit breaker of the specified task app.
+     *
+     * @param taskType The task type.
+     */
+    @DeleteOperation
+    public void reset(@Selector String taskType) {
+        this.registry.reset(taskType);
+    }
+}
@@ -0,0 +1,57 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds one {@link TaskAppCircuitBreaker} per task type.
+ */
+@Component
+public class TaskAppCircuitBreakerRegistry {
+    private final TaskAppConfig config;
+    private final ConcurrentMap<String, TaskAppCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance of class {@link TaskAppCircuitBreakerRegistry}.
+     *
+     * @param config The task app configuration.
+     */
+    public TaskAppCircuitBreakerRegistry(TaskAppConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Returns the circuit breaker for the specified task type.
+     *
+     * @param taskType The task type.
+     * @return The circuit breaker.
+     */
+    public TaskAppCircuitBreaker get(String taskType) {
+        return this.circuitBreakers.computeIfAbsent(taskType, t -> new TaskAppCircuitBreaker(t, this.config, Clock.systemUTC()));
+    }
+
+    /**
+     * Resets the circuit breaker for the specified task type.
+     *
+     * @param taskType The task type.
+     */
+    public void reset(String taskType) {
+        this.circuitBreakers.remove(taskType);
+    }
+
+    /**
+     * Returns the current states of all circuit breakers.
+     *
+     * @return The states (key: task type).
+     */
+    public Map<String, TaskAppCircuitBreaker.Snapshot> getSnapshots() {
+        var result = new TreeMap<String, TaskAppCircuitBreaker.Snapshot>();
+        this.circuitBreakers.forEach((taskType, circuitBreaker) -> result.put(taskType, circuitBreaker.getSnapshot()));
+        return result;
+    }
+}
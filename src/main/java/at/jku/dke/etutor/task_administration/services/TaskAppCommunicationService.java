@@ -1,15 +1,12 @@
 package at.jku.dke.etutor.task_administration.services;
 
-import at.jku.dke.etutor.task_administration.data.entities.TaskApp;
-import at.jku.dke.etutor.task_administration.data.repositories.TaskAppRepository;
 import at.jku.dke.etutor.task_administration.dto.*;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
 import jakarta.servlet.http.HttpServletRequest;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.function.TriFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.InputStreamResource;
@@ -18,19 +15,21 @@
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
-import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
 
 /**
  * Service for communication with the task apps.
@@ -38,18 +37,42 @@
 @Service
 public class TaskAppCommunicationService {
     private static final Logger LOG = LoggerFactory.getLogger(TaskAppCommunicationService.class);
-    private final TaskAppRepository taskAppRepository;
+    private static final int UNKNOWN_LENGTH_RESERVATION = 1024 * 1024;
+    private static final int IN_FLIGHT_WAIT_SECONDS = 5;
+    private final TaskAppRoutingTable routingTable;
+    private final TaskAppHttpClientRegistry httpClientRegistry;
+    private final TaskAppCircuitBreakerRegistry circuitBreakers;
+    private final TaskAppDataCache dataCache;
+    private final ForwardRoutePolicy routePolicy;
     private final ObjectMapper objectMapper;
+    private final int maxInFlightBytes;
+    private final int batchSize;
+    private final int batchParallelism;
+    private final Semaphore inFlightBytes;
 
     /**
      * Creates a new instance of class {@link TaskAppCommunicationService}.
      *
-     * @param taskAppRepository The repository for the task apps.
-     * @param objectMapper      The JSON object mapper.
+     * @param routingTable       The routing table for the task apps.
+     * @param httpClientRegistry The HTTP client registry for the task apps.
+     * @param circuitBreakers    The circuit breakers for the task apps.
+     * @param dataCache          The cache for the additional data.
+     * @param routePolicy        The policy deciding which requests may be forwarded.
+     * @param objectMapper       The JSON object mapper.
+     * @param config             The task app configuration.
      */
-    public TaskAppCommunicationService(TaskAppRepository taskAppRepository, ObjectMapper objectMapper) {
-        this.taskAppRepository = taskAppRepository;
+    public TaskAppCommunicationService(TaskAppRoutingTable routingTable, TaskAppHttpClientRegistry httpClientRegistry, TaskAppCircuitBreakerRegistry circuitBreakers,
+                                       TaskAppDataCache dataCache, ForwardRoutePolicy routePolicy, ObjectMapper objectMapper, TaskAppConfig config) {
+        this.routingTable = routingTable;
+        this.httpClientRegistry = httpClientRegistry;
+        this.circuitBreakers = circuitBreakers;
+        this.dataCache = dataCache;
+        this.routePolicy = routePolicy;
         this.objectMapper = objectMapper;
+        this.maxInFlightBytes = (int) Math.min(Integer.MAX_VALUE, config.getForwardMaxInFlight().toBytes());
+        this.batchSize = config.getAdditionalDataBatchSize();
+        this.batchParallelism = config.getExportConcurrency();
+        this.inFlightBytes = new Semaphore(this.maxInFlightBytes);
     }
 
     //#region --- TaskGroup ---
@@ -63,34 +86,79 @@ public TaskAppCommunicationService(TaskAppRepository taskAppRepository, ObjectMa
      * @throws ResponseStatusException If the request failed.
      */
     public Map<String, Object> getTaskGroupAdditionalData(long taskGroupId, String taskGroupType) {
-        try {
-            var requestBuilder = this.prepareHttpRequest(taskGroupType, "api/taskGroup@@TASKGROUP@@/" + taskGroupId);
-            if (requestBuilder == null)
-                return null;
+        return await(this.getTaskGroupAdditionalDataAsync(taskGroupId, taskGroupType));
+    }
 
-            LOG.info("Requesting additional data for task group {} of type {}.", taskGroupId, taskGroupType);
-            HttpRequest request = requestBuilder.GET().build();
-            try (HttpClient client = HttpClient.newBuilder().build()) {
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-                if (response.statusCode() == 200) {
-                    //noinspection unchecked
-                    return this.objectMapper.readValue(response.body(), Map.class);
-                } else {
-                    LOG.error("Request for additional data of task group {} failed with status code {}.", taskGroupId, response.statusCode());
-                    throwExceptionIfBodyContainsMessage(response, "Request for additional data failed");
-                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for additional data failed.");
-                }
-            }
+    /**
+     * Requests the additional data for the specified task group without blocking the calling thread.
+     * <p>
+     * The additional data is cached until the task group is modified or the cache entry expires.
+     *
+     * @param taskGroupId   The task group identifier.
+     * @param taskGroupType The task group type.
+     * @return The future completing with the additional data or {@code null} if no task app was found;
+     * completes exceptionally with a {@link ResponseStatusException} if the request failed.
+     */
+    public CompletableFuture<Map<String, Object>> getTaskGroupAdditionalDataAsync(long taskGroupId, String taskGroupType) {
+        var cached = this.dataCache.getTaskGroup(taskGroupId, taskGroupType);
+        if (cached != null)
+            return CompletableFuture.completedFuture(cached);
+
+        PreparedRequest prepared;
+        try {
+            prepared = this.prepareHttpRequest(taskGroupType, r -> r.taskGroupUrl() + '/' + taskGroupId);
         } catch (URISyntaxException ex) {
             LOG.error("Could not build URL to request additional data of task group {}", taskGroupId, ex);
-        } catch (ConnectException ex) {
-            LOG.error("Could not connect to task app {}", taskGroupType, ex);
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
-        } catch (IOException | InterruptedException ex) {
-            LOG.error("Request for additional data of task group {} failed.", taskGroupId, ex);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Request for additional data failed.", ex);
+            return CompletableFuture.completedFuture(null);
         }
-        return null;
+        if (prepared == null)
+            return CompletableFuture.completedFuture(null);
+
+        LOG.info("Requesting additional data for task group {} of type {}.", taskGroupId, taskGroupType);
+        long generation = this.dataCache.getTaskGroupGeneration(taskGroupId, taskGroupType);
+        HttpRequest request = prepared.builder().GET().build();
+        return this.send(prepared, request, HttpResponse.BodyHandlers.ofString(), taskGroupType, "Request for additional data failed", response -> {
+            if (response.statusCode() == 200)
+                return this.dataCache.putTaskGroup(taskGroupId, taskGroupType, generation, this.objectMapper.readValue(response.body(), new TypeReference<>() {
+                }));
+
+            LOG.error("Request for additional data of task group {} failed with status code {}.", taskGroupId, response.statusCode());
+            throwExceptionIfBodyContainsMessage(response, "Request for additional data failed");
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for additional data failed.");
+        });
+    }
+
+    /**
+     * Returns the additional data for the specified task groups.
+     *
+     * @param taskGroupIds  The task group identifiers.
+     * @param taskGroupType The task group type of all task groups.
+     * @return The additional data (key: task group identifier) or {@code null} if no task app was found.
+     * @throws ResponseStatusException If the request failed.
+     * @see #getTaskGroupsAdditionalDataAsync(Collection, String)
+     */
+    public Map<Long, Map<String, Object>> getTaskGroupsAdditionalData(Collection<Long> taskGroupIds, String taskGroupType) {
+        return await(this.getTaskGroupsAdditionalDataAsync(taskGroupIds, taskGroupType));
+    }
+
+    /**
+     * Requests the additional data for the specified task groups without blocking the calling thread.
+     * <p>
+     * If the task app supports batch requests ({@link TaskAppRoute#batchSupport()}), the data is requested in chunks via
+     * {@code POST api/taskGroup[/prefix]/batch}; otherwise the task groups are requested one by one with a limited
+     * number of concurrent requests. Task groups whose data could not be loaded are not contained in the result.
+     *
+     * @param taskGroupIds  The task group identifiers.
+     * @param taskGroupType The task group type of all task groups.
+     * @return The future completing with the additional data (key: task group identifier) or {@code null} if no task
+     * app was found; completes exceptionally with a {@link ResponseStatusException} if a batch request failed.
+     */
+    public CompletableFuture<Map<Long, Map<String, Object>>> getTaskGroupsAdditionalDataAsync(Collection<Long> taskGroupIds, String taskGroupType) {
+        return this.getAdditionalDataBatchAsync(taskGroupIds, taskGroupType, "task group", TaskAppRoute::taskGroupUrl,
+            id -> this.dataCache.getTaskGroup(id, taskGroupType),
+            id -> this.dataCache.getTaskGroupGeneration(id, taskGroupType),
+            (id, generation, data) -> this.dataCache.putTaskGroup(id, taskGroupType, generation, data),
+            id -> this.getTaskGroupAdditionalDataAsync(id, taskGroupType));
     }
 
     /**
@@ -102,36 +170,43 @@ public Map<String, Object> getTaskGroupAdditionalData(long taskGroupId, String t
      * @throws ResponseStatusException If the request failed.
      */
     public TaskGroupModificationResponseDto createTaskGroup(long id, ModifyTaskGroupDto data) {
-        try {
-            var requestBuilder = this.prepareHttpRequest(data.taskGroupType(), "api/taskGroup@@TASKGROUP@@/" + id);
-            if (requestBuilder == null)
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Unknown task group type.");
+        return await(this.createTaskGroupAsync(id, data));
+    }
 
-            LOG.info("Creating task group {} of type {}.", id, data.taskGroupType());
-            String json = this.objectMapper.writeValueAsString(data);
-            HttpRequest request = requestBuilder
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(json))
-                .build();
-            try (HttpClient client = HttpClient.newBuilder().build()) {
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-                if (response.statusCode() != 201) {
-                    LOG.error("Request for creating {}-task group failed with status code {} and body {}.", data.taskGroupType(), response.statusCode(), response.body());
-                    throwExceptionIfBodyContainsMessage(response, "Request for creating task group failed");
-                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for creating task group failed.");
-                }
-                return this.objectMapper.readValue(response.body(), TaskGroupModificationResponseDto.class);
-            }
+    /**
+     * Creates a new task group without blocking the calling thread.
+     *
+     * @param id   The identifier of the task group.
+     * @param data The data for the task group.
+     * @return The future completing with the response data received from the task app;
+     * completes exceptionally with a {@link ResponseStatusException} if the request failed.
+     * @throws ResponseStatusException If the request could not be prepared.
+     */
+    public CompletableFuture<TaskGroupModificationResponseDto> createTaskGroupAsync(long id, ModifyTaskGroupDto data) {
+        PreparedRequest prepared;
+        try {
+            prepared = this.prepareHttpRequest(data.taskGroupType(), r -> r.taskGroupUrl() + '/' + id);
         } catch (URISyntaxException ex) {
             LOG.error("Could not build URL to create new {}-task group.", data.taskGroupType(), ex);
-        } catch (ConnectException ex) {
-            LOG.error("Could not connect to task app {}", data.taskGroupType(), ex);
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
-        } catch (IOException | InterruptedException ex) {
-            LOG.error("Request for for creating {}-task group failed", data.taskGroupType(), ex);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Request for creating task group failed.", ex);
+            return CompletableFuture.completedFuture(null);
         }
-        return null;
+        if (prepared == null)
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Unknown task group type.");
+
+        LOG.info("Creating task group {} of type {}.", id, data.taskGroupType());
+        HttpRequest request = prepared.builder()
+            .header("Content-Type", "application/json")
+            .POST(this.jsonBody(data, "Request for creating task group failed"))
+            .build();
+        this.dataCache.invalidateTaskGroup(id, data.taskGroupType());
+        return this.send(prepared, request, HttpResponse.BodyHandlers.ofString(), data.taskGroupType(), "Request for creating task group failed", response -> {
+            if (response.statusCode() != 201) {
+                LOG.error("Request for creating {}-task group failed with status code {} and body {}.", data.taskGroupType(), response.statusCode(), response.body());
+                throwExceptionIfBodyContainsMessage(response, "Request for creating task group failed");
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for creating task group failed.");
+            }
+            return this.objectMapper.readValue(response.body(), TaskGroupModificationResponseDto.class);
+        }).whenComplete((result, ex) -> this.dataCache.invalidateTaskGroup(id, data.taskGroupType()));
     }
 
     /**
@@ -143,38 +218,44 @@ public TaskGroupModificationResponseDto createTaskGroup(long id, ModifyTaskGroup
      * @throws ResponseStatusException If the request failed.
      */
     public TaskGroupModificationResponseDto updateTaskGroup(long id, ModifyTaskGroupDto data) {
-        try {
-            var requestBuilder = this.prepareHttpRequest(data.taskGroupType(), "api/taskGroup@@TASKGROUP@@/" + id);
-            if (requestBuilder == null)
-                return null;
+        return await(this.updateTaskGroupAsync(id, data));
+    }
 
-            LOG.info("Updating task group {} of type {}.", id, data.taskGroupType());
-            String json = this.objectMapper.writeValueAsString(data);
-            HttpRequest request = requestBuilder
-                .header("Content-Type", "application/json")
-                .PUT(HttpRequest.BodyPublishers.ofString(json))
-                .build();
-            try (HttpClient client = HttpClient.newBuilder().build()) {
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-                if (response.statusCode() == 200)
-                    return this.objectMapper.readValue(response.body(), TaskGroupModificationResponseDto.class);
-                if (response.statusCode() == 204)
-                    return null;
-
-                LOG.error("Request for updating task group {} failed with status code {} and body {}.", id, response.statusCode(), response.body());
-                throwExceptionIfBodyContainsMessage(response, "Request for updating task group failed");
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for updating task group failed.");
-            }
+    /**
+     * Updates an existing task group without blocking the calling thread.
+     *
+     * @param id   The identifier of the task group.
+     * @param data The data for the task group.
+     * @return The future completing with the response data received from the task app;
+     * completes exceptionally with a {@link ResponseStatusException} if the request failed.
+     */
+    public CompletableFuture<TaskGroupModificationResponseDto> updateTaskGroupAsync(long id, ModifyTaskGroupDto data) {
+        PreparedRequest prepared;
+        try {
+            prepared = this.prepareHttpRequest(data.taskGroupType(), r -> r.taskGroupUrl() + '/' + id);
         } catch (URISyntaxException ex) {
             LOG.error("Could not build URL to update existing task group {}", id, ex);
-        } catch (ConnectException ex) {
-            LOG.error("Could not connect to task app {}", data.taskGroupType(), ex);
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
-        } catch (IOException | InterruptedException ex) {
-            LOG.error("Request for for updating task group {} failed", id, ex);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Request for updating task group failed.", ex);
+            return CompletableFuture.completedFuture(null);
         }
-        return null;
+        if (prepared == null)
+            return CompletableFuture.completedFuture(null);
+
+        LOG.info("Updating task group {} of type {}.", id, data.taskGroupType());
+        HttpRequest request = prepared.builder()
+            .header("Content-Type", "application/json")
+            .PUT(this.jsonBody(data, "Request for updating task group failed"))
+            .build();
+        this.dataCache.invalidateTaskGroup(id, data.taskGroupType());
+        return this.send(prepared, request, HttpResponse.BodyHandlers.ofString(), data.taskGroupType(), "Request for updating task group failed", response -> {
+            if (response.statusCode() == 200)
+                return this.objectMapper.readValue(response.body(), TaskGroupModificationResponseDto.class);
+            if (response.statusCode() == 204)
+                return null;
+
+            LOG.error("Request for updating task group {} failed with status code {} and body {}.", id, response.statusCode(), response.body());
+            throwExceptionIfBodyContainsMessage(response, "Request for updating task group failed");
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for updating task group failed.");
+        }).whenComplete((result, ex) -> this.dataCache.invalidateTaskGroup(id, data.taskGroupType()));
     }
 
     /**
@@ -185,32 +266,41 @@ public TaskGroupModificationResponseDto updateTaskGroup(long id, ModifyTaskGroup
      * @throws ResponseStatusException If the request failed.
      */
     public void deleteTaskGroup(long id, String taskGroupType) {
-        try {
-            var requestBuilder = this.prepareHttpRequest(taskGroupType, "api/taskGroup@@TASKGROUP@@/" + id);
-            if (requestBuilder == null)
-                return;
+        await(this.deleteTaskGroupAsync(id, taskGroupType));
+    }
 
-            LOG.info("Deleting task group {} of type {}.", id, taskGroupType);
-            HttpRequest request = requestBuilder
-                .DELETE()
-                .build();
-            try (HttpClient client = HttpClient.newBuilder().build()) {
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-                if (response.statusCode() != 204) {
-                    LOG.error("Request for deleting task group {} failed with status code {} and body {}.", id, response.statusCode(), response.body());
-                    throwExceptionIfBodyContainsMessage(response, "Request for deleting task group failed");
-                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for deleting task group failed.");
-                }
-            }
+    /**
+     * Deletes an existing task group without blocking the calling thread.
+     *
+     * @param id            The identifier of the task group.
+     * @param taskGroupType The task group type.
+     * @return The future completing when the task group has been deleted;
+     * completes exceptionally with a {@link ResponseStatusException} if the request failed.
+     */
+    public CompletableFuture<Void> deleteTaskGroupAsync(long id, String taskGroupType) {
+        PreparedRequest prepared;
+        try {
+            prepared = this.prepareHttpRequest(taskGroupType, r -> r.taskGroupUrl() + '/' + id);
         } catch (URISyntaxException ex) {
             LOG.error("Could not build URL to delete existing task group {}", id, ex);
-        } catch (ConnectException ex) {
-            LOG.error("Could not connect to task app {}", taskGroupType, ex);
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
-        } catch (IOException | InterruptedException ex) {
-            LOG.error("Request for for deleting task group {} failed", id, ex);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Request for deleting task group failed.", ex);
+            return CompletableFuture.completedFuture(null);
         }
+        if (prepared == null)
+            return CompletableFuture.completedFuture(null);
+
+        LOG.info("Deleting task group {} of type {}.", id, taskGroupType);
+        HttpRequest request = prepared.builder()
+            .DELETE()
+            .build();
+        this.dataCache.invalidateTaskGroup(id, taskGroupType);
+        return this.<String, Void>send(prepared, request, HttpResponse.BodyHandlers.ofString(), taskGroupType, "Request for deleting task group failed", response -> {
+            if (response.statusCode() != 204) {
+                LOG.error("Request for deleting task group {} failed with status code {} and body {}.", id, response.statusCode(), response.body());
+                throwExceptionIfBodyContainsMessage(response, "Request for deleting task group failed");
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for deleting task group failed.");
+            }
+            return null;
+        }).whenComplete((result, ex) -> this.dataCache.invalidateTaskGroup(id, taskGroupType));
     }
 
     //#endregion
@@ -226,34 +316,79 @@ public void deleteTaskGroup(long id, String taskGroupType) {
      * @throws ResponseStatusException If the request failed.
      */
     public Map<String, Object> getTaskAdditionalData(long taskId, String taskType) {
-        try {
-            var requestBuilder = this.prepareHttpRequest(taskType, "api/task@@TASK@@/" + taskId);
-            if (requestBuilder == null)
-                return null;
+        return await(this.getTaskAdditionalDataAsync(taskId, taskType));
+    }
 
-            LOG.info("Requesting additional data for task {} of type {}.", taskId, taskType);
-            HttpRequest request = requestBuilder.GET().build();
-            try (HttpClient client = HttpClient.newBuilder().build()) {
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-                if (response.statusCode() == 200) {
-                    //noinspection unchecked
-                    return this.objectMapper.readValue(response.body(), Map.class);
-                } else {
-                    LOG.error("Request for additional data of task {} failed with status code {}.", taskId, response.statusCode());
-                    throwExceptionIfBodyContainsMessage(response, "Request for additional data failed");
-                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for additional data failed.");
-                }
-            }
+    /**
+     * Requests the additional data for the specified task without blocking the calling thread.
+     * <p>
+     * The additional data is cached until the task is modified or the cache entry expires.
+     *
+     * @param taskId   The task identifier.
+     * @param taskType The task type.
+     * @return The future completing with the additional data or {@code null} if no task app was found;
+     * completes exceptionally with a {@link ResponseStatusException} if the request failed.
+     */
+    public CompletableFuture<Map<String, Object>> getTaskAdditionalDataAsync(long taskId, String taskType) {
+        var cached = this.dataCache.getTask(taskId, taskType);
+        if (cached != null)
+            return CompletableFuture.completedFuture(cached);
+
+        PreparedRequest prepared;
+        try {
+            prepared = this.prepareHttpRequest(taskType, r -> r.taskUrl() + '/' + taskId);
         } catch (URISyntaxException ex) {
             LOG.error("Could not build URL to request additional data for task {}", taskId, ex);
-        } catch (ConnectException ex) {
-            LOG.error("Could not connect to task app {}", taskType, ex);
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
-        } catch (IOException | InterruptedException ex) {
-            LOG.error("Request for additional data of task {} failed", taskId, ex);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Request for additional data failed.", ex);
+            return CompletableFuture.completedFuture(null);
         }
-        return null;
+        if (prepared == null)
+            return CompletableFuture.completedFuture(null);
+
+        LOG.info("Requesting additional data for task {} of type {}.", taskId, taskType);
+        long generation = this.dataCache.getTaskGeneration(taskId, taskType);
+        HttpRequest request = prepared.builder().GET().build();
+        return this.send(prepared, request, HttpResponse.BodyHandlers.ofString(), taskType, "Request for additional data failed", response -> {
+            if (response.statusCode() == 200)
+                return this.dataCache.putTask(taskId, taskType, generation, this.objectMapper.readValue(response.body(), new TypeReference<>() {
+                }));
+
+            LOG.error("Request for additional data of task {} failed with status code {}.", taskId, response.statusCode());
+            throwExceptionIfBodyContainsMessage(response, "Request for additional data failed");
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for additional data failed.");
+        });
+    }
+
+    /**
+     * Returns the additional data for the specified tasks.
+     *
+     * @param taskIds  The task identifiers.
+     * @param taskType The task type of all tasks.
+     * @return The additional data (key: task identifier) or {@code null} if no task app was found.
+     * @throws ResponseStatusException If the request failed.
+     * @see #getTasksAdditionalDataAsync(Collection, String)
+     */
+    public Map<Long, Map<String, Object>> getTasksAdditionalData(Collection<Long> taskIds, String taskType) {
+        return await(this.getTasksAdditionalDataAsync(taskIds, taskType));
+    }
+
+    /**
+     * Requests the additional data for the specified tasks without blocking the calling thread.
+     * <p>
+     * If the task app supports batch requests ({@link TaskAppRoute#batchSupport()}), the data is requested in chunks via
+     * {@code POST api/task[/prefix]/batch}; otherwise the tasks are requested one by one with a limited number of
+     * concurrent requests. Tasks whose data could not be loaded are not contained in the result.
+     *
+     * @param taskIds  The task identifiers.
+     * @param taskType The task type of all tasks.
+     * @return The future completing with the additional data (key: task identifier) or {@code null} if no task app
+     * was found; completes exceptionally with a {@link ResponseStatusException} if a batch request failed.
+     */
+    public CompletableFuture<Map<Long, Map<String, Object>>> getTasksAdditionalDataAsync(Collection<Long> taskIds, String taskType) {
+        return this.getAdditionalDataBatchAsync(taskIds, taskType, "task", TaskAppRoute::taskUrl,
+            id -> this.dataCache.getTask(id, taskType),
+            id -> this.dataCache.getTaskGeneration(id, taskType),
+            (id, generation, data) -> this.dataCache.putTask(id, taskType, generation, data),
+            id -> this.getTaskAdditionalDataAsync(id, taskType));
     }
 
     /**
@@ -265,36 +400,43 @@ public Map<String, Object> getTaskAdditionalData(long taskId, String taskType) {
      * @throws ResponseStatusException If the request failed.
      */
     public TaskModificationResponseDto createTask(long id, ModifyTaskDto data) {
-        try {
-            var requestBuilder = this.prepareHttpRequest(data.taskType(), "api/task@@TASK@@/" + id);
-            if (requestBuilder == null)
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Unknown task type.");
+        return await(this.createTaskAsync(id, data));
+    }
 
-            LOG.info("Creating task {} of type {}.", id, data.taskType());
-            String json = this.objectMapper.writeValueAsString(data);
-            HttpRequest request = requestBuilder
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(json))
-                .build();
-            try (HttpClient client = HttpClient.newBuilder().build()) {
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-                if (response.statusCode() != 201) {
-                    LOG.error("Request for creating {}-task failed with status code {} and body {}", data.taskType(), response.statusCode(), response.body());
-                    throwExceptionIfBodyContainsMessage(response, "Request for creating task failed");
-                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for creating task failed.");
-                }
-                return this.objectMapper.readValue(response.body(), TaskModificationResponseDto.class);
-            }
+    /**
+     * Creates a new task without blocking the calling thread.
+     *
+     * @param id   The identifier of the task.
+     * @param data The data for the task.
+     * @return The future completing with the response data received from the task app;
+     * completes exceptionally with a {@link ResponseStatusException} if the request failed.
+     * @throws ResponseStatusException If the request could not be prepared.
+     */
+    public CompletableFuture<TaskModificationResponseDto> createTaskAsync(long id, ModifyTaskDto data) {
+        PreparedRequest prepared;
+        try {
+            prepared = this.prepareHttpRequest(data.taskType(), r -> r.taskUrl() + '/' + id);
         } catch (URISyntaxException ex) {
             LOG.error("Could not build URL to create new {}-task", data.taskType(), ex);
-        } catch (ConnectException ex) {
-            LOG.error("Could not connect to task app {}", data.taskType(), ex);
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
-        } catch (IOException | InterruptedException ex) {
-            LOG.error("Request for for creating {}-task failed", data.taskType(), ex);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Request for creating task failed.", ex);
+            return CompletableFuture.completedFuture(null);
         }
-        return null;
+        if (prepared == null)
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Unknown task type.");
+
+        LOG.info("Creating task {} of type {}.", id, data.taskType());
+        HttpRequest request = prepared.builder()
+            .header("Content-Type", "application/json")
+            .POST(this.jsonBody(data, "Request for creating task failed"))
+            .build();
+        this.dataCache.invalidateTask(id, data.taskType());
+        return this.send(prepared, request, HttpResponse.BodyHandlers.ofString(), data.taskType(), "Request for creating task failed", response -> {
+            if (response.statusCode() != 201) {
+                LOG.error("Request for creating {}-task failed with status code {} and body {}", data.taskType(), response.statusCode(), response.body());
+                throwExceptionIfBodyContainsMessage(response, "Request for creating task failed");
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for creating task failed.");
+            }
+            return this.objectMapper.readValue(response.body(), TaskModificationResponseDto.class);
+        }).whenComplete((result, ex) -> this.dataCache.invalidateTask(id, data.taskType()));
     }
 
     /**
@@ -306,38 +448,44 @@ public TaskModificationResponseDto createTask(long id, ModifyTaskDto data) {
      * @throws ResponseStatusException If the request failed.
      */
     public TaskModificationResponseDto updateTask(long id, ModifyTaskDto data) {
-        try {
-            var requestBuilder = this.prepareHttpRequest(data.taskType(), "api/task@@TASK@@/" + id);
-            if (requestBuilder == null)
-                return null;
+        return await(this.updateTaskAsync(id, data));
+    }
 
-            LOG.info("Updating task {} of type {}.", id, data.taskType());
-            String json = this.objectMapper.writeValueAsString(data);
-            HttpRequest request = requestBuilder
-                .header("Content-Type", "application/json")
-                .PUT(HttpRequest.BodyPublishers.ofString(json))
-                .build();
-            try (HttpClient client = HttpClient.newBuilder().build()) {
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-                if (response.statusCode() == 200)
-                    return this.objectMapper.readValue(response.body(), TaskModificationResponseDto.class);
-                if (response.statusCode() == 204)
-                    return null;
-
-                LOG.error("Request for updating task {} failed with status code {} and body {}", id, response.statusCode(), response.body());
-                throwExceptionIfBodyContainsMessage(response, "Request for updating task failed");
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for updating task failed.");
-            }
+    /**
+     * Updates an existing task without blocking the calling thread.
+     *
+     * @param id   The identifier of the task.
+     * @param data The data for the task.
+     * @return The future completing with the response data received from the task app;
+     * completes exceptionally with a {@link ResponseStatusException} if the request failed.
+     */
+    public CompletableFuture<TaskModificationResponseDto> updateTaskAsync(long id, ModifyTaskDto data) {
+        PreparedRequest prepared;
+        try {
+            prepared = this.prepareHttpRequest(data.taskType(), r -> r.taskUrl() + '/' + id);
         } catch (URISyntaxException ex) {
             LOG.error("Could not build URL to update existing task {}", id, ex);
-        } catch (ConnectException ex) {
-            LOG.error("Could not connect to task app {}", data.taskType(), ex);
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
-        } catch (IOException | InterruptedException ex) {
-            LOG.error("Request for for updating task {} failed", id, ex);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Request for updating task failed.", ex);
+            return CompletableFuture.completedFuture(null);
         }
-        return null;
+        if (prepared == null)
+            return CompletableFuture.completedFuture(null);
+
+        LOG.info("Updating task {} of type {}.", id, data.taskType());
+        HttpRequest request = prepared.builder()
+            .header("Content-Type", "application/json")
+            .PUT(this.jsonBody(data, "Request for updating task failed"))
+            .build();
+        this.dataCache.invalidateTask(id, data.taskType());
+        return this.send(prepared, request, HttpResponse.BodyHandlers.ofString(), data.taskType(), "Request for updating task failed", response -> {
+            if (response.statusCode() == 200)
+                return this.objectMapper.readValue(response.body(), TaskModificationResponseDto.class);
+            if (response.statusCode() == 204)
+                return null;
+
+            LOG.error("Request for updating task {} failed with status code {} and body {}", id, response.statusCode(), response.body());
+            throwExceptionIfBodyContainsMessage(response, "Request for updating task failed");
+            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for updating task failed.");
+        }).whenComplete((result, ex) -> this.dataCache.invalidateTask(id, data.taskType()));
     }
 
     /**
@@ -348,32 +496,41 @@ public TaskModificationResponseDto updateTask(long id, ModifyTaskDto data) {
      * @throws ResponseStatusException If the request failed.
      */
     public void deleteTask(long id, String taskType) {
-        try {
-            var requestBuilder = this.prepareHttpRequest(taskType, "api/task@@TASK@@/" + id);
-            if (requestBuilder == null)
-                return;
+        await(this.deleteTaskAsync(id, taskType));
+    }
 
-            LOG.info("Deleting task {} of type {}.", id, taskType);
-            HttpRequest request = requestBuilder
-                .DELETE()
-                .build();
-            try (HttpClient client = HttpClient.newBuilder().build()) {
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-                if (response.statusCode() != 204) {
-                    LOG.error("Request for deleting task {} failed with status code {} and body {}.", id, response.statusCode(), response.body());
-                    throwExceptionIfBodyContainsMessage(response, "Request for deleting task failed");
-                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for deleting task failed.");
-                }
-            }
+    /**
+     * Deletes an existing task without blocking the calling thread.
+     *
+     * @param id       The identifier of the task.
+     * @param taskType The task type.
+     * @return The future completing when the task has been deleted;
+     * completes exceptionally with a {@link ResponseStatusException} if the request failed.
+     */
+    public CompletableFuture<Void> deleteTaskAsync(long id, String taskType) {
+        PreparedRequest prepared;
+        try {
+            prepared = this.prepareHttpRequest(taskType, r -> r.taskUrl() + '/' + id);
         } catch (URISyntaxException ex) {
             LOG.error("Could not build URL to delete existing task {}", id, ex);
-        } catch (ConnectException ex) {
-            LOG.error("Could not connect to task app {}", taskType, ex);
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
-        } catch (IOException | InterruptedException ex) {
-            LOG.error("Request for for deleting task {} failed", id, ex);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Request for deleting task failed.", ex);
+            return CompletableFuture.completedFuture(null);
         }
+        if (prepared == null)
+            return CompletableFuture.completedFuture(null);
+
+        LOG.info("Deleting task {} of type {}.", id, taskType);
+        HttpRequest request = prepared.builder()
+            .DELETE()
+            .build();
+        this.dataCache.invalidateTask(id, taskType);
+        return this.<String, Void>send(prepared, request, HttpResponse.BodyHandlers.ofString(), taskType, "Request for deleting task failed", response -> {
+            if (response.statusCode() != 204) {
+                LOG.error("Request for deleting task {} failed with status code {} and body {}.", id, response.statusCode(), response.body());
+                throwExceptionIfBodyContainsMessage(response, "Request for deleting task failed");
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for deleting task failed.");
+            }
+            return null;
+        }).whenComplete((result, ex) -> this.dataCache.invalidateTask(id, taskType));
     }
 
     //#endregion
@@ -386,6 +543,9 @@ public void deleteTask(long id, String taskType) {
      * Supports the methods: {@code GET, POST, PUT, DELETE}
      * Supported request-headers: {@code accept, content-type, accept-encoding, accept-language, X-*}
      * Supported response-headers: {@code content-type, content-language, content-disposition, X-}
+     * <p>
+     * Request and response bodies are streamed and not buffered in memory. The total size of request bodies which are
+     * forwarded at the same time is limited by {@link TaskAppConfig#getForwardMaxInFlight()}.
      *
      * @param taskType    The task type.
      * @param request     The request.
@@ -395,35 +555,54 @@ public void deleteTask(long id, String taskType) {
      * @throws ResponseStatusException If the request failed.
      */
     public ResponseEntity<?> forwardRequest(String taskType, String requestPath, HttpServletRequest request, boolean secured) {
+        return await(this.forwardRequestAsync(taskType, requestPath, request, secured));
+    }
+
+    /**
+     * Forwards the request to the task app without blocking the calling thread.
+     * <p>
+     * The request body is read from the servlet request while it is sent to the task app, i.e. the request
+     * must be kept open (e.g. by returning the future from a controller method) until the future completes.
+     *
+     * @param taskType    The task type.
+     * @param request     The request.
+     * @param requestPath The path at the task app.
+     * @param secured     Whether the request should be authenticated.
+     * @return The future completing with the response from the task app;
+     * completes exceptionally with a {@link ResponseStatusException} if the request failed.
+     * @throws ResponseStatusException If the request could not be prepared or the in-flight limit is exhausted.
+     * @see #forwardRequest(String, String, HttpServletRequest, boolean)
+     */
+    public CompletableFuture<ResponseEntity<?>> forwardRequestAsync(String taskType, String requestPath, HttpServletRequest request, boolean secured) {
+        PreparedRequest prepared;
         try {
-            HttpRequest.Builder requestBuilder = createRequestBuilder(taskType, requestPath, request, secured);
-            if (requestBuilder == null)
-                return ResponseEntity.notFound().build();
+            prepared = createRequestBuilder(taskType, requestPath, request, secured);
+        } catch (URISyntaxException ex) {
+            LOG.error("Could not build URL to forward request {}", requestPath, ex);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+        if (prepared == null)
+            return CompletableFuture.completedFuture(ResponseEntity.notFound().build());
 
-            LOG.info("Forwarding request {} for type {}.", requestPath, taskType);
-            prepareRequest(request, requestBuilder);
+        LOG.info("Forwarding request {} for type {}.", requestPath, taskType);
+        int reservedBytes = this.reserveInFlightBytes(request);
+        try {
+            prepareRequest(request, prepared.builder());
 
             // send request
-            try (HttpClient client = HttpClient.newBuilder().build()) {
-                HttpRequest requestToSend = requestBuilder.build();
-                LOG.debug("Sending {}-request to {}", requestToSend.method(), requestToSend.uri());
+            HttpRequest requestToSend = prepared.builder().build();
+            LOG.debug("Sending {}-request to {}", requestToSend.method(), requestToSend.uri());
 
-                HttpResponse<byte[]> response = client.send(requestToSend, HttpResponse.BodyHandlers.ofByteArray());
-                return buildResponse(response);
-            }
-        } catch (URISyntaxException ex) {
-            LOG.error("Could not build URL to forward request {}", requestPath, ex);
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage());
-        } catch (ConnectException ex) {
-            LOG.error("Could not connect to task app {}", taskType, ex);
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
-        } catch (IOException | InterruptedException ex) {
-            LOG.error("Could not forward request {}", requestPath, ex);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
+            return this.send(prepared, requestToSend, HttpResponse.BodyHandlers.ofInputStream(), taskType, "Could not forward request " + requestPath,
+                    TaskAppCommunicationService::buildResponse)
+                .whenComplete((response, ex) -> this.releaseInFlightBytes(reservedBytes));
+        } catch (RuntimeException ex) {
+            this.releaseInFlightBytes(reservedBytes);
+            throw ex;
         }
     }
 
-    private HttpRequest.Builder createRequestBuilder(String taskType, String requestPath, HttpServletRequest request, boolean secured) throws URISyntaxException {
+    private PreparedRequest createRequestBuilder(String taskType, String requestPath, HttpServletRequest request, boolean secured) throws URISyntaxException {
         // build query string
         var query = request.getQueryString();
 
@@ -432,17 +611,51 @@ private HttpRequest.Builder createRequestBuilder(String taskType, String request
         if (query != null && !query.isBlank())
             path += '?' + query;
 
-        // don't forward requests to default endpoints
-        if (Pattern.matches("^api/submission(\\?.*)?", path.toLowerCase()) ||
-            Pattern.matches("^api/submission/[a-z0-9-]+/result(\\?.*)?", path.toLowerCase()) ||
-            Pattern.matches("^api/(task|taskgroup)/[0-9]+(\\?.*)?", path.toLowerCase()) ||
-            Pattern.matches("^api/(task|taskgroup)/.+/[0-9]+(\\?.*)?", path.toLowerCase()))
+        // don't forward requests to default endpoints (and other denied paths)
+        if (!this.routePolicy.isAllowed(taskType, path))
             return null;
 
-        return this.prepareHttpRequest(taskType, path, secured);
+        final String relativePath = path;
+        return this.prepareHttpRequest(taskType, r -> r.resolve(relativePath), secured);
+    }
+
+    /**
+     * Reserves the size of the request body from the in-flight limit.
+     *
+     * @param request The request.
+     * @return The number of reserved bytes which have to be released after the request has been sent.
+     * @throws ResponseStatusException If the body is too large or the limit is exhausted.
+     */
+    private int reserveInFlightBytes(HttpServletRequest request) {
+        if (!request.getMethod().equals("POST") && !request.getMethod().equals("PUT"))
+            return 0;
+
+        long length = request.getContentLengthLong();
+        if (length == 0)
+            return 0;
+        if (length > this.maxInFlightBytes)
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE);
+
+        // bodies with unknown length (chunked transfer) reserve a fixed amount
+        int permits = (int) Math.min(length < 0 ? UNKNOWN_LENGTH_RESERVATION : length, this.maxInFlightBytes);
+        try {
+            if (!this.inFlightBytes.tryAcquire(permits, IN_FLIGHT_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Could not forward request because the in-flight limit of {} bytes is exhausted", this.maxInFlightBytes);
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many concurrent uploads.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
+        }
+        return permits;
+    }
+
+    private void releaseInFlightBytes(int reservedBytes) {
+        if (reservedBytes > 0)
+            this.inFlightBytes.release(reservedBytes);
     }
 
-    private static void prepareRequest(HttpServletRequest request, HttpRequest.Builder requestBuilder) throws IOException {
+    private static void prepareRequest(HttpServletRequest request, HttpRequest.Builder requestBuilder) {
         // add headers
         Streams.stream(request.getHeaderNames().asIterator())
             .filter(h -> h.equalsIgnoreCase("accept") ||
@@ -458,18 +671,10 @@ private static void prepareRequest(HttpServletRequest request, HttpRequest.Build
                 requestBuilder.GET();
                 break;
             case "POST":
-                byte[] body;
-                try (InputStream is = request.getInputStream()) {
-                    body = IOUtils.toByteArray(is);
-                }
-                requestBuilder.POST(HttpRequest.BodyPublishers.ofByteArray(body));
+                requestBuilder.POST(createBodyPublisher(request));
                 break;
             case "PUT":
-                byte[] putBody;
-                try (InputStream is = request.getInputStream()) {
-                    putBody = IOUtils.toByteArray(is);
-                }
-                requestBuilder.PUT(HttpRequest.BodyPublishers.ofByteArray(putBody));
+                requestBuilder.PUT(createBodyPublisher(request));
                 break;
             case "DELETE":
                 requestBuilder.DELETE();
@@ -477,9 +682,23 @@ private static void prepareRequest(HttpServletRequest request, HttpRequest.Build
         }
     }
 
-    private static ResponseEntity<InputStreamResource> buildResponse(HttpResponse<byte[]> response) {
-        byte[] body = response.body();
+    private static HttpRequest.BodyPublisher createBodyPublisher(HttpServletRequest request) {
+        long length = request.getContentLengthLong();
+        if (length == 0)
+            return HttpRequest.BodyPublishers.noBody();
+
+        // the body is read from the servlet input stream while it is sent to the task app
+        var publisher = HttpRequest.BodyPublishers.ofInputStream(() -> {
+            try {
+                return request.getInputStream();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return length > 0 ? HttpRequest.BodyPublishers.fromPublisher(publisher, length) : publisher;
+    }
 
+    private static ResponseEntity<?> buildResponse(HttpResponse<InputStream> response) {
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.statusCode());
         response.headers().map().entrySet().stream()
             .filter(h -> h.getKey().equalsIgnoreCase("content-type")
@@ -487,125 +706,344 @@ private static ResponseEntity<InputStreamResource> buildResponse(HttpResponse<by
                 || h.getKey().equalsIgnoreCase("content-disposition")
                 || h.getKey().toLowerCase().startsWith("x-"))
             .forEach(h -> h.getValue().forEach(v -> responseBuilder.header(h.getKey(), v)));
-        return responseBuilder.body(new InputStreamResource(new ByteArrayInputStream(body)));
+
+        // the body is copied to the servlet output stream (and closed afterward) while it is received from the task app
+        return responseBuilder.body(new InputStreamResource(response.body()));
     }
 
     //#endregion
 
+    //#region --- Submission ---
+
     /**
      * Submits a submission for testing purposes.
      *
      * @param taskType   The task type.
      * @param submission The submission data.
      * @return The submission result.
+     * @throws ResponseStatusException If the request failed.
      */
     public Serializable submit(String taskType, SubmitSubmissionDto submission) {
-        try {
-            var requestBuilder = this.prepareHttpRequest(taskType, "api/submission@@SUBMISSION@@?persist=false&runInBackground=false");
-            if (requestBuilder == null)
-                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+        return await(this.submitAsync(taskType, submission));
+    }
 
-            LOG.info("Submitting task {} of type {}", submission.taskId(), taskType);
-            String json = this.objectMapper.writeValueAsString(submission);
-            HttpRequest request = requestBuilder
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(json))
-                .build();
-            try (HttpClient client = HttpClient.newBuilder().build()) {
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-                return response.body();
-            }
+    /**
+     * Submits a submission for testing purposes without blocking the calling thread.
+     * <p>
+     * The evaluation of a submission might take a long time (up to the configured request timeout); the servlet
+     * thread is released while waiting for the result if the future is returned from a controller method.
+     *
+     * @param taskType   The task type.
+     * @param submission The submission data.
+     * @return The future completing with the submission result;
+     * completes exceptionally with a {@link ResponseStatusException} if the request failed.
+     * @throws ResponseStatusException If the request could not be prepared.
+     */
+    public CompletableFuture<Serializable> submitAsync(String taskType, SubmitSubmissionDto submission) {
+        PreparedRequest prepared;
+        try {
+            prepared = this.prepareHttpRequest(taskType, r -> r.submissionUrl() + "?persist=false&runInBackground=false");
         } catch (URISyntaxException ex) {
             LOG.error("Could not build URL to submit task {}", submission.taskId(), ex);
-        } catch (ConnectException ex) {
-            LOG.error("Could not connect to task app {}", taskType, ex);
-            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
-        } catch (IOException | InterruptedException ex) {
-            LOG.error("Request for for submitting task {} failed", submission.taskId(), ex);
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Request for submitting task failed.", ex);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
         }
-        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+        if (prepared == null)
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+
+        LOG.info("Submitting task {} of type {}", submission.taskId(), taskType);
+        HttpRequest request = prepared.builder()
+            .header("Content-Type", "application/json")
+            .POST(this.jsonBody(submission, "Request for submitting task failed"))
+            .build();
+        return this.send(prepared, request, HttpResponse.BodyHandlers.ofString(), taskType, "Request for submitting task failed", HttpResponse::body);
     }
 
+    //#endregion
+
+    //#region --- Helpers ---
+
     /**
      * Prepares an HTTP request for the specified task group type.
      *
      * @param taskGroupType The task group type.
-     * @param path          The path to append to the URL.
-     * @return The HTTP request builder or {@code null} if no task app was found.
+     * @param urlFunction   The function which builds the URL from the route of the task app.
+     * @return The prepared HTTP request or {@code null} if no task app was found.
      * @throws URISyntaxException If the URL is invalid.
      */
-    private HttpRequest.Builder prepareHttpRequest(String taskGroupType, String path) throws URISyntaxException {
-        return this.prepareHttpRequest(taskGroupType, path, true);
+    private PreparedRequest prepareHttpRequest(String taskGroupType, Function<TaskAppRoute, String> urlFunction) throws URISyntaxException {
+        return this.prepareHttpRequest(taskGroupType, urlFunction, true);
     }
 
     /**
      * Prepares an HTTP request for the specified task group type.
      * <p>
-     * Following placeholders may be used in the path:
-     * <ul>
-     *     <li>{@code @@TASK@@}: Prefix for task</li>
-     *     <li>{@code @@TASKGROUP@@}: Prefix for task group</li>
-     *     <li>{@code @@SUBMISSION@@}: Prefix for submission</li>
-     * </ul>
-     * This method will replace the placeholders with the actual values of the task app if configured (and prefixes it with a "/").
-     * E.g. if the path is "api/task@@TASK@@/1", the resulting path will be "api/task/1" if no prefix is configured and
+     * The URL function receives the route of the task app whose endpoint URLs already contain the configured prefixes.
+     * E.g. {@code r -> r.taskUrl() + "/1"} results in "api/task/1" if no prefix is configured and
      * "api/task/dlg/1" if the prefix "dlg" is configured.
      *
      * @param taskGroupType   The task group type.
-     * @param path            The path to append to the URL.
+     * @param urlFunction     The function which builds the URL from the route of the task app.
      * @param addApiKeyHeader Whether to add the API key header.
-     * @return The HTTP request builder or {@code null} if no task app was found.
+     * @return The prepared HTTP request or {@code null} if no task app was found.
      * @throws URISyntaxException If the URL is invalid.
      */
-    private HttpRequest.Builder prepareHttpRequest(String taskGroupType, String path, boolean addApiKeyHeader) throws URISyntaxException {
-        var app = this.getTaskApp(taskGroupType);
-        if (app == null)
+    private PreparedRequest prepareHttpRequest(String taskGroupType, Function<TaskAppRoute, String> urlFunction, boolean addApiKeyHeader) throws URISyntaxException {
+        var route = this.routingTable.getRoute(taskGroupType).orElse(null);
+        if (route == null)
             return null;
 
-        // Replace placeholder
-        TriFunction<String, String, String, String> replaceFunc = (p, f, s) -> {
-            if (p.contains(s)) {
-                if (f != null && !f.isBlank())
-                    p = p.replace(s, '/' + f);
-                else
-                    p = p.replace(s, "");
+        // Build request
+        var builder = HttpRequest.newBuilder();
+        if (route.apiKey() != null && addApiKeyHeader)
+            builder = builder.header("X-API-KEY", route.apiKey());
+
+        builder = builder
+            .header("Accept", "application/json")
+            .timeout(this.httpClientRegistry.getRequestTimeout(route.taskType()))
+            .uri(new URI(urlFunction.apply(route)));
+        return new PreparedRequest(this.httpClientRegistry.getClient(route.taskType(), route.url()), builder);
+    }
+
+    /**
+     * Requests the additional data for multiple tasks or task groups.
+     * <p>
+     * Batch contract: The request body is a JSON array of the identifiers, the response body is a JSON object
+     * containing the additional data per identifier (e.g. {@code {"1": {...}, "2": {...}}}). Identifiers unknown to the
+     * task app are omitted in the response.
+     *
+     * @param ids             The identifiers.
+     * @param type            The task (group) type of all identifiers.
+     * @param entityName      The name of the entity used for logging.
+     * @param urlFunction     The function returning the URL of the endpoint (without {@code /batch}).
+     * @param cacheLookup     The function returning the cached additional data of an identifier or {@code null}.
+     * @param cacheGeneration The function returning the cache generation of an identifier.
+     * @param cacheStore      The consumer caching the additional data of an identifier.
+     * @param singleLoader    The function requesting the additional data of a single identifier.
+     * @return The future completing with the additional data or {@code null} if no task app was found.
+     */
+    private CompletableFuture<Map<Long, Map<String, Object>>> getAdditionalDataBatchAsync(Collection<Long> ids, String type, String entityName,
+                                                                                          Function<TaskAppRoute, String> urlFunction,
+                                                                                          LongFunction<Map<String, Object>> cacheLookup,
+                                                                                          LongUnaryOperator cacheGeneration,
+                                                                                          AdditionalDataStore cacheStore,
+                                                                                          LongFunction<CompletableFuture<Map<String, Object>>> singleLoader) {
+        var route = this.routingTable.getRoute(type).orElse(null);
+        if (route == null)
+            return CompletableFuture.completedFuture(null);
+
+        var result = new ConcurrentHashMap<Long, Map<String, Object>>();
+        var missing = new ArrayList<Long>();
+        var generations = new HashMap<Long, Long>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            var cached = cacheLookup.apply(id);
+            if (cached != null) {
+                result.put(id, cached);
+            } else {
+                missing.add(id);
+                generations.put(id, cacheGeneration.applyAsLong(id));
             }
-            return p;
-        };
-        if (path != null) {
-            path = replaceFunc.apply(path, app.getTaskPrefix(), "@@TASK@@");
-            path = replaceFunc.apply(path, app.getTaskGroupPrefix(), "@@TASKGROUP@@");
-            path = replaceFunc.apply(path, app.getSubmissionPrefix(), "@@SUBMISSION@@");
         }
+        if (missing.isEmpty())
+            return CompletableFuture.completedFuture(result);
 
-        // Normalize URL
-        String url = app.getUrl();
-        if (path != null) {
-            if (!url.endsWith("/"))
-                url += '/';
-            url += path;
+        // fallback: single requests with limited concurrency
+        if (!route.batchSupport()) {
+            LOG.info("Requesting additional data for {} {}s of type {} one by one.", missing.size(), entityName, type);
+            var queue = new ConcurrentLinkedQueue<>(missing);
+            var workers = new CompletableFuture<?>[Math.min(this.batchParallelism, missing.size())];
+            for (int i = 0; i < workers.length; i++)
+                workers[i] = this.loadNext(queue, entityName, singleLoader, result);
+            return CompletableFuture.allOf(workers).thenApply(v -> result);
         }
 
-        // Build request
-        var builder = HttpRequest.newBuilder();
-        if (app.getApiKey() != null && addApiKeyHeader)
-            builder = builder.header("X-API-KEY", app.getApiKey());
+        // batch requests
+        var chunks = new ArrayList<CompletableFuture<Void>>();
+        for (List<Long> chunk : Lists.partition(missing, this.batchSize)) {
+            PreparedRequest prepared;
+            try {
+                prepared = this.prepareHttpRequest(type, r -> urlFunction.apply(r) + "/batch");
+            } catch (URISyntaxException ex) {
+                LOG.error("Could not build URL to request additional data of {}s", entityName, ex);
+                return CompletableFuture.completedFuture(result);
+            }
+            if (prepared == null)
+                return CompletableFuture.completedFuture(null);
 
-        return builder
-            .header("Accept", "application/json")
-            .timeout(Duration.ofSeconds(20))
-            .uri(new URI(url));
+            LOG.info("Requesting additional data for {} {}s of type {}.", chunk.size(), entityName, type);
+            HttpRequest request = prepared.builder()
+                .header("Content-Type", "application/json")
+                .POST(this.jsonBody(chunk, "Request for additional data failed"))
+                .build();
+            chunks.add(this.send(prepared, request, HttpResponse.BodyHandlers.ofString(), type, "Request for additional data failed", response -> {
+                if (response.statusCode() != 200) {
+                    LOG.error("Batch request for additional data of {}s failed with status code {}.", entityName, response.statusCode());
+                    throwExceptionIfBodyContainsMessage(response, "Request for additional data failed");
+                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for additional data failed.");
+                }
+
+                Map<String, Map<String, Object>> data = this.objectMapper.readValue(response.body(), new TypeReference<>() {
+                });
+                try {
+                    data.forEach((key, value) -> {
+                        long id = Long.parseLong(key);
+                        Long generation = generations.get(id);
+                        if (generation != null)
+                            cacheStore.put(id, generation, value);
+                        result.put(id, value);
+                    });
+                } catch (NumberFormatException ex) {
+                    LOG.error("Batch response for additional data of {}s contains invalid identifiers.", entityName, ex);
+                    throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Request for additional data failed.");
+                }
+                return null;
+            }));
+        }
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).thenApply(v -> result);
     }
 
     /**
-     * Returns the task app for the specified task group type.
+     * Requests the additional data of the next identifier in the queue until the queue is empty.
      *
-     * @param taskGroupType The task group type.
-     * @return The task app or {@code null} if no task app was found.
+     * @param queue        The identifiers to request.
+     * @param entityName   The name of the entity used for logging.
+     * @param singleLoader The function requesting the additional data of a single identifier.
+     * @param result       The map receiving the additional data.
+     * @return The future completing when the queue is empty.
+     */
+    private CompletableFuture<Void> loadNext(Queue<Long> queue, String entityName, LongFunction<CompletableFuture<Map<String, Object>>> singleLoader,
+                                             Map<Long, Map<String, Object>> result) {
+        Long id = queue.poll();
+        if (id == null)
+            return CompletableFuture.completedFuture(null);
+
+        CompletableFuture<Map<String, Object>> future;
+        try {
+            future = singleLoader.apply(id);
+        } catch (RuntimeException ex) {
+            future = CompletableFuture.failedFuture(ex);
+        }
+
+        // continue asynchronously, so that synchronously completed requests (e.g. open circuit) do not nest
+        return future.handle((data, ex) -> {
+            if (ex != null)
+                LOG.warn("Could not load additional data of {} {}: {}", entityName, id, ex.getMessage());
+            else if (data != null)
+                result.put(id, data);
+            return null;
+        }).thenComposeAsync(v -> this.loadNext(queue, entityName, singleLoader, result));
+    }
+
+    /**
+     * Sends the request asynchronously and handles the response.
+     * <p>
+     * The request is only sent if the circuit breaker of the task app permits it. Connection failures, timeouts and
+     * responses with a {@code 5xx} status code are recorded as failures.
+     * <p>
+     * The returned future completes exceptionally with a {@link ResponseStatusException}: with status
+     * {@code 503 Service Unavailable} if the task app is not reachable or the circuit is open, with the status thrown
+     * by the response handler or with status {@code 500 Internal Server Error} otherwise.
+     *
+     * @param prepared        The prepared request.
+     * @param request         The request to send.
+     * @param bodyHandler     The handler for the response body.
+     * @param taskType        The task type.
+     * @param errorMessage    The message used if the request failed.
+     * @param responseHandler The handler which converts the response into the result.
+     * @param <T>             The type of the response body.
+     * @param <R>             The type of the result.
+     * @return The future completing with the result.
+     */
+    private <T, R> CompletableFuture<R> send(PreparedRequest prepared, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler,
+                                             String taskType, String errorMessage, ResponseHandler<T, R> responseHandler) {
+        var circuitBreaker = this.circuitBreakers.get(taskType);
+        CompletableFuture<HttpResponse<T>> future;
+        try {
+            circuitBreaker.acquire();
+        } catch (ResponseStatusException ex) {
+            LOG.warn("Rejected request to task app {}: {}", taskType, ex.getReason());
+            return CompletableFuture.failedFuture(ex);
+        }
+        try {
+            future = prepared.client().sendAsync(request, bodyHandler);
+        } catch (RuntimeException ex) {
+            circuitBreaker.release(true); // invalid request, not a failure of the task app
+            throw ex;
+        }
+
+        return future.handle((response, ex) -> {
+            circuitBreaker.release(ex == null && response.statusCode() < 500);
+            if (ex != null)
+                throw toResponseStatusException(ex, taskType, errorMessage);
+
+            try {
+                return responseHandler.handle(response);
+            } catch (IOException ioEx) {
+                throw toResponseStatusException(ioEx, taskType, errorMessage);
+            }
+        });
+    }
+
+    /**
+     * Converts the exception of a failed request into a {@link ResponseStatusException}.
+     *
+     * @param ex           The exception.
+     * @param taskType     The task type.
+     * @param errorMessage The message used if the request failed.
+     * @return The response status exception.
+     */
+    private static ResponseStatusException toResponseStatusException(Throwable ex, String taskType, String errorMessage) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof ResponseStatusException rse)
+            return rse;
+
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof ConnectException) {
+                LOG.error("Could not connect to task app {}", taskType, t);
+                return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, t.getMessage());
+            }
+        }
+
+        LOG.error("{} (task app {}).", errorMessage, taskType, cause);
+        return new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, errorMessage + '.', cause);
+    }
+
+    /**
+     * Waits for the future to complete and returns its result.
+     *
+     * @param future The future.
+     * @param <T>    The type of the result.
+     * @return The result.
+     * @throws ResponseStatusException If the future completed exceptionally or the thread has been interrupted.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Serializes the data to a JSON request body.
+     *
+     * @param data         The data.
+     * @param errorMessage The message used if the serialization failed.
+     * @return The body publisher.
+     * @throws ResponseStatusException If the data could not be serialized.
      */
-    private TaskApp getTaskApp(String taskGroupType) {
-        return this.taskAppRepository.findByTaskType(taskGroupType).orElse(null);
+    private HttpRequest.BodyPublisher jsonBody(Object data, String errorMessage) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(this.objectMapper.writeValueAsBytes(data));
+        } catch (JsonProcessingException ex) {
+            LOG.error("Could not serialize request body.", ex);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, errorMessage + '.', ex);
+        }
     }
 
     /**
@@ -628,4 +1066,48 @@ private void throwExceptionIfBodyContainsMessage(HttpResponse<String> response,
         } catch (JsonProcessingException ignored) {
         }
     }
+
+    /**
+     * A request to a task app which is ready to be sent.
+     *
+     * @param client  The HTTP client of the task app.
+     * @param builder The HTTP request builder.
+     */
+    private record PreparedRequest(HttpClient client, HttpRequest.Builder builder) {
+    }
+
+    /**
+     * Converts the response of a task app into the result of an operation.
+     *
+     * @param <T> The type of the response body.
+     * @param <R> The type of the result.
+     */
+    @FunctionalInterface
+    private interface ResponseHandler<T, R> {
+        /**
+         * Handles the response.
+         *
+         * @param response The response.
+         * @return The result.
+         * @throws IOException If the response body could not be read.
+         */
+        R handle(HttpResponse<T> response) throws IOException;
+    }
+
+    /**
+     * Caches the additional data of a task or task group.
+     */
+    @FunctionalInterface
+    private interface AdditionalDataStore {
+        /**
+         * Caches the additional data, unless the entry has been invalidated since the specified generation.
+         *
+         * @param id             The identifier.
+         * @param generation     The generation obtained before requesting the additional data.
+         * @param additionalData The additional data.
+         */
+        void put(long id, long generation, Map<String, Object> additionalData);
+    }
+
+    //#endregion
 }
@@ -0,0 +1,540 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration for the communication with the task apps.
+ */
+@Validated
+@ConfigurationProperties("task-app")
+public class TaskAppConfig {
+    @NotNull
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    @NotNull
+    private Duration requestTimeout = Duration.ofSeconds(20);
+
+    private boolean http2 = true;
+
+    @Min(1)
+    private int exportConcurrency = 4;
+
+    @Min(1)
+    private int additionalDataBatchSize = 100;
+
+    @NotNull
+    private DataSize forwardMaxInFlight = DataSize.ofMegabytes(64);
+
+    private boolean forwardDefaultAllow = true;
+
+    @Valid
+    private List<ForwardRule> forwardRules = new ArrayList<>();
+
+    @Min(1)
+    private int maxConcurrentCalls = 50;
+
+    @Valid
+    @NotNull
+    private CircuitBreakerConfig circuitBreaker = new CircuitBreakerConfig();
+
+    @Min(0)
+    private long additionalDataCacheSize = 1000;
+
+    @NotNull
+    private Duration additionalDataCacheTtl = Duration.ofMinutes(5);
+
+    private Map<String, AppConfig> apps = new HashMap<>();
+
+    /**
+     * Creates a new instance of class {@link TaskAppConfig}.
+     */
+    public TaskAppConfig() {
+    }
+
+    /**
+     * Gets the default timeout for establishing a connection to a task app.
+     *
+     * @return The connect timeout.
+     */
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Sets the default timeout for establishing a connection to a task app.
+     *
+     * @param connectTimeout The connect timeout.
+     */
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Gets the default timeout for receiving the response of a task app.
+     *
+     * @return The request timeout.
+     */
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * Sets the default timeout for receiving the response of a task app.
+     *
+     * @param requestTimeout The request timeout.
+     */
+    public void setRequestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Returns whether HTTP/2 should be preferred (the client falls back to HTTP/1.1 if the task app does not support it).
+     *
+     * @return {@code true} if HTTP/2 is preferred; {@code false} otherwise.
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * Sets whether HTTP/2 should be preferred.
+     *
+     * @param http2 {@code true} if HTTP/2 is preferred; {@code false} otherwise.
+     */
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
+    /**
+     * Gets the maximum number of concurrent requests per task app when requesting the additional data of multiple
+     * entries from a task app without batch support (e.g. during an export).
+     *
+     * @return The maximum number of concurrent requests.
+     */
+    public int getExportConcurrency() {
+        return exportConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of concurrent requests per task app when requesting the additional data of multiple
+     * entries from a task app without batch support (e.g. during an export).
+     *
+     * @param exportConcurrency The maximum number of concurrent requests.
+     */
+    public void setExportConcurrency(int exportConcurrency) {
+        this.exportConcurrency = exportConcurrency;
+    }
+
+    /**
+     * Gets the maximum number of identifiers sent in a single batch request for additional data.
+     *
+     * @return The batch size.
+     */
+    public int getAdditionalDataBatchSize() {
+        return additionalDataBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of identifiers sent in a single batch request for additional data.
+     *
+     * @param additionalDataBatchSize The batch size.
+     */
+    public void setAdditionalDataBatchSize(int additionalDataBatchSize) {
+        this.additionalDataBatchSize = additionalDataBatchSize;
+    }
+
+    /**
+     * Gets the maximum total size of request bodies which are forwarded to the task apps at the same time.
+     *
+     * @return The maximum size of in-flight request bodies.
+     */
+    public DataSize getForwardMaxInFlight() {
+        return forwardMaxInFlight;
+    }
+
+    /**
+     * Sets the maximum total size of request bodies which are forwarded to the task apps at the same time.
+     *
+     * @param forwardMaxInFlight The maximum size of in-flight request bodies.
+     */
+    public void setForwardMaxInFlight(DataSize forwardMaxInFlight) {
+        this.forwardMaxInFlight = forwardMaxInFlight;
+    }
+
+    /**
+     * Returns whether requests to paths which are not matched by a forward rule are forwarded.
+     *
+     * @return {@code true} if unmatched paths are forwarded; {@code false} otherwise.
+     */
+    public boolean isForwardDefaultAllow() {
+        return forwardDefaultAllow;
+    }
+
+    /**
+     * Sets whether requests to paths which are not matched by a forward rule are forwarded.
+     *
+     * @param forwardDefaultAllow {@code true} if unmatched paths are forwarded; {@code false} otherwise.
+     */
+    public void setForwardDefaultAllow(boolean forwardDefaultAllow) {
+        this.forwardDefaultAllow = forwardDefaultAllow;
+    }
+
+    /**
+     * Gets the rules which decide whether a request may be forwarded to a task app.
+     *
+     * @return The forward rules.
+     */
+    public List<ForwardRule> getForwardRules() {
+        return forwardRules;
+    }
+
+    /**
+     * Sets the rules which decide whether a request may be forwarded to a task app.
+     *
+     * @param forwardRules The forward rules.
+     */
+    public void setForwardRules(List<ForwardRule> forwardRules) {
+        this.forwardRules = forwardRules;
+    }
+
+    /**
+     * Gets the maximum number of concurrent requests per task app (bulkhead).
+     *
+     * @return The maximum number of concurrent requests.
+     */
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    /**
+     * Sets the maximum number of concurrent requests per task app (bulkhead).
+     *
+     * @param maxConcurrentCalls The maximum number of concurrent requests.
+     */
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    /**
+     * Gets the circuit breaker settings.
+     *
+     * @return The circuit breaker settings.
+     */
+    public CircuitBreakerConfig getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Sets the circuit breaker settings.
+     *
+     * @param circuitBreaker The circuit breaker settings.
+     */
+    public void setCircuitBreaker(CircuitBreakerConfig circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Gets the maximum number of cached additional data entries (per tasks and task groups).
+     *
+     * @return The maximum cache size ({@code 0} disables the cache).
+     */
+    public long getAdditionalDataCacheSize() {
+        return additionalDataCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of cached additional data entries (per tasks and task groups).
+     *
+     * @param additionalDataCacheSize The maximum cache size ({@code 0} disables the cache).
+     */
+    public void setAdditionalDataCacheSize(long additionalDataCacheSize) {
+        this.additionalDataCacheSize = additionalDataCacheSize;
+    }
+
+    /**
+     * Gets the duration after which cached additional data expires.
+     *
+     * @return The time to live of cache entries.
+     */
+    public Duration getAdditionalDataCacheTtl() {
+        return additionalDataCacheTtl;
+    }
+
+    /**
+     * Sets the duration after which cached additional data expires.
+     *
+     * @param additionalDataCacheTtl The time to live of cache entries.
+     */
+    public void setAdditionalDataCacheTtl(Duration additionalDataCacheTtl) {
+        this.additionalDataCacheTtl = additionalDataCacheTtl;
+    }
+
+    /**
+     * Gets the app-specific settings (key: task type).
+     *
+     * @return The app-specific settings.
+     */
+    public Map<String, AppConfig> getApps() {
+        return apps;
+    }
+
+    /**
+     * Sets the app-specific settings (key: task type).
+     *
+     * @param apps The app-specific settings.
+     */
+    public void setApps(Map<String, AppConfig> apps) {
+        this.apps = apps;
+    }
+
+    /**
+     * Returns the connect timeout for the specified task type.
+     *
+     * @param taskType The task type.
+     * @return The app-specific connect timeout or the default connect timeout.
+     */
+    public Duration getConnectTimeout(String taskType) {
+        var app = this.apps.get(taskType);
+        return app != null && app.getConnectTimeout() != null ? app.getConnectTimeout() : this.connectTimeout;
+    }
+
+    /**
+     * Returns the request timeout for the specified task type.
+     *
+     * @param taskType The task type.
+     * @return The app-specific request timeout or the default request timeout.
+     */
+    public Duration getRequestTimeout(String taskType) {
+        var app = this.apps.get(taskType);
+        return app != null && app.getRequestTimeout() != null ? app.getRequestTimeout() : this.requestTimeout;
+    }
+
+    /**
+     * App-specific settings which override the defaults.
+     */
+    public static class AppConfig {
+        private Duration connectTimeout;
+        private Duration requestTimeout;
+
+        /**
+         * Creates a new instance of class {@link AppConfig}.
+         */
+        public AppConfig() {
+        }
+
+        /**
+         * Gets the timeout for establishing a connection to the task app.
+         *
+         * @return The connect timeout or {@code null} to use the default.
+         */
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        /**
+         * Sets the timeout for establishing a connection to the task app.
+         *
+         * @param connectTimeout The connect timeout or {@code null} to use the default.
+         */
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        /**
+         * Gets the timeout for receiving the response of the task app.
+         *
+         * @return The request timeout or {@code null} to use the default.
+         */
+        public Duration getRequestTimeout() {
+            return requestTimeout;
+        }
+
+        /**
+         * Sets the timeout for receiving the response of the task app.
+         *
+         * @param requestTimeout The request timeout or {@code null} to use the default.
+         */
+        public void setRequestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+        }
+    }
+
+    /**
+     * Settings of the circuit breaker which stops sending requests to a task app after consecutive failures.
+     */
+    public static class CircuitBreakerConfig {
+        @Min(1)
+        private int failureThreshold = 5;
+
+        @NotNull
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        @Min(1)
+        private int halfOpenMaxCalls = 1;
+
+        /**
+         * Creates a new instance of class {@link CircuitBreakerConfig}.
+         */
+        public CircuitBreakerConfig() {
+        }
+
+        /**
+         * Gets the number of consecutive failures after which the circuit opens.
+         *
+         * @return The failure threshold.
+         */
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        /**
+         * Sets the number of consecutive failures after which the circuit opens.
+         *
+         * @param failureThreshold The failure threshold.
+         */
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        /**
+         * Gets the duration for which requests are rejected before probing the task app again.
+         *
+         * @return The open duration.
+         */
+        public Duration getOpenDuration() {
+            return openDuration;
+        }
+
+        /**
+         * Sets the duration for which requests are rejected before probing the task app again.
+         *
+         * @param openDuration The open duration.
+         */
+        public void setOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+        }
+
+        /**
+         * Gets the number of concurrent probe requests while the circuit is half-open.
+         *
+         * @return The number of probe requests.
+         */
+        public int getHalfOpenMaxCalls() {
+            return halfOpenMaxCalls;
+        }
+
+        /**
+         * Sets the number of concurrent probe requests while the circuit is half-open.
+         *
+         * @param halfOpenMaxCalls The number of probe requests.
+         */
+        public void setHalfOpenMaxCalls(int halfOpenMaxCalls) {
+            this.halfOpenMaxCalls = halfOpenMaxCalls;
+        }
+    }
+
+    /**
+     * A rule which allows or denies forwarding requests to paths of the task apps.
+     * <p>
+     * The pattern consists of path segments separated by {@code /} (without leading slash, case-insensitive).
+     * Following wildcards may be used as segment:
+     * <ul>
+     *     <li>{@code *}: Exactly one arbitrary segment.</li>
+     *     <li>{@code #}: Exactly one numeric segment.</li>
+     *     <li>{@code **}: One or more arbitrary segments.</li>
+     * </ul>
+     */
+    public static class ForwardRule {
+        @NotEmpty
+        private String pattern;
+
+        private boolean allow;
+
+        private List<String> taskTypes = new ArrayList<>();
+
+        /**
+         * Creates a new instance of class {@link ForwardRule}.
+         */
+        public ForwardRule() {
+        }
+
+        /**
+         * Creates a new instance of class {@link ForwardRule}.
+         *
+         * @param pattern   The path pattern.
+         * @param allow     Whether matching requests are forwarded.
+         * @param taskTypes The task types the rule applies to (empty for all task types).
+         */
+        public ForwardRule(String pattern, boolean allow, List<String> taskTypes) {
+            this.pattern = pattern;
+            this.allow = allow;
+            this.taskTypes = taskTypes;
+        }
+
+        /**
+         * Gets the path pattern.
+         *
+         * @return The path pattern.
+         */
+        public String getPattern() {
+            return pattern;
+        }
+
+        /**
+         * Sets the path pattern.
+         *
+         * @param pattern The path pattern.
+         */
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        /**
+         * Returns whether matching requests are forwarded.
+         *
+         * @return {@code true} if matching requests are forwarded; {@code false} if they are rejected.
+         */
+        public boolean isAllow() {
+            return allow;
+        }
+
+        /**
+         * Sets whether matching requests are forwarded.
+         *
+         * @param allow {@code true} if matching requests are forwarded; {@code false} if they are rejected.
+         */
+        public void setAllow(boolean allow) {
+            this.allow = allow;
+        }
+
+        /**
+         * Gets the task types the rule applies to.
+         *
+         * @return The task types (empty for all task types).
+         */
+        public List<String> getTaskTypes() {
+            return taskTypes;
+        }
+
+        /**
+         * Sets the task types the rule applies to.
+         *
+         * @param taskTypes The task types (empty for all task types).
+         */
+        public void setTaskTypes(List<String> taskTypes) {
+            this.taskTypes = taskTypes;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cache for the additional data of tasks and task groups stored in the task apps.
+ * <p>
+ * The entries are evicted if the cache is full or the configured time to live has elapsed. As the additional data
+ * might also be modified by the task apps themselves (e.g. via forwarded requests), the time to live should be short.
+ * Modifications via {@link TaskAppCommunicationService} remove the entry before and after the request. Every removal
+ * also increments the generation of the entry; a read has to pass the generation obtained before requesting the data
+ * when storing the result, which is discarded if the entry has been removed in the meantime. Thus, a read that
+ * overlaps a modification cannot keep the old data in the cache. The generations are striped by key, so unrelated
+ * entries might share a generation; this only causes some results to not be cached.
+ * The caches are monitored as {@code cache.*} metrics with the names {@code taskAdditionalData} and
+ * {@code taskGroupAdditionalData}.
+ */
+@Component
+public class TaskAppDataCache {
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache<Key, Map<String, Object>> taskCache;
+    private final Cache<Key, Map<String, Object>> taskGroupCache;
+    private final AtomicLongArray taskGenerations;
+    private final AtomicLongArray taskGroupGenerations;
+
+    /**
+     * Creates a new instance of class {@link TaskAppDataCache}.
+     *
+     * @param config        The task app configuration.
+     * @param meterRegistry The meter registry.
+     */
+    public TaskAppDataCache(TaskAppConfig config, MeterRegistry meterRegistry) {
+        this.taskCache = buildCache(config);
+        this.taskGroupCache = buildCache(config);
+        this.taskGenerations = new AtomicLongArray(GENERATION_STRIPES);
+        this.taskGroupGenerations = new AtomicLongArray(GENERATION_STRIPES);
+        GuavaCacheMetrics.monitor(meterRegistry, this.taskCache, "taskAdditionalData");
+        GuavaCacheMetrics.monitor(meterRegistry, this.taskGroupCache, "taskGroupAdditionalData");
+    }
+
+    /**
+     * Returns the cached additional data of the task.
+     *
+     * @param id       The task identifier.
+     * @param taskType The task type.
+     * @return The additional data or {@code null} if not cached.
+     */
+    public Map<String, Object> getTask(long id, String taskType) {
+        return this.taskCache.getIfPresent(new Key(id, taskType));
+    }
+
+    /**
+     * Returns the current generation of the cache entry of the task.
+     * <p>
+     * The generation has to be obtained before requesting the additional data from the task app.
+     *
+     * @param id       The task identifier.
+     * @param taskType The task type.
+     * @return The generation.
+     */
+    public long getTaskGeneration(long id, String taskType) {
+        return getGeneration(this.taskGenerations, new Key(id, taskType));
+    }
+
+    /**
+     * Caches the additional data of the task, unless the entry has been invalidated since the specified generation.
+     *
+     * @param id             The task identifier.
+     * @param taskType       The task type.
+     * @param generation     The generation obtained before requesting the additional data.
+     * @param additionalData The additional data.
+     * @return The (unmodifiable) additional data.
+     * @see #getTaskGeneration(long, String)
+     */
+    public Map<String, Object> putTask(long id, String taskType, long generation, Map<String, Object> additionalData) {
+        return put(this.taskCache, this.taskGenerations, new Key(id, taskType), generation, additionalData);
+    }
+
+    /**
+     * Removes the additional data of the task from the cache.
+     *
+     * @param id       The task identifier.
+     * @param taskType The task type.
+     */
+    public void invalidateTask(long id, String taskType) {
+        invalidate(this.taskCache, this.taskGenerations, new Key(id, taskType));
+    }
+
+    /**
+     * Returns the cached additional data of the task group.
+     *
+     * @param id            The task group identifier.
+     * @param taskGroupType The task group type.
+     * @return The additional data or {@code null} if not cached.
+     */
+    public Map<String, Object> getTaskGroup(long id, String taskGroupType) {
+        return this.taskGroupCache.getIfPresent(new Key(id, taskGroupType));
+    }
+
+    /**
+     * Returns the current generation of the cache entry of the task group.
+     * <p>
+     * The generation has to be obtained before requesting the additional data from the task app.
+     *
+     * @param id            The task group identifier.
+     * @param taskGroupType The task group type.
+     * @return The generation.
+     */
+    public long getTaskGroupGeneration(long id, String taskGroupType) {
+        return getGeneration(this.taskGroupGenerations, new Key(id, taskGroupType));
+    }
+
+    /**
+     * Caches the additional data of the task group, unless the entry has been invalidated since the specified
+     * generation.
+     *
+     * @param id             The task group identifier.
+     * @param taskGroupType  The task group type.
+     * @param generation     The generation obtained before requesting the additional data.
+     * @param additionalData The additional data.
+     * @return The (unmodifiable) additional data.
+     * @see #getTaskGroupGeneration(long, String)
+     */
+    public Map<String, Object> putTaskGroup(long id, String taskGroupType, long generation, Map<String, Object> additionalData) {
+        return put(this.taskGroupCache, this.taskGroupGenerations, new Key(id, taskGroupType), generation, additionalData);
+    }
+
+    /**
+     * Removes the additional data of the task group from the cache.
+     *
+     * @param id            The task group identifier.
+     * @param taskGroupType The task group type.
+     */
+    public void invalidateTaskGroup(long id, String taskGroupType) {
+        invalidate(this.taskGroupCache, this.taskGroupGenerations, new Key(id, taskGroupType));
+    }
+
+    private static long getGeneration(AtomicLongArray generations, Key key) {
+        return generations.get(stripe(key));
+    }
+
+    private static Map<String, Object> put(Cache<Key, Map<String, Object>> cache, AtomicLongArray generations, Key key, long generation, Map<String, Object> additionalData) {
+        var value = Collections.unmodifiableMap(additionalData);
+        int stripe = stripe(key);
+        if (generations.get(stripe) != generation)
+            return value;
+
+        // An invalidation between the check and the put increments the generation before removing the entry, so
+        // either it removes our entry or we see the new generation here and remove it ourselves.
+        cache.put(key, value);
+        if (generations.get(stripe) != generation)
+            cache.invalidate(key);
+        return value;
+    }
+
+    private static void invalidate(Cache<Key, Map<String, Object>> cache, AtomicLongArray generations, Key key) {
+        generations.incrementAndGet(stripe(key));
+        cache.invalidate(key);
+    }
+
+    private static int stripe(Key key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private static Cache<Key, Map<String, Object>> buildCache(TaskAppConfig config) {
+        return CacheBuilder.newBuilder()
+            .maximumSize(config.getAdditionalDataCacheSize())
+            .expireAfterWrite(config.getAdditionalDataCacheTtl())
+            .recordStats()
+            .build();
+    }
+
+    private record Key(long id, String type) {
+    }
+}
@@ -0,0 +1,109 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskApp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds one long-lived {@link HttpClient} per {@link TaskApp}.
+ * <p>
+ * The clients are reused for all requests to the same task app, so that connections are kept alive and
+ * multiplexed (HTTP/2) instead of being re-established for each request.
+ * A client is rebuilt if the URL of the task app changes and is removed if the task app gets modified or deleted.
+ */
+@Component
+public class TaskAppHttpClientRegistry implements DisposableBean {
+    private static final Logger LOG = LoggerFactory.getLogger(TaskAppHttpClientRegistry.class);
+
+    private final TaskAppConfig config;
+    private final ConcurrentMap<String, ClientEntry> clients;
+
+    /**
+     * Creates a new instance of class {@link TaskAppHttpClientRegistry}.
+     *
+     * @param config The task app configuration.
+     */
+    public TaskAppHttpClientRegistry(TaskAppConfig config) {
+        this.config = config;
+        this.clients = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the HTTP client for the task app with the specified task type.
+     *
+     * @param taskType The task type of the task app.
+     * @param url      The base URL of the task app.
+     * @return The HTTP client.
+     */
+    public HttpClient getClient(String taskType, String url) {
+        var entry = this.clients.get(taskType);
+        if (entry != null && entry.url().equals(url))
+            return entry.client();
+
+        return this.clients.compute(taskType, (type, existing) -> {
+            if (existing != null) {
+                if (existing.url().equals(url))
+                    return existing;
+                LOG.info("URL of task app {} changed, rebuilding HTTP client", type);
+                existing.client().shutdown();
+            }
+            return new ClientEntry(url, this.buildClient(type));
+        }).client();
+    }
+
+    /**
+     * Returns the request timeout for the task app with the specified task type.
+     *
+     * @param taskType The task type of the task app.
+     * @return The request timeout.
+     */
+    public Duration getRequestTimeout(String taskType) {
+        return this.config.getRequestTimeout(taskType);
+    }
+
+    /**
+     * Removes the HTTP client of the task app with the specified task type.
+     * <p>
+     * Requests which are still in progress are completed, the next request creates a new client.
+     *
+     * @param taskType The task type of the task app.
+     */
+    public void evict(String taskType) {
+        if (taskType == null)
+            return;
+
+        var entry = this.clients.remove(taskType);
+        if (entry != null) {
+            LOG.debug("Removing HTTP client of task app {}", taskType);
+            entry.client().shutdown();
+        }
+    }
+
+    /**
+     * Shuts down all HTTP clients.
+     */
+    @Override
+    public void destroy() {
+        this.clients.values().forEach(x -> x.client().shutdown());
+        this.clients.clear();
+    }
+
+    private HttpClient buildClient(String taskType) {
+        LOG.debug("Creating HTTP client for task app {}", taskType);
+        return HttpClient.newBuilder()
+            .version(this.config.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(this.config.getConnectTimeout(taskType))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+    }
+
+    private record ClientEntry(String url, HttpClient client) {
+    }
+}
@@ -0,0 +1,55 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskApp;
+
+/**
+ * The resolved routing information of a {@link TaskApp}.
+ * <p>
+ * The endpoint URLs already contain the configured prefixes, e.g. {@code http://localhost:8081/api/task/dlg}
+ * if the task prefix {@code dlg} is configured and {@code http://localhost:8081/api/task} if no prefix is configured.
+ *
+ * @param taskType      The task type.
+ * @param url           The URL of the task app as configured.
+ * @param apiKey        The API key or {@code null}.
+ * @param baseUrl       The URL of the task app ending with a slash.
+ * @param taskUrl       The URL of the task endpoint (without trailing slash).
+ * @param taskGroupUrl  The URL of the task group endpoint (without trailing slash).
+ * @param submissionUrl The URL of the submission endpoint (without trailing slash).
+ * @param batchSupport  Whether the task app supports the batch endpoints.
+ */
+public record TaskAppRoute(String taskType, String url, String apiKey, String baseUrl, String taskUrl, String taskGroupUrl, String submissionUrl,
+                           boolean batchSupport) {
+
+    /**
+     * Creates the route for the specified task app.
+     *
+     * @param app The task app.
+     * @return The route.
+     */
+    public static TaskAppRoute of(TaskApp app) {
+        String baseUrl = app.getUrl().endsWith("/") ? app.getUrl() : app.getUrl() + '/';
+        return new TaskAppRoute(
+            app.getTaskType(),
+            app.getUrl(),
+            app.getApiKey(),
+            baseUrl,
+            baseUrl + "api/task" + expandPrefix(app.getTaskPrefix()),
+            baseUrl + "api/taskGroup" + expandPrefix(app.getTaskGroupPrefix()),
+            baseUrl + "api/submission" + expandPrefix(app.getSubmissionPrefix()),
+            app.isBatchSupport());
+    }
+
+    /**
+     * Returns the URL for the specified path relative to the task app.
+     *
+     * @param path The path (without leading slash).
+     * @return The URL.
+     */
+    public String resolve(String path) {
+        return this.baseUrl + path;
+    }
+
+    private static String expandPrefix(String prefix) {
+        return prefix == null || prefix.isBlank() ? "" : '/' + prefix;
+    }
+}
@@ -0,0 +1,81 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskApp;
+import at.jku.dke.etutor.task_administration.data.repositories.TaskAppRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the routing information of the {@link TaskApp}s in memory.
+ * <p>
+ * A route is loaded from the database on first use and kept until it gets invalidated by {@link TaskAppService}.
+ * Unknown task types are not cached, so that the table cannot be filled with arbitrary task types.
+ */
+@Component
+public class TaskAppRoutingTable {
+    private static final Logger LOG = LoggerFactory.getLogger(TaskAppRoutingTable.class);
+
+    private final TaskAppRepository repository;
+    private final ConcurrentMap<String, TaskAppRoute> routes;
+    private final AtomicLong generation;
+
+    /**
+     * Creates a new instance of class {@link TaskAppRoutingTable}.
+     *
+     * @param repository The task app repository.
+     */
+    public TaskAppRoutingTable(TaskAppRepository repository) {
+        this.repository = repository;
+        this.routes = new ConcurrentHashMap<>();
+        this.generation = new AtomicLong();
+    }
+
+    /**
+     * Returns the route for the specified task type.
+     *
+     * @param taskType The task type.
+     * @return The route or an empty result if no task app exists for the task type.
+     */
+    public Optional<TaskAppRoute> getRoute(String taskType) {
+        if (taskType == null)
+            return Optional.empty();
+
+        var route = this.routes.get(taskType);
+        if (route != null)
+            return Optional.of(route);
+
+        // Only store the loaded route if no invalidation happened in the meantime, otherwise we might cache outdated data.
+        long gen = this.generation.get();
+        var loaded = this.repository.findByTaskType(taskType).map(TaskAppRoute::of);
+        if (loaded.isPresent() && this.generation.get() == gen) {
+            LOG.debug("Caching route for task app {}", taskType);
+            this.routes.putIfAbsent(taskType, loaded.get());
+        }
+        return loaded;
+    }
+
+    /**
+     * Removes the route for the specified task type.
+     *
+     * @param taskType The task type.
+     */
+    public void invalidate(String taskType) {
+        this.generation.incrementAndGet();
+        if (taskType != null && this.routes.remove(taskType) != null)
+            LOG.debug("Removed route for task app {}", taskType);
+    }
+
+    /**
+     * Removes all routes.
+     */
+    public void invalidateAll() {
+        this.generation.incrementAndGet();
+        this.routes.clear();
+    }
+}
@@ -19,6 +19,8 @@
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -32,14 +34,20 @@ public class TaskAppService {
     private static final Logger LOG = LoggerFactory.getLogger(TaskAppService.class);
 
     private final TaskAppRepository repository;
+    private final TaskAppRoutingTable routingTable;
+    private final TaskAppHttpClientRegistry httpClientRegistry;
 
     /**
      * Creates a new instance of class {@link TaskAppService}.
      *
-     * @param repository The task app repository.
+     * @param repository         The task app repository.
+     * @param routingTable       The routing table for the task apps.
+     * @param httpClientRegistry The HTTP client registry for the task apps.
      */
-    public TaskAppService(TaskAppRepository repository) {
+    public TaskAppService(TaskAppRepository repository, TaskAppRoutingTable routingTable, TaskAppHttpClientRegistry httpClientRegistry) {
         this.repository = repository;
+        this.routingTable = routingTable;
+        this.httpClientRegistry = httpClientRegistry;
     }
 
     //#region --- View ---
@@ -92,7 +100,9 @@ public TaskApp create(ModifyTaskAppDto dto) {
         taskApp.setTaskPrefix(dto.taskPrefix());
         taskApp.setTaskGroupPrefix(dto.taskGroupPrefix());
         taskApp.setSubmissionPrefix(dto.submissionPrefix());
+        taskApp.setBatchSupport(dto.batchSupport());
         taskApp = this.repository.save(taskApp);
+        this.invalidateAfterCommit(dto.taskType());
 
         return taskApp;
     }
@@ -115,12 +125,15 @@ public void update(long id, ModifyTaskAppDto dto, Instant concurrencyToken) {
         }
 
         LOG.info("Updating task app {}", id);
+        this.invalidateAfterCommit(taskApp.getTaskType());
+        this.invalidateAfterCommit(dto.taskType());
         taskApp.setTaskType(dto.taskType());
         taskApp.setUrl(dto.url());
         taskApp.setApiKey(dto.apiKey());
         taskApp.setTaskPrefix(dto.taskPrefix());
         taskApp.setTaskGroupPrefix(dto.taskGroupPrefix());
         taskApp.setSubmissionPrefix(dto.submissionPrefix());
+        taskApp.setBatchSupport(dto.batchSupport());
         this.repository.save(taskApp);
     }
 
@@ -133,9 +146,33 @@ public void update(long id, ModifyTaskAppDto dto, Instant concurrencyToken) {
     @PreAuthorize(AuthConstants.AUTHORITY_FULL_ADMIN)
     public void delete(long id) {
         LOG.info("Deleting task app {}", id);
+        this.repository.findById(id).ifPresent(x -> this.invalidateAfterCommit(x.getTaskType()));
         this.repository.deleteById(id);
     }
 
+    /**
+     * Removes the cached route and HTTP client of the task app once the current transaction has been committed.
+     *
+     * @param taskType The task type of the task app.
+     */
+    private void invalidateAfterCommit(String taskType) {
+        Runnable action = () -> {
+            this.routingTable.invalidate(taskType);
+            this.httpClientRegistry.evict(taskType);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
     //#endregion
 
     //#region --- Specifications ---
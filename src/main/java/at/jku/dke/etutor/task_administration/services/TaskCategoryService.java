@@ -2,11 +2,13 @@
 
 import at.jku.dke.etutor.task_administration.auth.AuthConstants;
 import at.jku.dke.etutor.task_administration.auth.SecurityHelpers;
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
 import at.jku.dke.etutor.task_administration.data.entities.TaskCategory;
 import at.jku.dke.etutor.task_administration.data.repositories.OrganizationalUnitRepository;
 import at.jku.dke.etutor.task_administration.data.repositories.TaskCategoryRepository;
 import at.jku.dke.etutor.task_administration.dto.ModifyTaskCategoryDto;
 import at.jku.dke.etutor.task_administration.dto.TaskCategoryDto;
+import at.jku.dke.etutor.task_administration.dto.WindowDto;
 import at.jku.dke.etutor.task_administration.moodle.QuestionCategoryService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -19,6 +21,7 @@
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,7 @@
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This class provides methods for managing {@link TaskCategory}s.
@@ -34,10 +38,13 @@
 @Service
 public class TaskCategoryService {
     private static final Logger LOG = LoggerFactory.getLogger(TaskCategoryService.class);
+    private static final Set<String> SCROLL_SORT_PROPERTIES = Set.of("id", "name");
 
     private final TaskCategoryRepository repository;
     private final OrganizationalUnitRepository organizationalUnitRepository;
     private final QuestionCategoryService questionCategoryService;
+    private final MoodleSyncQueue moodleSyncQueue;
+    private final EntityCacheEvictor entityCacheEvictor;
 
     /**
      * Creates a new instance of class {@link TaskCategoryService}.
@@ -45,12 +52,17 @@ public class TaskCategoryService {
      * @param repository                   The task category repository.
      * @param organizationalUnitRepository The organizational unit repository.
      * @param questionCategoryService      The question category service.
+     * @param moodleSyncQueue              The moodle sync queue.
+     * @param entityCacheEvictor           The entity cache evictor.
      */
     public TaskCategoryService(TaskCategoryRepository repository, OrganizationalUnitRepository organizationalUnitRepository,
-                               QuestionCategoryService questionCategoryService) {
+                               QuestionCategoryService questionCategoryService, MoodleSyncQueue moodleSyncQueue,
+                               EntityCacheEvictor entityCacheEvictor) {
         this.repository = repository;
         this.organizationalUnitRepository = organizationalUnitRepository;
         this.questionCategoryService = questionCategoryService;
+        this.moodleSyncQueue = moodleSyncQueue;
+        this.entityCacheEvictor = entityCacheEvictor;
     }
 
     //#region --- View ---
@@ -70,6 +82,26 @@ public Page<TaskCategoryDto> getTaskCategories(Pageable page, String nameFilter,
         return this.repository.findAll(new FilterSpecification(nameFilter, parentFilter, organizationalUnitFilter), page).map(TaskCategoryDto::new);
     }
 
+    /**
+     * Returns the window of task categories after the cursor (keyset pagination).
+     *
+     * @param cursor                   The cursor returned with the previous window or {@code null} for the first window.
+     * @param size                     The maximum number of task categories.
+     * @param sort                     The sort; supported properties: {@code id}, {@code name}.
+     * @param count                    Whether to count the total number of matching task categories.
+     * @param nameFilter               Optional name filter string (applies contains to name attribute).
+     * @param parentFilter             Optional parent filter (applies equals to parent attribute).
+     * @param organizationalUnitFilter Optional organizational unit filter (applies equals to organizational unit attribute).
+     * @return The window of task categories.
+     */
+    @Transactional(readOnly = true)
+    public WindowDto<TaskCategoryDto> scrollTaskCategories(String cursor, int size, Sort sort, boolean count, String nameFilter, Long parentFilter, Long organizationalUnitFilter) {
+        LOG.debug("Loading {} task categories after cursor {}", size, cursor);
+        return KeysetScrolling.scroll(this.repository, TaskCategory.class,
+            new FilterSpecification(nameFilter, parentFilter, organizationalUnitFilter),
+            cursor, size, sort, SCROLL_SORT_PROPERTIES, count, TaskCategoryDto::new);
+    }
+
     /**
      * Returns the task category with the specified identifier.
      *
@@ -112,7 +144,7 @@ public TaskCategory create(ModifyTaskCategoryDto dto) {
         taskCategory.setName(dto.name());
         taskCategory.setOrganizationalUnit(this.organizationalUnitRepository.getReferenceById(dto.organizationalUnitId()));
         taskCategory = this.repository.save(taskCategory);
-        this.createMoodleObjectsForTaskCategory(taskCategory);
+        this.moodleSyncQueue.enqueue(MoodleSyncEntityType.TASK_CATEGORY, taskCategory.getId());
 
         return taskCategory;
     }
@@ -154,7 +186,7 @@ public void update(long id, ModifyTaskCategoryDto dto, Instant concurrencyToken)
         taskCategory.setParent(dto.parentId() == null ? null : this.repository.getReferenceById(dto.parentId()));
         taskCategory = this.repository.save(taskCategory);
 
-        this.updateMoodleObjectsForOrganizationalUnit(taskCategory);
+        this.moodleSyncQueue.enqueue(MoodleSyncEntityType.TASK_CATEGORY, taskCategory.getId());
     }
 
     /**
@@ -172,6 +204,9 @@ public void delete(long id) {
 
         if (SecurityHelpers.isFullAdmin() || orgUnits.contains(taskCategory.getOrganizationalUnit().getId())) {
             LOG.info("Deleting task category {}", id);
+            // the database deletes the child categories (ON DELETE CASCADE), which would remain in the cache otherwise
+            if (!taskCategory.getChildren().isEmpty())
+                this.entityCacheEvictor.evictAfterCommit(TaskCategory.class);
             this.repository.delete(taskCategory);
         } else
             LOG.warn("User {} tried to delete task category {}", SecurityHelpers.getUserId(), id);
@@ -182,44 +217,69 @@ public void delete(long id) {
     //#region --- Moodle ---
 
     /**
-     * Called when task category has been created.
+     * Creates the moodle question category for the task category.
      *
      * @param category The task category.
+     * @return {@code true} if the question category exists; {@code false} if it could not be created.
      */
-    public void createMoodleObjectsForTaskCategory(TaskCategory category) {
+    public boolean createMoodleObjectsForTaskCategory(TaskCategory category) {
         if (category.getMoodleId() != null)
-            return;
+            return true;
 
-        LOG.debug("Triggering question category creation for task category {}", category.getId());
-        this.questionCategoryService.createQuestionCategory(category).thenAccept(moodleId -> {
-            if (moodleId.isPresent()) {
-                LOG.info("Setting moodle-id for task category {} to {}", category.getId(), moodleId.get());
-                category.setMoodleId(moodleId.get());
-                this.repository.save(category);
-            }
-        });
+        LOG.debug("Creating question category for task category {}", category.getId());
+        var moodleId = this.questionCategoryService.createQuestionCategory(category).join();
+        if (moodleId.isEmpty())
+            return false;
+
+        LOG.info("Setting moodle-id for task category {} to {}", category.getId(), moodleId.get());
+        category.setMoodleId(moodleId.get());
+        this.repository.save(category);
+        return true;
     }
 
     /**
-     * Called when task category has been updated.
+     * Updates the moodle question category of the task category.
      *
      * @param category The task category.
+     * @return {@code true} if the question category has been updated; {@code false} otherwise.
      */
-    public void updateMoodleObjectsForOrganizationalUnit(TaskCategory category) {
-        LOG.debug("Triggering question category update for task category {}", category.getId());
-        this.questionCategoryService.updateQuestionCategory(category);
+    public boolean updateMoodleObjectsForTaskCategory(TaskCategory category) {
+        LOG.debug("Updating question category for task category {}", category.getId());
+        return this.questionCategoryService.updateQuestionCategory(category);
     }
 
     /**
-     * Creates a Moodle question category for the task category.
+     * Requests the synchronization of the task category with the Moodle question category.
      *
      * @param id The task category id.
      * @throws EntityNotFoundException If the task category does not exist.
      */
-    @Transactional(readOnly = true)
+    @Transactional
     public void createMoodleObjectsForTaskCategory(long id) {
-        var category = this.repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Task category " + id + " does not exist."));
-        this.createMoodleObjectsForTaskCategory(category);
+        if (!this.repository.existsById(id))
+            throw new EntityNotFoundException("Task category " + id + " does not exist.");
+        this.moodleSyncQueue.enqueue(MoodleSyncEntityType.TASK_CATEGORY, id);
+    }
+
+    /**
+     * Synchronizes the task category with the Moodle question category (called by {@link MoodleSyncDispatcher}).
+     * <p>
+     * Fails as long as the organizational unit or the parent category have not been synchronized.
+     *
+     * @param id The task category id.
+     * @return {@code true} if the synchronization succeeded or is not necessary anymore; {@code false} otherwise.
+     */
+    @Transactional
+    public boolean synchronizeMoodleObjects(long id) {
+        var category = this.repository.findById(id).orElse(null);
+        if (category == null) {
+            LOG.debug("Skipping moodle synchronization of deleted task category {}", id);
+            return true;
+        }
+
+        if (category.getMoodleId() == null)
+            return this.createMoodleObjectsForTaskCategory(category);
+        return this.updateMoodleObjectsForTaskCategory(category);
     }
 
     //#endregion
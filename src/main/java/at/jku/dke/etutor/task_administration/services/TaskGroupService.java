@@ -7,8 +7,12 @@
 import at.jku.dke.etutor.task_administration.data.repositories.OrganizationalUnitRepository;
 import at.jku.dke.etutor.task_administration.data.repositories.TaskGroupRepository;
 import at.jku.dke.etutor.task_administration.dto.CombinedDto;
+import at.jku.dke.etutor.task_administration.dto.ExportSummaryDto;
 import at.jku.dke.etutor.task_administration.dto.ModifyTaskGroupDto;
 import at.jku.dke.etutor.task_administration.dto.TaskGroupDto;
+import at.jku.dke.etutor.task_administration.dto.TaskGroupSearchResultDto;
+import at.jku.dke.etutor.task_administration.dto.TaskGroupSummaryDto;
+import at.jku.dke.etutor.task_administration.dto.WindowDto;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -20,17 +24,19 @@
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 /**
@@ -39,11 +45,13 @@
 @Service
 public class TaskGroupService {
     private static final Logger LOG = LoggerFactory.getLogger(TaskGroupService.class);
+    private static final Set<String> SCROLL_SORT_PROPERTIES = Set.of("id", "name", "lastModifiedDate");
 
     private final TaskGroupRepository repository;
     private final TaskService taskService;
     private final OrganizationalUnitRepository organizationalUnitRepository;
     private final TaskAppCommunicationService taskAppCommunicationService;
+    private final ExportService exportService;
 
     /**
      * Creates a new instance of class {@link TaskGroupService}.
@@ -52,13 +60,16 @@ public class TaskGroupService {
      * @param taskService                  The task service.
      * @param organizationalUnitRepository The organizational unit repository.
      * @param taskAppCommunicationService  The task app communication service.
+     * @param exportService                The export service.
      */
     public TaskGroupService(TaskGroupRepository repository, TaskService taskService,
-                            OrganizationalUnitRepository organizationalUnitRepository, TaskAppCommunicationService taskAppCommunicationService) {
+                            OrganizationalUnitRepository organizationalUnitRepository, TaskAppCommunicationService taskAppCommunicationService,
+                            ExportService exportService) {
         this.repository = repository;
         this.taskService = taskService;
         this.organizationalUnitRepository = organizationalUnitRepository;
         this.taskAppCommunicationService = taskAppCommunicationService;
+        this.exportService = exportService;
     }
 
     //#region --- View ---
@@ -79,6 +90,65 @@ public Page<TaskGroupDto> getTaskGroups(Pageable page, String nameFilter, TaskSt
         return this.repository.findAll(new FilterSpecification(nameFilter, statusFilter, taskGroupTypeFilter, orgUnitFilter), page).map(TaskGroupDto::new);
     }
 
+    /**
+     * Returns the summaries of the task groups for the requested page.
+     * <p>
+     * In contrast to {@link #getTaskGroups(Pageable, String, TaskStatus, String, Long)}, the descriptions are not loaded.
+     *
+     * @param page                The page and sorting information.
+     * @param nameFilter          Optional name filter string (applies contains to name attribute).
+     * @param statusFilter        Optional status filter (applies equals to status attribute).
+     * @param taskGroupTypeFilter Optional task group type filter (applies equals to task group type attribute).
+     * @param orgUnitFilter       Optional organizational unit filter (applies equals to organizational unit attribute).
+     * @return List of task group summaries
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskGroupSummaryDto> getTaskGroupSummaries(Pageable page, String nameFilter, TaskStatus statusFilter, String taskGroupTypeFilter, Long orgUnitFilter) {
+        LOG.debug("Loading task group summaries for page {}", page);
+        return this.repository.findSummaries(new FilterSpecification(nameFilter, statusFilter, taskGroupTypeFilter, orgUnitFilter), page);
+    }
+
+    /**
+     * Searches the task groups by name and descriptions.
+     *
+     * @param text  The search text (web search syntax, e.g. {@code "exact phrase" -excluded or other}).
+     * @param limit The maximum number of results.
+     * @return The matching task groups ordered by relevance.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskGroupSearchResultDto> searchTaskGroups(String text, int limit) {
+        LOG.debug("Searching task groups for {}", text);
+        boolean allUnits = SecurityHelpers.isFullAdmin();
+        var orgUnits = SecurityHelpers.getOrganizationalUnits();
+        if (!allUnits && orgUnits.isEmpty())
+            return List.of();
+
+        return this.repository.search(text.strip(), LikePatterns.contains(text), allUnits, allUnits ? List.of(0L) : orgUnits, limit).stream()
+            .map(TaskGroupSearchResultDto::new)
+            .toList();
+    }
+
+    /**
+     * Returns the window of task groups after the cursor (keyset pagination).
+     *
+     * @param cursor              The cursor returned with the previous window or {@code null} for the first window.
+     * @param size                The maximum number of task groups.
+     * @param sort                The sort; supported properties: {@code id}, {@code name}, {@code lastModifiedDate}.
+     * @param count               Whether to count the total number of matching task groups.
+     * @param nameFilter          Optional name filter string (applies contains to name attribute).
+     * @param statusFilter        Optional status filter (applies equals to status attribute).
+     * @param taskGroupTypeFilter Optional task group type filter (applies equals to task group type attribute).
+     * @param orgUnitFilter       Optional organizational unit filter (applies equals to organizational unit attribute).
+     * @return The window of task groups.
+     */
+    @Transactional(readOnly = true)
+    public WindowDto<TaskGroupDto> scrollTaskGroups(String cursor, int size, Sort sort, boolean count, String nameFilter, TaskStatus statusFilter, String taskGroupTypeFilter, Long orgUnitFilter) {
+        LOG.debug("Loading {} task groups after cursor {}", size, cursor);
+        return KeysetScrolling.scroll(this.repository, TaskGroup.class,
+            new FilterSpecification(nameFilter, statusFilter, taskGroupTypeFilter, orgUnitFilter),
+            cursor, size, sort, SCROLL_SORT_PROPERTIES, count, TaskGroupDto::new);
+    }
+
     /**
      * Returns the task group with the specified identifier.
      *
@@ -98,26 +168,31 @@ public Optional<CombinedDto<TaskGroupDto>> getTaskGroup(long id) {
     }
 
     /**
-     * Returns details of all task groups.
+     * Returns all task groups which may be exported by the current user.
      *
-     * @return List of all task groups with details
+     * @return List of all exportable task groups
      */
     @Transactional(readOnly = true)
-    public List<CombinedDto<TaskGroupDto>> export() {
-        LOG.debug("Exporting task groups");
-        var groups = this.repository.findAll(new FilterSpecification(null, null, null, null));
-        List<CombinedDto<TaskGroupDto>> result = new ArrayList<>(groups.size());
-        for (var group : groups) {
-            if (SecurityHelpers.isFullAdmin() || SecurityHelpers.isAdmin(group.getOrganizationalUnit().getId())) {
-                try {
-                    var details = this.taskAppCommunicationService.getTaskGroupAdditionalData(group.getId(), group.getTaskGroupType());
-                    result.add(new CombinedDto<>(new TaskGroupDto(group), details));
-                } catch (ResponseStatusException ex) {
-                    result.add(new CombinedDto<>(new TaskGroupDto(group), null));
-                }
-            }
-        }
-        return result;
+    public List<TaskGroupDto> getTaskGroupsForExport() {
+        LOG.debug("Loading task groups for export");
+        return this.repository.findAll(new FilterSpecification(null, null, null, null)).stream()
+            .filter(group -> SecurityHelpers.isFullAdmin() || SecurityHelpers.isAdmin(group.getOrganizationalUnit().getId()))
+            .map(TaskGroupDto::new)
+            .toList();
+    }
+
+    /**
+     * Exports the task groups together with their additional data.
+     * <p>
+     * The additional data is requested in batches per task app; the task groups are passed to the consumer as soon as their data is available.
+     *
+     * @param groups   The task groups to export (see {@link #getTaskGroupsForExport()}).
+     * @param consumer The consumer receiving the task groups with details.
+     * @return The export summary.
+     */
+    public ExportSummaryDto export(List<TaskGroupDto> groups, Consumer<CombinedDto<TaskGroupDto>> consumer) {
+        LOG.debug("Exporting {} task groups", groups.size());
+        return this.exportService.export(groups, TaskGroupDto::id, TaskGroupDto::taskGroupType, this.taskAppCommunicationService::getTaskGroupsAdditionalData, consumer);
     }
 
     /**
@@ -1,16 +1,22 @@
 package at.jku.dke.etutor.task_administration.services;
 
 import at.jku.dke.etutor.task_administration.auth.SecurityHelpers;
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
 import at.jku.dke.etutor.task_administration.data.entities.Task;
 import at.jku.dke.etutor.task_administration.data.entities.TaskGroup;
 import at.jku.dke.etutor.task_administration.data.entities.TaskMoodleId;
 import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
 import at.jku.dke.etutor.task_administration.data.repositories.*;
 import at.jku.dke.etutor.task_administration.dto.CombinedDto;
+import at.jku.dke.etutor.task_administration.dto.ExportSummaryDto;
 import at.jku.dke.etutor.task_administration.dto.ModifyTaskDto;
 import at.jku.dke.etutor.task_administration.dto.SubmitSubmissionDto;
 import at.jku.dke.etutor.task_administration.dto.TaskDto;
+import at.jku.dke.etutor.task_administration.dto.TaskSearchResultDto;
+import at.jku.dke.etutor.task_administration.dto.TaskSummaryDto;
+import at.jku.dke.etutor.task_administration.dto.WindowDto;
 import at.jku.dke.etutor.task_administration.moodle.QuestionService;
+import at.jku.dke.etutor.task_administration.moodle.QuestionSyncContext;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -22,12 +28,14 @@
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
@@ -36,6 +44,9 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -45,6 +56,7 @@
 @Service
 public class TaskService {
     private static final Logger LOG = LoggerFactory.getLogger(TaskService.class);
+    private static final Set<String> SCROLL_SORT_PROPERTIES = Set.of("id", "title", "lastModifiedDate");
 
     private final TaskRepository repository;
     private final TaskGroupRepository taskGroupRepository;
@@ -55,6 +67,10 @@ public class TaskService {
     private final TaskMoodleIdRepository taskMoodleIdRepository;
 
     private final QuestionService questionService;
+    private final ExportService exportService;
+    private final MoodleSyncQueue moodleSyncQueue;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transaction;
 
     /**
      * Creates a new instance of class {@link TaskService}.
@@ -66,8 +82,11 @@ public class TaskService {
      * @param taskAppCommunicationService  The task app communication service.
      * @param taskMoodleIdRepository       The MoodleId Repository for Tasks.
      * @param questionService              The Question Service.
+     * @param exportService                The export service.
+     * @param moodleSyncQueue              The moodle sync queue.
+     * @param transactionManager           The transaction manager.
      */
-    public TaskService(TaskRepository repository, TaskGroupRepository taskGroupRepository, TaskCategoryRepository taskCategoryRepository, OrganizationalUnitRepository organizationalUnitRepository, TaskAppCommunicationService taskAppCommunicationService, TaskMoodleIdRepository taskMoodleIdRepository, QuestionService questionService) {
+    public TaskService(TaskRepository repository, TaskGroupRepository taskGroupRepository, TaskCategoryRepository taskCategoryRepository, OrganizationalUnitRepository organizationalUnitRepository, TaskAppCommunicationService taskAppCommunicationService, TaskMoodleIdRepository taskMoodleIdRepository, QuestionService questionService, ExportService exportService, MoodleSyncQueue moodleSyncQueue, PlatformTransactionManager transactionManager) {
         this.repository = repository;
         this.taskGroupRepository = taskGroupRepository;
         this.taskCategoryRepository = taskCategoryRepository;
@@ -75,6 +94,11 @@ public TaskService(TaskRepository repository, TaskGroupRepository taskGroupRepos
         this.taskAppCommunicationService = taskAppCommunicationService;
         this.taskMoodleIdRepository = taskMoodleIdRepository;
         this.questionService = questionService;
+        this.exportService = exportService;
+        this.moodleSyncQueue = moodleSyncQueue;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     //#region --- View ---
@@ -102,6 +126,77 @@ public Page<TaskDto> getTasks(Pageable page, String nameFilter, TaskStatus statu
             });
     }
 
+    /**
+     * Returns the summaries of the tasks for the requested page.
+     * <p>
+     * In contrast to {@link #getTasks(Pageable, String, TaskStatus, String, Long, Long)}, the descriptions are not loaded.
+     *
+     * @param page            The page and sorting information.
+     * @param nameFilter      Optional name filter string (applies contains to title attribute).
+     * @param statusFilter    Optional status filter (applies equals to status attribute).
+     * @param taskTypeFilter  Optional task type filter (applies equals to task type attribute).
+     * @param orgUnitFilter   Optional organizational unit filter (applies equals to organizational unit attribute).
+     * @param taskGroupFilter Optional task group filter (applies equals to task group attribute).
+     * @return List of task summaries
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskSummaryDto> getTaskSummaries(Pageable page, String nameFilter, TaskStatus statusFilter, String taskTypeFilter, Long orgUnitFilter, Long taskGroupFilter) {
+        LOG.debug("Loading task summaries for page {}", page);
+        return this.repository
+            .findSummaries(new FilterSpecification(nameFilter, statusFilter, taskTypeFilter, orgUnitFilter, taskGroupFilter), page)
+            .map(task -> {
+                if (task.examTask() && SecurityHelpers.isTutor(task.organizationalUnitId()))
+                    return null;
+                return task;
+            });
+    }
+
+    /**
+     * Searches the tasks by title and descriptions.
+     * <p>
+     * Exam tasks are not returned to tutors.
+     *
+     * @param text  The search text (web search syntax, e.g. {@code "exact phrase" -excluded or other}).
+     * @param limit The maximum number of results.
+     * @return The matching tasks ordered by relevance.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskSearchResultDto> searchTasks(String text, int limit) {
+        LOG.debug("Searching tasks for {}", text);
+        boolean allUnits = SecurityHelpers.isFullAdmin();
+        var orgUnits = SecurityHelpers.getOrganizationalUnits();
+        if (!allUnits && orgUnits.isEmpty())
+            return List.of();
+
+        return this.repository.search(text.strip(), LikePatterns.contains(text), allUnits, allUnits ? List.of(0L) : orgUnits, limit).stream()
+            .filter(result -> !Boolean.TRUE.equals(result.getExamTask()) || !SecurityHelpers.isTutor(result.getOrganizationalUnitId()))
+            .map(TaskSearchResultDto::new)
+            .toList();
+    }
+
+    /**
+     * Returns the window of tasks after the cursor (keyset pagination).
+     *
+     * @param cursor          The cursor returned with the previous window or {@code null} for the first window.
+     * @param size            The maximum number of tasks.
+     * @param sort            The sort; supported properties: {@code id}, {@code title}, {@code lastModifiedDate}.
+     * @param count           Whether to count the total number of matching tasks.
+     * @param nameFilter      Optional name filter string (applies contains to title attribute).
+     * @param statusFilter    Optional status filter (applies equals to status attribute).
+     * @param taskTypeFilter  Optional task type filter (applies equals to task type attribute).
+     * @param orgUnitFilter   Optional organizational unit filter (applies equals to organizational unit attribute).
+     * @param taskGroupFilter Optional task group filter (applies equals to task group attribute).
+     * @return The window of tasks.
+     */
+    @Transactional(readOnly = true)
+    public WindowDto<TaskDto> scrollTasks(String cursor, int size, Sort sort, boolean count, String nameFilter, TaskStatus statusFilter, String taskTypeFilter, Long orgUnitFilter, Long taskGroupFilter) {
+        LOG.debug("Loading {} tasks after cursor {}", size, cursor);
+        return KeysetScrolling.scroll(this.repository, Task.class,
+            new FilterSpecification(nameFilter, statusFilter, taskTypeFilter, orgUnitFilter, taskGroupFilter),
+            cursor, size, sort, SCROLL_SORT_PROPERTIES, count,
+            task -> task.isExamTask() && SecurityHelpers.isTutor(task.getOrganizationalUnit().getId()) ? null : new TaskDto(task));
+    }
+
     /**
      * Returns the task with the specified identifier.
      *
@@ -135,26 +230,31 @@ public List<String> getTaskTypes() {
     }
 
     /**
-     * Returns details of all task groups.
+     * Returns all tasks which may be exported by the current user.
      *
-     * @return List of all task groups with details
+     * @return List of all exportable tasks
      */
     @Transactional(readOnly = true)
-    public List<CombinedDto<TaskDto>> export() {
-        LOG.debug("Exporting tasks");
-        var tasks = this.repository.findAll(new FilterSpecification(null, null, null, null, null));
-        List<CombinedDto<TaskDto>> result = new ArrayList<>(tasks.size());
-        for (var task : tasks) {
-            if (SecurityHelpers.isFullAdmin() || SecurityHelpers.isAdmin(task.getOrganizationalUnit().getId())) {
-                try {
-                    var details = this.taskAppCommunicationService.getTaskAdditionalData(task.getId(), task.getTaskType());
-                    result.add(new CombinedDto<>(new TaskDto(task), details));
-                } catch (ResponseStatusException ex) {
-                    result.add(new CombinedDto<>(new TaskDto(task), null));
-                }
-            }
-        }
-        return result;
+    public List<TaskDto> getTasksForExport() {
+        LOG.debug("Loading tasks for export");
+        return this.repository.findAll(new FilterSpecification(null, null, null, null, null)).stream()
+            .filter(task -> SecurityHelpers.isFullAdmin() || SecurityHelpers.isAdmin(task.getOrganizationalUnit().getId()))
+            .map(TaskDto::new)
+            .toList();
+    }
+
+    /**
+     * Exports the tasks together with their additional data.
+     * <p>
+     * The additional data is requested in batches per task app; the tasks are passed to the consumer as soon as their data is available.
+     *
+     * @param tasks    The tasks to export (see {@link #getTasksForExport()}).
+     * @param consumer The consumer receiving the tasks with details.
+     * @return The export summary.
+     */
+    public ExportSummaryDto export(List<TaskDto> tasks, Consumer<CombinedDto<TaskDto>> consumer) {
+        LOG.debug("Exporting {} tasks", tasks.size());
+        return this.exportService.export(tasks, TaskDto::id, TaskDto::taskType, this.taskAppCommunicationService::getTasksAdditionalData, consumer);
     }
 
     //#endregion
@@ -243,7 +343,7 @@ public Task create(ModifyTaskDto dto) {
 
             // only syncing to moodle if the task is approved
             if (task.getStatus() == TaskStatus.APPROVED) {
-                this.createMoodleObjectsForTask(task);
+                this.moodleSyncQueue.enqueue(MoodleSyncEntityType.TASK, task.getId());
             }
         }
 
@@ -353,7 +453,7 @@ public void update(long id, ModifyTaskDto dto, Instant concurrencyToken) {
 
         // only syncing to moodle if the task is approved
         if (task.getStatus() == TaskStatus.APPROVED) {
-            this.updateMoodleObjectsForTask(task.getId());
+            this.moodleSyncQueue.enqueue(MoodleSyncEntityType.TASK, task.getId());
         }
     }
 
@@ -386,49 +486,72 @@ public void delete(long id) {
     }
 
     /**
-     * Called when a task has been created.
+     * Requests the synchronization of the task with moodle.
      *
-     * @param task The task.
+     * @param id The task id.
+     * @throws EntityNotFoundException If the task does not exist.
      */
     @Transactional
-    public void createMoodleObjectsForTask(Task task) {
-        if (!taskMoodleIdRepository.findById_TaskId(task.getId()).isEmpty())
-            return;
-
-        LOG.debug("Triggering question creation for task {}", task.getId());
-        this.questionService.createQuestionFromTask(task).thenAccept(moodleIds -> {
-            if (moodleIds.isPresent() && !moodleIds.get().isEmpty()) {
-                LOG.info("Setting moodle-ids for task {} to {}", task.getId(), moodleIds.get().stream().map(TaskMoodleId::getMoodleId).map(x -> x + "").collect(Collectors.joining(",")));
-                this.taskMoodleIdRepository.saveAll(moodleIds.get()); // moodleSync flag of task is updated in databases by trigger
-            }
-        }).exceptionally(ex -> {
-            LOG.error("Error while creating Moodle objects for task {}", task.getId(), ex);
-            return null;
-        });
+    public void updateMoodleObjectsForTask(long id) {
+        var task = this.repository.findByIdAndOrganizationalUnit(id).orElseThrow(() -> new EntityNotFoundException("Task " + id + " does not exist."));
+        LOG.debug("Requesting moodle synchronization for task {}", task.getId());
+        this.moodleSyncQueue.enqueue(MoodleSyncEntityType.TASK, task.getId());
     }
 
     /**
-     * Called when a task has been updated.
+     * Synchronizes the questions of the task with moodle (called by {@link MoodleSyncDispatcher}).
+     * <p>
+     * Fails as long as the organizational unit or a category has not been synchronized. The stored moodle ids are only replaced if
+     * the synchronization succeeded.
      *
      * @param id The task id.
-     * @throws EntityNotFoundException If the task does not exist.
+     * @return {@code true} if the synchronization succeeded or is not necessary; {@code false} otherwise.
      */
-    @Transactional
-    public void updateMoodleObjectsForTask(long id) {
-        var task = this.repository.findByIdAndOrganizationalUnit(id).orElseThrow(() -> new EntityNotFoundException("Task " + id + " does not exist."));
-        LOG.debug("Triggering question update for task {}", task.getId());
-        this.questionService.updateQuestionFromTask(task).thenAccept(moodleIds -> {
-            LOG.debug("Deleting all moodle ids for task {}", task.getId());
-            this.taskMoodleIdRepository.deleteByTaskId(task.getId());
-
-            if (moodleIds.isPresent() && !moodleIds.get().isEmpty()) {
-                LOG.info("Setting moodle-ids for task {} to {}", task.getId(), moodleIds.get().stream().map(TaskMoodleId::getMoodleId).map(x -> x + "").collect(Collectors.joining(",")));
-                this.taskMoodleIdRepository.saveAll(moodleIds.get());
-            }  // moodleSync flag of task is updated in databases by trigger
-        }).exceptionally(ex -> {
-            LOG.error("Error while updating Moodle objects for task {}", id, ex);
-            return null;
+    public boolean synchronizeMoodleObjects(long id) {
+        return this.synchronizeMoodleObjects(id, new QuestionSyncContext());
+    }
+
+    /**
+     * Synchronizes the questions of the task with moodle (called by {@link MoodleSyncDispatcher}).
+     * <p>
+     * Fails as long as the organizational unit or a category has not been synchronized. The stored moodle ids are only replaced if
+     * the synchronization succeeded.
+     * <p>
+     * The task is loaded in a short read-only transaction and the moodle ids are stored in a second short transaction,
+     * so that no database connection is held while waiting for moodle.
+     *
+     * @param id      The task id.
+     * @param context The synchronization context shared with the other tasks synchronized in the same run.
+     * @return {@code true} if the synchronization succeeded or is not necessary; {@code false} otherwise.
+     */
+    public boolean synchronizeMoodleObjects(long id, QuestionSyncContext context) {
+        var preparation = this.readOnlyTransaction.execute(status -> this.prepareMoodleSynchronization(id, context));
+        if (preparation == null || preparation.update() == null)
+            return preparation != null && preparation.skipped();
+
+        var moodleIds = this.questionService.executeQuestionUpdate(preparation.update());
+        if (moodleIds.isEmpty())
+            return false;
+
+        LOG.info("Setting moodle-ids for task {} to {}", id, moodleIds.get().stream().map(TaskMoodleId::getMoodleId).map(x -> x + "").collect(Collectors.joining(",")));
+        this.transaction.executeWithoutResult(status -> {
+            this.taskMoodleIdRepository.deleteByTaskId(id);
+            this.taskMoodleIdRepository.saveAll(moodleIds.get()); // moodleSync flag of task is updated in databases by trigger
         });
+        return true;
+    }
+
+    private MoodleSyncPreparation prepareMoodleSynchronization(long id, QuestionSyncContext context) {
+        var task = this.repository.findByIdAndOrganizationalUnitAndTaskCategories(id).orElse(null);
+        if (task == null || task.getStatus() != TaskStatus.APPROVED) {
+            LOG.debug("Skipping moodle synchronization of task {} as it does not exist or is not approved", id);
+            return new MoodleSyncPreparation(true, null);
+        }
+        if (task.getOrganizationalUnit().getMoodleId() == null || task.getTaskCategories().stream().anyMatch(c -> c.getMoodleId() == null)) {
+            LOG.debug("Delaying moodle synchronization of task {} until its organizational unit and categories are synchronized", id);
+            return new MoodleSyncPreparation(false, null);
+        }
+        return new MoodleSyncPreparation(false, this.questionService.prepareQuestionUpdate(task, context).orElse(null));
     }
 
     /**
@@ -446,17 +569,28 @@ public void markMoodleObjectsForTaskAsDeleted(long id) {
 
     /**
      * Submits the specified submission.
+     * <p>
+     * The task is loaded and checked synchronously, the future completes when the task app returned the result.
      *
      * @param submission The submission.
-     * @return The submission response.
+     * @return The future completing with the submission response.
      */
-    public Serializable submit(SubmitSubmissionDto submission) {
+    public CompletableFuture<Serializable> submit(SubmitSubmissionDto submission) {
         var task = this.repository.findById(submission.taskId()).orElseThrow(() -> new EntityNotFoundException("Task with id " + submission.taskId() + " does not exist"));
         if (!SecurityHelpers.isFullAdmin() && !SecurityHelpers.getOrganizationalUnits().contains(task.getOrganizationalUnit().getId()))
             throw new EntityNotFoundException("Task with id " + submission.taskId() + " does not exist");
 
         LOG.info("Submitting task {}", submission.taskId());
-        return this.taskAppCommunicationService.submit(task.getTaskType(), submission);
+        return this.taskAppCommunicationService.submitAsync(task.getTaskType(), submission);
+    }
+
+    /**
+     * The result of loading a task for the moodle synchronization.
+     *
+     * @param skipped Whether the synchronization is not necessary.
+     * @param update  The prepared question update or {@code null} if the synchronization cannot be executed.
+     */
+    private record MoodleSyncPreparation(boolean skipped, QuestionService.PreparedQuestionUpdate update) {
     }
 
     //#region --- Specifications ---
@@ -13,6 +13,7 @@
 import at.jku.dke.etutor.task_administration.dto.ModifyUserDto;
 import at.jku.dke.etutor.task_administration.dto.ModifyUserPasswordDto;
 import at.jku.dke.etutor.task_administration.dto.UserDto;
+import at.jku.dke.etutor.task_administration.dto.WindowDto;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -25,6 +26,7 @@
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -36,8 +38,10 @@
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -48,6 +52,7 @@
 public class UserService {
 
     private static final Logger LOG = LoggerFactory.getLogger(UserService.class);
+    private static final Set<String> SCROLL_SORT_PROPERTIES = Set.of("id", "username", "lastName");
     private final UserRepository repository;
     private final UserTokenRepository userTokenRepository;
     private final OrganizationalUnitRepository organizationalUnitRepository;
@@ -92,7 +97,44 @@ public UserService(UserRepository repository, UserTokenRepository userTokenRepos
     @PreAuthorize(AuthConstants.AUTHORITY_ADMIN_OR_ABOVE)
     public Page<UserDto> getUsers(Pageable page, String usernameFilter, String firstNameFilter, String lastNameFilter, String emailFilter, Boolean enabledFilter, Boolean fullAdminFilter) {
         LOG.debug("Loading users for page {}", page);
-        return this.repository.findAll(new FilterSpecification(usernameFilter, firstNameFilter, lastNameFilter, emailFilter, enabledFilter, fullAdminFilter), page).map(UserDto::new);
+        var users = this.repository.findAll(new FilterSpecification(usernameFilter, firstNameFilter, lastNameFilter, emailFilter, enabledFilter, fullAdminFilter), page);
+        this.fetchOrganizationalUnits(users.getContent());
+        return users.map(UserDto::new);
+    }
+
+    /**
+     * Returns the window of users after the cursor (keyset pagination).
+     *
+     * @param cursor          The cursor returned with the previous window or {@code null} for the first window.
+     * @param size            The maximum number of users.
+     * @param sort            The sort; supported properties: {@code id}, {@code username}, {@code lastName}.
+     * @param count           Whether to count the total number of matching users.
+     * @param usernameFilter  Optional filter string (applies contains to username).
+     * @param firstNameFilter Optional filter string (applies contains to first name).
+     * @param lastNameFilter  Optional filter string (applies contains to last name).
+     * @param emailFilter     Optional filter string (applies contains to email).
+     * @param enabledFilter   Optional filter for enabled state.
+     * @param fullAdminFilter Optional filter for full admin state.
+     * @return The window of users.
+     */
+    @Transactional(readOnly = true)
+    @PreAuthorize(AuthConstants.AUTHORITY_ADMIN_OR_ABOVE)
+    public WindowDto<UserDto> scrollUsers(String cursor, int size, Sort sort, boolean count, String usernameFilter, String firstNameFilter, String lastNameFilter, String emailFilter, Boolean enabledFilter, Boolean fullAdminFilter) {
+        LOG.debug("Loading {} users after cursor {}", size, cursor);
+        return KeysetScrolling.scroll(this.repository, User.class,
+            new FilterSpecification(usernameFilter, firstNameFilter, lastNameFilter, emailFilter, enabledFilter, fullAdminFilter),
+            cursor, size, sort, SCROLL_SORT_PROPERTIES, count, UserDto::new, this::fetchOrganizationalUnits);
+    }
+
+    /**
+     * Initializes the organizational units of the users with a single query instead of one query per user.
+     *
+     * @param users The users loaded in the current transaction.
+     */
+    private void fetchOrganizationalUnits(List<User> users) {
+        if (users.isEmpty())
+            return;
+        this.repository.findAllByIdAndFetchOrganizationalUnits(users.stream().map(User::getId).toList());
     }
 
     /**
@@ -0,0 +1,19 @@
+CREATE TYPE moodle_sync_entity_type AS ENUM ('organizational_unit', 'task_category', 'task');
+CREATE CAST (CHARACTER VARYING as moodle_sync_entity_type) WITH INOUT AS IMPLICIT;
+
+CREATE TABLE moodle_sync_jobs
+(
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    entity_type     moodle_sync_entity_type                 NOT NULL,
+    entity_id       BIGINT                                  NOT NULL,
+    revision        BIGINT                                  NOT NULL DEFAULT 1,
+    requested_date  TIMESTAMP WITH TIME ZONE                NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    next_attempt_at TIMESTAMP WITH TIME ZONE                NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    locked_until    TIMESTAMP WITH TIME ZONE,
+    attempts        INT                                     NOT NULL DEFAULT 0,
+    last_error      TEXT,
+    CONSTRAINT moodle_sync_jobs_pk PRIMARY KEY (id),
+    CONSTRAINT moodle_sync_jobs_entity_uq UNIQUE (entity_type, entity_id)
+);
+
+CREATE INDEX moodle_sync_jobs_next_attempt_idx ON moodle_sync_jobs (next_attempt_at);
@@ -0,0 +1,5 @@
+ALTER TABLE moodle_sync_jobs
+    ADD COLUMN pending_since TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+UPDATE moodle_sync_jobs
+SET pending_since = requested_date;
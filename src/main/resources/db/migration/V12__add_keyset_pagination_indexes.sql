@@ -0,0 +1,10 @@
+CREATE INDEX tasks_title_id_idx ON tasks (title, id);
+CREATE INDEX tasks_last_modified_date_id_idx ON tasks (last_modified_date, id);
+
+CREATE INDEX task_groups_name_id_idx ON task_groups (name, id);
+CREATE INDEX task_groups_last_modified_date_id_idx ON task_groups (last_modified_date, id);
+
+CREATE INDEX task_categories_name_id_idx ON task_categories (name, id);
+
+CREATE INDEX users_username_id_idx ON users (username, id);
+CREATE INDEX users_last_name_id_idx ON users (last_name, id);
@@ -0,0 +1,22 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX tasks_title_trgm_idx ON tasks USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX task_groups_name_trgm_idx ON task_groups USING GIN (lower(name) gin_trgm_ops);
+
+ALTER TABLE tasks
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('german'::regconfig, title), 'A') ||
+        setweight(to_tsvector('english'::regconfig, title), 'A') ||
+        setweight(to_tsvector('german'::regconfig, regexp_replace(description_de, '<[^>]*>', ' ', 'g')), 'B') ||
+        setweight(to_tsvector('english'::regconfig, regexp_replace(description_en, '<[^>]*>', ' ', 'g')), 'B')
+        ) STORED;
+CREATE INDEX tasks_search_vector_idx ON tasks USING GIN (search_vector);
+
+ALTER TABLE task_groups
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('german'::regconfig, name), 'A') ||
+        setweight(to_tsvector('english'::regconfig, name), 'A') ||
+        setweight(to_tsvector('german'::regconfig, regexp_replace(description_de, '<[^>]*>', ' ', 'g')), 'B') ||
+        setweight(to_tsvector('english'::regconfig, regexp_replace(description_en, '<[^>]*>', ' ', 'g')), 'B')
+        ) STORED;
+CREATE INDEX task_groups_search_vector_idx ON task_groups USING GIN (search_vector);
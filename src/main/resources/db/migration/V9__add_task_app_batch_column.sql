@@ -0,0 +1,2 @@
+ALTER TABLE task_apps
+    ADD COLUMN batch_support BOOLEAN NOT NULL DEFAULT FALSE;
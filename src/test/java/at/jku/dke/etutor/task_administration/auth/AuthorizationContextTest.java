@@ -0,0 +1,103 @@
+package at.jku.dke.etutor.task_administration.auth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorizationContextTest {
+
+    @Test
+    void fromJwt_roles() {
+        // Arrange
+        Jwt jwt = createJwt(List.of(
+            Map.of("role", AuthConstants.ROLE_TUTOR, "organizationalUnit", 3L),
+            Map.of("role", AuthConstants.ROLE_INSTRUCTOR, "organizationalUnit", 1L),
+            Map.of("role", AuthConstants.ROLE_ADMIN, "organizationalUnit", 2L)
+        ));
+
+        // Act
+        var result = AuthorizationContext.fromJwt(jwt);
+
+        // Assert
+        assertEquals(7L, result.getUserId().orElseThrow());
+        assertEquals("test", result.getUserName());
+        assertFalse(result.isFullAdmin());
+        assertTrue(result.isTutor(3));
+        assertFalse(result.isTutor(1));
+        assertTrue(result.isInstructor(1));
+        assertFalse(result.isInstructor(2));
+        assertTrue(result.isAdmin(2));
+        assertFalse(result.isAdmin(1));
+        assertTrue(result.isUser(3));
+        assertFalse(result.isUser(4));
+        assertThat(result.getOrganizationalUnits()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(result.getOrganizationalUnitsAsAdmin()).containsExactly(2L);
+        assertThat(result.getOrganizationalUnitsAsAdminOrInstructor()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void fromJwt_integerOrganizationalUnits() {
+        // Arrange
+        Jwt jwt = createJwt(List.of(Map.of("role", AuthConstants.ROLE_ADMIN, "organizationalUnit", 2)));
+
+        // Act
+        var result = AuthorizationContext.fromJwt(jwt);
+
+        // Assert
+        assertTrue(result.isAdmin(2));
+        assertThat(result.getOrganizationalUnitsAsAdmin()).containsExactly(2L);
+    }
+
+    @Test
+    void fromJwt_noRoles() {
+        // Arrange
+        Jwt jwt = Jwt.withTokenValue("test")
+            .subject("test")
+            .headers(h -> h.put("typ", "JWT"))
+            .claim(AuthConstants.CLAIM_FULL_ADMIN, true)
+            .build();
+
+        // Act
+        var result = AuthorizationContext.fromJwt(jwt);
+
+        // Assert
+        assertTrue(result.isFullAdmin());
+        assertTrue(result.getUserId().isEmpty());
+        assertFalse(result.isUser(1));
+        assertThat(result.getOrganizationalUnits()).isEmpty();
+    }
+
+    @Test
+    void getOrganizationalUnits_unmodifiable() {
+        // Arrange
+        var context = AuthorizationContext.fromJwt(createJwt(List.of(Map.of("role", AuthConstants.ROLE_ADMIN, "organizationalUnit", 2L))));
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> context.getOrganizationalUnits().add(5L));
+        assertThrows(UnsupportedOperationException.class, () -> context.getOrganizationalUnitsAsAdmin().clear());
+    }
+
+    @Test
+    void empty() {
+        // Act & Assert
+        assertTrue(AuthorizationContext.EMPTY.getUserId().isEmpty());
+        assertNull(AuthorizationContext.EMPTY.getUserName());
+        assertFalse(AuthorizationContext.EMPTY.isFullAdmin());
+        assertFalse(AuthorizationContext.EMPTY.isUser(1));
+        assertThat(AuthorizationContext.EMPTY.getOrganizationalUnits()).isEmpty();
+    }
+
+    private static Jwt createJwt(List<Map<String, Object>> roles) {
+        return Jwt.withTokenValue("test")
+            .subject("test")
+            .headers(h -> h.put("typ", "JWT"))
+            .claim(AuthConstants.CLAIM_UID, 7L)
+            .claim(AuthConstants.CLAIM_ROLES, roles)
+            .build();
+    }
+}
@@ -87,5 +87,30 @@ void convert_roles() {
         assertThat(result.getAuthorities())
             .containsExactly(new SimpleGrantedAuthority(AuthConstants.ROLE_INSTRUCTOR), new SimpleGrantedAuthority(AuthConstants.ROLE_ADMIN));
     }
+    @Test
+    void convert_authorizationContext() {
+        // Arrange
+        Jwt jwt = Jwt.withTokenValue("test")
+            .subject("test")
+            .headers(h -> h.put("typ", "JWT"))
+            .claim(AuthConstants.CLAIM_UID, 5L)
+            .claim(AuthConstants.CLAIM_ROLES, List.of(
+                Map.of("role", AuthConstants.ROLE_INSTRUCTOR, "organizationalUnit", 1),
+                Map.of("role", AuthConstants.ROLE_ADMIN, "organizationalUnit", 2)
+            ))
+            .build();
+        CustomJwtAuthenticationConverter converter = new CustomJwtAuthenticationConverter();
+
+        // Act
+        var result = converter.convert(jwt);
+
+        // Assert
+        assertThat(result).isInstanceOf(AuthorizationJwtAuthenticationToken.class);
+        var context = ((AuthorizationJwtAuthenticationToken) result).getAuthorizationContext();
+        assertThat(context.getUserId()).contains(5L);
+        assertThat(context.isInstructor(1)).isTrue();
+        assertThat(context.isAdmin(2)).isTrue();
+        assertThat(context.getOrganizationalUnits()).containsExactlyInAnyOrder(1L, 2L);
+    }
 
 }
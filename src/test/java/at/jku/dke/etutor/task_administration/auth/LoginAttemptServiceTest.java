@@ -1,15 +1,17 @@
 package at.jku.dke.etutor.task_administration.auth;
 
-import at.jku.dke.etutor.task_administration.data.entities.User;
 import at.jku.dke.etutor.task_administration.data.repositories.UserRepository;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.time.OffsetDateTime;
-import java.util.Optional;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 class LoginAttemptServiceTest {
 
@@ -19,7 +21,6 @@ void loginFailed_notExistingUser_increaseOnlyIpAttempt() {
         // Arrange
         final String username = "loginFailed_notExistingUser_increaseOnlyIpAttempt";
         var userRepository = Mockito.mock(UserRepository.class);
-        Mockito.when(userRepository.findByUsernameIgnoreCase(username)).thenReturn(Optional.empty());
 
         var request = new MockHttpServletRequest();
         request.setRemoteAddr("10.10.0.2");
@@ -37,11 +38,8 @@ void loginFailed_notExistingUser_increaseOnlyIpAttempt() {
     void loginFailed_existingUser_increaseUserAndIpAttempt() {
         // Arrange
         final String username = "loginFailed_existingUser_increaseUserAndIpAttempt";
-        var user = new User();
-        user.setUsername(username);
-
         var userRepository = Mockito.mock(UserRepository.class);
-        Mockito.when(userRepository.findByUsernameIgnoreCase(username)).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.incrementFailedLoginCount(eq(username), eq(LoginAttemptService.USER_MAX_ATTEMPTS), any())).thenReturn(1);
 
         var request = new MockHttpServletRequest();
         request.setRemoteAddr("10.10.0.3");
@@ -53,32 +51,30 @@ void loginFailed_existingUser_increaseUserAndIpAttempt() {
 
         // Assert
         assertEquals(1, service.getFailedLoginCount());
-        assertEquals(1, user.getFailedLoginCount());
+        Mockito.verify(userRepository).incrementFailedLoginCount(eq(username), eq(LoginAttemptService.USER_MAX_ATTEMPTS), any());
+        Mockito.verify(userRepository, Mockito.never()).save(any());
     }
 
     @Test
-    void loginFailed_tooManyAttempts_blockUser() {
+    void loginFailed_lockoutEnd() {
         // Arrange
         final String username = "testLoginFailedBlockUser";
-        var user = new User();
-        user.setUsername(username);
-        user.setFailedLoginCount(LoginAttemptService.USER_MAX_ATTEMPTS);
-
         var userRepository = Mockito.mock(UserRepository.class);
-        Mockito.when(userRepository.findByUsernameIgnoreCase(username)).thenReturn(Optional.of(user));
 
         var request = new MockHttpServletRequest();
         request.setRemoteAddr("10.10.0.4");
 
         var service = new LoginAttemptService(userRepository, request);
+        var before = OffsetDateTime.now();
 
         // Act
         service.loginFailed(username);
 
         // Assert
+        var lockoutEnd = ArgumentCaptor.forClass(OffsetDateTime.class);
+        Mockito.verify(userRepository).incrementFailedLoginCount(eq(username), eq(LoginAttemptService.USER_MAX_ATTEMPTS), lockoutEnd.capture());
+        assertFalse(lockoutEnd.getValue().isBefore(before.plusMinutes(30)));
         assertEquals(1, service.getFailedLoginCount());
-        assertEquals(LoginAttemptService.USER_MAX_ATTEMPTS + 1, user.getFailedLoginCount());
-        assertNotNull(user.getLockoutEnd());
     }
 
     @Test
@@ -86,7 +82,6 @@ void loginFailed_tooManyAttempts_blockIp() {
         // Arrange
         final String username = "loginFailed_notExistingUser_increaseOnlyIpAttempt";
         var userRepository = Mockito.mock(UserRepository.class);
-        Mockito.when(userRepository.findByUsernameIgnoreCase(username)).thenReturn(Optional.empty());
 
         var request = new MockHttpServletRequest();
         request.setRemoteAddr("10.10.0.11");
@@ -115,7 +110,6 @@ void loginSucceeded_notExistingUser_resetOnlyIpAttempts() {
         // Arrange
         final String username = "loginSucceeded_notExistingUser_resetOnlyIpAttempts";
         var userRepository = Mockito.mock(UserRepository.class);
-        Mockito.when(userRepository.findByUsernameIgnoreCase(username)).thenReturn(Optional.empty());
 
         var request = new MockHttpServletRequest();
         request.setRemoteAddr("10.10.0.5");
@@ -136,13 +130,8 @@ void loginSucceeded_notExistingUser_resetOnlyIpAttempts() {
     void loginSucceeded_existingUser_resetUserAndIpAttempts() {
         // Arrange
         final String username = "loginSucceeded_existingUser_resetUserAndIpAttempts";
-        var user = new User();
-        user.setUsername(username);
-        user.setLockoutEnd(OffsetDateTime.now());
-        user.setFailedLoginCount(LoginAttemptService.USER_MAX_ATTEMPTS + 1);
-
         var userRepository = Mockito.mock(UserRepository.class);
-        Mockito.when(userRepository.findByUsernameIgnoreCase(username)).thenReturn(Optional.of(user));
+        Mockito.when(userRepository.resetFailedLoginCount(username)).thenReturn(1);
 
         var request = new MockHttpServletRequest();
         request.setRemoteAddr("10.10.0.6");
@@ -156,8 +145,27 @@ void loginSucceeded_existingUser_resetUserAndIpAttempts() {
 
         // Assert
         assertEquals(0, service.getFailedLoginCount());
-        assertEquals(0, user.getFailedLoginCount());
-        assertNull(user.getLockoutEnd());
+        Mockito.verify(userRepository).resetFailedLoginCount(username);
+        Mockito.verify(userRepository, Mockito.never()).save(any());
+    }
+
+    @Test
+    void loginFailed_concurrent_countsAllAttempts() throws InterruptedException {
+        // Arrange
+        var userRepository = Mockito.mock(UserRepository.class);
+        var request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.10.0.12");
+        var service = new LoginAttemptService(userRepository, request);
+
+        // Act
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 200; i++)
+                executor.execute(() -> service.loginFailed("concurrent"));
+        }
+
+        // Assert
+        assertEquals(200, service.getFailedLoginCount());
+        assertTrue(service.isBlocked());
     }
     //#endregion
 
@@ -167,7 +175,6 @@ void isBlocked_maxAttemptsReached_true() {
         // Arrange
         final String username = "testIsBlocked";
         var userRepository = Mockito.mock(UserRepository.class);
-        Mockito.when(userRepository.findByUsernameIgnoreCase(username)).thenReturn(Optional.empty());
 
         var request = new MockHttpServletRequest();
         request.setRemoteAddr("10.10.0.10");
@@ -189,7 +196,7 @@ void isBlocked_maxAttemptsReached_true() {
 
     //#region --- getClientIP ---
     @Test
-    void getClientIp_fromHeader() {
+    void getClientIp_ignoresForwardedHeader() {
         // Arrange
         var request = new MockHttpServletRequest();
         request.setRemoteAddr("10.10.0.1");
@@ -200,7 +207,7 @@ void getClientIp_fromHeader() {
         var result = service.getClientIP();
 
         // Assert
-        assertEquals("192.168.0.1", result);
+        assertEquals("10.10.0.1", result);
     }
 
     @Test
@@ -0,0 +1,226 @@
+package at.jku.dke.etutor.task_administration.auth;
+
+import at.jku.dke.etutor.task_administration.config.RateLimitConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Ticker;
+import jakarta.servlet.ServletException;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return 0;
+        }
+    };
+
+    @Test
+    void doFilter_withinLimit() throws ServletException, IOException {
+        // Arrange
+        var filter = new RateLimitFilter(createConfig(), new ObjectMapper(), this.ticker);
+        var chain = new MockFilterChain();
+        var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(createRequest("POST", "/auth/login", "10.0.0.1"), response, chain);
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_limitExceeded_returns429() throws ServletException, IOException {
+        // Arrange
+        var filter = new RateLimitFilter(createConfig(), new ObjectMapper(), this.ticker);
+        filter.doFilter(createRequest("POST", "/auth/login", "10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(createRequest("POST", "/auth/login", "10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        var chain = new MockFilterChain();
+        var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(createRequest("POST", "/auth/login", "10.0.0.1"), response, chain);
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertEquals("30", response.getHeader("Retry-After"));
+        assertEquals("application/problem+json", response.getContentType());
+        assertThat(response.getContentAsString()).contains("\"status\":429", "\"instance\":\"/auth/login\"");
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_otherClient_notLimited() throws ServletException, IOException {
+        // Arrange
+        var filter = new RateLimitFilter(createConfig(), new ObjectMapper(), this.ticker);
+        filter.doFilter(createRequest("POST", "/auth/login", "10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(createRequest("POST", "/auth/login", "10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(createRequest("POST", "/auth/login", "10.0.0.2"), response, new MockFilterChain());
+
+        // Assert
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void doFilter_spoofedForwardedHeader_stillLimited() throws ServletException, IOException {
+        // Arrange
+        var filter = new RateLimitFilter(createConfig(), new ObjectMapper(), this.ticker);
+        var remoteIpFilter = createRemoteIpFilter();
+        for (int i = 0; i < 2; i++) {
+            var request = createRequest("POST", "/auth/login", "203.0.113.10");
+            request.addHeader("X-Forwarded-For", "198.51.100." + i);
+            remoteIpFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> filter.doFilter(req, res, new MockFilterChain()));
+        }
+        var request = createRequest("POST", "/auth/login", "203.0.113.10");
+        request.addHeader("X-Forwarded-For", "198.51.100.99");
+        var chain = new MockFilterChain();
+        var response = new MockHttpServletResponse();
+
+        // Act
+        remoteIpFilter.doFilter(request, response, (req, res) -> filter.doFilter(req, res, chain));
+
+        // Assert
+        assertEquals(429, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_trustedPrivateProxy_limitedPerForwardedClient() throws ServletException, IOException {
+        // Arrange
+        var filter = new RateLimitFilter(createConfig(), new ObjectMapper(), this.ticker);
+        var remoteIpFilter = createRemoteIpFilter();
+        for (int i = 0; i < 2; i++) {
+            var request = createRequest("POST", "/auth/login", "172.18.0.2");
+            request.addHeader("X-Forwarded-For", "198.51.100.1");
+            remoteIpFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> filter.doFilter(req, res, new MockFilterChain()));
+        }
+        var request = createRequest("POST", "/auth/login", "172.18.0.2");
+        request.addHeader("X-Forwarded-For", "198.51.100.2");
+        var chain = new MockFilterChain();
+        var response = new MockHttpServletResponse();
+        var limited = new MockHttpServletResponse();
+        var limitedRequest = createRequest("POST", "/auth/login", "172.18.0.2");
+        limitedRequest.addHeader("X-Forwarded-For", "198.51.100.1");
+
+        // Act
+        remoteIpFilter.doFilter(request, response, (req, res) -> filter.doFilter(req, res, chain));
+        remoteIpFilter.doFilter(limitedRequest, limited, (req, res) -> filter.doFilter(req, res, new MockFilterChain()));
+
+        // Assert
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals("198.51.100.2", chain.getRequest().getRemoteAddr());
+        assertEquals(429, limited.getStatus());
+    }
+
+    @Test
+    void doFilter_otherMethod_notLimited() throws ServletException, IOException {
+        // Arrange
+        var filter = new RateLimitFilter(createConfig(), new ObjectMapper(), this.ticker);
+        var response = new MockHttpServletResponse();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            response = new MockHttpServletResponse();
+            filter.doFilter(createRequest("GET", "/auth/login", "10.0.0.1"), response, new MockFilterChain());
+        }
+
+        // Assert
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void doFilter_pattern() throws ServletException, IOException {
+        // Arrange
+        var filter = new RateLimitFilter(createConfig(), new ObjectMapper(), this.ticker);
+        filter.doFilter(createRequest("GET", "/api/forwardPublic/sql/a/b", "10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        var response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(createRequest("GET", "/api/forwardPublic/xq/c", "10.0.0.1"), response, new MockFilterChain());
+
+        // Assert
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    void doFilter_disabled() throws ServletException, IOException {
+        // Arrange
+        var config = createConfig();
+        config.setEnabled(false);
+        var filter = new RateLimitFilter(config, new ObjectMapper(), this.ticker);
+        var response = new MockHttpServletResponse();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            response = new MockHttpServletResponse();
+            filter.doFilter(createRequest("POST", "/auth/login", "10.0.0.1"), response, new MockFilterChain());
+        }
+
+        // Assert
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void doFilter_unmatchedPath() throws ServletException, IOException {
+        // Arrange
+        var filter = new RateLimitFilter(createConfig(), new ObjectMapper(), this.ticker);
+        var response = new MockHttpServletResponse();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            response = new MockHttpServletResponse();
+            filter.doFilter(createRequest("POST", "/api/task", "10.0.0.1"), response, new MockFilterChain());
+        }
+
+        // Assert
+        assertEquals(200, response.getStatus());
+    }
+
+    private static MockHttpServletRequest createRequest(String method, String uri, String ip) {
+        var request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    // filter equivalent of the valve configured by server.forward-headers-strategy=native with the default trusted proxies
+    private static RemoteIpFilter createRemoteIpFilter() {
+        var filter = new RemoteIpFilter(); // X-Forwarded-For by default
+        filter.setInternalProxies(new ServerProperties().getTomcat().getRemoteip().getInternalProxies());
+        return filter;
+    }
+
+    private static RateLimitConfig createConfig() {
+        var login = new RateLimitConfig.RuleConfig();
+        login.setPaths(List.of("/auth/login"));
+        login.setMethods(List.of("post"));
+        login.setCapacity(2);
+        login.setPeriod(Duration.ofMinutes(1));
+
+        var forward = new RateLimitConfig.RuleConfig();
+        forward.setPaths(List.of("/api/forwardPublic/**"));
+        forward.setCapacity(1);
+        forward.setPeriod(Duration.ofMinutes(1));
+
+        var config = new RateLimitConfig();
+        config.getRules().put("login", login);
+        config.getRules().put("forward", forward);
+        return config;
+    }
+}
@@ -0,0 +1,108 @@
+package at.jku.dke.etutor.task_administration.auth;
+
+import at.jku.dke.etutor.task_administration.config.RateLimitConfig;
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestRateLimiterTest {
+
+    private final AtomicLong time = new AtomicLong(1000);
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return time.get();
+        }
+    };
+
+    @Test
+    void tryAcquire_withinCapacity() {
+        // Arrange
+        var limiter = new RequestRateLimiter(createRule(3, Duration.ofSeconds(3)), 100, this.ticker);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++)
+            assertEquals(Duration.ZERO, limiter.tryAcquire("client"));
+    }
+
+    @Test
+    void tryAcquire_capacityExceeded_returnsWaitTime() {
+        // Arrange
+        var limiter = new RequestRateLimiter(createRule(3, Duration.ofSeconds(3)), 100, this.ticker);
+        for (int i = 0; i < 3; i++)
+            limiter.tryAcquire("client");
+        this.time.addAndGet(Duration.ofMillis(400).toNanos());
+
+        // Act
+        var result = limiter.tryAcquire("client");
+
+        // Assert
+        assertEquals(Duration.ofMillis(600), result);
+    }
+
+    @Test
+    void tryAcquire_refill() {
+        // Arrange
+        var limiter = new RequestRateLimiter(createRule(3, Duration.ofSeconds(3)), 100, this.ticker);
+        for (int i = 0; i < 3; i++)
+            limiter.tryAcquire("client");
+
+        // Act
+        this.time.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        // Assert
+        assertEquals(Duration.ZERO, limiter.tryAcquire("client"));
+        assertEquals(Duration.ZERO, limiter.tryAcquire("client"));
+        assertEquals(Duration.ofSeconds(1), limiter.tryAcquire("client"));
+    }
+
+    @Test
+    void tryAcquire_refillLimitedByCapacity() {
+        // Arrange
+        var limiter = new RequestRateLimiter(createRule(2, Duration.ofSeconds(2)), 100, this.ticker);
+        limiter.tryAcquire("client");
+
+        // Act
+        this.time.addAndGet(Duration.ofHours(1).toNanos());
+
+        // Assert
+        assertEquals(Duration.ZERO, limiter.tryAcquire("client"));
+        assertEquals(Duration.ZERO, limiter.tryAcquire("client"));
+        assertEquals(Duration.ofSeconds(1), limiter.tryAcquire("client"));
+    }
+
+    @Test
+    void tryAcquire_separateClients() {
+        // Arrange
+        var limiter = new RequestRateLimiter(createRule(1, Duration.ofMinutes(1)), 100, this.ticker);
+
+        // Act & Assert
+        assertEquals(Duration.ZERO, limiter.tryAcquire("a"));
+        assertEquals(Duration.ZERO, limiter.tryAcquire("b"));
+        assertEquals(Duration.ofMinutes(1), limiter.tryAcquire("a"));
+    }
+
+    @Test
+    void size_boundedByMaxClients() {
+        // Arrange
+        var limiter = new RequestRateLimiter(createRule(1, Duration.ofMinutes(1)), 10, this.ticker);
+
+        // Act
+        for (int i = 0; i < 100; i++)
+            limiter.tryAcquire("client-" + i);
+
+        // Assert
+        assertEquals(10, limiter.size());
+    }
+
+    private static RateLimitConfig.RuleConfig createRule(int capacity, Duration period) {
+        var rule = new RateLimitConfig.RuleConfig();
+        rule.setCapacity(capacity);
+        rule.setPeriod(period);
+        return rule;
+    }
+}
@@ -1,8 +1,11 @@
 package at.jku.dke.etutor.task_administration.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 class AsyncConfigTest {
 
@@ -10,12 +13,36 @@ class AsyncConfigTest {
     void taskExecutor() {
         // Arrange
         var asyncConfig = new AsyncConfig();
+        var meterRegistry = new SimpleMeterRegistry();
 
         // Act
-        var result = asyncConfig.taskExecutor();
+        var result = asyncConfig.taskExecutor(new TaskExecutorConfig(), new MockEnvironment(), meterRegistry);
 
         // Assert
-        assertNotNull(result);
+        var executor = assertInstanceOf(ThreadPoolTaskExecutor.class, result);
+        assertEquals(4, executor.getCorePoolSize());
+        assertEquals(4, executor.getMaxPoolSize());
+        assertNotNull(meterRegistry.find("async.executor.queued").tag("mode", "platform").gauge());
+        assertNotNull(meterRegistry.find("async.executor.active").tag("mode", "platform").gauge());
+        assertNotNull(meterRegistry.find("async.executor.rejected").tag("mode", "platform").functionCounter());
+        executor.shutdown();
+    }
+
+    @Test
+    void taskExecutor_virtualThreads() {
+        // Arrange
+        var asyncConfig = new AsyncConfig();
+        var meterRegistry = new SimpleMeterRegistry();
+        var environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+
+        // Act
+        var result = asyncConfig.taskExecutor(new TaskExecutorConfig(), environment, meterRegistry);
+
+        // Assert
+        assertInstanceOf(VirtualThreadTaskExecutor.class, result);
+        assertNotNull(meterRegistry.find("async.executor.queued").tag("mode", "virtual").gauge());
+        assertNotNull(meterRegistry.find("async.executor.active").tag("mode", "virtual").gauge());
+        assertNotNull(meterRegistry.find("async.executor.rejected").tag("mode", "virtual").functionCounter());
     }
 
 }
@@ -0,0 +1,24 @@
+package at.jku.dke.etutor.task_administration.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EntityCacheConfigTest {
+
+    @Test
+    void getSet() {
+        // Arrange
+        var config = new EntityCacheConfig();
+
+        // Act
+        config.setMaxSize(50);
+        config.setExpireAfterWrite(Duration.ofMinutes(5));
+
+        // Assert
+        assertEquals(50, config.getMaxSize());
+        assertEquals(Duration.ofMinutes(5), config.getExpireAfterWrite());
+    }
+}
@@ -1,8 +1,15 @@
 package at.jku.dke.etutor.task_administration.config;
 
+import at.jku.dke.etutor.task_administration.data.CacheRegions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.cache.jcache.ConfigSettings;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
 
 class PersistenceConfigTest {
 
@@ -11,4 +18,48 @@ void auditorProvider() {
         assertNotNull(new PersistenceConfig().auditorProvider());
     }
 
+    @Test
+    void entityCacheManager_createsRegions() {
+        // Arrange
+        var config = new PersistenceConfig();
+
+        // Act
+        try (var cacheManager = config.entityCacheManager(new EntityCacheConfig())) {
+            // Assert
+            assertThat(cacheManager.getCacheNames())
+                .containsAll(CacheRegions.DATA_REGIONS)
+                .contains(CacheRegions.UPDATE_TIMESTAMPS);
+        }
+    }
+
+    @Test
+    void entityCacheCustomizer_setsCacheManager() {
+        // Arrange
+        var config = new PersistenceConfig();
+        Map<String, Object> properties = new HashMap<>();
+
+        try (var cacheManager = config.entityCacheManager(new EntityCacheConfig())) {
+            // Act
+            config.entityCacheCustomizer(cacheManager).customize(properties);
+
+            // Assert
+            assertSame(cacheManager, properties.get(ConfigSettings.CACHE_MANAGER));
+        }
+    }
+
+    @Test
+    void entityCacheMetrics_registersHitsAndMisses() {
+        // Arrange
+        var config = new PersistenceConfig();
+        var registry = new SimpleMeterRegistry();
+
+        try (var cacheManager = config.entityCacheManager(new EntityCacheConfig())) {
+            // Act
+            config.entityCacheMetrics(cacheManager).bindTo(registry);
+
+            // Assert
+            assertNotNull(registry.find("cache.gets").tags("cache", CacheRegions.TASK_APPS, "result", "hit").functionCounter());
+            assertNotNull(registry.find("cache.gets").tags("cache", CacheRegions.TASK_APPS, "result", "miss").functionCounter());
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package at.jku.dke.etutor.task_administration.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitConfigTest {
+
+    @Test
+    void getSet() {
+        // Arrange
+        var config = new RateLimitConfig();
+        var rules = Map.of("login", new RateLimitConfig.RuleConfig());
+
+        // Act
+        config.setEnabled(false);
+        config.setMaxClients(50);
+        config.setRules(rules);
+
+        // Assert
+        assertFalse(config.isEnabled());
+        assertEquals(50, config.getMaxClients());
+        assertEquals(rules, config.getRules());
+    }
+
+    @Test
+    void rule_getSet() {
+        // Arrange
+        var rule = new RateLimitConfig.RuleConfig();
+
+        // Act
+        rule.setPaths(List.of("/auth/login"));
+        rule.setMethods(List.of("POST"));
+        rule.setCapacity(3);
+        rule.setPeriod(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(List.of("/auth/login"), rule.getPaths());
+        assertEquals(List.of("POST"), rule.getMethods());
+        assertEquals(3, rule.getCapacity());
+        assertEquals(Duration.ofSeconds(5), rule.getPeriod());
+    }
+}
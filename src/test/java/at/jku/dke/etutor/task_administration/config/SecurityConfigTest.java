@@ -2,10 +2,12 @@
 
 import at.jku.dke.etutor.task_administration.auth.AuthJWKSource;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 
@@ -45,10 +47,10 @@ void passwordEncoder() {
     }
 
     @Test
-    void jwtDecoder() throws NoSuchAlgorithmException, InvalidKeySpecException, IOException {
+    void jwtDecoder(@TempDir Path dir) throws NoSuchAlgorithmException, InvalidKeySpecException, IOException {
         // Arrange
         var config = new SecurityConfig();
-        var source = new AuthJWKSource("test-private.pem", "test-public.pem");
+        var source = new AuthJWKSource(dir.resolve("private.pem").toString(), dir.resolve("public.pem").toString());
 
         // Act
         var decoder = config.jwtDecoder(source);
@@ -58,10 +60,10 @@ void jwtDecoder() throws NoSuchAlgorithmException, InvalidKeySpecException, IOEx
     }
 
     @Test
-    void jwtEncoder() throws NoSuchAlgorithmException, InvalidKeySpecException, IOException {
+    void jwtEncoder(@TempDir Path dir) throws NoSuchAlgorithmException, InvalidKeySpecException, IOException {
         // Arrange
         var config = new SecurityConfig();
-        var source = new AuthJWKSource("test-private.pem", "test-public.pem");
+        var source = new AuthJWKSource(dir.resolve("private.pem").toString(), dir.resolve("public.pem").toString());
 
         // Act
         var encoder = config.jwtEncoder(source);
@@ -0,0 +1,159 @@
+package at.jku.dke.etutor.task_administration.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadTaskExecutorTest {
+
+    @Test
+    void execute_runsOnVirtualThread() throws InterruptedException {
+        // Arrange
+        var executor = new VirtualThreadTaskExecutor("test-", 2, 10);
+        var latch = new CountDownLatch(1);
+        var virtual = new AtomicInteger();
+
+        // Act
+        executor.execute(() -> {
+            if (Thread.currentThread().isVirtual())
+                virtual.incrementAndGet();
+            latch.countDown();
+        });
+
+        // Assert
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, virtual.get());
+    }
+
+    @Test
+    void execute_limitsConcurrencyAndQueues() throws InterruptedException {
+        // Arrange
+        var executor = new VirtualThreadTaskExecutor("test-", 2, 10);
+        var release = new CountDownLatch(1);
+        var started = new CountDownLatch(2);
+        var done = new CountDownLatch(5);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        int queued = executor.getQueueSize();
+        int active = executor.getActiveCount();
+        release.countDown();
+
+        // Assert
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(3, queued);
+        assertEquals(2, active);
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    void execute_queueFull_rejects() throws InterruptedException {
+        // Arrange
+        var executor = new VirtualThreadTaskExecutor("test-", 1, 1);
+        var release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocking);
+        executor.execute(blocking);
+
+        // Act & Assert
+        assertThrows(TaskRejectedException.class, () -> executor.execute(blocking));
+        assertEquals(1, executor.getRejectedCount());
+        release.countDown();
+    }
+
+    @Test
+    void execute_failingTask_continuesWithQueuedTasks() throws InterruptedException {
+        // Arrange
+        var executor = new VirtualThreadTaskExecutor("test-", 1, 10);
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(1);
+
+        // Act
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("test");
+        });
+        executor.execute(done::countDown);
+        release.countDown();
+
+        // Assert
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_taskThrowsError_continuesWithQueuedTasks() throws InterruptedException {
+        // Arrange
+        var executor = new VirtualThreadTaskExecutor("test-", 1, 10);
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(2);
+
+        // Act
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            throw new StackOverflowError();
+        });
+        executor.execute(done::countDown);
+        executor.execute(done::countDown);
+        release.countDown();
+
+        // Assert
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_taskThrowsError_releasesPermit() throws InterruptedException {
+        // Arrange
+        var executor = new VirtualThreadTaskExecutor("test-", 1, 0);
+        var failed = new CountDownLatch(1);
+        var done = new CountDownLatch(1);
+        executor.execute(() -> {
+            failed.countDown();
+            throw new StackOverflowError();
+        });
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+
+        // Act: without a queue the task is rejected as long as the permit is held
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getActiveCount() > 0 && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        executor.execute(done::countDown);
+
+        // Assert
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.getRejectedCount());
+    }
+}
@@ -0,0 +1,150 @@
+package at.jku.dke.etutor.task_administration.data.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoodleSyncJobTest {
+
+    @Test
+    void testGetSetId() {
+        // Arrange
+        var job = new MoodleSyncJob();
+        final long value = 2;
+
+        // Act
+        job.setId(value);
+        var result = job.getId();
+
+        // Assert
+        assertEquals(value, result);
+    }
+
+    @Test
+    void testGetSetEntityType() {
+        // Arrange
+        var job = new MoodleSyncJob();
+        final MoodleSyncEntityType value = MoodleSyncEntityType.TASK;
+
+        // Act
+        job.setEntityType(value);
+        var result = job.getEntityType();
+
+        // Assert
+        assertEquals(value, result);
+    }
+
+    @Test
+    void testGetSetEntityId() {
+        // Arrange
+        var job = new MoodleSyncJob();
+        final Long value = 3L;
+
+        // Act
+        job.setEntityId(value);
+        var result = job.getEntityId();
+
+        // Assert
+        assertEquals(value, result);
+    }
+
+    @Test
+    void testGetSetRevision() {
+        // Arrange
+        var job = new MoodleSyncJob();
+        final long value = 4L;
+
+        // Act
+        job.setRevision(value);
+        var result = job.getRevision();
+
+        // Assert
+        assertEquals(value, result);
+    }
+
+    @Test
+    void testGetSetRequestedDate() {
+        // Arrange
+        var job = new MoodleSyncJob();
+        final OffsetDateTime value = OffsetDateTime.now();
+
+        // Act
+        job.setRequestedDate(value);
+        var result = job.getRequestedDate();
+
+        // Assert
+        assertEquals(value, result);
+    }
+
+    @Test
+    void testGetSetPendingSince() {
+        // Arrange
+        var job = new MoodleSyncJob();
+        final OffsetDateTime value = OffsetDateTime.now();
+
+        // Act
+        job.setPendingSince(value);
+        var result = job.getPendingSince();
+
+        // Assert
+        assertEquals(value, result);
+    }
+
+    @Test
+    void testGetSetNextAttemptAt() {
+        // Arrange
+        var job = new MoodleSyncJob();
+        final OffsetDateTime value = OffsetDateTime.now();
+
+        // Act
+        job.setNextAttemptAt(value);
+        var result = job.getNextAttemptAt();
+
+        // Assert
+        assertEquals(value, result);
+    }
+
+    @Test
+    void testGetSetLockedUntil() {
+        // Arrange
+        var job = new MoodleSyncJob();
+        final OffsetDateTime value = OffsetDateTime.now();
+
+        // Act
+        job.setLockedUntil(value);
+        var result = job.getLockedUntil();
+
+        // Assert
+        assertEquals(value, result);
+    }
+
+    @Test
+    void testGetSetAttempts() {
+        // Arrange
+        var job = new MoodleSyncJob();
+        final int value = 5;
+
+        // Act
+        job.setAttempts(value);
+        var result = job.getAttempts();
+
+        // Assert
+        assertEquals(value, result);
+    }
+
+    @Test
+    void testGetSetLastError() {
+        // Arrange
+        var job = new MoodleSyncJob();
+        final String value = "error";
+
+        // Act
+        job.setLastError(value);
+        var result = job.getLastError();
+
+        // Assert
+        assertEquals(value, result);
+    }
+}
@@ -0,0 +1,105 @@
+package at.jku.dke.etutor.task_administration.data.repositories;
+
+import at.jku.dke.etutor.task_administration.SpringTaskAdministrationTest;
+import at.jku.dke.etutor.task_administration.data.entities.OrganizationalUnit;
+import at.jku.dke.etutor.task_administration.data.entities.TaskGroup;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringTaskAdministrationTest
+@Transactional
+class TaskGroupSummaryRepositoryImplTest {
+
+    @Autowired
+    private TaskGroupRepository repository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private OrganizationalUnit ou;
+
+    @BeforeEach
+    void setup() {
+        this.ou = new OrganizationalUnit("group-summary-ou");
+        this.entityManager.persist(this.ou);
+
+        this.persistTaskGroup("group-summary-1", "sql", TaskStatus.APPROVED);
+        this.persistTaskGroup("group-summary-2", "sql", TaskStatus.DRAFT);
+        this.persistTaskGroup("group-summary-3", "xquery", TaskStatus.APPROVED);
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    @Test
+    void findSummaries_mapsAllColumns() {
+        // Arrange
+        Specification<TaskGroup> spec = (root, query, cb) -> cb.equal(root.get("name"), "group-summary-3");
+
+        // Act
+        var result = this.repository.findSummaries(spec, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        var dto = result.getContent().getFirst();
+        assertNotNull(dto.id());
+        assertEquals("group-summary-3", dto.name());
+        assertEquals("xquery", dto.taskGroupType());
+        assertEquals(TaskStatus.APPROVED, dto.status());
+        assertEquals(this.ou.getId(), dto.organizationalUnitId());
+        assertNotNull(dto.createdDate());
+        assertNull(dto.approvedDate());
+        assertEquals(0, this.entityManager.unwrap(Session.class).getStatistics().getEntityCount(), "no entities must be loaded");
+    }
+
+    @Test
+    void findSummaries_filtersAndSorts() {
+        // Arrange
+        Specification<TaskGroup> spec = (root, query, cb) -> cb.and(
+            cb.equal(root.get("organizationalUnit").get("id"), this.ou.getId()),
+            cb.equal(root.get("status"), cb.literal(TaskStatus.APPROVED)));
+
+        // Act
+        var result = this.repository.findSummaries(spec, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name")));
+
+        // Assert
+        assertThat(result.getContent()).extracting("name").containsExactly("group-summary-3", "group-summary-1");
+        assertEquals(2, result.getTotalElements());
+    }
+
+    @Test
+    void findSummaries_fullPage_countsAllMatches() {
+        // Arrange
+        Specification<TaskGroup> spec = (root, query, cb) -> cb.equal(root.get("organizationalUnit").get("id"), this.ou.getId());
+
+        // Act
+        var result = this.repository.findSummaries(spec, PageRequest.of(0, 2, Sort.by("name")));
+
+        // Assert
+        assertThat(result.getContent()).extracting("name").containsExactly("group-summary-1", "group-summary-2");
+        assertEquals(3, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+    }
+
+    private void persistTaskGroup(String name, String type, TaskStatus status) {
+        var group = new TaskGroup();
+        group.setName(name);
+        group.setDescriptionDe("Beschreibung");
+        group.setDescriptionEn("Description");
+        group.setTaskGroupType(type);
+        group.setStatus(status);
+        group.setOrganizationalUnit(this.ou);
+        this.entityManager.persist(group);
+    }
+}
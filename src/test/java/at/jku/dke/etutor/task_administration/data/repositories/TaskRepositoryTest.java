@@ -0,0 +1,147 @@
+package at.jku.dke.etutor.task_administration.data.repositories;
+
+import at.jku.dke.etutor.task_administration.SpringTaskAdministrationTest;
+import at.jku.dke.etutor.task_administration.data.entities.OrganizationalUnit;
+import at.jku.dke.etutor.task_administration.data.entities.Task;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringTaskAdministrationTest
+@Transactional
+class TaskRepositoryTest {
+
+    @Autowired
+    private TaskRepository repository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private OrganizationalUnit first;
+    private OrganizationalUnit second;
+    private Task joins;
+    private Task aggregation;
+    private Task outerJoins;
+
+    @BeforeEach
+    void setup() {
+        this.first = new OrganizationalUnit("search-ou-1");
+        this.second = new OrganizationalUnit("search-ou-2");
+        this.entityManager.persist(this.first);
+        this.entityManager.persist(this.second);
+
+        this.joins = this.persistTask(this.first, "Joins", "Verbinden Sie zwei Tabellen.", "<p>Write a query combining two tables.</p>");
+        this.aggregation = this.persistTask(this.first, "Aggregation", "Zählen Sie die Zeilen.", "<p>Count the rows after joining the tables.</p>");
+        this.outerJoins = this.persistTask(this.second, "Joins in detail", "Äußere Verbunde.", "<p>Outer joins.</p>");
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    @Test
+    void search_descriptionOnly_matchesGeneratedSearchVector() {
+        // Act: "table" only occurs (stemmed) in the english descriptions and not in any title
+        var result = this.repository.search("table", "%table%", false, List.of(this.first.getId()), 10);
+
+        // Assert
+        assertThat(result).extracting(TaskSearchResult::getId).containsExactlyInAnyOrder(this.joins.getId(), this.aggregation.getId());
+    }
+
+    @Test
+    void search_germanDescription_matches() {
+        // Act
+        var result = this.repository.search("zeile", "%zeile%", false, List.of(this.first.getId()), 10);
+
+        // Assert
+        assertThat(result).extracting(TaskSearchResult::getId).containsExactly(this.aggregation.getId());
+    }
+
+    @Test
+    void search_or_combinesTerms() {
+        // Act
+        var or = this.repository.search("aggregation or outer", "%aggregation or outer%", true, List.of(0L), 10);
+        var and = this.repository.search("aggregation outer", "%aggregation outer%", true, List.of(0L), 10);
+
+        // Assert
+        assertThat(or).extracting(TaskSearchResult::getId).contains(this.aggregation.getId(), this.outerJoins.getId());
+        assertThat(and).extracting(TaskSearchResult::getId).doesNotContain(this.aggregation.getId(), this.outerJoins.getId());
+    }
+
+    @Test
+    void search_titleSubstring_matches() {
+        // Act: no word, only matched by the trigram index
+        var result = this.repository.search("ggrega", "%ggrega%", false, List.of(this.first.getId()), 10);
+
+        // Assert
+        assertThat(result).extracting(TaskSearchResult::getId).containsExactly(this.aggregation.getId());
+    }
+
+    @Test
+    void search_allUnits_ignoresOrgUnits() {
+        // Act
+        var result = this.repository.search("joins", "%joins%", true, List.of(0L), 10);
+
+        // Assert
+        assertThat(result).extracting(TaskSearchResult::getId).contains(this.joins.getId(), this.aggregation.getId(), this.outerJoins.getId());
+    }
+
+    @Test
+    void search_orgUnits_restrictsResults() {
+        // Act
+        var first = this.repository.search("joins", "%joins%", false, List.of(this.first.getId()), 10);
+        var second = this.repository.search("joins", "%joins%", false, List.of(this.second.getId()), 10);
+        var none = this.repository.search("joins", "%joins%", false, List.of(0L), 10);
+
+        // Assert
+        assertThat(first).extracting(TaskSearchResult::getId).containsExactlyInAnyOrder(this.joins.getId(), this.aggregation.getId());
+        assertThat(second).extracting(TaskSearchResult::getId).containsExactly(this.outerJoins.getId());
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    void search_orderedByRank() {
+        // Act: title match (weight A and similarity) before description match (weight B)
+        var result = this.repository.search("joins", "%joins%", false, List.of(this.first.getId()), 10);
+
+        // Assert
+        assertThat(result).extracting(TaskSearchResult::getId).containsExactly(this.joins.getId(), this.aggregation.getId());
+        assertTrue(result.get(0).getRank() > result.get(1).getRank());
+        assertEquals(this.first.getId(), result.getFirst().getOrganizationalUnitId());
+        assertEquals("Joins", result.getFirst().getTitle());
+        assertEquals("sql", result.getFirst().getTaskType());
+        assertEquals("approved", result.getFirst().getStatus());
+    }
+
+    @Test
+    void search_limit() {
+        // Act
+        var result = this.repository.search("joins", "%joins%", false, List.of(this.first.getId(), this.second.getId()), 1);
+
+        // Assert
+        assertEquals(1, result.size());
+    }
+
+    private Task persistTask(OrganizationalUnit ou, String title, String descriptionDe, String descriptionEn) {
+        var task = new Task();
+        task.setTitle(title);
+        task.setDescriptionDe(descriptionDe);
+        task.setDescriptionEn(descriptionEn);
+        task.setDifficulty((short) 1);
+        task.setMaxPoints(BigDecimal.ONE);
+        task.setTaskType("sql");
+        task.setStatus(TaskStatus.APPROVED);
+        task.setOrganizationalUnit(ou);
+        this.entityManager.persist(task);
+        return task;
+    }
+}
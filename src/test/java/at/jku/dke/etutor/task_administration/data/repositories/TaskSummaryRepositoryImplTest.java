@@ -0,0 +1,140 @@
+package at.jku.dke.etutor.task_administration.data.repositories;
+
+import at.jku.dke.etutor.task_administration.SpringTaskAdministrationTest;
+import at.jku.dke.etutor.task_administration.data.entities.OrganizationalUnit;
+import at.jku.dke.etutor.task_administration.data.entities.Task;
+import at.jku.dke.etutor.task_administration.data.entities.TaskGroup;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringTaskAdministrationTest
+@Transactional
+class TaskSummaryRepositoryImplTest {
+
+    @Autowired
+    private TaskRepository repository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private OrganizationalUnit ou;
+    private TaskGroup group;
+
+    @BeforeEach
+    void setup() {
+        this.ou = new OrganizationalUnit("summary-ou");
+        this.entityManager.persist(this.ou);
+
+        this.group = new TaskGroup();
+        this.group.setName("summary-group");
+        this.group.setDescriptionDe("Gruppe");
+        this.group.setDescriptionEn("Group");
+        this.group.setTaskGroupType("sql");
+        this.group.setStatus(TaskStatus.APPROVED);
+        this.group.setOrganizationalUnit(this.ou);
+        this.entityManager.persist(this.group);
+
+        this.persistTask("summary-task-1", TaskStatus.APPROVED, this.group, true);
+        this.persistTask("summary-task-2", TaskStatus.DRAFT, this.group, false);
+        this.persistTask("summary-task-3", TaskStatus.APPROVED, null, false);
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    @Test
+    void findSummaries_mapsAllColumns() {
+        // Arrange
+        Specification<Task> spec = (root, query, cb) -> cb.equal(root.get("title"), "summary-task-1");
+
+        // Act
+        var result = this.repository.findSummaries(spec, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        var dto = result.getContent().getFirst();
+        assertNotNull(dto.id());
+        assertEquals(this.ou.getId(), dto.organizationalUnitId());
+        assertEquals("summary-task-1", dto.title());
+        assertEquals((short) 2, dto.difficulty());
+        assertEquals(0, new BigDecimal("7.5").compareTo(dto.maxPoints()));
+        assertEquals("sql", dto.taskType());
+        assertEquals(TaskStatus.APPROVED, dto.status());
+        assertEquals(this.group.getId(), dto.taskGroupId());
+        assertFalse(dto.moodleSynced());
+        assertTrue(dto.examTask());
+        assertNotNull(dto.createdDate());
+        assertNull(dto.approvedDate());
+        assertEquals(0, this.entityManager.unwrap(Session.class).getStatistics().getEntityCount(), "no entities must be loaded");
+    }
+
+    @Test
+    void findSummaries_withoutTaskGroup_mapsNull() {
+        // Arrange
+        Specification<Task> spec = (root, query, cb) -> cb.equal(root.get("title"), "summary-task-3");
+
+        // Act
+        var result = this.repository.findSummaries(spec, PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getContent().getFirst().taskGroupId());
+    }
+
+    @Test
+    void findSummaries_filtersAndSorts() {
+        // Arrange
+        Specification<Task> spec = (root, query, cb) -> cb.and(
+            cb.equal(root.get("organizationalUnit").get("id"), this.ou.getId()),
+            cb.equal(root.get("status"), cb.literal(TaskStatus.APPROVED)));
+
+        // Act
+        var result = this.repository.findSummaries(spec, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "title")));
+
+        // Assert
+        assertThat(result.getContent()).extracting("title").containsExactly("summary-task-3", "summary-task-1");
+        assertEquals(2, result.getTotalElements());
+    }
+
+    @Test
+    void findSummaries_fullPage_countsAllMatches() {
+        // Arrange
+        Specification<Task> spec = (root, query, cb) -> cb.equal(root.get("organizationalUnit").get("id"), this.ou.getId());
+
+        // Act
+        var result = this.repository.findSummaries(spec, PageRequest.of(0, 2, Sort.by("title")));
+
+        // Assert
+        assertThat(result.getContent()).extracting("title").containsExactly("summary-task-1", "summary-task-2");
+        assertEquals(3, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+    }
+
+    private void persistTask(String title, TaskStatus status, TaskGroup taskGroup, boolean examTask) {
+        var task = new Task();
+        task.setTitle(title);
+        task.setDescriptionDe("Beschreibung");
+        task.setDescriptionEn("Description");
+        task.setDifficulty((short) 2);
+        task.setMaxPoints(new BigDecimal("7.5"));
+        task.setTaskType("sql");
+        task.setStatus(status);
+        task.setOrganizationalUnit(this.ou);
+        task.setTaskGroup(taskGroup);
+        task.setExamTask(examTask);
+        this.entityManager.persist(task);
+    }
+}
@@ -19,6 +19,7 @@ void constructor() {
         taskApp.setTaskPrefix("tpref");
         taskApp.setTaskGroupPrefix("gpref");
         taskApp.setSubmissionPrefix("spref");
+        taskApp.setBatchSupport(true);
         taskApp.setCreatedBy("creator");
         taskApp.setCreatedDate(Instant.now().minusSeconds(60));
         taskApp.setLastModifiedBy("modifier");
@@ -35,6 +36,7 @@ void constructor() {
         assertEquals(taskApp.getTaskPrefix(), dto.taskPrefix());
         assertEquals(taskApp.getTaskGroupPrefix(), dto.taskGroupPrefix());
         assertEquals(taskApp.getSubmissionPrefix(), dto.submissionPrefix());
+        assertEquals(taskApp.isBatchSupport(), dto.batchSupport());
         assertEquals(taskApp.getCreatedBy(), dto.createdBy());
         assertEquals(taskApp.getCreatedDate(), dto.createdDate());
         assertEquals(taskApp.getLastModifiedBy(), dto.lastModifiedBy());
@@ -0,0 +1,35 @@
+package at.jku.dke.etutor.task_administration.dto;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import at.jku.dke.etutor.task_administration.data.repositories.TaskGroupSearchResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskGroupSearchResultDtoTest {
+
+    @Test
+    void constructor() {
+        // Arrange
+        var result = mock(TaskGroupSearchResult.class);
+        when(result.getId()).thenReturn(1L);
+        when(result.getOrganizationalUnitId()).thenReturn(5L);
+        when(result.getName()).thenReturn("Test");
+        when(result.getTaskGroupType()).thenReturn("sql");
+        when(result.getStatus()).thenReturn("approved");
+        when(result.getRank()).thenReturn(null);
+
+        // Act
+        var dto = new TaskGroupSearchResultDto(result);
+
+        // Assert
+        assertEquals(1L, dto.id());
+        assertEquals(5L, dto.organizationalUnitId());
+        assertEquals("Test", dto.name());
+        assertEquals("sql", dto.taskGroupType());
+        assertEquals(TaskStatus.APPROVED, dto.status());
+        assertEquals(0, dto.rank());
+    }
+}
@@ -0,0 +1,35 @@
+package at.jku.dke.etutor.task_administration.dto;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import at.jku.dke.etutor.task_administration.data.repositories.TaskSearchResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskSearchResultDtoTest {
+
+    @Test
+    void constructor() {
+        // Arrange
+        var result = mock(TaskSearchResult.class);
+        when(result.getId()).thenReturn(1L);
+        when(result.getOrganizationalUnitId()).thenReturn(5L);
+        when(result.getTitle()).thenReturn("Test");
+        when(result.getTaskType()).thenReturn("sql");
+        when(result.getStatus()).thenReturn("ready_for_approval");
+        when(result.getRank()).thenReturn(0.75);
+
+        // Act
+        var dto = new TaskSearchResultDto(result);
+
+        // Assert
+        assertEquals(1L, dto.id());
+        assertEquals(5L, dto.organizationalUnitId());
+        assertEquals("Test", dto.title());
+        assertEquals("sql", dto.taskType());
+        assertEquals(TaskStatus.READY_FOR_APPROVAL, dto.status());
+        assertEquals(0.75, dto.rank());
+    }
+}
@@ -2,8 +2,11 @@
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MoodleConfigTest {
 
@@ -50,4 +53,103 @@ void getSetEnabled() {
         assertFalse(config.isDisabled());
     }
 
+    @Test
+    void getSetSyncParallelism() {
+        // Arrange
+        var config = new MoodleConfig();
+        var expected = 8;
+
+        // Act
+        config.setSyncParallelism(expected);
+        var actual = config.getSyncParallelism();
+
+        // Assert
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void getSetConnectTimeout() {
+        // Arrange
+        var config = new MoodleConfig();
+        var expected = Duration.ofSeconds(3);
+
+        // Act
+        config.setConnectTimeout(expected);
+        var actual = config.getConnectTimeout();
+
+        // Assert
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void getSetSyncQueue() {
+        // Arrange
+        var config = new MoodleConfig();
+        var expected = new MoodleConfig.SyncQueueConfig();
+
+        // Act
+        config.setSyncQueue(expected);
+        var actual = config.getSyncQueue();
+
+        // Assert
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void syncQueue_getSet() {
+        // Arrange
+        var config = new MoodleConfig.SyncQueueConfig();
+
+        // Act
+        config.setBatchSize(5);
+        config.setPollInterval(Duration.ofSeconds(1));
+        config.setInitialBackoff(Duration.ofSeconds(2));
+        config.setMaxBackoff(Duration.ofSeconds(3));
+        config.setLockDuration(Duration.ofSeconds(4));
+        config.setDebounce(Duration.ofSeconds(5));
+        config.setMaxDebounceDelay(Duration.ofSeconds(6));
+        config.setMaxJobsPerSecond(2.5);
+        config.setReconciliationCron("-");
+
+        // Assert
+        assertEquals(5, config.getBatchSize());
+        assertEquals(Duration.ofSeconds(1), config.getPollInterval());
+        assertEquals(Duration.ofSeconds(2), config.getInitialBackoff());
+        assertEquals(Duration.ofSeconds(3), config.getMaxBackoff());
+        assertEquals(Duration.ofSeconds(4), config.getLockDuration());
+        assertEquals(Duration.ofSeconds(5), config.getDebounce());
+        assertEquals(Duration.ofSeconds(6), config.getMaxDebounceDelay());
+        assertEquals(2.5, config.getMaxJobsPerSecond());
+        assertEquals("-", config.getReconciliationCron());
+    }
+
+    @Test
+    void getSetQuestionBatch() {
+        // Arrange
+        var config = new MoodleConfig();
+        var expected = new MoodleConfig.QuestionBatchConfig();
+
+        // Act
+        config.setQuestionBatch(expected);
+        var actual = config.getQuestionBatch();
+
+        // Assert
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void questionBatch_getSet() {
+        // Arrange
+        var config = new MoodleConfig.QuestionBatchConfig();
+
+        // Act
+        config.setEnabled(true);
+        config.setMaxSize(7);
+        config.setWindow(Duration.ofMillis(50));
+
+        // Assert
+        assertTrue(config.isEnabled());
+        assertEquals(7, config.getMaxSize());
+        assertEquals(Duration.ofMillis(50), config.getWindow());
+    }
 }
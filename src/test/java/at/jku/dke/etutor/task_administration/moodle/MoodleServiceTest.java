@@ -6,11 +6,11 @@
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -110,9 +110,94 @@ void post_200_withException() throws IOException, InterruptedException {
         assertThrows(RuntimeException.class, () -> service.post(service.getDefaultQueryParameters("test-func"), Map.of("id", "3")));
     }
 
+    @Test
+    void post_200_withNestedException() throws URISyntaxException, IOException, InterruptedException {
+        // Arrange
+        var body = "{\"questions\":[{\"id\":1,\"text\":\"{\\\"exception\\\":1}\",\"exception\":\"none\"}]}";
+        var response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(body);
+
+        var client = mock(HttpClient.class);
+        when(client.send(any(), any())).thenReturn(response);
+
+        var config = new MoodleConfig();
+        config.setUrl("http://test.com");
+        config.setToken("test-token");
+        var service = new MoodleServiceTestImpl(config, client);
+
+        // Act
+        var actual = service.post(service.getDefaultQueryParameters("test-func"), Map.of("id", "3"));
+
+        // Assert
+        assertThat(actual).isEqualTo(body);
+    }
+
+    @Test
+    void post_reusesClient() throws URISyntaxException, IOException, InterruptedException {
+        // Arrange
+        var response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn("[]");
+
+        var client = mock(HttpClient.class);
+        when(client.send(any(), any())).thenReturn(response);
+
+        var config = new MoodleConfig();
+        config.setUrl("http://test.com");
+        config.setToken("test-token");
+        var service = new MoodleServiceTestImpl(config, client);
+
+        // Act
+        service.post(service.getDefaultQueryParameters("test-func"), Map.of("id", "3"));
+        service.post(service.getDefaultQueryParameters("test-func"), Map.of("id", "4"));
+
+        // Assert
+        assertEquals(1, service.createdClients);
+        verify(client, times(2)).send(any(), any());
+        verify(client, never()).close();
+    }
+
+    @Test
+    void encodeForm() {
+        // Arrange
+        var parameters = new LinkedHashMap<String, String>();
+        parameters.put("data[id]", "3");
+        parameters.put("data[name]", "Äpfel & Birnen");
+        parameters.put("data[empty]", "");
+
+        // Act
+        var actual = MoodleService.encodeForm(parameters);
+
+        // Assert
+        assertEquals("data[id]=3&data[name]=%C3%84pfel+%26+Birnen&data[empty]=", actual);
+    }
+
+    @Test
+    void encodeForm_empty() {
+        // Act
+        var actual = MoodleService.encodeForm(Map.of());
+
+        // Assert
+        assertEquals("", actual);
+    }
+
+    @Test
+    void isException() {
+        // Act & Assert
+        assertTrue(MoodleService.isException("{\"exception\":\"invalid_parameter_exception\",\"errorcode\":\"invalidparameter\"}"));
+        assertTrue(MoodleService.isException("{\"data\":{\"a\":[1,2]},\"exception\":\"x\"}"));
+        assertFalse(MoodleService.isException("{\"data\":{\"exception\":\"x\"}}"));
+        assertFalse(MoodleService.isException("[{\"exception\":\"x\"}]"));
+        assertFalse(MoodleService.isException("null"));
+        assertFalse(MoodleService.isException("test-body"));
+        assertFalse(MoodleService.isException(""));
+    }
+
     private static class MoodleServiceTestImpl extends MoodleService {
 
         private final HttpClient client;
+        private int createdClients;
 
         protected MoodleServiceTestImpl(MoodleConfig config, HttpClient client) {
             super(config, null);
@@ -121,6 +206,7 @@ protected MoodleServiceTestImpl(MoodleConfig config, HttpClient client) {
 
         @Override
         protected HttpClient createHttpClient() {
+            this.createdClients++;
             return this.client;
         }
     }
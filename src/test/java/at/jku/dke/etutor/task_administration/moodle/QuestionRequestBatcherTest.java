@@ -0,0 +1,118 @@
+package at.jku.dke.etutor.task_administration.moodle;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuestionRequestBatcherTest {
+
+    private final List<String> functions = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void submit_flushesFullBatch() {
+        // Arrange
+        var batcher = new QuestionRequestBatcher(createConfig(2, Duration.ofHours(1)), this::send);
+
+        // Act
+        var first = batcher.submit("create", Map.of("data[id]", "1"));
+        var second = batcher.submit("create", Map.of("data[id]", "2"));
+
+        // Assert
+        assertEquals(1L, first.orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals(2L, second.orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals(List.of(2), this.sizes);
+        batcher.close();
+    }
+
+    @Test
+    void submit_flushesAfterWindow() {
+        // Arrange
+        var batcher = new QuestionRequestBatcher(createConfig(10, Duration.ofMillis(20)), this::send);
+
+        // Act
+        var first = batcher.submit("create", Map.of("data[id]", "1"));
+        var second = batcher.submit("create", Map.of("data[id]", "2"));
+        var other = batcher.submit("update", Map.of("data[id]", "3"));
+
+        // Assert
+        assertEquals(1L, first.orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals(2L, second.orTimeout(5, TimeUnit.SECONDS).join());
+        assertEquals(3L, other.orTimeout(5, TimeUnit.SECONDS).join());
+        assertThat(this.functions).containsExactlyInAnyOrder("create", "update");
+        assertThat(this.sizes).containsExactlyInAnyOrder(2, 1);
+        batcher.close();
+    }
+
+    @Test
+    void submit_requestFails() {
+        // Arrange
+        var batcher = new QuestionRequestBatcher(createConfig(2, Duration.ofHours(1)), (function, bodies) -> {
+            throw new IOException("Test");
+        });
+
+        // Act
+        var first = batcher.submit("create", Map.of("data[id]", "1"));
+        var second = batcher.submit("create", Map.of("data[id]", "2"));
+
+        // Assert
+        var ex = assertThrows(CompletionException.class, () -> first.orTimeout(5, TimeUnit.SECONDS).join());
+        assertInstanceOf(IOException.class, ex.getCause());
+        assertThrows(CompletionException.class, () -> second.orTimeout(5, TimeUnit.SECONDS).join());
+        batcher.close();
+    }
+
+    @Test
+    void submit_resultCountMismatch() {
+        // Arrange
+        var batcher = new QuestionRequestBatcher(createConfig(2, Duration.ofHours(1)), (function, bodies) -> List.of(1L));
+
+        // Act
+        var first = batcher.submit("create", Map.of("data[id]", "1"));
+        batcher.submit("create", Map.of("data[id]", "2"));
+
+        // Assert
+        var ex = assertThrows(CompletionException.class, () -> first.orTimeout(5, TimeUnit.SECONDS).join());
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        batcher.close();
+    }
+
+    @Test
+    void close_cancelsPendingRequests() {
+        // Arrange
+        var batcher = new QuestionRequestBatcher(createConfig(10, Duration.ofHours(1)), this::send);
+        var future = batcher.submit("create", Map.of("data[id]", "1"));
+
+        // Act
+        batcher.close();
+
+        // Assert
+        assertThrows(CancellationException.class, future::join);
+        assertThat(this.sizes).isEmpty();
+    }
+
+    private List<Long> send(String function, List<Map<String, String>> bodies) {
+        this.functions.add(function);
+        this.sizes.add(bodies.size());
+        return bodies.stream().map(b -> Long.parseLong(b.get("data[id]"))).toList();
+    }
+
+    private static MoodleConfig.QuestionBatchConfig createConfig(int maxSize, Duration window) {
+        var config = new MoodleConfig.QuestionBatchConfig();
+        config.setEnabled(true);
+        config.setMaxSize(maxSize);
+        config.setWindow(window);
+        return config;
+    }
+}
@@ -1,7 +1,6 @@
 package at.jku.dke.etutor.task_administration.moodle;
 
 import at.jku.dke.etutor.task_administration.data.entities.*;
-import at.jku.dke.etutor.task_administration.data.repositories.TaskCategoryRepository;
 import at.jku.dke.etutor.task_administration.data.repositories.TaskGroupRepository;
 import at.jku.dke.etutor.task_administration.data.repositories.TaskMoodleIdRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,75 +9,120 @@
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URISyntaxException;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.ExecutionException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 class QuestionServiceTest {
 
-    private final TaskCategoryRepository categoryRepository = mock(TaskCategoryRepository.class);
     private final TaskMoodleIdRepository taskMoodleIdRepository = mock(TaskMoodleIdRepository.class);
     private final TaskGroupRepository taskGroupRepository = mock(TaskGroupRepository.class);
     private final MoodleConfig config = new MoodleConfig("test-token", "http://localhost", true);
 
-    //#region --- CREATE ---
+    //#region --- PREPARE ---
     @Test
-    void createQuestionFromTask_disabled() throws ExecutionException, InterruptedException {
+    void prepareQuestionUpdate_disabled() {
         // Arrange
         this.config.setEnabled(false);
-        var service = new QuestionTestService(this.config, this.categoryRepository, this.taskMoodleIdRepository, this.taskGroupRepository);
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
 
         // Act
-        var result = service.createQuestionFromTask(new Task()).get();
+        var result = service.prepareQuestionUpdate(new Task(), new QuestionSyncContext());
 
         // Assert
         assertThat(result).isEmpty();
-        assertFalse(service.postCalled);
+        verifyNoInteractions(this.taskMoodleIdRepository);
     }
 
     @Test
-    void createQuestionFromTask_withoutTaskCategories() throws ExecutionException, InterruptedException {
+    void prepareQuestionUpdate_notApproved() {
         // Arrange
-        var service = new QuestionTestService(this.config, this.categoryRepository, this.taskMoodleIdRepository, this.taskGroupRepository);
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
 
         var task = new Task();
+        task.setTaskCategories(Set.of(new TaskCategory()));
 
         // Act
-        var result = service.createQuestionFromTask(task).get();
+        var result = service.prepareQuestionUpdate(task, new QuestionSyncContext());
 
         // Assert
         assertThat(result).isEmpty();
-        assertFalse(service.postCalled);
+        verifyNoInteractions(this.taskMoodleIdRepository);
     }
 
     @Test
-    void createQuestionFromTask_withoutOUMoodleId() throws ExecutionException, InterruptedException {
+    void prepareQuestionUpdate_withoutOUMoodleId() {
         // Arrange
-        var service = new QuestionTestService(this.config, this.categoryRepository, this.taskMoodleIdRepository, this.taskGroupRepository);
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
 
-        var task = new Task();
+        var task = createApprovedTask(new OrganizationalUnit());
         task.setTaskCategories(Set.of(new TaskCategory()));
-        task.setOrganizationalUnit(new OrganizationalUnit());
 
         // Act
-        var result = service.createQuestionFromTask(task).get();
+        var result = service.prepareQuestionUpdate(task, new QuestionSyncContext());
 
         // Assert
         assertThat(result).isEmpty();
+        verifyNoInteractions(this.taskMoodleIdRepository);
+    }
+
+    @Test
+    void prepareQuestionUpdate_withoutTaskCategories_noRequests() {
+        // Arrange
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
+
+        var ou = new OrganizationalUnit();
+        ou.setId(2L);
+        ou.setMoodleId(10);
+        var task = createApprovedTask(ou);
+        when(this.taskMoodleIdRepository.findById_TaskId(task.getId())).thenReturn(List.of());
+
+        // Act
+        var update = service.prepareQuestionUpdate(task, new QuestionSyncContext());
+        var result = update.flatMap(service::executeQuestionUpdate);
+
+        // Assert
+        assertThat(update).isPresent();
+        assertThat(result).hasValueSatisfying(ids -> assertThat(ids).isEmpty());
         assertFalse(service.postCalled);
     }
 
     @Test
-    void createQuestionFromTask_withTaskGroup() throws ExecutionException, InterruptedException {
+    void prepareQuestionUpdate_doesNotSendRequests() {
         // Arrange
-        var service = new QuestionTestService(this.config, this.categoryRepository, this.taskMoodleIdRepository, this.taskGroupRepository);
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
+
+        var ou = new OrganizationalUnit();
+        ou.setId(2L);
+        ou.setMoodleId(10);
+        var cat = new TaskCategory();
+        cat.setId(1L);
+        var task = createApprovedTask(ou);
+        task.setTaskCategories(Set.of(cat));
+
+        // Act
+        var result = service.prepareQuestionUpdate(task, new QuestionSyncContext());
+
+        // Assert
+        assertThat(result).isPresent();
+        assertFalse(service.postCalled);
+        verify(this.taskMoodleIdRepository).findById_TaskId(task.getId());
+    }
+    //#endregion
+
+    //#region --- EXECUTE ---
+    @Test
+    void executeQuestionUpdate_withTaskGroup() {
+        // Arrange
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
 
         var ou = new OrganizationalUnit();
         ou.setId(2L);
@@ -89,10 +133,6 @@ void createQuestionFromTask_withTaskGroup() throws ExecutionException, Interrupt
         cat.setName("Category");
         cat.setOrganizationalUnit(ou);
 
-        var cat2 = new TaskCategory();
-        cat2.setId(2L);
-        cat2.setName("Invalid category");
-
         var tg = new TaskGroup();
         tg.setId(4L);
         tg.setOrganizationalUnit(ou);
@@ -101,65 +141,255 @@ void createQuestionFromTask_withTaskGroup() throws ExecutionException, Interrupt
         tg.setDescriptionDe("Test Description DE");
         tg.setDescriptionEn("Test Description EN");
 
-        var task = new Task();
-        task.setId(91L);
-        task.setStatus(TaskStatus.APPROVED);
-        task.setTitle("Test");
-        task.setTaskType("sql");
-        task.setDescriptionDe("Text DE");
-        task.setDescriptionEn("Text EN");
-        task.setTaskCategories(Set.of(cat, cat2));
-        task.setOrganizationalUnit(ou);
-        task.setMaxPoints(BigDecimal.TEN);
+        var task = createApprovedTask(ou);
+        task.setTaskGroup(tg);
+        task.setTaskCategories(Set.of(cat));
 
-        when(this.categoryRepository.findById(cat.getId())).thenReturn(Optional.of(cat));
-        when(this.categoryRepository.findById(cat2.getId())).thenReturn(Optional.empty());
+        when(this.taskGroupRepository.findById(4L)).thenReturn(Optional.of(tg));
         service.response = "{\"questionid\": 99}";
 
         // Act
-        var result = service.createQuestionFromTask(task).get();
+        var result = synchronize(service, task);
 
         // Assert
         assertThat(result).isPresent();
-        assertThat(result.get()).allMatch(taskMoodleId -> taskMoodleId.getMoodleId() == 99L);
+        assertThat(result.get()).hasSize(1).allMatch(taskMoodleId -> taskMoodleId.getMoodleId() == 99L);
+        assertThat(service.functions).containsExactly("local_etutorsync_create_question");
+        assertThat(service.bodies.getFirst()).containsEntry("data[name]", "Test Task Group - Test");
+    }
+
+    @Test
+    void executeQuestionUpdate_concurrentRequests() {
+        // Arrange
+        this.config.setSyncParallelism(3);
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
+        service.response = "{\"questionid\": 99}";
+        service.delay = 50;
+
+        var ou = new OrganizationalUnit();
+        ou.setId(2L);
+        ou.setMoodleId(10);
+        var task = createApprovedTask(ou);
+        task.setTaskCategories(createCategories(6));
+
+        // Act
+        var result = synchronize(service, task);
+
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(result.get()).extracting(x -> x.getTaskCategory().getId()).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertEquals(6, service.postCount.get());
+        assertEquals(3, service.maxConcurrent.get());
+    }
+
+    @Test
+    void executeQuestionUpdate_requestFails() {
+        // Arrange
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
+        service.throwException = true;
+
+        var ou = new OrganizationalUnit();
+        ou.setId(2L);
+        ou.setMoodleId(10);
+        var task = createApprovedTask(ou);
+        task.setTaskCategories(createCategories(1));
+
+        // Act
+        var result = synchronize(service, task);
+
+        // Assert
+        assertThat(result).isEmpty();
         assertTrue(service.postCalled);
     }
-    //#endregion
 
-    //#region --- UPDATE ---
     @Test
-    void updateQuestionFromTask_disabled() throws ExecutionException, InterruptedException {
+    void executeQuestionUpdate_batched() {
         // Arrange
-        this.config.setEnabled(false);
-        var service = new QuestionTestService(this.config, this.categoryRepository, this.taskMoodleIdRepository, this.taskGroupRepository);
+        this.config.getQuestionBatch().setEnabled(true);
+        this.config.getQuestionBatch().setMaxSize(4);
+        this.config.getQuestionBatch().setWindow(Duration.ofMillis(20));
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
+        service.responder = body -> {
+            var ids = new ArrayList<String>();
+            for (int i = 0; body.containsKey("data[" + i + "][category_id]"); i++)
+                ids.add("{\"questionid\": " + (100 + Integer.parseInt(body.get("data[" + i + "][category_id]"))) + "}");
+            return "[" + String.join(",", ids) + "]";
+        };
+
+        var ou = new OrganizationalUnit();
+        ou.setId(2L);
+        ou.setMoodleId(10);
+        var task = createApprovedTask(ou);
+        task.setTaskCategories(createCategories(6));
 
         // Act
-        var result = service.updateQuestionFromTask(new Task()).get();
+        var result = synchronize(service, task);
+        service.destroy();
+
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(result.get()).extracting(TaskMoodleId::getMoodleId).containsExactly(101L, 102L, 103L, 104L, 105L, 106L);
+        assertEquals(2, service.postCount.get());
+        assertThat(service.bodies.getFirst()).containsEntry("data[0][id]", "91").containsEntry("data[3][category_id]", "4");
+    }
+
+    @Test
+    void executeQuestionUpdate_batchedRequestFails() {
+        // Arrange
+        this.config.getQuestionBatch().setEnabled(true);
+        this.config.getQuestionBatch().setWindow(Duration.ofMillis(10));
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
+        service.throwException = true;
+
+        var ou = new OrganizationalUnit();
+        ou.setId(2L);
+        ou.setMoodleId(10);
+        var task = createApprovedTask(ou);
+        task.setTaskCategories(createCategories(1));
+
+        // Act
+        var result = synchronize(service, task);
+        service.destroy();
 
         // Assert
         assertThat(result).isEmpty();
-        assertFalse(service.postCalled);
+        assertTrue(service.postCalled);
+    }
+
+    @Test
+    void executeQuestionUpdate_createsDeprecatesAndUpdates() {
+        // Arrange
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
+        service.response = "{\"questionid\": 99}";
+
+        var ou = new OrganizationalUnit();
+        ou.setId(2L);
+        ou.setMoodleId(10);
+        var newCat = new TaskCategory();
+        newCat.setId(1L);
+        var keptCat = new TaskCategory();
+        keptCat.setId(2L);
+        var oldCat = new TaskCategory();
+        oldCat.setId(3L);
+        var task = createApprovedTask(ou);
+        task.setTaskCategories(Set.of(newCat, keptCat));
+
+        when(this.taskMoodleIdRepository.findById_TaskId(task.getId())).thenReturn(List.of(
+            new TaskMoodleId(task, keptCat, 20L),
+            new TaskMoodleId(task, oldCat, 30L)
+        ));
+
+        // Act
+        var result = synchronize(service, task);
+
+        // Assert
+        assertThat(result).isPresent();
+        assertThat(result.get()).extracting(x -> x.getTaskCategory().getId()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(service.functions).containsExactlyInAnyOrder("local_etutorsync_create_question", "local_etutorsync_deprecate_old_question", "local_etutorsync_update_question");
+    }
+
+    @Test
+    void executeQuestionUpdate_sharedContext_loadsTaskGroupOnce() {
+        // Arrange
+        var service = new QuestionTestService(this.config, this.taskMoodleIdRepository, this.taskGroupRepository);
+        service.response = "{\"questionid\": 99}";
+
+        var ou = new OrganizationalUnit();
+        ou.setId(2L);
+        ou.setMoodleId(10);
+        var tg = new TaskGroup();
+        tg.setId(4L);
+        tg.setName("Group");
+        tg.setDescriptionDe("Gruppe DE");
+        tg.setDescriptionEn("Group EN");
+        var categories = createCategories(3);
+        when(this.taskGroupRepository.findById(4L)).thenReturn(Optional.of(tg));
+        when(this.taskMoodleIdRepository.findById_TaskId(any())).thenReturn(List.of());
+
+        var context = new QuestionSyncContext();
+
+        // Act
+        for (long id = 1; id <= 5; id++) {
+            var task = createApprovedTask(ou);
+            task.setId(id);
+            task.setTaskGroup(tg);
+            task.setTaskCategories(categories);
+            assertThat(service.prepareQuestionUpdate(task, context).flatMap(service::executeQuestionUpdate)).isPresent();
+        }
+
+        // Assert
+        assertEquals(15, service.postCount.get());
+        verify(this.taskGroupRepository, times(1)).findById(4L);
+        assertThat(service.bodies).allSatisfy(body -> assertThat(body)
+            .containsEntry("data[name]", "Group - Test")
+            .containsEntry("data[tag]", "Group")
+            .hasEntrySatisfying("data[questiontext]", text -> assertThat(text).contains("Gruppe DE", "Group EN")));
     }
     //#endregion
 
+    private static Optional<List<TaskMoodleId>> synchronize(QuestionService service, Task task) {
+        return service.prepareQuestionUpdate(task, new QuestionSyncContext()).flatMap(service::executeQuestionUpdate);
+    }
+
+    private static Set<TaskCategory> createCategories(int count) {
+        var categories = new LinkedHashSet<TaskCategory>();
+        for (long i = 1; i <= count; i++) {
+            var cat = new TaskCategory();
+            cat.setId(i);
+            cat.setMoodleId((int) i);
+            categories.add(cat);
+        }
+        return categories;
+    }
+
+    private static Task createApprovedTask(OrganizationalUnit ou) {
+        var task = new Task();
+        task.setId(91L);
+        task.setStatus(TaskStatus.APPROVED);
+        task.setTitle("Test");
+        task.setTaskType("sql");
+        task.setDescriptionDe("Text DE");
+        task.setDescriptionEn("Text EN");
+        task.setOrganizationalUnit(ou);
+        task.setMaxPoints(BigDecimal.TEN);
+        return task;
+    }
+
     private static class QuestionTestService extends QuestionService {
+        final AtomicInteger postCount = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+        final List<String> functions = Collections.synchronizedList(new ArrayList<>());
+        final List<Map<String, String>> bodies = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger running = new AtomicInteger();
         String response;
+        Function<Map<String, String>, String> responder;
+        long delay;
         boolean throwException;
-        boolean postCalled;
+        volatile boolean postCalled;
 
         protected QuestionTestService(MoodleConfig config,
-                                      TaskCategoryRepository categoryRepository,
                                       TaskMoodleIdRepository taskMoodleIdRepository,
                                       TaskGroupRepository taskGroupRepository) {
-            super(config, new ObjectMapper(), categoryRepository, taskMoodleIdRepository, taskGroupRepository);
+            super(config, new ObjectMapper(), taskMoodleIdRepository, taskGroupRepository);
         }
 
         @Override
         protected String post(Map<String, String> queryParameters, Map<String, String> body) throws URISyntaxException, IOException, InterruptedException {
             this.postCalled = true;
-            if (throwException)
-                throw new IOException("Test");
-            return response;
+            this.postCount.incrementAndGet();
+            this.functions.add(queryParameters.get("wsfunction"));
+            this.bodies.add(body);
+            int current = this.running.incrementAndGet();
+            this.maxConcurrent.accumulateAndGet(current, Math::max);
+            try {
+                if (delay > 0)
+                    Thread.sleep(delay);
+                if (throwException)
+                    throw new IOException("Test");
+                return responder == null ? response : responder.apply(body);
+            } finally {
+                this.running.decrementAndGet();
+            }
         }
     }
 }
@@ -0,0 +1,50 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskCategory;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.*;
+
+class EntityCacheEvictorTest {
+
+    @Test
+    void evictAfterCommit_noTransaction_evictsImmediately() {
+        // Arrange
+        var cache = mock(Cache.class);
+        var emf = mock(EntityManagerFactory.class);
+        when(emf.getCache()).thenReturn(cache);
+        var evictor = new EntityCacheEvictor(emf);
+
+        // Act
+        evictor.evictAfterCommit(TaskCategory.class);
+
+        // Assert
+        verify(cache).evict(TaskCategory.class);
+    }
+
+    @Test
+    void evictAfterCommit_transaction_evictsAfterCommit() {
+        // Arrange
+        var cache = mock(Cache.class);
+        var emf = mock(EntityManagerFactory.class);
+        when(emf.getCache()).thenReturn(cache);
+        var evictor = new EntityCacheEvictor(emf);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            evictor.evictAfterCommit(TaskCategory.class);
+
+            // Assert
+            verifyNoInteractions(cache);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(cache).evict(TaskCategory.class);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
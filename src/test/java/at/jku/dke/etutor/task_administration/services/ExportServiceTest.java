@@ -0,0 +1,171 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.dto.CombinedDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportServiceTest {
+
+    @Test
+    void export_allItemsExported() {
+        // Arrange
+        var service = new ExportService(new TaskAppConfig());
+        var items = LongStream.rangeClosed(1, 250).boxed().toList();
+        var result = new ArrayList<CombinedDto<Long>>();
+
+        // Act
+        var summary = service.export(items, x -> x, x -> x % 2 == 0 ? "sql" : "xquery", ExportServiceTest::loadAll, result::add);
+
+        // Assert
+        assertEquals(250, summary.total());
+        assertEquals(0, summary.failed());
+        assertThat(result).hasSize(250);
+        assertThat(result).allMatch(x -> x.additionalData() != null);
+        assertThat(result.stream().map(CombinedDto::dto)).containsExactlyInAnyOrderElementsOf(items);
+    }
+
+    @Test
+    void export_failedItemsInSummary() {
+        // Arrange
+        var service = new ExportService(new TaskAppConfig());
+        var items = List.of(1L, 2L, 3L);
+        var result = new ArrayList<CombinedDto<Long>>();
+
+        // Act
+        var summary = service.export(items, x -> x, x -> "sql", (ids, type) -> {
+            var data = loadAll(ids, type);
+            data.remove(2L);
+            return data;
+        }, result::add);
+
+        // Assert
+        assertEquals(3, summary.total());
+        assertEquals(1, summary.failed());
+        assertEquals(List.of(2L), summary.failedIds());
+        assertThat(result).hasSize(3);
+        assertNull(result.stream().filter(x -> x.dto() == 2L).findFirst().orElseThrow().additionalData());
+    }
+
+    @Test
+    void export_failedChunkInSummary() {
+        // Arrange
+        var config = new TaskAppConfig();
+        config.setAdditionalDataBatchSize(2);
+        var service = new ExportService(config);
+        var items = List.of(1L, 2L, 3L);
+        var result = new ArrayList<CombinedDto<Long>>();
+
+        // Act
+        var summary = service.export(items, x -> x, x -> "sql", (ids, type) -> {
+            if (ids.contains(3L))
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY);
+            return loadAll(ids, type);
+        }, result::add);
+
+        // Assert
+        assertEquals(1, summary.failed());
+        assertEquals(List.of(3L), summary.failedIds());
+        assertThat(result).hasSize(3);
+    }
+
+    @Test
+    void export_noTaskApp_notFailed() {
+        // Arrange
+        var service = new ExportService(new TaskAppConfig());
+        var items = List.of(1L, 2L);
+        var result = new ArrayList<CombinedDto<Long>>();
+
+        // Act
+        var summary = service.export(items, x -> x, x -> "sql", (ids, type) -> null, result::add);
+
+        // Assert
+        assertEquals(0, summary.failed());
+        assertThat(result).hasSize(2).allMatch(x -> x.additionalData() == null);
+    }
+
+    @Test
+    void export_loadsChunksSequentiallyPerTaskType() {
+        // Arrange
+        var config = new TaskAppConfig();
+        config.setAdditionalDataBatchSize(3);
+        var service = new ExportService(config);
+        var items = LongStream.rangeClosed(1, 20).boxed().toList();
+        var active = new ConcurrentHashMap<String, AtomicInteger>();
+        var maxActive = new AtomicInteger();
+        var maxChunkSize = new AtomicInteger();
+
+        // Act
+        service.export(items, x -> x, x -> x % 2 == 0 ? "sql" : "xquery", (ids, type) -> {
+            var counter = active.computeIfAbsent(type, t -> new AtomicInteger());
+            maxActive.accumulateAndGet(counter.incrementAndGet(), Math::max);
+            maxChunkSize.accumulateAndGet(ids.size(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            counter.decrementAndGet();
+            return loadAll(ids, type);
+        }, x -> {
+        });
+
+        // Assert
+        assertEquals(1, maxActive.get());
+        assertEquals(3, maxChunkSize.get());
+    }
+
+    @Test
+    void export_consumerFails_aborts() {
+        // Arrange
+        var service = new ExportService(new TaskAppConfig());
+        var items = LongStream.rangeClosed(1, 1000).boxed().toList();
+
+        // Act & Assert
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+            assertThrows(IllegalStateException.class, () -> service.export(items, x -> x, x -> "sql", ExportServiceTest::loadAll, x -> {
+                throw new IllegalStateException("Client disconnected");
+            })));
+    }
+
+    @Test
+    void export_loaderThrowsError_remainingItemsFailed() {
+        // Arrange
+        var config = new TaskAppConfig();
+        config.setAdditionalDataBatchSize(2);
+        var service = new ExportService(config);
+        var items = LongStream.rangeClosed(1, 10).boxed().toList();
+        var result = new ArrayList<CombinedDto<Long>>();
+
+        // Act
+        var summary = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> service.export(items, x -> x, x -> x % 2 == 0 ? "sql" : "xquery", (ids, type) -> {
+            if (type.equals("xquery") && ids.contains(5L))
+                throw new StackOverflowError();
+            return loadAll(ids, type);
+        }, result::add));
+
+        // Assert
+        assertEquals(10, summary.total());
+        assertThat(summary.failedIds()).containsExactlyInAnyOrder(5L, 7L, 9L);
+        assertThat(result).hasSize(10);
+        assertThat(result.stream().filter(x -> x.additionalData() == null).map(CombinedDto::dto)).containsExactlyInAnyOrder(5L, 7L, 9L);
+    }
+
+    private static Map<Long, Map<String, Object>> loadAll(List<Long> ids, String type) {
+        var result = new HashMap<Long, Map<String, Object>>();
+        ids.forEach(id -> result.put(id, Map.of("id", id)));
+        return result;
+    }
+}
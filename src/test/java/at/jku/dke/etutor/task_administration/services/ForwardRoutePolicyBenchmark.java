@@ -0,0 +1,104 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the per-request cost of the forward route matching with the previously used regular expressions.
+ * <p>
+ * The paths follow a typical distribution of forwarded requests: most requests target app-specific
+ * endpoints (e.g. diagrams, downloads, checks), only a few target the blocked default endpoints.
+ * <p>
+ * Run with: {@code mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java "-Dexec.args=-cp %classpath at.jku.dke.etutor.task_administration.services.ForwardRoutePolicyBenchmark"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForwardRoutePolicyBenchmark {
+    private static final String[] ALLOWED_PATHS = {
+        "api/forward/diagram?id=12",
+        "api/task/dlg/facts/download",
+        "api/taskGroup/sql/schema/tables",
+        "api/exercise/bpmn/preview?lang=de",
+        "api/xquery/validate",
+        "api/pm/log/1d0c9e8a-7c8b-4d22-9b84-9b3b0a6c1e27"
+    };
+    private static final String[] DENIED_PATHS = {
+        "api/submission?persist=true",
+        "api/submission/5b7d0c5e-2f0c-4e61-9a62-0d1f6a3b5c11/result",
+        "api/task/123",
+        "api/taskGroup/dlg/45"
+    };
+
+    private String[] paths;
+    private ForwardRoutePolicy policy;
+
+    /**
+     * Creates a new instance of class {@link ForwardRoutePolicyBenchmark}.
+     */
+    public ForwardRoutePolicyBenchmark() {
+    }
+
+    /**
+     * Starts the benchmark.
+     *
+     * @param args The command line arguments.
+     * @throws RunnerException If the benchmark failed.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ForwardRoutePolicyBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Prepares 1024 paths of which about 10% are denied.
+     */
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        this.paths = new String[1024];
+        for (int i = 0; i < this.paths.length; i++) {
+            this.paths[i] = random.nextInt(10) == 0 ?
+                DENIED_PATHS[random.nextInt(DENIED_PATHS.length)] :
+                ALLOWED_PATHS[random.nextInt(ALLOWED_PATHS.length)];
+        }
+        this.policy = new ForwardRoutePolicy(new TaskAppConfig());
+    }
+
+    /**
+     * Matches the paths with the route policy.
+     *
+     * @param blackhole The blackhole.
+     */
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public void routePolicy(Blackhole blackhole) {
+        for (String path : this.paths)
+            blackhole.consume(this.policy.isAllowed("sql", path));
+    }
+
+    /**
+     * Matches the paths with the regular expressions which were used before the route policy has been introduced.
+     *
+     * @param blackhole The blackhole.
+     */
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public void legacyRegex(Blackhole blackhole) {
+        for (String path : this.paths) {
+            blackhole.consume(!(Pattern.matches("^api/submission(\\?.*)?", path.toLowerCase()) ||
+                Pattern.matches("^api/submission/[a-z0-9-]+/result(\\?.*)?", path.toLowerCase()) ||
+                Pattern.matches("^api/(task|taskgroup)/[0-9]+(\\?.*)?", path.toLowerCase()) ||
+                Pattern.matches("^api/(task|taskgroup)/.+/[0-9]+(\\?.*)?", path.toLowerCase())));
+        }
+    }
+}
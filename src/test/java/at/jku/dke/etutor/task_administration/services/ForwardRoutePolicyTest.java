@@ -0,0 +1,112 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForwardRoutePolicyTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "api/submission",
+        "/api/submission?persist=true",
+        "api/Submission/",
+        "api/submission/7f1c6d2e-4c7a-4c0e-9a57-0f4b5a3a1a11/result",
+        "api/submission/abc/result?delete=true",
+        "api/task/1",
+        "api/TASK/123?x=y",
+        "api/taskGroup/42",
+        "api/task/dlg/1",
+        "api/taskgroup/sql/nested/42",
+        "api//task//1"
+    })
+    void isAllowed_builtInRules_denied(String path) {
+        // Arrange
+        var policy = new ForwardRoutePolicy(new TaskAppConfig());
+
+        // Act
+        var result = policy.isAllowed("sql", path);
+
+        // Assert
+        assertFalse(result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "api/forward/diagram",
+        "api/task",
+        "api/task/abc",
+        "api/task/1/solution",
+        "api/submission/abc",
+        "api/submission/abc/result/extra",
+        "api/taskgroup/dlg/abc",
+        "api/something/1"
+    })
+    void isAllowed_builtInRules_allowed(String path) {
+        // Arrange
+        var policy = new ForwardRoutePolicy(new TaskAppConfig());
+
+        // Act
+        var result = policy.isAllowed("sql", path);
+
+        // Assert
+        assertTrue(result);
+    }
+
+    @Test
+    void isAllowed_taskTypeSpecificRule() {
+        // Arrange
+        var config = new TaskAppConfig();
+        config.getForwardRules().add(new TaskAppConfig.ForwardRule("api/admin/**", false, List.of("datalog")));
+        var policy = new ForwardRoutePolicy(config);
+
+        // Act & Assert
+        assertFalse(policy.isAllowed("datalog", "api/admin/reset"));
+        assertTrue(policy.isAllowed("sql", "api/admin/reset"));
+        assertFalse(policy.isAllowed("datalog", "api/task/1"));
+    }
+
+    @Test
+    void isAllowed_defaultDeny() {
+        // Arrange
+        var config = new TaskAppConfig();
+        config.setForwardDefaultAllow(false);
+        config.getForwardRules().add(new TaskAppConfig.ForwardRule("api/diagram/*", true, List.of()));
+        config.getForwardRules().add(new TaskAppConfig.ForwardRule("api/task/**", true, List.of()));
+        var policy = new ForwardRoutePolicy(config);
+
+        // Act & Assert
+        assertTrue(policy.isAllowed("sql", "api/diagram/1"));
+        assertFalse(policy.isAllowed("sql", "api/diagram/1/2"));
+        assertFalse(policy.isAllowed("sql", "api/other"));
+        assertTrue(policy.isAllowed("sql", "api/task/abc"));
+        assertFalse(policy.isAllowed("sql", "api/task/1"));
+    }
+
+    @Test
+    void isAllowed_firstMatchingRuleWins() {
+        // Arrange
+        var config = new TaskAppConfig();
+        config.getForwardRules().add(new TaskAppConfig.ForwardRule("api/files/public", true, List.of()));
+        config.getForwardRules().add(new TaskAppConfig.ForwardRule("api/files/*", false, List.of()));
+        var policy = new ForwardRoutePolicy(config);
+
+        // Act & Assert
+        assertTrue(policy.isAllowed("sql", "api/files/public"));
+        assertFalse(policy.isAllowed("sql", "api/files/private"));
+    }
+
+    @Test
+    void splitPath() {
+        // Act
+        var result = ForwardRoutePolicy.splitPath("/api//Task/1/?a=/b");
+
+        // Assert
+        assertArrayEquals(new String[]{"api", "task", "1"}, result);
+    }
+}
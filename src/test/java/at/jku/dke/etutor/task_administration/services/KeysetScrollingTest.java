@@ -0,0 +1,102 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.Task;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetScrollingTest {
+
+    private static final Set<String> PROPERTIES = Set.of("id", "title", "lastModifiedDate");
+
+    @Test
+    void getSort_appendsId() {
+        // Act
+        var result = KeysetScrolling.getSort(Sort.by(Sort.Direction.DESC, "title"), PROPERTIES);
+
+        // Assert
+        assertEquals(Sort.by(Sort.Order.desc("title"), Sort.Order.asc("id")), result);
+    }
+
+    @Test
+    void getSort_unsorted() {
+        // Act
+        var result = KeysetScrolling.getSort(Sort.unsorted(), PROPERTIES);
+
+        // Assert
+        assertEquals(Sort.by("id"), result);
+    }
+
+    @Test
+    void getSort_idAlreadyContained() {
+        // Arrange
+        var sort = Sort.by(Sort.Direction.DESC, "id");
+
+        // Act
+        var result = KeysetScrolling.getSort(sort, PROPERTIES);
+
+        // Assert
+        assertEquals(sort, result);
+    }
+
+    @Test
+    void getSort_notAllowed() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> KeysetScrolling.getSort(Sort.by("approvedDate"), PROPERTIES));
+    }
+
+    @Test
+    void decodeCursor_empty() {
+        // Act
+        var result = KeysetScrolling.decodeCursor(null, Task.class, Sort.by("id"));
+
+        // Assert
+        assertThat(result).isInstanceOf(KeysetScrollPosition.class);
+        assertTrue(result.isInitial());
+    }
+
+    @Test
+    void encodeCursor_decodeCursor_roundTrip() {
+        // Arrange
+        var date = Instant.parse("2024-05-01T10:15:30.123456Z");
+        var keys = new LinkedHashMap<String, Object>();
+        keys.put("lastModifiedDate", date);
+        keys.put("id", 42L);
+        var sort = Sort.by("lastModifiedDate", "id");
+
+        // Act
+        var cursor = KeysetScrolling.encodeCursor(ScrollPosition.forward(keys));
+        var result = KeysetScrolling.decodeCursor(cursor, Task.class, sort);
+
+        // Assert
+        assertThat(cursor).doesNotContain("lastModifiedDate");
+        assertThat(result).isInstanceOf(KeysetScrollPosition.class);
+        assertEquals(Map.of("lastModifiedDate", date, "id", 42L), ((KeysetScrollPosition) result).getKeys());
+    }
+
+    @Test
+    void decodeCursor_otherSort() {
+        // Arrange
+        var cursor = KeysetScrolling.encodeCursor(ScrollPosition.forward(Map.of("title", "abc", "id", 1L)));
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> KeysetScrolling.decodeCursor(cursor, Task.class, Sort.by("lastModifiedDate", "id")));
+    }
+
+    @Test
+    void decodeCursor_invalid() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> KeysetScrolling.decodeCursor("not a cursor!", Task.class, Sort.by("id")));
+        assertThrows(ValidationException.class, () -> KeysetScrolling.decodeCursor("eyJpZCI6ImFiYyJ9", Task.class, Sort.by("id")));
+    }
+}
@@ -0,0 +1,26 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LikePatternsTest {
+
+    @Test
+    void contains() {
+        // Act
+        var result = LikePatterns.contains("  Select Query ");
+
+        // Assert
+        assertEquals("%select query%", result);
+    }
+
+    @Test
+    void contains_escapesWildcards() {
+        // Act
+        var result = LikePatterns.contains("100%_a\\b");
+
+        // Assert
+        assertEquals("%100\\%\\_a\\\\b%", result);
+    }
+}
@@ -0,0 +1,124 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import at.jku.dke.etutor.task_administration.data.repositories.MoodleSyncJobRepository;
+import at.jku.dke.etutor.task_administration.data.repositories.OrganizationalUnitRepository;
+import at.jku.dke.etutor.task_administration.data.repositories.TaskCategoryRepository;
+import at.jku.dke.etutor.task_administration.data.repositories.TaskRepository;
+import at.jku.dke.etutor.task_administration.moodle.MoodleConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class MoodleReconciliationServiceTest {
+
+    private final MoodleConfig config = new MoodleConfig("token", "http://localhost", true);
+    private final MoodleSyncQueue queue = mock(MoodleSyncQueue.class);
+    private final OrganizationalUnitRepository organizationalUnitRepository = mock(OrganizationalUnitRepository.class);
+    private final TaskCategoryRepository taskCategoryRepository = mock(TaskCategoryRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+
+    @Test
+    void configureTasks() {
+        // Arrange
+        var registrar = new ScheduledTaskRegistrar();
+
+        // Act
+        this.createService().configureTasks(registrar);
+
+        // Assert
+        assertEquals(1, registrar.getCronTaskList().size());
+    }
+
+    @Test
+    void configureTasks_cronDisabled() {
+        // Arrange
+        this.config.getSyncQueue().setReconciliationCron("-");
+        var registrar = new ScheduledTaskRegistrar();
+
+        // Act
+        this.createService().configureTasks(registrar);
+
+        // Assert
+        assertTrue(registrar.getCronTaskList().isEmpty());
+    }
+
+    @Test
+    void reconcile() {
+        // Arrange
+        var service = this.createService();
+        var firstPage = LongStream.rangeClosed(1, 500).boxed().toList();
+        when(this.organizationalUnitRepository.findIdsByMoodleIdIsNull()).thenReturn(List.of(1L));
+        when(this.taskCategoryRepository.findIdsByMoodleIdIsNull()).thenReturn(List.of(2L, 3L));
+        when(this.taskRepository.findOrganizationalUnitIdsOfUnsyncedTasks(TaskStatus.APPROVED)).thenReturn(List.of(1L, 4L));
+        when(this.taskRepository.findUnsyncedTaskIds(eq(1L), eq(TaskStatus.APPROVED), anyLong(), any(Limit.class))).thenReturn(List.of(7L));
+        when(this.taskRepository.findUnsyncedTaskIds(4L, TaskStatus.APPROVED, 0L, Limit.of(500))).thenReturn(firstPage);
+        when(this.taskRepository.findUnsyncedTaskIds(4L, TaskStatus.APPROVED, 500L, Limit.of(500))).thenReturn(List.of(501L));
+
+        // Act
+        var result = service.reconcile();
+
+        // Assert
+        assertTrue(result);
+        var inOrder = inOrder(this.queue);
+        inOrder.verify(this.queue).enqueueAll(MoodleSyncEntityType.ORGANIZATIONAL_UNIT, List.of(1L));
+        inOrder.verify(this.queue).enqueueAll(MoodleSyncEntityType.TASK_CATEGORY, List.of(2L, 3L));
+        inOrder.verify(this.queue).enqueueAll(MoodleSyncEntityType.TASK, List.of(7L));
+        inOrder.verify(this.queue).enqueueAll(MoodleSyncEntityType.TASK, firstPage);
+        inOrder.verify(this.queue).enqueueAll(MoodleSyncEntityType.TASK, List.of(501L));
+
+        var status = service.getStatus();
+        assertFalse(status.reconciliationRunning());
+        assertNotNull(status.lastReconciliation().finishedAt());
+        assertEquals(1, status.lastReconciliation().organizationalUnits());
+        assertEquals(2, status.lastReconciliation().taskCategories());
+        assertEquals(502, status.lastReconciliation().tasks());
+    }
+
+    @Test
+    void reconcile_disabled() {
+        // Arrange
+        this.config.setEnabled(false);
+        var service = this.createService();
+
+        // Act
+        var result = service.reconcile();
+
+        // Assert
+        assertFalse(result);
+        verifyNoInteractions(this.queue, this.taskRepository);
+        assertNull(service.getStatus().lastReconciliation());
+    }
+
+    @Test
+    void getStatus_queueStatistics() {
+        // Arrange
+        var date = OffsetDateTime.now();
+        var statistics = mock(MoodleSyncJobRepository.Statistics.class);
+        when(statistics.getEntityType()).thenReturn(MoodleSyncEntityType.TASK);
+        when(statistics.getPending()).thenReturn(10L);
+        when(statistics.getFailing()).thenReturn(2L);
+        when(statistics.getOldestRequestedDate()).thenReturn(date);
+        when(this.queue.getStatistics()).thenReturn(List.of(statistics));
+
+        // Act
+        var result = this.createService().getStatus();
+
+        // Assert
+        assertEquals(List.of(new MoodleReconciliationService.QueueStatistics(MoodleSyncEntityType.TASK, 10, 2, date)), result.queue());
+    }
+
+    private MoodleReconciliationService createService() {
+        return new MoodleReconciliationService(this.config, this.queue, this.organizationalUnitRepository, this.taskCategoryRepository, this.taskRepository);
+    }
+}
@@ -0,0 +1,168 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncJob;
+import at.jku.dke.etutor.task_administration.moodle.MoodleConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class MoodleSyncDispatcherTest {
+
+    private final MoodleConfig config = new MoodleConfig("token", "http://localhost", true);
+    private final MoodleSyncQueue queue = mock(MoodleSyncQueue.class);
+    private final OrganizationalUnitService organizationalUnitService = mock(OrganizationalUnitService.class);
+    private final TaskCategoryService taskCategoryService = mock(TaskCategoryService.class);
+    private final TaskService taskService = mock(TaskService.class);
+
+    @Test
+    void configureTasks_enabled() {
+        // Arrange
+        var registrar = new ScheduledTaskRegistrar();
+
+        // Act
+        this.createDispatcher().configureTasks(registrar);
+
+        // Assert
+        assertEquals(1, registrar.getFixedDelayTaskList().size());
+    }
+
+    @Test
+    void configureTasks_disabled() {
+        // Arrange
+        this.config.setEnabled(false);
+        var registrar = new ScheduledTaskRegistrar();
+
+        // Act
+        this.createDispatcher().configureTasks(registrar);
+
+        // Assert
+        assertEquals(0, registrar.getFixedDelayTaskList().size());
+    }
+
+    @Test
+    void dispatch_noJobs() {
+        // Arrange
+        when(this.queue.claim(20)).thenReturn(List.of());
+
+        // Act
+        var result = this.createDispatcher().dispatch();
+
+        // Assert
+        assertEquals(0, result);
+        verify(this.queue, never()).complete(any());
+    }
+
+    @Test
+    void dispatch_executesJobsByType() {
+        // Arrange
+        var ou = createJob(MoodleSyncEntityType.ORGANIZATIONAL_UNIT, 1);
+        var category = createJob(MoodleSyncEntityType.TASK_CATEGORY, 2);
+        var task = createJob(MoodleSyncEntityType.TASK, 3);
+        when(this.queue.claim(20)).thenReturn(List.of(ou, category, task));
+        when(this.organizationalUnitService.synchronizeMoodleObjects(1)).thenReturn(true);
+        when(this.taskCategoryService.synchronizeMoodleObjects(2)).thenReturn(true);
+        when(this.taskService.synchronizeMoodleObjects(eq(3L), any())).thenReturn(false);
+
+        // Act
+        var result = this.createDispatcher().dispatch();
+
+        // Assert
+        assertEquals(3, result);
+        verify(this.queue).complete(ou);
+        verify(this.queue).complete(category);
+        verify(this.queue).fail(eq(task), any());
+    }
+
+    @Test
+    void dispatch_exception() {
+        // Arrange
+        var task = createJob(MoodleSyncEntityType.TASK, 3);
+        var task2 = createJob(MoodleSyncEntityType.TASK, 4);
+        when(this.queue.claim(20)).thenReturn(List.of(task, task2));
+        when(this.taskService.synchronizeMoodleObjects(eq(3L), any())).thenThrow(new IllegalStateException("error"));
+        when(this.taskService.synchronizeMoodleObjects(eq(4L), any())).thenReturn(true);
+
+        // Act
+        this.createDispatcher().dispatch();
+
+        // Assert
+        verify(this.queue).fail(task, "error");
+        verify(this.queue).complete(task2);
+    }
+
+    @Test
+    void dispatch_batched() {
+        // Arrange
+        this.config.getQuestionBatch().setEnabled(true);
+        var category = createJob(MoodleSyncEntityType.TASK_CATEGORY, 2);
+        var task = createJob(MoodleSyncEntityType.TASK, 3);
+        var task2 = createJob(MoodleSyncEntityType.TASK, 4);
+        when(this.queue.claim(20)).thenReturn(List.of(category, task, task2));
+        when(this.taskCategoryService.synchronizeMoodleObjects(2)).thenReturn(true);
+        when(this.taskService.synchronizeMoodleObjects(eq(3L), any())).thenReturn(true);
+        when(this.taskService.synchronizeMoodleObjects(eq(4L), any())).thenThrow(new IllegalStateException("error"));
+
+        // Act
+        var result = this.createDispatcher().dispatch();
+
+        // Assert
+        assertEquals(3, result);
+        verify(this.queue).complete(category);
+        verify(this.queue).complete(task);
+        verify(this.queue).fail(task2, "error");
+    }
+
+    @Test
+    void dispatch_batched_categoriesExecutedOneByOne() {
+        // Arrange
+        this.config.getQuestionBatch().setEnabled(true);
+        var category = createJob(MoodleSyncEntityType.TASK_CATEGORY, 2);
+        var category2 = createJob(MoodleSyncEntityType.TASK_CATEGORY, 3);
+        when(this.queue.claim(20)).thenReturn(List.of(category, category2));
+        var dispatchThread = Thread.currentThread();
+        when(this.taskCategoryService.synchronizeMoodleObjects(anyLong())).thenAnswer(invocation -> Thread.currentThread() == dispatchThread);
+
+        // Act
+        var result = this.createDispatcher().dispatch();
+
+        // Assert
+        assertEquals(2, result);
+        verify(this.queue).complete(category);
+        verify(this.queue).complete(category2);
+    }
+
+    @Test
+    void groupJobs() {
+        // Arrange
+        var ou = createJob(MoodleSyncEntityType.ORGANIZATIONAL_UNIT, 1);
+        var category = createJob(MoodleSyncEntityType.TASK_CATEGORY, 2);
+        var task = createJob(MoodleSyncEntityType.TASK, 3);
+        var task2 = createJob(MoodleSyncEntityType.TASK, 4);
+        var task3 = createJob(MoodleSyncEntityType.TASK, 5);
+
+        // Act
+        var result = MoodleSyncDispatcher.groupJobs(List.of(ou, category, task, task2, task3), 2);
+
+        // Assert
+        assertEquals(List.of(List.of(ou), List.of(category), List.of(task, task2), List.of(task3)), result);
+    }
+
+    private MoodleSyncDispatcher createDispatcher() {
+        return new MoodleSyncDispatcher(this.config, this.queue, this.organizationalUnitService, this.taskCategoryService, this.taskService);
+    }
+
+    private static MoodleSyncJob createJob(MoodleSyncEntityType type, long entityId) {
+        var job = new MoodleSyncJob();
+        job.setId(entityId * 10);
+        job.setEntityType(type);
+        job.setEntityId(entityId);
+        return job;
+    }
+}
@@ -0,0 +1,107 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.SpringTaskAdministrationTest;
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncJob;
+import at.jku.dke.etutor.task_administration.data.entities.OrganizationalUnit;
+import at.jku.dke.etutor.task_administration.data.entities.TaskCategory;
+import at.jku.dke.etutor.task_administration.data.repositories.MoodleSyncJobRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringTaskAdministrationTest
+@Transactional
+class MoodleSyncQueueDatabaseTest {
+
+    private static final long ENTITY_ID = 987654L;
+
+    @Autowired
+    private MoodleSyncQueue queue;
+
+    @Autowired
+    private MoodleSyncJobRepository repository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void complete_editedWhileRunning_thenEditedAgain_debounced() {
+        // Arrange: job pending for longer than the maximum debounce delay
+        var longAgo = OffsetDateTime.now().minusHours(1);
+        this.repository.upsert("task", ENTITY_ID, longAgo, longAgo.plusSeconds(30), 300);
+        var running = this.findJob();
+
+        // Act: edited while running, the run completes, edited again
+        this.queue.enqueue(MoodleSyncEntityType.TASK, ENTITY_ID);
+        this.queue.complete(running);
+        this.entityManager.clear();
+        var beforeSecondEdit = OffsetDateTime.now();
+        this.queue.enqueue(MoodleSyncEntityType.TASK, ENTITY_ID);
+
+        // Assert
+        var job = this.findJob();
+        assertEquals(running.getRevision() + 2, job.getRevision());
+        assertNull(job.getLockedUntil());
+        assertTrue(job.getPendingSince().isAfter(longAgo.plusMinutes(59)));
+        assertTrue(job.getNextAttemptAt().isAfter(beforeSecondEdit), "job must not become due immediately");
+    }
+
+    @Test
+    void fail_editedWhileRunning_thenEditedAgain_debounced() {
+        // Arrange
+        var longAgo = OffsetDateTime.now().minusHours(1);
+        this.repository.upsert("task", ENTITY_ID, longAgo, longAgo.plusSeconds(30), 300);
+        var running = this.findJob();
+
+        // Act
+        this.queue.enqueue(MoodleSyncEntityType.TASK, ENTITY_ID);
+        this.queue.fail(running, "error");
+        this.entityManager.clear();
+        var beforeSecondEdit = OffsetDateTime.now();
+        this.queue.enqueue(MoodleSyncEntityType.TASK, ENTITY_ID);
+
+        // Assert
+        var job = this.findJob();
+        assertEquals(0, job.getAttempts());
+        assertTrue(job.getNextAttemptAt().isAfter(beforeSecondEdit), "job must not become due immediately");
+    }
+
+    @Test
+    void enqueue_keepsSecondLevelCache() {
+        // Arrange
+        var ou = new OrganizationalUnit("sync-queue-cache-ou");
+        this.entityManager.persist(ou);
+        var category = new TaskCategory();
+        category.setName("sync-queue-cache-category");
+        category.setOrganizationalUnit(ou);
+        this.entityManager.persist(category);
+        this.entityManager.flush();
+        this.entityManager.clear();
+        this.entityManager.find(TaskCategory.class, category.getId());
+        var cache = this.entityManager.getEntityManagerFactory().getCache();
+        assertTrue(cache.contains(TaskCategory.class, category.getId()));
+
+        // Act
+        this.queue.enqueue(MoodleSyncEntityType.TASK, ENTITY_ID);
+
+        // Assert
+        assertTrue(cache.contains(TaskCategory.class, category.getId()));
+    }
+
+    private MoodleSyncJob findJob() {
+        this.entityManager.clear();
+        var job = this.entityManager.createQuery("SELECT j FROM MoodleSyncJob j WHERE j.entityType = :type AND j.entityId = :id", MoodleSyncJob.class)
+            .setParameter("type", MoodleSyncEntityType.TASK)
+            .setParameter("id", ENTITY_ID)
+            .getSingleResult();
+        this.entityManager.detach(job);
+        return job;
+    }
+}
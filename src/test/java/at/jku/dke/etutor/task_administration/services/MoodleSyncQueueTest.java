@@ -0,0 +1,196 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncJob;
+import at.jku.dke.etutor.task_administration.data.repositories.MoodleSyncJobRepository;
+import at.jku.dke.etutor.task_administration.moodle.MoodleConfig;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MoodleSyncQueueTest {
+
+    private final MoodleSyncJobRepository repository = mock(MoodleSyncJobRepository.class);
+    private final MoodleConfig config = new MoodleConfig("token", "http://localhost", true);
+
+    @Test
+    void enqueue() {
+        // Arrange
+        var queue = new MoodleSyncQueue(this.repository, this.config);
+
+        // Act
+        queue.enqueue(MoodleSyncEntityType.TASK_CATEGORY, 3);
+
+        // Assert
+        var now = ArgumentCaptor.forClass(OffsetDateTime.class);
+        var dueAt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(this.repository).upsert(eq("task_category"), eq(3L), now.capture(), dueAt.capture(), eq(300L));
+        assertEquals(Duration.ofSeconds(30), Duration.between(now.getValue(), dueAt.getValue()));
+    }
+
+    @Test
+    void enqueue_debounceLimitedByMaxDelay() {
+        // Arrange
+        this.config.getSyncQueue().setDebounce(Duration.ofMinutes(10));
+        this.config.getSyncQueue().setMaxDebounceDelay(Duration.ofMinutes(2));
+        var queue = new MoodleSyncQueue(this.repository, this.config);
+
+        // Act
+        queue.enqueue(MoodleSyncEntityType.TASK, 3);
+
+        // Assert
+        var now = ArgumentCaptor.forClass(OffsetDateTime.class);
+        var dueAt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(this.repository).upsert(eq("task"), eq(3L), now.capture(), dueAt.capture(), eq(120L));
+        assertEquals(Duration.ofMinutes(2), Duration.between(now.getValue(), dueAt.getValue()));
+    }
+
+    @Test
+    void enqueue_withoutDebounce() {
+        // Arrange
+        this.config.getSyncQueue().setDebounce(Duration.ZERO);
+        var queue = new MoodleSyncQueue(this.repository, this.config);
+
+        // Act
+        queue.enqueue(MoodleSyncEntityType.TASK, 3);
+
+        // Assert
+        var now = ArgumentCaptor.forClass(OffsetDateTime.class);
+        var dueAt = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(this.repository).upsert(eq("task"), eq(3L), now.capture(), dueAt.capture(), anyLong());
+        assertEquals(now.getValue(), dueAt.getValue());
+    }
+
+    @Test
+    void enqueue_disabled() {
+        // Arrange
+        this.config.setEnabled(false);
+        var queue = new MoodleSyncQueue(this.repository, this.config);
+
+        // Act
+        queue.enqueue(MoodleSyncEntityType.TASK, 3);
+
+        // Assert
+        verifyNoInteractions(this.repository);
+    }
+
+    @Test
+    void enqueueAll() {
+        // Arrange
+        var queue = new MoodleSyncQueue(this.repository, this.config);
+
+        // Act
+        queue.enqueueAll(MoodleSyncEntityType.TASK, List.of(1L, 2L));
+
+        // Assert
+        verify(this.repository).upsert(eq("task"), eq(1L), any(), any(), eq(300L));
+        verify(this.repository).upsert(eq("task"), eq(2L), any(), any(), eq(300L));
+    }
+
+    @Test
+    void claim_locksJobs() {
+        // Arrange
+        var queue = new MoodleSyncQueue(this.repository, this.config);
+        var job = createJob();
+        when(this.repository.findDueForUpdate(any(), eq(5))).thenReturn(List.of(job));
+
+        // Act
+        var result = queue.claim(5);
+
+        // Assert
+        assertEquals(List.of(job), result);
+        assertNotNull(job.getLockedUntil());
+        assertTrue(job.getLockedUntil().isAfter(OffsetDateTime.now().plusMinutes(14)));
+    }
+
+    @Test
+    void complete() {
+        // Arrange
+        var queue = new MoodleSyncQueue(this.repository, this.config);
+        var job = createJob();
+        when(this.repository.deleteByIdAndRevision(job.getId(), job.getRevision())).thenReturn(1);
+
+        // Act
+        queue.complete(job);
+
+        // Assert
+        verify(this.repository, never()).requeue(anyLong(), anyLong());
+    }
+
+    @Test
+    void complete_requestedAgain() {
+        // Arrange
+        var queue = new MoodleSyncQueue(this.repository, this.config);
+        var job = createJob();
+        when(this.repository.deleteByIdAndRevision(job.getId(), job.getRevision())).thenReturn(0);
+
+        // Act
+        queue.complete(job);
+
+        // Assert
+        verify(this.repository).requeue(job.getId(), 30L);
+    }
+
+    @Test
+    void fail() {
+        // Arrange
+        var queue = new MoodleSyncQueue(this.repository, this.config);
+        var job = createJob();
+        job.setAttempts(2);
+        when(this.repository.markFailed(eq(job.getId()), eq(job.getRevision()), any(), eq("error"))).thenReturn(1);
+
+        // Act
+        var before = OffsetDateTime.now();
+        queue.fail(job, "error");
+
+        // Assert
+        verify(this.repository).markFailed(eq(job.getId()), eq(job.getRevision()),
+            argThat(d -> !d.isBefore(before.plusMinutes(2))), eq("error"));
+        verify(this.repository, never()).requeue(anyLong(), anyLong());
+    }
+
+    @Test
+    void fail_requestedAgain() {
+        // Arrange
+        var queue = new MoodleSyncQueue(this.repository, this.config);
+        var job = createJob();
+        when(this.repository.markFailed(anyLong(), anyLong(), any(), any())).thenReturn(0);
+
+        // Act
+        queue.fail(job, "error");
+
+        // Assert
+        verify(this.repository).requeue(job.getId(), 30L);
+    }
+
+    @Test
+    void getBackoff() {
+        // Arrange
+        var config = new MoodleConfig.SyncQueueConfig();
+        config.setInitialBackoff(Duration.ofSeconds(30));
+        config.setMaxBackoff(Duration.ofMinutes(5));
+
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(30), MoodleSyncQueue.getBackoff(1, config));
+        assertEquals(Duration.ofSeconds(60), MoodleSyncQueue.getBackoff(2, config));
+        assertEquals(Duration.ofSeconds(240), MoodleSyncQueue.getBackoff(4, config));
+        assertEquals(Duration.ofMinutes(5), MoodleSyncQueue.getBackoff(5, config));
+        assertEquals(Duration.ofMinutes(5), MoodleSyncQueue.getBackoff(Integer.MAX_VALUE, config));
+    }
+
+    private static MoodleSyncJob createJob() {
+        var job = new MoodleSyncJob();
+        job.setId(1L);
+        job.setEntityType(MoodleSyncEntityType.TASK);
+        job.setEntityId(7L);
+        job.setRevision(3);
+        return job;
+    }
+}
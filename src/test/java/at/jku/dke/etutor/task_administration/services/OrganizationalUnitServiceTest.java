@@ -1,5 +1,6 @@
 package at.jku.dke.etutor.task_administration.services;
 
+import at.jku.dke.etutor.task_administration.data.entities.MoodleSyncEntityType;
 import at.jku.dke.etutor.task_administration.data.entities.OrganizationalUnit;
 import at.jku.dke.etutor.task_administration.data.repositories.OrganizationalUnitRepository;
 import at.jku.dke.etutor.task_administration.dto.ModifyOrganizationalUnitDto;
@@ -21,11 +22,13 @@
 
 class OrganizationalUnitServiceTest {
 
+    private final MoodleSyncQueue queue = mock(MoodleSyncQueue.class);
+
     @Test
     void getOrganizationalUnits_withoutFilter() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
-        var service = new OrganizationalUnitService(repo, null);
+        var service = new OrganizationalUnitService(repo, null, this.queue);
         var page = Pageable.ofSize(10);
 
         when(repo.findAll(page)).thenReturn(Page.empty());
@@ -41,7 +44,7 @@ void getOrganizationalUnits_withoutFilter() {
     void getOrganizationalUnits_withFilter() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
-        var service = new OrganizationalUnitService(repo, null);
+        var service = new OrganizationalUnitService(repo, null, this.queue);
         var page = Pageable.ofSize(10);
         var filter = "DKE";
 
@@ -58,7 +61,7 @@ void getOrganizationalUnits_withFilter() {
     void getOrganizationalUnit() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
-        var service = new OrganizationalUnitService(repo, null);
+        var service = new OrganizationalUnitService(repo, null, this.queue);
         var id = 2L;
 
         // Act
@@ -73,15 +76,20 @@ void create() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
         var catServ = new CourseCategoryService(new MoodleConfig("", "", false), new ObjectMapper());
-        var service = new OrganizationalUnitService(repo, catServ);
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
         var dto = new ModifyOrganizationalUnitDto("DKE");
-        when(repo.save(any(OrganizationalUnit.class))).thenAnswer(x -> x.getArgument(0));
+        when(repo.save(any(OrganizationalUnit.class))).thenAnswer(x -> {
+            OrganizationalUnit ou = x.getArgument(0);
+            ou.setId(5L);
+            return ou;
+        });
 
         // Act
         var result = service.create(dto);
 
         // Assert
         assertEquals(dto.name(), result.getName());
+        verify(this.queue).enqueue(MoodleSyncEntityType.ORGANIZATIONAL_UNIT, result.getId());
     }
 
     @Test
@@ -89,7 +97,7 @@ void update() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
         var catServ = new CourseCategoryService(new MoodleConfig("", "", false), new ObjectMapper());
-        var service = new OrganizationalUnitService(repo, catServ);
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
 
         var dto = new ModifyOrganizationalUnitDto("DKE");
         var ou = new OrganizationalUnit();
@@ -104,6 +112,7 @@ void update() {
 
         // Assert
         assertEquals(dto.name(), ou.getName());
+        verify(this.queue).enqueue(MoodleSyncEntityType.ORGANIZATIONAL_UNIT, ou.getId());
     }
 
     @Test
@@ -111,7 +120,7 @@ void update_concurrencyProblem() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
         var catServ = new CourseCategoryService(new MoodleConfig("", "", false), new ObjectMapper());
-        var service = new OrganizationalUnitService(repo, catServ);
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
 
         var dto = new ModifyOrganizationalUnitDto("DKE");
         var ou = new OrganizationalUnit();
@@ -130,7 +139,7 @@ void update_notFound() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
         var catServ = new CourseCategoryService(new MoodleConfig("", "", false), new ObjectMapper());
-        var service = new OrganizationalUnitService(repo, catServ);
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
 
         var dto = new ModifyOrganizationalUnitDto("DKE");
 
@@ -145,7 +154,7 @@ void delete() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
         var catServ = new CourseCategoryService(new MoodleConfig("", "", false), new ObjectMapper());
-        var service = new OrganizationalUnitService(repo, catServ);
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
 
         // Act
         service.delete(2L);
@@ -159,7 +168,7 @@ void createMoodleObjectsForOrganizationalUnit() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
         var catServ = mock(CourseCategoryService.class, withSettings().useConstructor(new MoodleConfig("", "", true), new ObjectMapper()));
-        var service = new OrganizationalUnitService(repo, catServ);
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
 
         var ou = new OrganizationalUnit();
         when(catServ.createCourseCategory(any())).thenReturn(CompletableFuture.completedFuture(Optional.of(99)));
@@ -177,7 +186,7 @@ void createMoodleObjectsForOrganizationalUnit_noResult() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
         var catServ = mock(CourseCategoryService.class, withSettings().useConstructor(new MoodleConfig("", "", true), new ObjectMapper()));
-        var service = new OrganizationalUnitService(repo, catServ);
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
 
         var ou = new OrganizationalUnit();
         when(catServ.createCourseCategory(any())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
@@ -195,7 +204,7 @@ void createMoodleObjectsForOrganizationalUnit_moodleIdSet() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
         var catServ = mock(CourseCategoryService.class, withSettings().useConstructor(new MoodleConfig("", "", true), new ObjectMapper()));
-        var service = new OrganizationalUnitService(repo, catServ);
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
 
         var ou = new OrganizationalUnit();
         ou.setMoodleId(23);
@@ -213,7 +222,7 @@ void updateMoodleObjectsForOrganizationalUnit() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
         var catServ = mock(CourseCategoryService.class, withSettings().useConstructor(new MoodleConfig("", "", true), new ObjectMapper()));
-        var service = new OrganizationalUnitService(repo, catServ);
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
 
         var ou = new OrganizationalUnit();
 
@@ -229,7 +238,38 @@ void testCreateMoodleObjectsForOrganizationalUnit() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
         var catServ = mock(CourseCategoryService.class, withSettings().useConstructor(new MoodleConfig("", "", true), new ObjectMapper()));
-        var service = new OrganizationalUnitService(repo, catServ);
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
+
+        when(repo.existsById(3L)).thenReturn(true);
+
+        // Act
+        service.createMoodleObjectsForOrganizationalUnit(3);
+
+        // Assert
+        verify(this.queue).enqueue(MoodleSyncEntityType.ORGANIZATIONAL_UNIT, 3L);
+        verify(catServ, never()).createCourseCategory(any());
+    }
+
+    @Test
+    void testCreateMoodleObjectsForOrganizationalUnit_invalidId() {
+        // Arrange
+        var repo = mock(OrganizationalUnitRepository.class);
+        var catServ = mock(CourseCategoryService.class, withSettings().useConstructor(new MoodleConfig("", "", true), new ObjectMapper()));
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
+
+        when(repo.existsById(3L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> service.createMoodleObjectsForOrganizationalUnit(3));
+        verifyNoInteractions(this.queue);
+    }
+
+    @Test
+    void synchronizeMoodleObjects_withoutMoodleId() {
+        // Arrange
+        var repo = mock(OrganizationalUnitRepository.class);
+        var catServ = mock(CourseCategoryService.class, withSettings().useConstructor(new MoodleConfig("", "", true), new ObjectMapper()));
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
 
         var ou = new OrganizationalUnit();
         ou.setId(3L);
@@ -237,25 +277,48 @@ void testCreateMoodleObjectsForOrganizationalUnit() {
         when(catServ.createCourseCategory(any())).thenReturn(CompletableFuture.completedFuture(Optional.of(99)));
 
         // Act
-        service.createMoodleObjectsForOrganizationalUnit(3);
+        var result = service.synchronizeMoodleObjects(3);
 
         // Assert
+        assertTrue(result);
         assertEquals(99, ou.getMoodleId());
         verify(repo).save(ou);
     }
 
     @Test
-    void testCreateMoodleObjectsForOrganizationalUnit_invalidId() {
+    void synchronizeMoodleObjects_withMoodleId() {
         // Arrange
         var repo = mock(OrganizationalUnitRepository.class);
         var catServ = mock(CourseCategoryService.class, withSettings().useConstructor(new MoodleConfig("", "", true), new ObjectMapper()));
-        var service = new OrganizationalUnitService(repo, catServ);
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
 
         var ou = new OrganizationalUnit();
         ou.setId(3L);
-        when(repo.findById(ou.getId())).thenReturn(Optional.empty());
+        ou.setMoodleId(23);
+        when(repo.findById(ou.getId())).thenReturn(Optional.of(ou));
+        when(catServ.updateCourseCategory(ou)).thenReturn(false);
 
-        // Act & Assert
-        assertThrows(EntityNotFoundException.class, () -> service.createMoodleObjectsForOrganizationalUnit(3));
+        // Act
+        var result = service.synchronizeMoodleObjects(3);
+
+        // Assert
+        assertFalse(result);
+        verify(catServ, never()).createCourseCategory(any());
+    }
+
+    @Test
+    void synchronizeMoodleObjects_deleted() {
+        // Arrange
+        var repo = mock(OrganizationalUnitRepository.class);
+        var catServ = mock(CourseCategoryService.class, withSettings().useConstructor(new MoodleConfig("", "", true), new ObjectMapper()));
+        var service = new OrganizationalUnitService(repo, catServ, this.queue);
+        when(repo.findById(3L)).thenReturn(Optional.empty());
+
+        // Act
+        var result = service.synchronizeMoodleObjects(3);
+
+        // Assert
+        assertTrue(result);
+        verifyNoInteractions(catServ);
     }
 }
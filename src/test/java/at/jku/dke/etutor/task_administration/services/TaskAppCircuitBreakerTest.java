@@ -0,0 +1,168 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskAppCircuitBreakerTest {
+
+    private TaskAppConfig config;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        this.config = new TaskAppConfig();
+        this.config.getCircuitBreaker().setFailureThreshold(2);
+        this.config.getCircuitBreaker().setOpenDuration(Duration.ofSeconds(30));
+        this.config.setMaxConcurrentCalls(2);
+        this.clock = new MutableClock();
+    }
+
+    @Test
+    void acquire_closed() {
+        // Arrange
+        var circuitBreaker = new TaskAppCircuitBreaker("sql", this.config, this.clock);
+
+        // Act
+        circuitBreaker.acquire();
+
+        // Assert
+        var snapshot = circuitBreaker.getSnapshot();
+        assertEquals(TaskAppCircuitBreaker.State.CLOSED, snapshot.state());
+        assertEquals(1, snapshot.activeCalls());
+    }
+
+    @Test
+    void acquire_bulkheadFull_rejects() {
+        // Arrange
+        var circuitBreaker = new TaskAppCircuitBreaker("sql", this.config, this.clock);
+        circuitBreaker.acquire();
+        circuitBreaker.acquire();
+
+        // Act & Assert
+        var ex = assertThrows(ResponseStatusException.class, circuitBreaker::acquire);
+        assertEquals(503, ex.getStatusCode().value());
+        assertEquals(1, circuitBreaker.getSnapshot().rejectedCalls());
+    }
+
+    @Test
+    void release_consecutiveFailures_opens() {
+        // Arrange
+        var circuitBreaker = new TaskAppCircuitBreaker("sql", this.config, this.clock);
+
+        // Act
+        circuitBreaker.acquire();
+        circuitBreaker.release(false);
+        circuitBreaker.acquire();
+        circuitBreaker.release(false);
+
+        // Assert
+        assertEquals(TaskAppCircuitBreaker.State.OPEN, circuitBreaker.getSnapshot().state());
+        assertEquals(0, circuitBreaker.getSnapshot().activeCalls());
+        assertThrows(ResponseStatusException.class, circuitBreaker::acquire);
+    }
+
+    @Test
+    void release_successResetsFailures() {
+        // Arrange
+        var circuitBreaker = new TaskAppCircuitBreaker("sql", this.config, this.clock);
+
+        // Act
+        circuitBreaker.acquire();
+        circuitBreaker.release(false);
+        circuitBreaker.acquire();
+        circuitBreaker.release(true);
+        circuitBreaker.acquire();
+        circuitBreaker.release(false);
+
+        // Assert
+        assertEquals(TaskAppCircuitBreaker.State.CLOSED, circuitBreaker.getSnapshot().state());
+        assertEquals(1, circuitBreaker.getSnapshot().consecutiveFailures());
+    }
+
+    @Test
+    void acquire_afterOpenDuration_allowsSingleProbe() {
+        // Arrange
+        var circuitBreaker = this.openCircuitBreaker();
+        this.clock.advance(Duration.ofSeconds(30));
+
+        // Act
+        circuitBreaker.acquire();
+
+        // Assert
+        assertEquals(TaskAppCircuitBreaker.State.HALF_OPEN, circuitBreaker.getSnapshot().state());
+        assertThrows(ResponseStatusException.class, circuitBreaker::acquire);
+    }
+
+    @Test
+    void release_probeSucceeded_closes() {
+        // Arrange
+        var circuitBreaker = this.openCircuitBreaker();
+        this.clock.advance(Duration.ofSeconds(31));
+        circuitBreaker.acquire();
+
+        // Act
+        circuitBreaker.release(true);
+
+        // Assert
+        assertEquals(TaskAppCircuitBreaker.State.CLOSED, circuitBreaker.getSnapshot().state());
+        assertDoesNotThrow(circuitBreaker::acquire);
+    }
+
+    @Test
+    void release_probeFailed_opensAgain() {
+        // Arrange
+        var circuitBreaker = this.openCircuitBreaker();
+        this.clock.advance(Duration.ofSeconds(31));
+        circuitBreaker.acquire();
+
+        // Act
+        circuitBreaker.release(false);
+
+        // Assert
+        var snapshot = circuitBreaker.getSnapshot();
+        assertEquals(TaskAppCircuitBreaker.State.OPEN, snapshot.state());
+        assertEquals(this.clock.instant(), snapshot.openedAt());
+        assertThrows(ResponseStatusException.class, circuitBreaker::acquire);
+    }
+
+    private TaskAppCircuitBreaker openCircuitBreaker() {
+        var circuitBreaker = new TaskAppCircuitBreaker("sql", this.config, this.clock);
+        for (int i = 0; i < 2; i++) {
+            circuitBreaker.acquire();
+            circuitBreaker.release(false);
+        }
+        return circuitBreaker;
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            this.instant = this.instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
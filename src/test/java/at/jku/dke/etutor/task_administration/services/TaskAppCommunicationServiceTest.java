@@ -0,0 +1,441 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskApp;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import at.jku.dke.etutor.task_administration.dto.ModifyTaskDto;
+import at.jku.dke.etutor.task_administration.dto.SubmitSubmissionDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskAppCommunicationServiceTest {
+
+    private HttpServer server;
+    private TaskApp app;
+    private TaskAppRoutingTable routingTable;
+    private TaskAppHttpClientRegistry registry;
+    private TaskAppConfig config;
+    private TaskAppCircuitBreakerRegistry circuitBreakers;
+    private TaskAppDataCache dataCache;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final AtomicReference<String> receivedApiKey = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", exchange -> {
+            this.requestCount.incrementAndGet();
+            this.receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            this.receivedApiKey.set(exchange.getRequestHeaders().getFirst("X-API-KEY"));
+            byte[] response = exchange.getRequestURI().getPath().endsWith("/batch") ?
+                "{\"1\":{\"id\":1},\"2\":{\"id\":2}}".getBytes(StandardCharsets.UTF_8) :
+                ("{\"path\":\"" + exchange.getRequestURI() + "\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("X-Custom", "test");
+            exchange.getResponseHeaders().add("Set-Cookie", "a=b");
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        this.server.start();
+
+        this.app = new TaskApp();
+        this.app.setTaskType("sql");
+        this.app.setUrl("http://127.0.0.1:" + this.server.getAddress().getPort());
+        this.app.setApiKey("secret-key");
+        this.app.setTaskPrefix("sql");
+
+        this.config = new TaskAppConfig();
+        this.routingTable = mock(TaskAppRoutingTable.class);
+        when(this.routingTable.getRoute("sql")).thenReturn(Optional.of(TaskAppRoute.of(this.app)));
+        this.registry = new TaskAppHttpClientRegistry(this.config);
+        this.circuitBreakers = new TaskAppCircuitBreakerRegistry(this.config);
+        this.dataCache = new TaskAppDataCache(this.config, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.registry.destroy();
+        this.server.stop(0);
+    }
+
+    private TaskAppCommunicationService createService() {
+        return new TaskAppCommunicationService(this.routingTable, this.registry, this.circuitBreakers, this.dataCache, new ForwardRoutePolicy(this.config), new ObjectMapper(), this.config);
+    }
+
+    @Test
+    void forwardRequest_get() throws IOException {
+        // Arrange
+        var service = this.createService();
+        var request = new MockHttpServletRequest("GET", "/api/forward/sql/api/custom");
+        request.setQueryString("a=1");
+
+        // Act
+        var result = service.forwardRequest("sql", "/api/custom", request, true);
+
+        // Assert
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals("test", result.getHeaders().getFirst("X-Custom"));
+        assertNull(result.getHeaders().getFirst("Set-Cookie"));
+        assertEquals("secret-key", this.receivedApiKey.get());
+        try (var is = ((InputStreamResource) result.getBody()).getInputStream()) {
+            assertEquals("{\"path\":\"/api/custom?a=1\"}", new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void forwardRequest_notSecured_noApiKey() {
+        // Arrange
+        var service = this.createService();
+        var request = new MockHttpServletRequest("GET", "/api/forwardPublic/sql/api/custom");
+
+        // Act
+        var result = service.forwardRequest("sql", "/api/custom", request, false);
+
+        // Assert
+        assertEquals(200, result.getStatusCode().value());
+        assertNull(this.receivedApiKey.get());
+    }
+
+    @Test
+    void forwardRequest_postStreamsBody() {
+        // Arrange
+        var service = this.createService();
+        var request = new MockHttpServletRequest("POST", "/api/forward/sql/api/upload");
+        request.setContentType("text/plain");
+        request.setContent("large body".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        var result = service.forwardRequest("sql", "/api/upload", request, true);
+
+        // Assert
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals("large body", this.receivedBody.get());
+    }
+
+    @Test
+    void forwardRequest_bodyTooLarge() {
+        // Arrange
+        this.config.setForwardMaxInFlight(DataSize.ofBytes(5));
+        var service = this.createService();
+        var request = new MockHttpServletRequest("POST", "/api/forward/sql/api/upload");
+        request.setContent("large body".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        var ex = assertThrows(ResponseStatusException.class, () -> service.forwardRequest("sql", "/api/upload", request, true));
+        assertEquals(413, ex.getStatusCode().value());
+    }
+
+    @Test
+    void forwardRequest_unknownTaskType() {
+        // Arrange
+        var service = this.createService();
+        var request = new MockHttpServletRequest("GET", "/api/forward/xyz/api/custom");
+
+        // Act
+        var result = service.forwardRequest("xyz", "/api/custom", request, true);
+
+        // Assert
+        assertEquals(404, result.getStatusCode().value());
+    }
+
+    @Test
+    void forwardRequest_blockedPath() {
+        // Arrange
+        var service = this.createService();
+        var request = new MockHttpServletRequest("GET", "/api/forward/sql/api/task/1");
+
+        // Act
+        var result = service.forwardRequest("sql", "/api/task/1", request, true);
+
+        // Assert
+        assertEquals(404, result.getStatusCode().value());
+    }
+
+    @Test
+    void getTaskAdditionalData() {
+        // Arrange
+        var service = this.createService();
+
+        // Act
+        var result = service.getTaskAdditionalData(3, "sql");
+
+        // Assert
+        assertThat(result).containsEntry("path", "/api/task/sql/3");
+    }
+
+    @Test
+    void getTaskAdditionalDataAsync() {
+        // Arrange
+        var service = this.createService();
+
+        // Act
+        var result = service.getTaskAdditionalDataAsync(3, "sql").join();
+
+        // Assert
+        assertThat(result).containsEntry("path", "/api/task/sql/3");
+    }
+
+    @Test
+    void getTaskAdditionalDataAsync_unknownTaskType() {
+        // Arrange
+        var service = this.createService();
+
+        // Act
+        var result = service.getTaskAdditionalDataAsync(3, "xyz").join();
+
+        // Assert
+        assertNull(result);
+    }
+
+    @Test
+    void deleteTaskAsync_unexpectedStatus_badGateway() {
+        // Arrange
+        var service = this.createService();
+
+        // Act
+        var future = service.deleteTaskAsync(3, "sql");
+
+        // Assert
+        var ex = assertThrows(CompletionException.class, future::join);
+        var cause = assertInstanceOf(ResponseStatusException.class, ex.getCause());
+        assertEquals(502, cause.getStatusCode().value());
+    }
+
+    @Test
+    void deleteTask_unexpectedStatus_badGateway() {
+        // Arrange
+        var service = this.createService();
+
+        // Act & Assert
+        var ex = assertThrows(ResponseStatusException.class, () -> service.deleteTask(3, "sql"));
+        assertEquals(502, ex.getStatusCode().value());
+    }
+
+    @Test
+    void submitAsync() {
+        // Arrange
+        var service = this.createService();
+        var submission = new SubmitSubmissionDto(3L, "de", "diagnose", 3, Map.of("input", "SELECT 1"));
+
+        // Act
+        var result = service.submitAsync("sql", submission).join();
+
+        // Assert
+        assertEquals("{\"path\":\"/api/submission?persist=false&runInBackground=false\"}", result);
+        assertThat(this.receivedBody.get()).contains("SELECT 1");
+    }
+
+    @Test
+    void forwardRequestAsync_notReachable_serviceUnavailable() {
+        // Arrange
+        var service = this.createService();
+        var request = new MockHttpServletRequest("GET", "/api/forward/sql/api/custom");
+        this.server.stop(0);
+
+        // Act
+        var future = service.forwardRequestAsync("sql", "/api/custom", request, true);
+
+        // Assert
+        var ex = assertThrows(CompletionException.class, future::join);
+        var cause = assertInstanceOf(ResponseStatusException.class, ex.getCause());
+        assertEquals(503, cause.getStatusCode().value());
+    }
+
+    @Test
+    void forwardRequestAsync_circuitOpen_failsFast() {
+        // Arrange
+        this.config.getCircuitBreaker().setFailureThreshold(1);
+        var service = this.createService();
+        this.server.stop(0);
+        assertThrows(CompletionException.class, () -> service.forwardRequestAsync("sql", "/api/custom", new MockHttpServletRequest("GET", "/"), true).join());
+
+        // Act
+        var future = service.forwardRequestAsync("sql", "/api/custom", new MockHttpServletRequest("GET", "/"), true);
+
+        // Assert
+        var ex = assertThrows(CompletionException.class, future::join);
+        var cause = assertInstanceOf(ResponseStatusException.class, ex.getCause());
+        assertEquals(503, cause.getStatusCode().value());
+        assertEquals(TaskAppCircuitBreaker.State.OPEN, this.circuitBreakers.get("sql").getSnapshot().state());
+        assertEquals(1, this.circuitBreakers.get("sql").getSnapshot().rejectedCalls());
+    }
+
+    @Test
+    void getTaskAdditionalData_cached() {
+        // Arrange
+        var service = this.createService();
+        service.getTaskAdditionalData(3, "sql");
+
+        // Act
+        var result = service.getTaskAdditionalData(3, "sql");
+
+        // Assert
+        assertThat(result).containsEntry("path", "/api/task/sql/3");
+        assertEquals(1, this.requestCount.get());
+    }
+
+    @Test
+    void deleteTask_invalidatesCachedAdditionalData() {
+        // Arrange
+        var service = this.createService();
+        service.getTaskAdditionalData(3, "sql");
+        assertThrows(ResponseStatusException.class, () -> service.deleteTask(3, "sql"));
+
+        // Act
+        service.getTaskAdditionalData(3, "sql");
+
+        // Assert
+        assertEquals(3, this.requestCount.get());
+    }
+
+    @Test
+    void getTaskAdditionalData_updatedWhileRequesting_notCached() throws Exception {
+        // Arrange
+        var getReceived = new CountDownLatch(1);
+        var releaseGet = new CountDownLatch(1);
+        var slowServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        slowServer.setExecutor(Executors.newCachedThreadPool());
+        slowServer.createContext("/", exchange -> {
+            byte[] response = new byte[0];
+            int status = 204;
+            if ("GET".equals(exchange.getRequestMethod())) {
+                getReceived.countDown();
+                try {
+                    releaseGet.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                response = "{\"version\":\"old\"}".getBytes(StandardCharsets.UTF_8);
+                status = 200;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, response.length == 0 ? -1 : response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        slowServer.start();
+        try {
+            this.app.setUrl("http://127.0.0.1:" + slowServer.getAddress().getPort());
+            when(this.routingTable.getRoute("sql")).thenReturn(Optional.of(TaskAppRoute.of(this.app)));
+            var service = this.createService();
+            var data = new ModifyTaskDto(1L, "Task", "", "", (short) 1, BigDecimal.ONE, "sql", TaskStatus.DRAFT, null, false, Set.of(), Map.of());
+
+            // Act
+            var get = service.getTaskAdditionalDataAsync(7, "sql");
+            assertTrue(getReceived.await(10, TimeUnit.SECONDS));
+            service.updateTask(7, data);
+            releaseGet.countDown();
+            var result = get.get(10, TimeUnit.SECONDS);
+
+            // Assert
+            assertThat(result).containsEntry("version", "old");
+            assertNull(this.dataCache.getTask(7, "sql"));
+        } finally {
+            releaseGet.countDown();
+            slowServer.stop(0);
+        }
+    }
+
+    @Test
+    void getTaskGroupAdditionalData_cacheDisabled() {
+        // Arrange
+        this.config.setAdditionalDataCacheSize(0);
+        this.dataCache = new TaskAppDataCache(this.config, new SimpleMeterRegistry());
+        var service = this.createService();
+        service.getTaskGroupAdditionalData(3, "sql");
+
+        // Act
+        service.getTaskGroupAdditionalData(3, "sql");
+
+        // Assert
+        assertEquals(2, this.requestCount.get());
+    }
+
+    @Test
+    void getTasksAdditionalData_batch() {
+        // Arrange
+        this.app.setBatchSupport(true);
+        when(this.routingTable.getRoute("sql")).thenReturn(Optional.of(TaskAppRoute.of(this.app)));
+        var service = this.createService();
+
+        // Act
+        var result = service.getTasksAdditionalData(List.of(1L, 2L, 3L), "sql");
+
+        // Assert
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertEquals(1, this.requestCount.get());
+        assertEquals("[1,2,3]", this.receivedBody.get());
+        assertNotNull(this.dataCache.getTask(1, "sql"));
+    }
+
+    @Test
+    void getTasksAdditionalData_batch_usesCache() {
+        // Arrange
+        this.app.setBatchSupport(true);
+        when(this.routingTable.getRoute("sql")).thenReturn(Optional.of(TaskAppRoute.of(this.app)));
+        this.dataCache.putTask(3, "sql", this.dataCache.getTaskGeneration(3, "sql"), Map.of("id", 3));
+        var service = this.createService();
+
+        // Act
+        var result = service.getTasksAdditionalData(List.of(1L, 3L), "sql");
+
+        // Assert
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+        assertEquals("[1]", this.receivedBody.get());
+    }
+
+    @Test
+    void getTasksAdditionalData_noBatchSupport_singleRequests() {
+        // Arrange
+        var service = this.createService();
+
+        // Act
+        var result = service.getTasksAdditionalData(List.of(1L, 2L, 3L, 4L, 5L), "sql");
+
+        // Assert
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L, 4L, 5L);
+        assertThat(result.get(4L)).containsEntry("path", "/api/task/sql/4");
+        assertEquals(5, this.requestCount.get());
+    }
+
+    @Test
+    void getTaskGroupsAdditionalData_unknownTaskType() {
+        // Arrange
+        var service = this.createService();
+
+        // Act
+        var result = service.getTaskGroupsAdditionalData(List.of(1L), "xyz");
+
+        // Assert
+        assertNull(result);
+    }
+}
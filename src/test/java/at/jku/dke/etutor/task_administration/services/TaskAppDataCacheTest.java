@@ -0,0 +1,55 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskAppDataCacheTest {
+
+    @Test
+    void putTask_sameGeneration_cached() {
+        // Arrange
+        var cache = new TaskAppDataCache(new TaskAppConfig(), new SimpleMeterRegistry());
+        long generation = cache.getTaskGeneration(1, "sql");
+
+        // Act
+        cache.putTask(1, "sql", generation, Map.of("id", 1));
+
+        // Assert
+        assertEquals(Map.of("id", 1), cache.getTask(1, "sql"));
+    }
+
+    @Test
+    void putTask_invalidatedSinceGeneration_notCached() {
+        // Arrange
+        var cache = new TaskAppDataCache(new TaskAppConfig(), new SimpleMeterRegistry());
+        long generation = cache.getTaskGeneration(1, "sql");
+        cache.invalidateTask(1, "sql");
+
+        // Act
+        var result = cache.putTask(1, "sql", generation, Map.of("id", 1));
+
+        // Assert
+        assertEquals(Map.of("id", 1), result);
+        assertNull(cache.getTask(1, "sql"));
+    }
+
+    @Test
+    void putTaskGroup_invalidatedSinceGeneration_notCached() {
+        // Arrange
+        var cache = new TaskAppDataCache(new TaskAppConfig(), new SimpleMeterRegistry());
+        long generation = cache.getTaskGroupGeneration(1, "sql");
+        cache.invalidateTaskGroup(1, "sql");
+
+        // Act
+        cache.putTaskGroup(1, "sql", generation, Map.of("id", 1));
+
+        // Assert
+        assertNull(cache.getTaskGroup(1, "sql"));
+        cache.putTaskGroup(1, "sql", cache.getTaskGroupGeneration(1, "sql"), Map.of("id", 1));
+        assertNotNull(cache.getTaskGroup(1, "sql"));
+    }
+}
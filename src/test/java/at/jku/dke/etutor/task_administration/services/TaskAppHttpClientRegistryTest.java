@@ -0,0 +1,90 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskAppHttpClientRegistryTest {
+
+    @Test
+    void getClient_sameUrl_returnsSameClient() {
+        // Arrange
+        var registry = new TaskAppHttpClientRegistry(new TaskAppConfig());
+
+        // Act
+        var first = registry.getClient("sql", "http://localhost:8081");
+        var second = registry.getClient("sql", "http://localhost:8081");
+
+        // Assert
+        assertSame(first, second);
+        registry.destroy();
+    }
+
+    @Test
+    void getClient_differentTaskTypes_returnsDifferentClients() {
+        // Arrange
+        var registry = new TaskAppHttpClientRegistry(new TaskAppConfig());
+
+        // Act
+        var first = registry.getClient("sql", "http://localhost:8081");
+        var second = registry.getClient("xquery", "http://localhost:8081");
+
+        // Assert
+        assertNotSame(first, second);
+        registry.destroy();
+    }
+
+    @Test
+    void getClient_changedUrl_rebuildsClient() throws InterruptedException {
+        // Arrange
+        var registry = new TaskAppHttpClientRegistry(new TaskAppConfig());
+        var first = registry.getClient("sql", "http://localhost:8081");
+
+        // Act
+        var second = registry.getClient("sql", "http://localhost:8082");
+
+        // Assert
+        assertNotSame(first, second);
+        assertTrue(first.isTerminated() || first.awaitTermination(Duration.ofSeconds(1)));
+        registry.destroy();
+    }
+
+    @Test
+    void evict_rebuildsClient() {
+        // Arrange
+        var registry = new TaskAppHttpClientRegistry(new TaskAppConfig());
+        var first = registry.getClient("sql", "http://localhost:8081");
+
+        // Act
+        registry.evict("sql");
+        var second = registry.getClient("sql", "http://localhost:8081");
+
+        // Assert
+        assertNotSame(first, second);
+        registry.destroy();
+    }
+
+    @Test
+    void getClient_appSpecificTimeouts() {
+        // Arrange
+        var config = new TaskAppConfig();
+        var appConfig = new TaskAppConfig.AppConfig();
+        appConfig.setConnectTimeout(Duration.ofSeconds(2));
+        appConfig.setRequestTimeout(Duration.ofMinutes(1));
+        config.getApps().put("sql", appConfig);
+        var registry = new TaskAppHttpClientRegistry(config);
+
+        // Act
+        var sqlClient = registry.getClient("sql", "http://localhost:8081");
+        var xqClient = registry.getClient("xquery", "http://localhost:8082");
+
+        // Assert
+        assertEquals(Duration.ofSeconds(2), sqlClient.connectTimeout().orElseThrow());
+        assertEquals(config.getConnectTimeout(), xqClient.connectTimeout().orElseThrow());
+        assertEquals(Duration.ofMinutes(1), registry.getRequestTimeout("sql"));
+        assertEquals(config.getRequestTimeout(), registry.getRequestTimeout("xquery"));
+        registry.destroy();
+    }
+}
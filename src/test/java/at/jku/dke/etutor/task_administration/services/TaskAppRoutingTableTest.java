@@ -0,0 +1,116 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.TaskApp;
+import at.jku.dke.etutor.task_administration.data.repositories.TaskAppRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class TaskAppRoutingTableTest {
+
+    @Test
+    void getRoute_cachesRoute() {
+        // Arrange
+        var repo = mock(TaskAppRepository.class);
+        var table = new TaskAppRoutingTable(repo);
+        when(repo.findByTaskType("sql")).thenReturn(Optional.of(createApp("sql", "http://localhost:8081", null)));
+
+        // Act
+        var first = table.getRoute("sql");
+        var second = table.getRoute("sql");
+
+        // Assert
+        assertThat(first).isPresent();
+        assertEquals(first, second);
+        verify(repo, times(1)).findByTaskType("sql");
+    }
+
+    @Test
+    void getRoute_unknownTaskType_notCached() {
+        // Arrange
+        var repo = mock(TaskAppRepository.class);
+        var table = new TaskAppRoutingTable(repo);
+        when(repo.findByTaskType("sql")).thenReturn(Optional.empty());
+
+        // Act
+        var first = table.getRoute("sql");
+        var second = table.getRoute("sql");
+
+        // Assert
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(repo, times(2)).findByTaskType("sql");
+    }
+
+    @Test
+    void invalidate_reloadsRoute() {
+        // Arrange
+        var repo = mock(TaskAppRepository.class);
+        var table = new TaskAppRoutingTable(repo);
+        when(repo.findByTaskType("sql"))
+            .thenReturn(Optional.of(createApp("sql", "http://localhost:8081", null)))
+            .thenReturn(Optional.of(createApp("sql", "http://localhost:8082", null)));
+        table.getRoute("sql");
+
+        // Act
+        table.invalidate("sql");
+        var result = table.getRoute("sql");
+
+        // Assert
+        assertThat(result).isPresent();
+        assertEquals("http://localhost:8082", result.get().url());
+    }
+
+    @Test
+    void getRoute_withPrefixes() {
+        // Arrange
+        var repo = mock(TaskAppRepository.class);
+        var table = new TaskAppRoutingTable(repo);
+        var app = createApp("datalog", "http://localhost:8081/", "my-key");
+        app.setTaskPrefix("dlg");
+        app.setTaskGroupPrefix("dlg-group");
+        app.setSubmissionPrefix("dlg-sub");
+        when(repo.findByTaskType("datalog")).thenReturn(Optional.of(app));
+
+        // Act
+        var result = table.getRoute("datalog").orElseThrow();
+
+        // Assert
+        assertEquals("my-key", result.apiKey());
+        assertEquals("http://localhost:8081/api/task/dlg", result.taskUrl());
+        assertEquals("http://localhost:8081/api/taskGroup/dlg-group", result.taskGroupUrl());
+        assertEquals("http://localhost:8081/api/submission/dlg-sub", result.submissionUrl());
+        assertEquals("http://localhost:8081/api/xyz", result.resolve("api/xyz"));
+    }
+
+    @Test
+    void getRoute_withoutPrefixes() {
+        // Arrange
+        var repo = mock(TaskAppRepository.class);
+        var table = new TaskAppRoutingTable(repo);
+        var app = createApp("sql", "http://localhost:8081", null);
+        app.setTaskPrefix(" ");
+        when(repo.findByTaskType("sql")).thenReturn(Optional.of(app));
+
+        // Act
+        var result = table.getRoute("sql").orElseThrow();
+
+        // Assert
+        assertEquals("http://localhost:8081/", result.baseUrl());
+        assertEquals("http://localhost:8081/api/task", result.taskUrl());
+        assertEquals("http://localhost:8081/api/taskGroup", result.taskGroupUrl());
+        assertEquals("http://localhost:8081/api/submission", result.submissionUrl());
+    }
+
+    private static TaskApp createApp(String taskType, String url, String apiKey) {
+        var app = new TaskApp();
+        app.setTaskType(taskType);
+        app.setUrl(url);
+        app.setApiKey(apiKey);
+        return app;
+    }
+}
@@ -16,6 +16,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -25,7 +26,7 @@ class TaskAppServiceTest {
     void getTaskApps() {
         // Arrange
         var repo = mock(TaskAppRepository.class);
-        var service = new TaskAppService(repo);
+        var service = new TaskAppService(repo, mock(TaskAppRoutingTable.class), mock(TaskAppHttpClientRegistry.class));
         when(repo.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
 
         // Act
@@ -39,7 +40,7 @@ void getTaskApps() {
     void getTaskApp() {
         // Arrange
         var repo = mock(TaskAppRepository.class);
-        var service = new TaskAppService(repo);
+        var service = new TaskAppService(repo, mock(TaskAppRoutingTable.class), mock(TaskAppHttpClientRegistry.class));
         var id = 4L;
         when(repo.findById(id)).thenReturn(Optional.of(new TaskApp()));
 
@@ -54,8 +55,8 @@ void getTaskApp() {
     void create() {
         // Arrange
         var repo = mock(TaskAppRepository.class);
-        var service = new TaskAppService(repo);
-        var dto = new ModifyTaskAppDto("sql", "http://localhost", "my-key", "tp", "tgp", "sp");
+        var service = new TaskAppService(repo, mock(TaskAppRoutingTable.class), mock(TaskAppHttpClientRegistry.class));
+        var dto = new ModifyTaskAppDto("sql", "http://localhost", "my-key", "tp", "tgp", "sp", true);
         when(repo.save(any(TaskApp.class))).thenAnswer(x -> x.getArgument(0));
 
         // Act
@@ -68,14 +69,15 @@ void create() {
         assertEquals(dto.taskPrefix(), result.getTaskPrefix());
         assertEquals(dto.taskGroupPrefix(), result.getTaskGroupPrefix());
         assertEquals(dto.submissionPrefix(), result.getSubmissionPrefix());
+        assertTrue(result.isBatchSupport());
     }
 
     @Test
     void update() {
         // Arrange
         var repo = mock(TaskAppRepository.class);
-        var service = new TaskAppService(repo);
-        var dto = new ModifyTaskAppDto("sql", "http://localhost", "my-key", "tp", "tgp", "sp");
+        var service = new TaskAppService(repo, mock(TaskAppRoutingTable.class), mock(TaskAppHttpClientRegistry.class));
+        var dto = new ModifyTaskAppDto("sql", "http://localhost", "my-key", "tp", "tgp", "sp", true);
         var app = new TaskApp();
         app.setId(5L);
         when(repo.findById(app.getId())).thenReturn(Optional.of(app));
@@ -91,14 +93,35 @@ void update() {
         assertEquals(dto.taskPrefix(), app.getTaskPrefix());
         assertEquals(dto.taskGroupPrefix(), app.getTaskGroupPrefix());
         assertEquals(dto.submissionPrefix(), app.getSubmissionPrefix());
+        assertTrue(app.isBatchSupport());
+    }
+
+    @Test
+    void update_invalidatesOldAndNewRoute() {
+        // Arrange
+        var repo = mock(TaskAppRepository.class);
+        var routingTable = mock(TaskAppRoutingTable.class);
+        var service = new TaskAppService(repo, routingTable, mock(TaskAppHttpClientRegistry.class));
+        var dto = new ModifyTaskAppDto("sql", "http://localhost", "my-key", "tp", "tgp", "sp", true);
+        var app = new TaskApp();
+        app.setId(5L);
+        app.setTaskType("datalog");
+        when(repo.findById(app.getId())).thenReturn(Optional.of(app));
+
+        // Act
+        service.update(app.getId(), dto, null);
+
+        // Assert
+        verify(routingTable).invalidate("datalog");
+        verify(routingTable).invalidate("sql");
     }
 
     @Test
     void update_concurrencyProblem() {
         // Arrange
         var repo = mock(TaskAppRepository.class);
-        var service = new TaskAppService(repo);
-        var dto = new ModifyTaskAppDto("sql", "http://localhost", "my-key", "tp", "tgp", "sp");
+        var service = new TaskAppService(repo, mock(TaskAppRoutingTable.class), mock(TaskAppHttpClientRegistry.class));
+        var dto = new ModifyTaskAppDto("sql", "http://localhost", "my-key", "tp", "tgp", "sp", true);
         var app = new TaskApp();
         app.setId(5L);
         app.setLastModifiedDate(Instant.MAX);
@@ -112,8 +135,8 @@ void update_concurrencyProblem() {
     void update_notFound() {
         // Arrange
         var repo = mock(TaskAppRepository.class);
-        var service = new TaskAppService(repo);
-        var dto = new ModifyTaskAppDto("sql", "http://localhost", "my-key", "tp", "tgp", "sp");
+        var service = new TaskAppService(repo, mock(TaskAppRoutingTable.class), mock(TaskAppHttpClientRegistry.class));
+        var dto = new ModifyTaskAppDto("sql", "http://localhost", "my-key", "tp", "tgp", "sp", true);
         when(repo.findById(any())).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -124,7 +147,7 @@ void update_notFound() {
     void delete() {
         // Arrange
         var repo = mock(TaskAppRepository.class);
-        var service = new TaskAppService(repo);
+        var service = new TaskAppService(repo, mock(TaskAppRoutingTable.class), mock(TaskAppHttpClientRegistry.class));
 
         // Act
         service.delete(3L);
@@ -132,4 +155,25 @@ void delete() {
         // Assert
         verify(repo).deleteById(3L);
     }
+
+    @Test
+    void delete_invalidatesRouteAndHttpClient() {
+        // Arrange
+        var repo = mock(TaskAppRepository.class);
+        var routingTable = mock(TaskAppRoutingTable.class);
+        var registry = mock(TaskAppHttpClientRegistry.class);
+        var service = new TaskAppService(repo, routingTable, registry);
+        var app = new TaskApp();
+        app.setId(3L);
+        app.setTaskType("sql");
+        when(repo.findById(app.getId())).thenReturn(Optional.of(app));
+
+        // Act
+        service.delete(app.getId());
+
+        // Assert
+        verify(routingTable).invalidate("sql");
+        verify(registry).evict("sql");
+        verify(repo).deleteById(app.getId());
+    }
 }
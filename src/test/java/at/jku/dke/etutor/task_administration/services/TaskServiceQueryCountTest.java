@@ -0,0 +1,112 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.SpringTaskAdministrationTest;
+import at.jku.dke.etutor.task_administration.data.entities.*;
+import at.jku.dke.etutor.task_administration.moodle.QuestionService;
+import at.jku.dke.etutor.task_administration.moodle.QuestionSyncContext;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringTaskAdministrationTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskServiceQueryCountTest {
+
+    private static final int TASKS = 5;
+    private static final int CATEGORIES = 4;
+
+    @Autowired
+    private TaskService taskService;
+
+    @SpyBean
+    private QuestionService questionService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final List<Long> taskIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        var ou = new OrganizationalUnit("query-count-ou");
+        ou.setMoodleId(10);
+        this.entityManager.persist(ou);
+
+        var group = new TaskGroup();
+        group.setName("query-count-group");
+        group.setDescriptionDe("Gruppe");
+        group.setDescriptionEn("Group");
+        group.setTaskGroupType("sql");
+        group.setStatus(TaskStatus.APPROVED);
+        group.setOrganizationalUnit(ou);
+        this.entityManager.persist(group);
+
+        var categories = new HashSet<TaskCategory>();
+        for (int i = 0; i < CATEGORIES; i++) {
+            var category = new TaskCategory();
+            category.setName("query-count-category-" + i);
+            category.setOrganizationalUnit(ou);
+            category.setMoodleId(100 + i);
+            this.entityManager.persist(category);
+            categories.add(category);
+        }
+
+        for (int i = 0; i < TASKS; i++) {
+            var task = new Task();
+            task.setTitle("query-count-task-" + i);
+            task.setDescriptionDe("Aufgabe");
+            task.setDescriptionEn("Task");
+            task.setDifficulty((short) 1);
+            task.setMaxPoints(BigDecimal.ONE);
+            task.setTaskType("sql");
+            task.setStatus(TaskStatus.APPROVED);
+            task.setOrganizationalUnit(ou);
+            task.setTaskGroup(group);
+            task.setTaskCategories(new HashSet<>(categories));
+            this.entityManager.persist(task);
+            this.taskIds.add(task.getId());
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        // do not call moodle, only the preparation of the requests is measured
+        doReturn(Optional.empty()).when(this.questionService).executeQuestionUpdate(any());
+
+        this.statistics = this.entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void synchronizeMoodleObjects_queryCountIndependentOfCategories() {
+        // Arrange
+        var context = new QuestionSyncContext();
+        this.statistics.clear();
+
+        // Act
+        for (long id : this.taskIds)
+            assertFalse(this.taskService.synchronizeMoodleObjects(id, context));
+
+        // Assert: per task the task with its organizational unit and categories and its moodle ids, the group once
+        assertEquals(2L * TASKS + 1, this.statistics.getPrepareStatementCount());
+        verify(this.questionService, times(TASKS)).executeQuestionUpdate(any());
+    }
+}
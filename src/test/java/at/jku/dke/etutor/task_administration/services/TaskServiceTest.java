@@ -0,0 +1,134 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.data.entities.OrganizationalUnit;
+import at.jku.dke.etutor.task_administration.data.entities.Task;
+import at.jku.dke.etutor.task_administration.data.entities.TaskCategory;
+import at.jku.dke.etutor.task_administration.data.entities.TaskMoodleId;
+import at.jku.dke.etutor.task_administration.data.entities.TaskStatus;
+import at.jku.dke.etutor.task_administration.data.repositories.*;
+import at.jku.dke.etutor.task_administration.moodle.QuestionService;
+import at.jku.dke.etutor.task_administration.moodle.QuestionSyncContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TaskServiceTest {
+
+    private final TaskRepository repository = mock(TaskRepository.class);
+    private final TaskMoodleIdRepository taskMoodleIdRepository = mock(TaskMoodleIdRepository.class);
+    private final QuestionService questionService = mock(QuestionService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    void synchronizeMoodleObjects_callsMoodleOutsideOfTransaction() {
+        // Arrange
+        var task = createTask(7, 3);
+        var update = mock(QuestionService.PreparedQuestionUpdate.class);
+        var moodleIds = List.of(new TaskMoodleId(task, task.getTaskCategories().iterator().next(), 99L));
+        var open = new int[1];
+        when(this.transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            open[0]++;
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(invocation -> open[0]--).when(this.transactionManager).commit(any(TransactionStatus.class));
+        when(this.repository.findByIdAndOrganizationalUnitAndTaskCategories(7L)).thenReturn(Optional.of(task));
+        when(this.questionService.prepareQuestionUpdate(eq(task), any())).thenReturn(Optional.of(update));
+        when(this.questionService.executeQuestionUpdate(update)).thenAnswer(invocation -> {
+            assertEquals(0, open[0], "no transaction must be open while calling moodle");
+            return Optional.of(moodleIds);
+        });
+
+        // Act
+        var result = this.createService().synchronizeMoodleObjects(7, new QuestionSyncContext());
+
+        // Assert
+        assertTrue(result);
+        var inOrder = inOrder(this.questionService, this.taskMoodleIdRepository, this.transactionManager);
+        inOrder.verify(this.questionService).prepareQuestionUpdate(eq(task), any());
+        inOrder.verify(this.transactionManager).commit(any());
+        inOrder.verify(this.questionService).executeQuestionUpdate(update);
+        inOrder.verify(this.taskMoodleIdRepository).deleteByTaskId(7L);
+        inOrder.verify(this.taskMoodleIdRepository).saveAll(moodleIds);
+        inOrder.verify(this.transactionManager).commit(any());
+        assertEquals(0, open[0]);
+    }
+
+    @Test
+    void synchronizeMoodleObjects_categoryNotSynchronized_delayed() {
+        // Arrange
+        var task = createTask(7, null);
+        when(this.transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(this.repository.findByIdAndOrganizationalUnitAndTaskCategories(7L)).thenReturn(Optional.of(task));
+
+        // Act
+        var result = this.createService().synchronizeMoodleObjects(7, new QuestionSyncContext());
+
+        // Assert
+        assertFalse(result);
+        verifyNoInteractions(this.questionService);
+    }
+
+    @Test
+    void synchronizeMoodleObjects_notApproved_skipped() {
+        // Arrange
+        var task = createTask(7, 3);
+        task.setStatus(TaskStatus.DRAFT);
+        when(this.transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(this.repository.findByIdAndOrganizationalUnitAndTaskCategories(7L)).thenReturn(Optional.of(task));
+
+        // Act
+        var result = this.createService().synchronizeMoodleObjects(7, new QuestionSyncContext());
+
+        // Assert
+        assertTrue(result);
+        verifyNoInteractions(this.questionService);
+    }
+
+    @Test
+    void synchronizeMoodleObjects_moodleFails_moodleIdsKept() {
+        // Arrange
+        var task = createTask(7, 3);
+        var update = mock(QuestionService.PreparedQuestionUpdate.class);
+        when(this.transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(this.repository.findByIdAndOrganizationalUnitAndTaskCategories(7L)).thenReturn(Optional.of(task));
+        when(this.questionService.prepareQuestionUpdate(eq(task), any())).thenReturn(Optional.of(update));
+        when(this.questionService.executeQuestionUpdate(update)).thenReturn(Optional.empty());
+
+        // Act
+        var result = this.createService().synchronizeMoodleObjects(7, new QuestionSyncContext());
+
+        // Assert
+        assertFalse(result);
+        verifyNoInteractions(this.taskMoodleIdRepository);
+    }
+
+    private TaskService createService() {
+        return new TaskService(this.repository, mock(TaskGroupRepository.class), mock(TaskCategoryRepository.class), mock(OrganizationalUnitRepository.class),
+            mock(TaskAppCommunicationService.class), this.taskMoodleIdRepository, this.questionService, mock(ExportService.class), mock(MoodleSyncQueue.class),
+            this.transactionManager);
+    }
+
+    private static Task createTask(long id, Integer categoryMoodleId) {
+        var ou = new OrganizationalUnit(1L);
+        ou.setMoodleId(5);
+        var category = new TaskCategory();
+        category.setId(2L);
+        category.setMoodleId(categoryMoodleId);
+
+        var task = new Task();
+        task.setId(id);
+        task.setStatus(TaskStatus.APPROVED);
+        task.setOrganizationalUnit(ou);
+        task.setTaskCategories(Set.of(category));
+        return task;
+    }
+}
@@ -0,0 +1,108 @@
+package at.jku.dke.etutor.task_administration.services;
+
+import at.jku.dke.etutor.task_administration.SpringTaskAdministrationTest;
+import at.jku.dke.etutor.task_administration.auth.AuthConstants;
+import at.jku.dke.etutor.task_administration.auth.CustomJwtAuthenticationConverter;
+import at.jku.dke.etutor.task_administration.data.entities.OrganizationalUnit;
+import at.jku.dke.etutor.task_administration.data.entities.OrganizationalUnitUser;
+import at.jku.dke.etutor.task_administration.data.entities.User;
+import at.jku.dke.etutor.task_administration.data.entities.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringTaskAdministrationTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserServiceQueryCountTest {
+
+    @Autowired
+    private UserService userService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        var jwt = Jwt.withTokenValue("token")
+            .header("alg", "none")
+            .subject("admin")
+            .claim(AuthConstants.CLAIM_UID, 1L)
+            .claim(AuthConstants.CLAIM_FULL_ADMIN, true)
+            .build();
+        SecurityContextHolder.getContext().setAuthentication(new CustomJwtAuthenticationConverter().convert(jwt));
+
+        var first = new OrganizationalUnit("query-count-ou-1");
+        var second = new OrganizationalUnit("query-count-ou-2");
+        this.entityManager.persist(first);
+        this.entityManager.persist(second);
+        for (int i = 0; i < 30; i++) {
+            var user = new User();
+            user.setUsername("query-count-" + i);
+            user.setFirstName("First " + i);
+            user.setLastName("Last " + i);
+            user.setEmail("query-count-" + i + "@example.com");
+            user.setPasswordHash("hash");
+            user.setEnabled(true);
+            this.entityManager.persist(user);
+            this.entityManager.flush();
+            this.entityManager.persist(new OrganizationalUnitUser(first, user, UserRole.INSTRUCTOR));
+            this.entityManager.persist(new OrganizationalUnitUser(second, user, UserRole.TUTOR));
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        this.statistics = this.entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getUsers_queryCountIndependentOfPageSize() {
+        // Act
+        long small = this.countStatements(5);
+        long large = this.countStatements(25);
+
+        // Assert
+        assertEquals(small, large);
+        assertThat(large).isLessThanOrEqualTo(3); // page, count, organizational units
+    }
+
+    @Test
+    void getUsers_organizationalUnitsLoaded() {
+        // Act
+        var result = this.userService.getUsers(PageRequest.of(0, 10, Sort.by("username")), "query-count-", null, null, null, null, null);
+
+        // Assert
+        assertThat(result.getContent()).hasSize(10)
+            .allSatisfy(u -> assertThat(u.organizationalUnits()).hasSize(2));
+    }
+
+    private long countStatements(int pageSize) {
+        this.entityManager.clear();
+        this.statistics.clear();
+        var result = this.userService.getUsers(PageRequest.of(0, pageSize, Sort.by("username")), "query-count-", null, null, null, null, null);
+        assertThat(result.getContent()).hasSize(pageSize)
+            .allSatisfy(u -> assertThat(u.organizationalUnits()).hasSize(2));
+        return this.statistics.getPrepareStatementCount();
+    }
+}